@@ -0,0 +1,252 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+/**
+ * A {@code BasicBlock} represents a basic block in a {@link ControlFlowGraph}.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * A basic block is a maximal sequence of instructions that is only entered at its first instruction and only left after its last instruction. A {@code BasicBlock} is also split where the range of an exception handler starts or ends,
+ * so every instruction in a {@code BasicBlock} is covered by the same exception handlers.
+ * <p>
+ * The edges of a {@code BasicBlock} are given by the indices of other {@code BasicBlock} instances in the same {@code ControlFlowGraph}. The accessors for the edges do not allocate.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class BasicBlock {
+	private final boolean isBranchTarget;
+	private final boolean isExceptionHandler;
+	private final boolean isReachable;
+	private final int[] exceptionPredecessors;
+	private final int[] exceptionSuccessors;
+	private final int[] predecessors;
+	private final int[] successors;
+	private final int endPC;
+	private final int firstInstructionIndex;
+	private final int index;
+	private final int instructionCount;
+	private final int startPC;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	BasicBlock(final int index, final int startPC, final int endPC, final int firstInstructionIndex, final int instructionCount, final int[] successors, final int[] exceptionSuccessors, final int[] predecessors, final int[] exceptionPredecessors, final boolean isReachable, final boolean isBranchTarget, final boolean isExceptionHandler) {
+		this.index = index;
+		this.startPC = startPC;
+		this.endPC = endPC;
+		this.firstInstructionIndex = firstInstructionIndex;
+		this.instructionCount = instructionCount;
+		this.successors = successors;
+		this.exceptionSuccessors = exceptionSuccessors;
+		this.predecessors = predecessors;
+		this.exceptionPredecessors = exceptionPredecessors;
+		this.isReachable = isReachable;
+		this.isBranchTarget = isBranchTarget;
+		this.isExceptionHandler = isExceptionHandler;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code String} representation of this {@code BasicBlock} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code BasicBlock} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("BasicBlock: [Index=%s], [StartPC=%s], [EndPC=%s], [SuccessorCount=%s], [ExceptionSuccessorCount=%s]", Integer.toString(this.index), Integer.toString(this.startPC), Integer.toString(this.endPC), Integer.toString(this.successors.length), Integer.toString(this.exceptionSuccessors.length));
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code BasicBlock} instance is the target of a branch, {@code jsr}, {@code lookupswitch} or {@code tableswitch} instruction, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code BasicBlock} instance is the target of a branch, {@code jsr}, {@code lookupswitch} or {@code tableswitch} instruction, {@code false} otherwise
+	 */
+	public boolean isBranchTarget() {
+		return this.isBranchTarget;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code BasicBlock} instance is the entry point of an exception handler, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code BasicBlock} instance is the entry point of an exception handler, {@code false} otherwise
+	 */
+	public boolean isExceptionHandler() {
+		return this.isExceptionHandler;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code BasicBlock} instance can be reached from the entry {@code BasicBlock}, following both normal and exception edges, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code BasicBlock} instance can be reached from the entry {@code BasicBlock}, {@code false} otherwise
+	 */
+	public boolean isReachable() {
+		return this.isReachable;
+	}
+	
+	/**
+	 * Returns the offset just after the last instruction of this {@code BasicBlock} instance.
+	 * 
+	 * @return the offset just after the last instruction of this {@code BasicBlock} instance
+	 */
+	public int getEndPC() {
+		return this.endPC;
+	}
+	
+	/**
+	 * Returns the index of the exception predecessor at index {@code index}.
+	 * <p>
+	 * An exception predecessor is a {@code BasicBlock} that is covered by an exception handler that starts at this {@code BasicBlock}.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getExceptionPredecessorCount()}, an {@code ArrayIndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the exception predecessor
+	 * @return the index of the exception predecessor at index {@code index}
+	 * @throws ArrayIndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getExceptionPredecessorCount()}
+	 */
+	public int getExceptionPredecessor(final int index) {
+		return this.exceptionPredecessors[index];
+	}
+	
+	/**
+	 * Returns the number of exception predecessors.
+	 * 
+	 * @return the number of exception predecessors
+	 */
+	public int getExceptionPredecessorCount() {
+		return this.exceptionPredecessors.length;
+	}
+	
+	/**
+	 * Returns the index of the exception successor at index {@code index}.
+	 * <p>
+	 * An exception successor is the {@code BasicBlock} that starts an exception handler that covers this {@code BasicBlock}. The exception successors are ordered as the exception handlers in the {@code exception_table} item.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getExceptionSuccessorCount()}, an {@code ArrayIndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the exception successor
+	 * @return the index of the exception successor at index {@code index}
+	 * @throws ArrayIndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getExceptionSuccessorCount()}
+	 */
+	public int getExceptionSuccessor(final int index) {
+		return this.exceptionSuccessors[index];
+	}
+	
+	/**
+	 * Returns the number of exception successors.
+	 * 
+	 * @return the number of exception successors
+	 */
+	public int getExceptionSuccessorCount() {
+		return this.exceptionSuccessors.length;
+	}
+	
+	/**
+	 * Returns the index of the first instruction of this {@code BasicBlock} instance.
+	 * 
+	 * @return the index of the first instruction of this {@code BasicBlock} instance
+	 */
+	public int getFirstInstructionIndex() {
+		return this.firstInstructionIndex;
+	}
+	
+	/**
+	 * Returns the index of this {@code BasicBlock} instance in its {@link ControlFlowGraph}.
+	 * 
+	 * @return the index of this {@code BasicBlock} instance in its {@code ControlFlowGraph}
+	 */
+	public int getIndex() {
+		return this.index;
+	}
+	
+	/**
+	 * Returns the number of instructions in this {@code BasicBlock} instance.
+	 * 
+	 * @return the number of instructions in this {@code BasicBlock} instance
+	 */
+	public int getInstructionCount() {
+		return this.instructionCount;
+	}
+	
+	/**
+	 * Returns the index of the last instruction of this {@code BasicBlock} instance.
+	 * 
+	 * @return the index of the last instruction of this {@code BasicBlock} instance
+	 */
+	public int getLastInstructionIndex() {
+		return this.firstInstructionIndex + this.instructionCount - 1;
+	}
+	
+	/**
+	 * Returns the index of the normal predecessor at index {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getPredecessorCount()}, an {@code ArrayIndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the normal predecessor
+	 * @return the index of the normal predecessor at index {@code index}
+	 * @throws ArrayIndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getPredecessorCount()}
+	 */
+	public int getPredecessor(final int index) {
+		return this.predecessors[index];
+	}
+	
+	/**
+	 * Returns the number of normal predecessors.
+	 * 
+	 * @return the number of normal predecessors
+	 */
+	public int getPredecessorCount() {
+		return this.predecessors.length;
+	}
+	
+	/**
+	 * Returns the offset of the first instruction of this {@code BasicBlock} instance.
+	 * 
+	 * @return the offset of the first instruction of this {@code BasicBlock} instance
+	 */
+	public int getStartPC() {
+		return this.startPC;
+	}
+	
+	/**
+	 * Returns the index of the normal successor at index {@code index}.
+	 * <p>
+	 * The normal successors are the targets of the last instruction of this {@code BasicBlock} instance, including the {@code BasicBlock} that follows it if control can fall through. Every target of a {@code lookupswitch} or
+	 * {@code tableswitch} instruction is included once.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getSuccessorCount()}, an {@code ArrayIndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the normal successor
+	 * @return the index of the normal successor at index {@code index}
+	 * @throws ArrayIndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getSuccessorCount()}
+	 */
+	public int getSuccessor(final int index) {
+		return this.successors[index];
+	}
+	
+	/**
+	 * Returns the number of normal successors.
+	 * 
+	 * @return the number of normal successors
+	 */
+	public int getSuccessorCount() {
+		return this.successors.length;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.Instruction;
+
+/**
+ * A {@code CallSite} denotes an instruction that references a field or a method.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * A {@code CallSite} consists of the class and the method that contain the instruction, the offset of the instruction in the {@code code} item of the method and the opcode of the instruction. The opcode tells how the member is used. For
+ * instance, {@code getfield} and {@code getstatic} read a field, whereas {@code putfield} and {@code putstatic} write to it.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class CallSite {
+	private final String className;
+	private final String methodDescriptor;
+	private final String methodName;
+	private final int opcode;
+	private final int pC;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code CallSite} instance.
+	 * <p>
+	 * If either {@code className}, {@code methodName} or {@code methodDescriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param className the internal name of the class that contains the instruction, such as {@code "java/lang/String"}
+	 * @param methodName the name of the method that contains the instruction
+	 * @param methodDescriptor the descriptor of the method that contains the instruction
+	 * @param pC the offset of the instruction in the {@code code} item of the method
+	 * @param opcode the opcode of the instruction
+	 * @throws NullPointerException thrown if, and only if, either {@code className}, {@code methodName} or {@code methodDescriptor} are {@code null}
+	 */
+	public CallSite(final String className, final String methodName, final String methodDescriptor, final int pC, final int opcode) {
+		this.className = Objects.requireNonNull(className, "className == null");
+		this.methodName = Objects.requireNonNull(methodName, "methodName == null");
+		this.methodDescriptor = Objects.requireNonNull(methodDescriptor, "methodDescriptor == null");
+		this.pC = pC;
+		this.opcode = opcode;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the internal name of the class that contains the instruction, such as {@code "java/lang/String"}.
+	 * 
+	 * @return the internal name of the class that contains the instruction
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+	
+	/**
+	 * Returns the descriptor of the method that contains the instruction.
+	 * 
+	 * @return the descriptor of the method that contains the instruction
+	 */
+	public String getMethodDescriptor() {
+		return this.methodDescriptor;
+	}
+	
+	/**
+	 * Returns the name of the method that contains the instruction.
+	 * 
+	 * @return the name of the method that contains the instruction
+	 */
+	public String getMethodName() {
+		return this.methodName;
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code CallSite} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code CallSite} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("new CallSite(\"%s\", \"%s\", \"%s\", %s, %s)", this.className, this.methodName, this.methodDescriptor, Integer.toString(this.pC), Integer.toString(this.opcode));
+	}
+	
+	/**
+	 * Compares {@code object} to this {@code CallSite} instance for equality.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code object} is an instance of {@code CallSite}, and their respective values are equal, {@code false} otherwise.
+	 * 
+	 * @param object the {@code Object} to compare to this {@code CallSite} instance for equality
+	 * @return {@code true} if, and only if, {@code object} is an instance of {@code CallSite}, and their respective values are equal, {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		} else if(!(object instanceof CallSite)) {
+			return false;
+		} else if(!Objects.equals(this.className, CallSite.class.cast(object).className)) {
+			return false;
+		} else if(!Objects.equals(this.methodName, CallSite.class.cast(object).methodName)) {
+			return false;
+		} else if(!Objects.equals(this.methodDescriptor, CallSite.class.cast(object).methodDescriptor)) {
+			return false;
+		} else if(this.pC != CallSite.class.cast(object).pC) {
+			return false;
+		} else if(this.opcode != CallSite.class.cast(object).opcode) {
+			return false;
+		} else {
+			return true;
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the instruction reads a field, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the instruction reads a field, {@code false} otherwise
+	 */
+	public boolean isFieldRead() {
+		return this.opcode == Instruction.OPCODE_GET_FIELD || this.opcode == Instruction.OPCODE_GET_STATIC;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the instruction writes to a field, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the instruction writes to a field, {@code false} otherwise
+	 */
+	public boolean isFieldWrite() {
+		return this.opcode == Instruction.OPCODE_PUT_FIELD || this.opcode == Instruction.OPCODE_PUT_STATIC;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the instruction invokes a method, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the instruction invokes a method, {@code false} otherwise
+	 */
+	public boolean isInvocation() {
+		return this.opcode == Instruction.OPCODE_INVOKE_INTERFACE || this.opcode == Instruction.OPCODE_INVOKE_SPECIAL || this.opcode == Instruction.OPCODE_INVOKE_STATIC || this.opcode == Instruction.OPCODE_INVOKE_VIRTUAL;
+	}
+	
+	/**
+	 * Returns the opcode of the instruction.
+	 * 
+	 * @return the opcode of the instruction
+	 */
+	public int getOpcode() {
+		return this.opcode;
+	}
+	
+	/**
+	 * Returns the offset of the instruction in the {@code code} item of the method.
+	 * 
+	 * @return the offset of the instruction in the {@code code} item of the method
+	 */
+	public int getPC() {
+		return this.pC;
+	}
+	
+	/**
+	 * Returns a hash code for this {@code CallSite} instance.
+	 * 
+	 * @return a hash code for this {@code CallSite} instance
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.className, this.methodName, this.methodDescriptor, Integer.valueOf(this.pC), Integer.valueOf(this.opcode));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,325 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * A {@code ClassDiff} describes how a class has changed between two versions.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * A {@code ClassDiff} is computed from two {@link ClassHash} instances, so the two versions of the class are never compared in depth. If their hashes are equal, the class is unchanged and no member is looked at. Otherwise, every member is
+ * looked up by its kind, name and descriptor in the other version and is reported as added, removed or changed. A member is changed if its signature hash or its body hash is different.
+ * <p>
+ * A change is relevant to the API of the class if the header of the class changed, or if a member that is not private in either version was added, removed or had its signature hash changed. A change of a body hash alone is never relevant to
+ * the API.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * for(ClassDiff classDiff : ClassDiff.compareAll(Paths.get("old.jar"), Paths.get("new.jar"))) {
+ *     if(classDiff.isAPIChanged()) {
+ *         System.out.println(classDiff);
+ *     }
+ * }
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ClassDiff {
+	private final ClassHash newClassHash;
+	private final ClassHash oldClassHash;
+	private final List<MemberHash> addedMembers;
+	private final List<MemberHash> changedMembers;
+	private final List<MemberHash> removedMembers;
+	private final String className;
+	private final boolean isAPIChanged;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ClassDiff(final String className, final ClassHash oldClassHash, final ClassHash newClassHash) {
+		this.className = className;
+		this.oldClassHash = oldClassHash;
+		this.newClassHash = newClassHash;
+		this.addedMembers = new ArrayList<>();
+		this.changedMembers = new ArrayList<>();
+		this.removedMembers = new ArrayList<>();
+		
+		boolean isAPIChanged = oldClassHash == null || newClassHash == null || oldClassHash.getHeaderHash() != newClassHash.getHeaderHash();
+		
+		if(oldClassHash == null || newClassHash == null || oldClassHash.getHash() != newClassHash.getHash()) {
+			if(newClassHash != null) {
+				for(final MemberHash newMemberHash : newClassHash.getMemberHashesView()) {
+					final Optional<MemberHash> optionalOldMemberHash = oldClassHash != null ? oldClassHash.getMemberHash(newMemberHash) : Optional.empty();
+					
+					if(!optionalOldMemberHash.isPresent()) {
+						this.addedMembers.add(newMemberHash);
+						
+						isAPIChanged |= !newMemberHash.isPrivate();
+					} else if(optionalOldMemberHash.get().getSignatureHash() != newMemberHash.getSignatureHash()) {
+						this.changedMembers.add(newMemberHash);
+						
+						isAPIChanged |= !newMemberHash.isPrivate() || !optionalOldMemberHash.get().isPrivate();
+					} else if(optionalOldMemberHash.get().getBodyHash() != newMemberHash.getBodyHash()) {
+						this.changedMembers.add(newMemberHash);
+					}
+				}
+			}
+			
+			if(oldClassHash != null) {
+				for(final MemberHash oldMemberHash : oldClassHash.getMemberHashesView()) {
+					if(newClassHash == null || !newClassHash.getMemberHash(oldMemberHash).isPresent()) {
+						this.removedMembers.add(oldMemberHash);
+						
+						isAPIChanged |= !oldMemberHash.isPrivate();
+					}
+				}
+			}
+		}
+		
+		this.isAPIChanged = isAPIChanged;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an unmodifiable {@code List} with the {@link MemberHash} instances of the members that were added, as found in the new version of the class.
+	 * 
+	 * @return an unmodifiable {@code List} with the {@code MemberHash} instances of the members that were added
+	 */
+	public List<MemberHash> getAddedMembers() {
+		return Collections.unmodifiableList(this.addedMembers);
+	}
+	
+	/**
+	 * Returns an unmodifiable {@code List} with the {@link MemberHash} instances of the members that were changed, as found in the new version of the class.
+	 * <p>
+	 * The {@code MemberHash} instances of the old version can be found using {@code getOldClassHash().get().getMemberHash(memberHash)}.
+	 * 
+	 * @return an unmodifiable {@code List} with the {@code MemberHash} instances of the members that were changed
+	 */
+	public List<MemberHash> getChangedMembers() {
+		return Collections.unmodifiableList(this.changedMembers);
+	}
+	
+	/**
+	 * Returns an unmodifiable {@code List} with the {@link MemberHash} instances of the members that were removed, as found in the old version of the class.
+	 * 
+	 * @return an unmodifiable {@code List} with the {@code MemberHash} instances of the members that were removed
+	 */
+	public List<MemberHash> getRemovedMembers() {
+		return Collections.unmodifiableList(this.removedMembers);
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link ClassHash} of the new version of the class.
+	 * <p>
+	 * The returned {@code Optional} is empty if, and only if, the class was removed.
+	 * 
+	 * @return an {@code Optional} with the {@code ClassHash} of the new version of the class
+	 */
+	public Optional<ClassHash> getNewClassHash() {
+		return Optional.ofNullable(this.newClassHash);
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link ClassHash} of the old version of the class.
+	 * <p>
+	 * The returned {@code Optional} is empty if, and only if, the class was added.
+	 * 
+	 * @return an {@code Optional} with the {@code ClassHash} of the old version of the class
+	 */
+	public Optional<ClassHash> getOldClassHash() {
+		return Optional.ofNullable(this.oldClassHash);
+	}
+	
+	/**
+	 * Returns the internal name of the class, such as {@code "java/lang/String"}.
+	 * 
+	 * @return the internal name of the class
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code ClassDiff} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code ClassDiff} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("ClassDiff: [ClassName=%s], [IsAdded=%s], [IsRemoved=%s], [IsAPIChanged=%s], [AddedMembers=%s], [ChangedMembers=%s], [RemovedMembers=%s]", this.className, Boolean.toString(isAdded()), Boolean.toString(isRemoved()), Boolean.toString(this.isAPIChanged), Integer.toString(this.addedMembers.size()), Integer.toString(this.changedMembers.size()), Integer.toString(this.removedMembers.size()));
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the change is relevant to the API of the class, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the change is relevant to the API of the class, {@code false} otherwise
+	 */
+	public boolean isAPIChanged() {
+		return this.isAPIChanged;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the class was added, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the class was added, {@code false} otherwise
+	 */
+	public boolean isAdded() {
+		return this.oldClassHash == null;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the class has changed, {@code false} otherwise.
+	 * <p>
+	 * The class has changed if it was added or removed, if its header changed or if a member was added, removed or changed.
+	 * 
+	 * @return {@code true} if, and only if, the class has changed, {@code false} otherwise
+	 */
+	public boolean isChanged() {
+		return this.isAPIChanged || !this.addedMembers.isEmpty() || !this.changedMembers.isEmpty() || !this.removedMembers.isEmpty();
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the header of the class has changed, {@code false} otherwise.
+	 * <p>
+	 * The header of the class is described by {@link ClassHash#getHeaderHash()}.
+	 * 
+	 * @return {@code true} if, and only if, the header of the class has changed, {@code false} otherwise
+	 */
+	public boolean isHeaderChanged() {
+		return this.oldClassHash == null || this.newClassHash == null || this.oldClassHash.getHeaderHash() != this.newClassHash.getHeaderHash();
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the class was removed, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the class was removed, {@code false} otherwise
+	 */
+	public boolean isRemoved() {
+		return this.newClassHash == null;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Compares {@code oldClassHash} to {@code newClassHash}.
+	 * <p>
+	 * Returns a {@code ClassDiff} instance.
+	 * <p>
+	 * If either {@code oldClassHash} or {@code newClassHash} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The class name of the returned {@code ClassDiff} is the class name of {@code newClassHash}.
+	 * 
+	 * @param oldClassHash the {@link ClassHash} of the old version of the class
+	 * @param newClassHash the {@code ClassHash} of the new version of the class
+	 * @return a {@code ClassDiff} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code oldClassHash} or {@code newClassHash} are {@code null}
+	 */
+	public static ClassDiff compare(final ClassHash oldClassHash, final ClassHash newClassHash) {
+		Objects.requireNonNull(oldClassHash, "oldClassHash == null");
+		Objects.requireNonNull(newClassHash, "newClassHash == null");
+		
+		return new ClassDiff(newClassHash.getClassName(), oldClassHash, newClassHash);
+	}
+	
+	/**
+	 * Compares the classes in {@code oldClassHashes} to the classes with the same names in {@code newClassHashes}.
+	 * <p>
+	 * Returns a {@code List} with a {@code ClassDiff} instance for each class that has changed, sorted by their class names.
+	 * <p>
+	 * If either {@code oldClassHashes}, {@code newClassHashes} or any of their keys or values are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * A class that is only found in {@code oldClassHashes} was removed. A class that is only found in {@code newClassHashes} was added.
+	 * 
+	 * @param oldClassHashes a {@code Map} with the {@link ClassHash} instances of the old versions of the classes, keyed by their class names
+	 * @param newClassHashes a {@code Map} with the {@code ClassHash} instances of the new versions of the classes, keyed by their class names
+	 * @return a {@code List} with a {@code ClassDiff} instance for each class that has changed
+	 * @throws NullPointerException thrown if, and only if, either {@code oldClassHashes}, {@code newClassHashes} or any of their keys or values are {@code null}
+	 */
+	public static List<ClassDiff> compareAll(final Map<String, ClassHash> oldClassHashes, final Map<String, ClassHash> newClassHashes) {
+		Objects.requireNonNull(oldClassHashes, "oldClassHashes == null");
+		Objects.requireNonNull(newClassHashes, "newClassHashes == null");
+		
+		final TreeSet<String> classNames = new TreeSet<>(oldClassHashes.keySet());
+		
+		classNames.addAll(newClassHashes.keySet());
+		
+		final List<ClassDiff> classDiffs = new ArrayList<>();
+		
+		for(final String className : classNames) {
+			final ClassHash oldClassHash = oldClassHashes.get(className);
+			final ClassHash newClassHash = newClassHashes.get(className);
+			
+			if(oldClassHash == null || newClassHash == null || oldClassHash.getHash() != newClassHash.getHash()) {
+				final ClassDiff classDiff = new ClassDiff(className, oldClassHash, newClassHash);
+				
+				if(classDiff.isChanged()) {
+					classDiffs.add(classDiff);
+				}
+			}
+		}
+		
+		return classDiffs;
+	}
+	
+	/**
+	 * Compares the classes in the JAR file, ZIP file or directory denoted by {@code oldPath} to the classes in the JAR file, ZIP file or directory denoted by {@code newPath}.
+	 * <p>
+	 * Returns a {@code List} with a {@code ClassDiff} instance for each class that has changed, sorted by their class names.
+	 * <p>
+	 * If either {@code oldPath} or {@code newPath} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a class file is not valid, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * ClassDiff.compareAll(ClassHash.computeAll(oldPath), ClassHash.computeAll(newPath));
+	 * }
+	 * </pre>
+	 * 
+	 * @param oldPath the {@code Path} to a JAR file, a ZIP file or a directory with the old versions of the classes
+	 * @param newPath the {@code Path} to a JAR file, a ZIP file or a directory with the new versions of the classes
+	 * @return a {@code List} with a {@code ClassDiff} instance for each class that has changed
+	 * @throws IllegalArgumentException thrown if, and only if, a class file is not valid
+	 * @throws NullPointerException thrown if, and only if, either {@code oldPath} or {@code newPath} are {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
+	 */
+	public static List<ClassDiff> compareAll(final Path oldPath, final Path newPath) {
+		Objects.requireNonNull(oldPath, "oldPath == null");
+		Objects.requireNonNull(newPath, "newPath == null");
+		
+		return compareAll(ClassHash.computeAll(oldPath), ClassHash.computeAll(newPath));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1095 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.AnnotationDefaultAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.BootstrapMethodsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ConstantValueAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.DeprecatedAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ExceptionsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InstructionCursor;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.MethodParametersAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeInvisibleAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeInvisibleParameterAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeVisibleAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeVisibleParameterAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SignatureAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SyntheticAttribute;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantDoubleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantDynamicInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFieldRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFloatInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantIntegerInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInterfaceMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInvokeDynamicInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantLongInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodHandleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantModuleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantNameAndTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantPackageInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantStringInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+import org.macroing.cel4j.java.binary.writer.ClassFileWriter;
+
+/**
+ * A {@code ClassHash} contains the 64-bit content hashes of a class and its members.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * A {@code ClassHash} is computed directly from the sequence of bytes of a class, without building a {@link ClassFile} instance. Every {@code constant_pool} index that is found is resolved to a hash of the entry it denotes, which in turn is
+ * computed from the hashes of the entries it references. The entries are hashed at most once each. Because of this, a class whose {@code constant_pool} has been reordered or compacted, such as by a
+ * {@link org.macroing.cel4j.java.binary.writer.ClassFileShrinker ClassFileShrinker}, has the same hashes as the original class.
+ * <p>
+ * The header hash covers the access flags, the name, the superclass and the interfaces of the class. The signature hash of a member covers its access flags, name and descriptor. The header hash and the signature hashes also cover the
+ * {@code AnnotationDefault}, {@code ConstantValue}, {@code Deprecated}, {@code Exceptions}, {@code MethodParameters}, {@code PermittedSubclasses}, {@code RuntimeInvisibleAnnotations}, {@code RuntimeInvisibleParameterAnnotations},
+ * {@code RuntimeInvisibleTypeAnnotations}, {@code RuntimeVisibleAnnotations}, {@code RuntimeVisibleParameterAnnotations}, {@code RuntimeVisibleTypeAnnotations}, {@code Signature} and {@code Synthetic} attributes, regardless of their
+ * order. All other attributes are skipped, except for the {@code Code} attribute, which is covered by the body hash of its method.
+ * <p>
+ * The hashes are stable. They do not depend on the JVM, the platform or the order in which classes are hashed, so they can be stored in a build cache and compared with the hashes computed by a later build.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ClassHash oldClassHash = ClassHash.compute(oldBytes);
+ * ClassHash newClassHash = ClassHash.compute(newBytes);
+ * 
+ * if(oldClassHash.getAPIHash() != newClassHash.getAPIHash()) {
+ *     System.out.println("The API of " + newClassHash.getClassName() + " has changed.");
+ * }
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ClassHash {
+	private final List<MemberHash> memberHashes;
+	private final Map<String, MemberHash> memberHashesByKey;
+	private final String className;
+	private final long aPIHash;
+	private final long hash;
+	private final long headerHash;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	ClassHash(final String className, final long headerHash, final List<MemberHash> memberHashes) {
+		this.className = Objects.requireNonNull(className, "className == null");
+		this.headerHash = headerHash;
+		this.memberHashes = Collections.unmodifiableList(new ArrayList<>(memberHashes));
+		this.memberHashesByKey = new HashMap<>();
+		
+		long aPIHash = Digest.mix(headerHash);
+		long hash = Digest.mix(headerHash);
+		
+		for(final MemberHash memberHash : this.memberHashes) {
+			this.memberHashesByKey.put(doGetKey(memberHash.isField(), memberHash.getName(), memberHash.getDescriptor()), memberHash);
+			
+			if(!memberHash.isPrivate()) {
+				aPIHash += Digest.mix(memberHash.getSignatureHash());
+			}
+			
+			hash += Digest.mix(memberHash.getSignatureHash() ^ Digest.mix(memberHash.getBodyHash()));
+		}
+		
+		this.aPIHash = aPIHash;
+		this.hash = hash;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an unmodifiable {@code List} with the {@link MemberHash} instances of the fields and methods of the class, in the order they appear in the class.
+	 * 
+	 * @return an unmodifiable {@code List} with the {@code MemberHash} instances of the fields and methods of the class
+	 */
+	public List<MemberHash> getMemberHashesView() {
+		return this.memberHashes;
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link MemberHash} of the field with the name {@code name} and the descriptor {@code descriptor}.
+	 * <p>
+	 * If either {@code name} or {@code descriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param name the name of the field
+	 * @param descriptor the descriptor of the field
+	 * @return an {@code Optional} with the {@code MemberHash} of the field with the name {@code name} and the descriptor {@code descriptor}
+	 * @throws NullPointerException thrown if, and only if, either {@code name} or {@code descriptor} are {@code null}
+	 */
+	public Optional<MemberHash> getField(final String name, final String descriptor) {
+		return Optional.ofNullable(this.memberHashesByKey.get(doGetKey(true, Objects.requireNonNull(name, "name == null"), Objects.requireNonNull(descriptor, "descriptor == null"))));
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link MemberHash} that denotes the same member as {@code memberHash}.
+	 * <p>
+	 * If {@code memberHash} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param memberHash a {@code MemberHash} instance
+	 * @return an {@code Optional} with the {@code MemberHash} that denotes the same member as {@code memberHash}
+	 * @throws NullPointerException thrown if, and only if, {@code memberHash} is {@code null}
+	 */
+	public Optional<MemberHash> getMemberHash(final MemberHash memberHash) {
+		Objects.requireNonNull(memberHash, "memberHash == null");
+		
+		return Optional.ofNullable(this.memberHashesByKey.get(doGetKey(memberHash.isField(), memberHash.getName(), memberHash.getDescriptor())));
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link MemberHash} of the method with the name {@code name} and the descriptor {@code descriptor}.
+	 * <p>
+	 * If either {@code name} or {@code descriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param name the name of the method
+	 * @param descriptor the descriptor of the method
+	 * @return an {@code Optional} with the {@code MemberHash} of the method with the name {@code name} and the descriptor {@code descriptor}
+	 * @throws NullPointerException thrown if, and only if, either {@code name} or {@code descriptor} are {@code null}
+	 */
+	public Optional<MemberHash> getMethod(final String name, final String descriptor) {
+		return Optional.ofNullable(this.memberHashesByKey.get(doGetKey(false, Objects.requireNonNull(name, "name == null"), Objects.requireNonNull(descriptor, "descriptor == null"))));
+	}
+	
+	/**
+	 * Returns the internal name of the class, such as {@code "java/lang/String"}.
+	 * 
+	 * @return the internal name of the class
+	 */
+	public String getClassName() {
+		return this.className;
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code ClassHash} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code ClassHash} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("ClassHash: [ClassName=%s], [MemberCount=%s], [APIHash=0x%016X], [Hash=0x%016X]", this.className, Integer.toString(this.memberHashes.size()), Long.valueOf(this.aPIHash), Long.valueOf(this.hash));
+	}
+	
+	/**
+	 * Compares {@code object} to this {@code ClassHash} instance for equality.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code object} is an instance of {@code ClassHash}, and their respective values are equal, {@code false} otherwise.
+	 * 
+	 * @param object the {@code Object} to compare to this {@code ClassHash} instance for equality
+	 * @return {@code true} if, and only if, {@code object} is an instance of {@code ClassHash}, and their respective values are equal, {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		} else if(!(object instanceof ClassHash)) {
+			return false;
+		} else if(!Objects.equals(this.className, ClassHash.class.cast(object).className)) {
+			return false;
+		} else if(this.headerHash != ClassHash.class.cast(object).headerHash) {
+			return false;
+		} else if(!Objects.equals(this.memberHashes, ClassHash.class.cast(object).memberHashes)) {
+			return false;
+		} else {
+			return true;
+		}
+	}
+	
+	/**
+	 * Returns a hash code for this {@code ClassHash} instance.
+	 * 
+	 * @return a hash code for this {@code ClassHash} instance
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.className, Long.valueOf(this.headerHash), this.memberHashes);
+	}
+	
+	/**
+	 * Returns the API hash of the class.
+	 * <p>
+	 * The API hash combines the header hash with the signature hashes of all members that are not private, regardless of their order. It changes if, and only if, the API of the class changes, except for hash collisions.
+	 * 
+	 * @return the API hash of the class
+	 */
+	public long getAPIHash() {
+		return this.aPIHash;
+	}
+	
+	/**
+	 * Returns the hash of the class.
+	 * <p>
+	 * The hash combines the header hash with the signature hashes and the body hashes of all members, regardless of their order.
+	 * 
+	 * @return the hash of the class
+	 */
+	public long getHash() {
+		return this.hash;
+	}
+	
+	/**
+	 * Returns the header hash of the class.
+	 * 
+	 * @return the header hash of the class
+	 */
+	public long getHeaderHash() {
+		return this.headerHash;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Computes the {@code ClassHash} of the class in {@code byteBuffer}, from its position to its limit.
+	 * <p>
+	 * Returns a {@code ClassHash} instance.
+	 * <p>
+	 * If {@code byteBuffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteBuffer} does not contain a valid class, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The position of {@code byteBuffer} is not changed.
+	 * 
+	 * @param byteBuffer a {@code ByteBuffer} with the class
+	 * @return a {@code ClassHash} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code byteBuffer} does not contain a valid class
+	 * @throws NullPointerException thrown if, and only if, {@code byteBuffer} is {@code null}
+	 */
+	public static ClassHash compute(final ByteBuffer byteBuffer) {
+		try {
+			return new Hasher(byteBuffer.slice()).hash();
+		} catch(final BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("The class is truncated.", e);
+		}
+	}
+	
+	/**
+	 * Computes the {@code ClassHash} of {@code classFile}.
+	 * <p>
+	 * Returns a {@code ClassHash} instance.
+	 * <p>
+	 * If {@code classFile} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code classFile} is not valid, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code classFile} cannot be written, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * The {@code ClassFile} instance {@code classFile} is written by a {@link ClassFileWriter} first. Attributes that were read lazily and have not been decoded are written without being decoded.
+	 * 
+	 * @param classFile the {@link ClassFile} instance to compute the {@code ClassHash} of
+	 * @return a {@code ClassHash} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code classFile} is not valid
+	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, {@code classFile} cannot be written
+	 */
+	public static ClassHash compute(final ClassFile classFile) {
+		return compute(new ClassFileWriter().write(Objects.requireNonNull(classFile, "classFile == null")));
+	}
+	
+	/**
+	 * Computes the {@code ClassHash} of the class in {@code bytes}.
+	 * <p>
+	 * Returns a {@code ClassHash} instance.
+	 * <p>
+	 * If {@code bytes} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code bytes} does not contain a valid class, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param bytes a {@code byte} array with the class
+	 * @return a {@code ClassHash} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code bytes} does not contain a valid class
+	 * @throws NullPointerException thrown if, and only if, {@code bytes} is {@code null}
+	 */
+	public static ClassHash compute(final byte[] bytes) {
+		return compute(ByteBuffer.wrap(Objects.requireNonNull(bytes, "bytes == null")));
+	}
+	
+	/**
+	 * Computes the {@code ClassHash} instances of all class files in the JAR file, ZIP file or directory denoted by {@code path} in parallel.
+	 * <p>
+	 * Returns a {@code Map} with the {@code ClassHash} instances, sorted by their class names.
+	 * <p>
+	 * If {@code path} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a class file is not valid, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * The class files are read and hashed on the common {@code ForkJoinPool}. Each class file is read into memory once and hashed in a single pass, so the time it takes is mostly spent reading and, for a JAR or ZIP file, inflating the
+	 * class files. The class files in the {@code META-INF} directory, such as the versioned class files of a multi-release JAR file, are skipped.
+	 * 
+	 * @param path the {@code Path} to a JAR file, a ZIP file or a directory
+	 * @return a {@code Map} with the {@code ClassHash} instances, sorted by their class names
+	 * @throws IllegalArgumentException thrown if, and only if, a class file is not valid
+	 * @throws NullPointerException thrown if, and only if, {@code path} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
+	 */
+	public static Map<String, ClassHash> computeAll(final Path path) {
+		Objects.requireNonNull(path, "path == null");
+		
+		try {
+			if(Files.isDirectory(path)) {
+				try(final Stream<Path> stream = Files.walk(path)) {
+					final List<Path> paths = stream.filter(currentPath -> doIsClassFileName(path.relativize(currentPath).toString().replace(currentPath.getFileSystem().getSeparator(), "/"))).collect(Collectors.toList());
+					
+					return doCollect(paths.parallelStream().map(currentPath -> doCompute(currentPath)));
+				}
+			}
+			
+			try(final ZipFile zipFile = new ZipFile(path.toFile())) {
+				final List<ZipEntry> zipEntries = zipFile.stream().filter(zipEntry -> !zipEntry.isDirectory() && doIsClassFileName(zipEntry.getName())).collect(Collectors.toList());
+				
+				return doCollect(zipEntries.parallelStream().map(zipEntry -> doCompute(zipFile, zipEntry)));
+			}
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static ClassHash doCompute(final Path path) {
+		try {
+			return compute(Files.readAllBytes(path));
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		} catch(final IllegalArgumentException e) {
+			throw new IllegalArgumentException(String.format("Unable to compute ClassHash: %s", path), e);
+		}
+	}
+	
+	private static ClassHash doCompute(final ZipFile zipFile, final ZipEntry zipEntry) {
+		try(final InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+			final long size = zipEntry.getSize();
+			
+			final byte[] bytes = size >= 0L ? new byte[(int)(size)] : doReadAllBytes(inputStream);
+			
+			if(size >= 0L) {
+				new DataInputStream(inputStream).readFully(bytes);
+			}
+			
+			return compute(bytes);
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		} catch(final IllegalArgumentException e) {
+			throw new IllegalArgumentException(String.format("Unable to compute ClassHash: %s!/%s", zipFile.getName(), zipEntry.getName()), e);
+		}
+	}
+	
+	private static Map<String, ClassHash> doCollect(final Stream<ClassHash> stream) {
+		return stream.collect(Collectors.toMap(classHash -> classHash.getClassName(), classHash -> classHash, (a, b) -> {
+			throw new IllegalArgumentException(String.format("The class %s was found more than once.", a.getClassName()));
+		}, TreeMap::new));
+	}
+	
+	private static String doGetKey(final boolean isField, final String name, final String descriptor) {
+		return (isField ? "F" : "M") + name + ":" + descriptor;
+	}
+	
+	private static boolean doIsClassFileName(final String name) {
+		return name.endsWith(".class") && !name.startsWith("META-INF/");
+	}
+	
+	private static byte[] doReadAllBytes(final InputStream inputStream) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		final byte[] buffer = new byte[8192];
+		
+		for(int length = inputStream.read(buffer); length != -1; length = inputStream.read(buffer)) {
+			byteArrayOutputStream.write(buffer, 0, length);
+		}
+		
+		return byteArrayOutputStream.toByteArray();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Digest {
+		private static final long OFFSET_BASIS = 0xCBF29CE484222325L;
+		private static final long PRIME = 0x100000001B3L;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private long hash;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Digest() {
+			this.hash = OFFSET_BASIS;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public long get() {
+			return mix(this.hash);
+		}
+		
+		public void put(final ByteBuffer byteBuffer, final int offset, final int length) {
+			long hash = this.hash;
+			
+			for(int i = offset; i < offset + length; i++) {
+				hash = (hash ^ (byteBuffer.get(i) & 0xFF)) * PRIME;
+			}
+			
+			this.hash = hash;
+		}
+		
+		public void putInt(final int value) {
+			this.hash = (this.hash ^ (value & 0xFFFFFFFFL)) * PRIME;
+		}
+		
+		public void putLong(final long value) {
+			this.hash = (this.hash ^ mix(value)) * PRIME;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public static long mix(final long value) {
+			long mixedValue = value;
+			
+			mixedValue ^= mixedValue >>> 33;
+			mixedValue *= 0xFF51AFD7ED558CCDL;
+			mixedValue ^= mixedValue >>> 33;
+			mixedValue *= 0xC4CEB9FE1A85EC53L;
+			mixedValue ^= mixedValue >>> 33;
+			
+			return mixedValue;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Hasher {
+		private static final int STATE_COMPUTED = 2;
+		private static final int STATE_COMPUTING = 1;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private final ByteBuffer input;
+		private final byte[] states;
+		private final int[] offsets;
+		private final long[] hashes;
+		private final int cPInfosEnd;
+		private int[] bootstrapMethodOffsets;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Hasher(final ByteBuffer input) {
+			this.input = input;
+			
+			if(this.input.getInt() != 0xCAFEBABE) {
+				throw new IllegalArgumentException("The class does not start with 0xCAFEBABE.");
+			}
+			
+			this.input.position(8);
+			
+			final int cPInfoCount = this.input.getShort() & 0xFFFF;
+			
+			this.states = new byte[cPInfoCount];
+			this.offsets = new int[cPInfoCount];
+			this.hashes = new long[cPInfoCount];
+			
+			for(int i = 1; i < cPInfoCount; i++) {
+				this.offsets[i] = this.input.position();
+				
+				final int tag = this.input.get() & 0xFF;
+				
+				this.input.position(this.input.position() + doGetLength(tag, this.input, this.input.position()));
+				
+				if(tag == ConstantLongInfo.TAG || tag == ConstantDoubleInfo.TAG) {
+					i++;
+				}
+			}
+			
+			this.cPInfosEnd = this.input.position();
+			this.bootstrapMethodOffsets = new int[0];
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public ClassHash hash() {
+			doFindBootstrapMethods();
+			
+			this.input.position(this.cPInfosEnd);
+			
+			final Digest digest = new Digest();
+			
+			digest.putInt(this.input.getShort() & 0xFFFF);
+			
+			final int thisClass = this.input.getShort() & 0xFFFF;
+			
+			digest.putLong(doHash(thisClass));
+			digest.putLong(doHash(this.input.getShort() & 0xFFFF));
+			
+			final int interfacesCount = this.input.getShort() & 0xFFFF;
+			
+			digest.putInt(interfacesCount);
+			
+			for(int i = 0; i < interfacesCount; i++) {
+				digest.putLong(doHash(this.input.getShort() & 0xFFFF));
+			}
+			
+			final List<MemberHash> memberHashes = new ArrayList<>();
+			
+			doHashMembers(memberHashes, true);
+			doHashMembers(memberHashes, false);
+			
+			digest.putLong(doHashAttributes(null));
+			
+			return new ClassHash(doGetClassName(thisClass), digest.get(), memberHashes);
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private void doFindBootstrapMethods() {
+			this.input.position(this.cPInfosEnd + 6);
+			
+			final int interfacesCount = this.input.getShort() & 0xFFFF;
+			
+			this.input.position(this.input.position() + interfacesCount * 2);
+			
+			doSkipMembers();
+			doSkipMembers();
+			
+			final int attributesCount = this.input.getShort() & 0xFFFF;
+			
+			for(int i = 0; i < attributesCount; i++) {
+				final String name = doGetUTF8(this.input.getShort() & 0xFFFF);
+				final int length = this.input.getInt();
+				final int start = this.input.position();
+				
+				if(name.equals(BootstrapMethodsAttribute.NAME)) {
+					this.bootstrapMethodOffsets = new int[this.input.getShort() & 0xFFFF];
+					
+					for(int j = 0; j < this.bootstrapMethodOffsets.length; j++) {
+						this.bootstrapMethodOffsets[j] = this.input.position();
+						
+						this.input.position(this.input.position() + 4 + (this.input.getShort(this.input.position() + 2) & 0xFFFF) * 2);
+					}
+				}
+				
+				this.input.position(start + length);
+			}
+			
+			if(this.input.hasRemaining()) {
+				throw new IllegalArgumentException("The class has trailing bytes.");
+			}
+		}
+		
+		private String doGetClassName(final int index) {
+			if(index <= 0 || index >= this.offsets.length || this.offsets[index] == 0 || (this.input.get(this.offsets[index]) & 0xFF) != ConstantClassInfo.TAG) {
+				throw new IllegalArgumentException(String.format("The this_class is not a CONSTANT_Class_info: %s", Integer.toString(index)));
+			}
+			
+			return doGetUTF8(this.input.getShort(this.offsets[index] + 1) & 0xFFFF);
+		}
+		
+		private String doGetUTF8(final int index) {
+			if(index <= 0 || index >= this.offsets.length || this.offsets[index] == 0 || (this.input.get(this.offsets[index]) & 0xFF) != ConstantUTF8Info.TAG) {
+				throw new IllegalArgumentException(String.format("The constant_pool entry at index %s is not a CONSTANT_Utf8_info.", Integer.toString(index)));
+			}
+			
+			final int offset = this.offsets[index] + 1;
+			
+			try {
+				return ConstantUTF8Info.decode(this.input, offset + 2, this.input.getShort(offset) & 0xFFFF);
+			} catch(final UTFDataFormatException e) {
+				throw new IllegalArgumentException(String.format("The constant_pool entry at index %s is not a valid CONSTANT_Utf8_info.", Integer.toString(index)), e);
+			}
+		}
+		
+		private int doHashIndex(final Digest digest) {
+			final int index = this.input.getShort() & 0xFFFF;
+			
+			digest.putLong(doHash(index));
+			
+			return index;
+		}
+		
+		private int doHashU1(final Digest digest) {
+			final int value = this.input.get() & 0xFF;
+			
+			digest.putInt(value);
+			
+			return value;
+		}
+		
+		private int doHashU2(final Digest digest) {
+			final int value = this.input.getShort() & 0xFFFF;
+			
+			digest.putInt(value);
+			
+			return value;
+		}
+		
+		private long doHash(final int index) {
+			if(index == 0) {
+				return 0L;
+			}
+			
+			if(index >= this.offsets.length || this.offsets[index] == 0) {
+				throw new IllegalArgumentException(String.format("Invalid constant_pool index: %s", Integer.toString(index)));
+			}
+			
+			if(this.states[index] == STATE_COMPUTED) {
+				return this.hashes[index];
+			}
+			
+			if(this.states[index] == STATE_COMPUTING) {
+				throw new IllegalArgumentException(String.format("The constant_pool entry at index %s references itself.", Integer.toString(index)));
+			}
+			
+			this.states[index] = STATE_COMPUTING;
+			
+			final int offset = this.offsets[index];
+			final int tag = this.input.get(offset) & 0xFF;
+			
+			final Digest digest = new Digest();
+			
+			digest.putInt(tag);
+			
+			switch(tag) {
+				case ConstantClassInfo.TAG:
+				case ConstantMethodTypeInfo.TAG:
+				case ConstantModuleInfo.TAG:
+				case ConstantPackageInfo.TAG:
+				case ConstantStringInfo.TAG:
+					digest.putLong(doHash(this.input.getShort(offset + 1) & 0xFFFF));
+					
+					break;
+				case ConstantDynamicInfo.TAG:
+				case ConstantInvokeDynamicInfo.TAG:
+					digest.putLong(doHashBootstrapMethod(this.input.getShort(offset + 1) & 0xFFFF));
+					digest.putLong(doHash(this.input.getShort(offset + 3) & 0xFFFF));
+					
+					break;
+				case ConstantFieldRefInfo.TAG:
+				case ConstantInterfaceMethodRefInfo.TAG:
+				case ConstantMethodRefInfo.TAG:
+				case ConstantNameAndTypeInfo.TAG:
+					digest.putLong(doHash(this.input.getShort(offset + 1) & 0xFFFF));
+					digest.putLong(doHash(this.input.getShort(offset + 3) & 0xFFFF));
+					
+					break;
+				case ConstantMethodHandleInfo.TAG:
+					digest.putInt(this.input.get(offset + 1) & 0xFF);
+					digest.putLong(doHash(this.input.getShort(offset + 2) & 0xFFFF));
+					
+					break;
+				default:
+					digest.put(this.input, offset + 1, doGetLength(tag, this.input, offset + 1));
+					
+					break;
+			}
+			
+			this.hashes[index] = digest.get();
+			this.states[index] = STATE_COMPUTED;
+			
+			return this.hashes[index];
+		}
+		
+		private long doHashAttribute(final int nameIndex, final String name) {
+			final Digest digest = new Digest();
+			
+			digest.putLong(doHash(nameIndex));
+			
+			switch(name) {
+				case AnnotationDefaultAttribute.NAME:
+					doHashElementValue(digest);
+					
+					break;
+				case ConstantValueAttribute.NAME:
+				case SignatureAttribute.NAME:
+					doHashIndex(digest);
+					
+					break;
+				case DeprecatedAttribute.NAME:
+				case SyntheticAttribute.NAME:
+					break;
+				case ExceptionsAttribute.NAME:
+				case "PermittedSubclasses": {
+					final int count = doHashU2(digest);
+					
+					for(int i = 0; i < count; i++) {
+						doHashIndex(digest);
+					}
+					
+					break;
+				}
+				case MethodParametersAttribute.NAME: {
+					final int parametersCount = doHashU1(digest);
+					
+					for(int i = 0; i < parametersCount; i++) {
+						doHashIndex(digest);
+						doHashU2(digest);
+					}
+					
+					break;
+				}
+				case RuntimeInvisibleAnnotationsAttribute.NAME:
+				case RuntimeVisibleAnnotationsAttribute.NAME:
+					doHashAnnotations(digest);
+					
+					break;
+				case RuntimeInvisibleParameterAnnotationsAttribute.NAME:
+				case RuntimeVisibleParameterAnnotationsAttribute.NAME: {
+					final int numParameters = doHashU1(digest);
+					
+					for(int i = 0; i < numParameters; i++) {
+						doHashAnnotations(digest);
+					}
+					
+					break;
+				}
+				case "RuntimeInvisibleTypeAnnotations":
+				case "RuntimeVisibleTypeAnnotations": {
+					final int numAnnotations = doHashU2(digest);
+					
+					for(int i = 0; i < numAnnotations; i++) {
+						doHashTypeAnnotation(digest);
+					}
+					
+					break;
+				}
+				default:
+					return 0L;
+			}
+			
+			return digest.get();
+		}
+		
+		private long doHashAttributes(final long[] bodyHash) {
+			final int attributesCount = this.input.getShort() & 0xFFFF;
+			
+			long hash = 0L;
+			
+			for(int i = 0; i < attributesCount; i++) {
+				final int nameIndex = this.input.getShort() & 0xFFFF;
+				final int length = this.input.getInt();
+				final int start = this.input.position();
+				
+				final String name = doGetUTF8(nameIndex);
+				
+				if(length < 0 || length > this.input.remaining()) {
+					throw new IllegalArgumentException(String.format("The attribute %s is truncated.", name));
+				}
+				
+				if(bodyHash != null && name.equals(CodeAttribute.NAME)) {
+					bodyHash[0] = doHashCode();
+				} else {
+					final long attributeHash = doHashAttribute(nameIndex, name);
+					
+					if(attributeHash != 0L && this.input.position() != start + length) {
+						throw new IllegalArgumentException(String.format("The attribute %s has %s byte(s), but its attribute_length is %s.", name, Integer.toString(this.input.position() - start), Integer.toString(length)));
+					}
+					
+					hash += attributeHash;
+				}
+				
+				this.input.position(start + length);
+			}
+			
+			return hash;
+		}
+		
+		private long doHashBootstrapMethod(final int index) {
+			if(index >= this.bootstrapMethodOffsets.length) {
+				throw new IllegalArgumentException(String.format("Invalid bootstrap_method_attr_index: %s", Integer.toString(index)));
+			}
+			
+			final int offset = this.bootstrapMethodOffsets[index];
+			final int numBootstrapArguments = this.input.getShort(offset + 2) & 0xFFFF;
+			
+			final Digest digest = new Digest();
+			
+			digest.putLong(doHash(this.input.getShort(offset) & 0xFFFF));
+			digest.putInt(numBootstrapArguments);
+			
+			for(int i = 0; i < numBootstrapArguments; i++) {
+				digest.putLong(doHash(this.input.getShort(offset + 4 + i * 2) & 0xFFFF));
+			}
+			
+			return digest.get();
+		}
+		
+		private long doHashCode() {
+			final Digest digest = new Digest();
+			
+			doHashU2(digest);
+			doHashU2(digest);
+			
+			final int codeLength = this.input.getInt();
+			
+			if(codeLength < 0 || codeLength > this.input.remaining()) {
+				throw new IllegalArgumentException("The code item is truncated.");
+			}
+			
+			final ByteBuffer input = this.input.duplicate();
+			
+			input.limit(input.position() + codeLength);
+			
+			final ByteBuffer slice = input.slice();
+			
+			digest.putInt(codeLength);
+			
+			int start = 0;
+			
+			for(int offset = 0; offset < codeLength; offset += InstructionCursor.getLength(slice, offset)) {
+				final int opcode = slice.get(offset) & 0xFF;
+				
+				if(opcode == 18) {
+					digest.put(slice, start, offset + 1 - start);
+					digest.putLong(doHash(slice.get(offset + 1) & 0xFF));
+					
+					start = offset + 2;
+				} else if(opcode == 19 || opcode == 20 || opcode >= 178 && opcode <= 187 || opcode == 189 || opcode == 192 || opcode == 193 || opcode == 197) {
+					digest.put(slice, start, offset + 1 - start);
+					digest.putLong(doHash(slice.getShort(offset + 1) & 0xFFFF));
+					
+					start = offset + 3;
+				}
+			}
+			
+			digest.put(slice, start, codeLength - start);
+			
+			this.input.position(this.input.position() + codeLength);
+			
+			final int exceptionTableLength = doHashU2(digest);
+			
+			for(int i = 0; i < exceptionTableLength; i++) {
+				doHashU2(digest);
+				doHashU2(digest);
+				doHashU2(digest);
+				doHashIndex(digest);
+			}
+			
+			doSkipAttributes();
+			
+			return digest.get();
+		}
+		
+		private void doHashAnnotation(final Digest digest) {
+			doHashIndex(digest);
+			
+			final int numElementValuePairs = doHashU2(digest);
+			
+			for(int i = 0; i < numElementValuePairs; i++) {
+				doHashIndex(digest);
+				doHashElementValue(digest);
+			}
+		}
+		
+		private void doHashAnnotations(final Digest digest) {
+			final int numAnnotations = doHashU2(digest);
+			
+			for(int i = 0; i < numAnnotations; i++) {
+				doHashAnnotation(digest);
+			}
+		}
+		
+		private void doHashBytes(final Digest digest, final int length) {
+			digest.put(this.input, this.input.position(), length);
+			
+			this.input.position(this.input.position() + length);
+		}
+		
+		private void doHashElementValue(final Digest digest) {
+			final int tag = doHashU1(digest);
+			
+			switch(tag) {
+				case 'B':
+				case 'C':
+				case 'D':
+				case 'F':
+				case 'I':
+				case 'J':
+				case 'S':
+				case 'Z':
+				case 'c':
+				case 's':
+					doHashIndex(digest);
+					
+					break;
+				case 'e':
+					doHashIndex(digest);
+					doHashIndex(digest);
+					
+					break;
+				case '@':
+					doHashAnnotation(digest);
+					
+					break;
+				case '[': {
+					final int numValues = doHashU2(digest);
+					
+					for(int i = 0; i < numValues; i++) {
+						doHashElementValue(digest);
+					}
+					
+					break;
+				}
+				default:
+					throw new IllegalArgumentException(String.format("Invalid element_value tag: %s", Integer.toString(tag)));
+			}
+		}
+		
+		private void doHashMembers(final List<MemberHash> memberHashes, final boolean isField) {
+			final int count = this.input.getShort() & 0xFFFF;
+			
+			for(int i = 0; i < count; i++) {
+				final int accessFlags = this.input.getShort() & 0xFFFF;
+				final int nameIndex = this.input.getShort() & 0xFFFF;
+				final int descriptorIndex = this.input.getShort() & 0xFFFF;
+				
+				final long[] bodyHash = new long[1];
+				
+				final Digest digest = new Digest();
+				
+				digest.putInt(accessFlags);
+				digest.putLong(doHash(nameIndex));
+				digest.putLong(doHash(descriptorIndex));
+				digest.putLong(doHashAttributes(isField ? null : bodyHash));
+				
+				memberHashes.add(new MemberHash(isField, doGetUTF8(nameIndex), doGetUTF8(descriptorIndex), accessFlags, digest.get(), bodyHash[0]));
+			}
+		}
+		
+		private void doHashTypeAnnotation(final Digest digest) {
+			final int targetType = doHashU1(digest);
+			
+			switch(targetType) {
+				case 0x00:
+				case 0x01:
+				case 0x16:
+					doHashBytes(digest, 1);
+					
+					break;
+				case 0x10:
+				case 0x11:
+				case 0x12:
+				case 0x17:
+				case 0x42:
+				case 0x43:
+				case 0x44:
+				case 0x45:
+				case 0x46:
+					doHashBytes(digest, 2);
+					
+					break;
+				case 0x13:
+				case 0x14:
+				case 0x15:
+					break;
+				case 0x40:
+				case 0x41:
+					doHashBytes(digest, doHashU2(digest) * 6);
+					
+					break;
+				case 0x47:
+				case 0x48:
+				case 0x49:
+				case 0x4A:
+				case 0x4B:
+					doHashBytes(digest, 3);
+					
+					break;
+				default:
+					throw new IllegalArgumentException(String.format("Invalid target_type: %s", Integer.toString(targetType)));
+			}
+			
+			doHashBytes(digest, doHashU1(digest) * 2);
+			doHashAnnotation(digest);
+		}
+		
+		private void doSkipAttributes() {
+			final int attributesCount = this.input.getShort() & 0xFFFF;
+			
+			for(int i = 0; i < attributesCount; i++) {
+				this.input.position(this.input.position() + 2);
+				this.input.position(this.input.position() + 4 + this.input.getInt(this.input.position()));
+			}
+		}
+		
+		private void doSkipMembers() {
+			final int count = this.input.getShort() & 0xFFFF;
+			
+			for(int i = 0; i < count; i++) {
+				this.input.position(this.input.position() + 6);
+				
+				doSkipAttributes();
+			}
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private static int doGetLength(final int tag, final ByteBuffer input, final int position) {
+			switch(tag) {
+				case ConstantUTF8Info.TAG:
+					return 2 + (input.getShort(position) & 0xFFFF);
+				case ConstantClassInfo.TAG:
+				case ConstantMethodTypeInfo.TAG:
+				case ConstantModuleInfo.TAG:
+				case ConstantPackageInfo.TAG:
+				case ConstantStringInfo.TAG:
+					return 2;
+				case ConstantMethodHandleInfo.TAG:
+					return 3;
+				case ConstantDynamicInfo.TAG:
+				case ConstantFieldRefInfo.TAG:
+				case ConstantFloatInfo.TAG:
+				case ConstantIntegerInfo.TAG:
+				case ConstantInterfaceMethodRefInfo.TAG:
+				case ConstantInvokeDynamicInfo.TAG:
+				case ConstantMethodRefInfo.TAG:
+				case ConstantNameAndTypeInfo.TAG:
+					return 4;
+				case ConstantDoubleInfo.TAG:
+				case ConstantLongInfo.TAG:
+					return 8;
+				default:
+					throw new IllegalArgumentException(String.format("Invalid constant_pool tag: %s", Integer.toString(tag)));
+			}
+		}
+	}
+}
\ No newline at end of file
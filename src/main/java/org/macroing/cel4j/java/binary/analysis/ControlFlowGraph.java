@@ -0,0 +1,477 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeOffsetIndex;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ExceptionHandler;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.Instruction;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InstructionCursor;
+
+/**
+ * A {@code ControlFlowGraph} represents the control flow graph of the instructions of a {@link CodeAttribute}.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * A {@code ControlFlowGraph} consists of {@link BasicBlock} instances that are connected by normal edges and exception edges. The normal edges follow the branch targets, the fall-through and the targets of the {@code lookupswitch} and
+ * {@code tableswitch} instructions. The exception edges go from every {@code BasicBlock} that is covered by an {@link ExceptionHandler} to the {@code BasicBlock} that starts at its {@code handler_pc}.
+ * <p>
+ * The branch targets are computed directly from the {@code code} item, using an {@link InstructionCursor}, so a {@code CodeAttribute} whose instructions are stored in their packed form is not unpacked.
+ * <p>
+ * The {@code jsr} and {@code jsr_w} instructions have an edge to their target and an edge to the instruction that follows them. The {@code ret} instruction has no successors. This approximates a subroutine call as a branch that returns to
+ * the instruction after it.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ControlFlowGraph controlFlowGraph = ControlFlowGraph.build(codeAttribute);
+ * 
+ * for(int index : controlFlowGraph.getReversePostorder()) {
+ *     BasicBlock basicBlock = controlFlowGraph.getBasicBlock(index);
+ * 
+ *     for(int i = 0; i < basicBlock.getSuccessorCount(); i++) {
+ *         BasicBlock successor = controlFlowGraph.getBasicBlock(basicBlock.getSuccessor(i));
+ *     }
+ * }
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ControlFlowGraph {
+	private static final int KIND_BRANCH = 1;
+	private static final int KIND_GO_TO = 2;
+	private static final int KIND_NONE = 0;
+	private static final int KIND_RETURN = 3;
+	private static final int KIND_SWITCH = 4;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final CodeOffsetIndex codeOffsetIndex;
+	private final List<BasicBlock> basicBlocks;
+	private final int[] basicBlockIndices;
+	private final int[] reversePostorder;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ControlFlowGraph(final CodeOffsetIndex codeOffsetIndex, final List<BasicBlock> basicBlocks, final int[] basicBlockIndices, final int[] reversePostorder) {
+		this.codeOffsetIndex = codeOffsetIndex;
+		this.basicBlocks = basicBlocks;
+		this.basicBlockIndices = basicBlockIndices;
+		this.reversePostorder = reversePostorder;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the {@link BasicBlock} at index {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getBasicBlockCount()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the {@code BasicBlock}
+	 * @return the {@code BasicBlock} at index {@code index}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getBasicBlockCount()}
+	 */
+	public BasicBlock getBasicBlock(final int index) {
+		return this.basicBlocks.get(index);
+	}
+	
+	/**
+	 * Returns the {@link BasicBlock} that contains the instruction at offset {@code pc}, or {@code null} if no instruction contains it.
+	 * 
+	 * @param pc an offset into the {@code code} item
+	 * @return the {@code BasicBlock} that contains the instruction at offset {@code pc}, or {@code null} if no instruction contains it
+	 */
+	public BasicBlock getBasicBlockAt(final int pc) {
+		final int index = this.codeOffsetIndex.getIndex(pc);
+		
+		return index >= 0 ? this.basicBlocks.get(this.basicBlockIndices[index]) : null;
+	}
+	
+	/**
+	 * Returns the {@link CodeOffsetIndex} that this {@code ControlFlowGraph} instance was built from.
+	 * 
+	 * @return the {@code CodeOffsetIndex} that this {@code ControlFlowGraph} instance was built from
+	 */
+	public CodeOffsetIndex getCodeOffsetIndex() {
+		return this.codeOffsetIndex;
+	}
+	
+	/**
+	 * Returns an unmodifiable {@code List} with all {@link BasicBlock} instances, ordered by their offsets.
+	 * 
+	 * @return an unmodifiable {@code List} with all {@code BasicBlock} instances, ordered by their offsets
+	 */
+	public List<BasicBlock> getBasicBlocks() {
+		return this.basicBlocks;
+	}
+	
+	/**
+	 * Returns the number of {@link BasicBlock} instances.
+	 * 
+	 * @return the number of {@code BasicBlock} instances
+	 */
+	public int getBasicBlockCount() {
+		return this.basicBlocks.size();
+	}
+	
+	/**
+	 * Returns an {@code int} array with the indices of all {@link BasicBlock} instances in reverse postorder.
+	 * <p>
+	 * The reverse postorder is computed by a depth-first search from the entry {@code BasicBlock}, following both normal and exception edges. The {@code BasicBlock} instances that are not reachable are placed last, ordered by their offsets.
+	 * <p>
+	 * Modifying the returned {@code int} array will not affect this {@code ControlFlowGraph} instance.
+	 * 
+	 * @return an {@code int} array with the indices of all {@code BasicBlock} instances in reverse postorder
+	 */
+	public int[] getReversePostorder() {
+		return this.reversePostorder.clone();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Builds a {@code ControlFlowGraph} for {@code codeAttribute}.
+	 * <p>
+	 * Returns a new {@code ControlFlowGraph} instance.
+	 * <p>
+	 * If {@code codeAttribute} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a branch target, or the {@code start_pc}, {@code end_pc} or {@code handler_pc} of an {@link ExceptionHandler}, does not start an instruction, an {@code IllegalArgumentException} will be thrown. The {@code end_pc} may also be equal to
+	 * the length of the {@code code} item.
+	 * 
+	 * @param codeAttribute a {@link CodeAttribute} instance
+	 * @return a new {@code ControlFlowGraph} instance
+	 * @throws IllegalArgumentException thrown if, and only if, a branch target, or the {@code start_pc}, {@code end_pc} or {@code handler_pc} of an {@code ExceptionHandler}, does not start an instruction
+	 * @throws NullPointerException thrown if, and only if, {@code codeAttribute} is {@code null}
+	 */
+	public static ControlFlowGraph build(final CodeAttribute codeAttribute) {
+		final CodeOffsetIndex codeOffsetIndex = Objects.requireNonNull(codeAttribute, "codeAttribute == null").getOffsetIndex();
+		
+		final int instructionCount = codeOffsetIndex.getInstructionCount();
+		
+		if(instructionCount == 0) {
+			return new ControlFlowGraph(codeOffsetIndex, Collections.emptyList(), new int[0], new int[0]);
+		}
+		
+		final boolean[] isLeader = new boolean[instructionCount];
+		
+		final byte[] kinds = new byte[instructionCount];
+		
+		final int[] targetStarts = new int[instructionCount + 1];
+		
+		int[] targets = new int[Math.max(instructionCount / 4, 4)];
+		
+		int targetCount = 0;
+		
+		isLeader[0] = true;
+		
+		final InstructionCursor instructionCursor = codeAttribute.getInstructionCursor();
+		
+		while(instructionCursor.next()) {
+			final int index = instructionCursor.getIndex();
+			final int kind = doGetKind(instructionCursor);
+			final int pc = instructionCursor.getOffset();
+			
+			kinds[index] = (byte)(kind);
+			
+			targetStarts[index] = targetCount;
+			
+			if(kind == KIND_BRANCH || kind == KIND_GO_TO) {
+				final int opcode = instructionCursor.getOpcode();
+				
+				targets = doAdd(targets, targetCount++, doGetIndex(codeOffsetIndex, pc + (opcode == Instruction.OPCODE_GO_TO_W || opcode == Instruction.OPCODE_J_S_R_W ? instructionCursor.getOperandS4(0) : instructionCursor.getOperandS2(0))));
+			} else if(kind == KIND_SWITCH) {
+				final int padding = (4 - ((pc + 1) % 4)) % 4;
+				
+				targets = doAdd(targets, targetCount++, doGetIndex(codeOffsetIndex, pc + instructionCursor.getOperandS4(padding)));
+				
+				if(instructionCursor.getOpcode() == Instruction.OPCODE_TABLE_SWITCH) {
+					final int low = instructionCursor.getOperandS4(padding + 4);
+					final int high = instructionCursor.getOperandS4(padding + 8);
+					
+					for(int i = 0; i < high - low + 1; i++) {
+						targets = doAdd(targets, targetCount++, doGetIndex(codeOffsetIndex, pc + instructionCursor.getOperandS4(padding + 12 + i * 4)));
+					}
+				} else {
+					final int pairCount = instructionCursor.getOperandS4(padding + 4);
+					
+					for(int i = 0; i < pairCount; i++) {
+						targets = doAdd(targets, targetCount++, doGetIndex(codeOffsetIndex, pc + instructionCursor.getOperandS4(padding + 8 + i * 8 + 4)));
+					}
+				}
+			}
+			
+			for(int i = targetStarts[index]; i < targetCount; i++) {
+				isLeader[targets[i]] = true;
+			}
+			
+			if(kind != KIND_NONE && index + 1 < instructionCount) {
+				isLeader[index + 1] = true;
+			}
+		}
+		
+		targetStarts[instructionCount] = targetCount;
+		
+		final List<ExceptionHandler> exceptionHandlers = codeAttribute.getExceptionHandlersView();
+		
+		final int[] handlerIndices = new int[exceptionHandlers.size()];
+		
+		for(int i = 0; i < exceptionHandlers.size(); i++) {
+			final ExceptionHandler exceptionHandler = exceptionHandlers.get(i);
+			
+			final int endPC = exceptionHandler.getEndPC();
+			
+			isLeader[doGetIndex(codeOffsetIndex, exceptionHandler.getStartPC())] = true;
+			
+			if(endPC != codeOffsetIndex.getCodeLength()) {
+				isLeader[doGetIndex(codeOffsetIndex, endPC)] = true;
+			}
+			
+			handlerIndices[i] = doGetIndex(codeOffsetIndex, exceptionHandler.getHandlerPC());
+			
+			isLeader[handlerIndices[i]] = true;
+		}
+		
+		final int[] basicBlockIndices = new int[instructionCount];
+		
+		int basicBlockCount = 0;
+		
+		for(int i = 0; i < instructionCount; i++) {
+			if(isLeader[i]) {
+				basicBlockCount++;
+			}
+			
+			basicBlockIndices[i] = basicBlockCount - 1;
+		}
+		
+		final int[] firstInstructionIndices = new int[basicBlockCount + 1];
+		
+		for(int i = instructionCount - 1; i >= 0; i--) {
+			firstInstructionIndices[basicBlockIndices[i]] = i;
+		}
+		
+		firstInstructionIndices[basicBlockCount] = instructionCount;
+		
+		final int[] stamps = new int[basicBlockCount];
+		
+		Arrays.fill(stamps, -1);
+		
+		final int[][] successors = new int[basicBlockCount][];
+		final int[][] exceptionSuccessors = new int[basicBlockCount][];
+		
+		final boolean[] isBranchTarget = new boolean[basicBlockCount];
+		final boolean[] isExceptionHandler = new boolean[basicBlockCount];
+		
+		for(int i = 0; i < targetCount; i++) {
+			isBranchTarget[basicBlockIndices[targets[i]]] = true;
+		}
+		
+		for(final int handlerIndex : handlerIndices) {
+			isExceptionHandler[basicBlockIndices[handlerIndex]] = true;
+		}
+		
+		final int[] buffer = new int[basicBlockCount];
+		
+		for(int i = 0; i < basicBlockCount; i++) {
+			final int lastInstructionIndex = firstInstructionIndices[i + 1] - 1;
+			final int kind = kinds[lastInstructionIndex];
+			
+			int count = 0;
+			
+			for(int j = targetStarts[lastInstructionIndex]; j < targetStarts[lastInstructionIndex + 1]; j++) {
+				count = doAddUnique(buffer, count, stamps, i, basicBlockIndices[targets[j]]);
+			}
+			
+			if(kind != KIND_GO_TO && kind != KIND_RETURN && kind != KIND_SWITCH && i + 1 < basicBlockCount) {
+				count = doAddUnique(buffer, count, stamps, i, i + 1);
+			}
+			
+			successors[i] = Arrays.copyOf(buffer, count);
+		}
+		
+		Arrays.fill(stamps, -1);
+		
+		for(int i = 0; i < basicBlockCount; i++) {
+			final int startPC = codeOffsetIndex.getOffset(firstInstructionIndices[i]);
+			
+			int count = 0;
+			
+			for(int j = 0; j < exceptionHandlers.size(); j++) {
+				final ExceptionHandler exceptionHandler = exceptionHandlers.get(j);
+				
+				if(startPC >= exceptionHandler.getStartPC() && startPC < exceptionHandler.getEndPC()) {
+					count = doAddUnique(buffer, count, stamps, i, basicBlockIndices[handlerIndices[j]]);
+				}
+			}
+			
+			exceptionSuccessors[i] = Arrays.copyOf(buffer, count);
+		}
+		
+		final int[][] predecessors = doInvert(successors);
+		final int[][] exceptionPredecessors = doInvert(exceptionSuccessors);
+		
+		final boolean[] isReachable = new boolean[basicBlockCount];
+		
+		final int[] reversePostorder = doCreateReversePostorder(successors, exceptionSuccessors, isReachable);
+		
+		final List<BasicBlock> basicBlocks = new ArrayList<>(basicBlockCount);
+		
+		for(int i = 0; i < basicBlockCount; i++) {
+			final int firstInstructionIndex = firstInstructionIndices[i];
+			final int lastInstructionIndex = firstInstructionIndices[i + 1] - 1;
+			final int startPC = codeOffsetIndex.getOffset(firstInstructionIndex);
+			final int endPC = lastInstructionIndex + 1 < instructionCount ? codeOffsetIndex.getOffset(lastInstructionIndex + 1) : codeOffsetIndex.getCodeLength();
+			
+			basicBlocks.add(new BasicBlock(i, startPC, endPC, firstInstructionIndex, lastInstructionIndex - firstInstructionIndex + 1, successors[i], exceptionSuccessors[i], predecessors[i], exceptionPredecessors[i], isReachable[i], isBranchTarget[i], isExceptionHandler[i]));
+		}
+		
+		return new ControlFlowGraph(codeOffsetIndex, Collections.unmodifiableList(basicBlocks), basicBlockIndices, reversePostorder);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doAddUnique(final int[] buffer, final int count, final int[] stamps, final int stamp, final int value) {
+		if(stamps[value] == stamp) {
+			return count;
+		}
+		
+		stamps[value] = stamp;
+		
+		buffer[count] = value;
+		
+		return count + 1;
+	}
+	
+	private static int doGetIndex(final CodeOffsetIndex codeOffsetIndex, final int pc) {
+		if(!codeOffsetIndex.isInstructionStart(pc)) {
+			throw new IllegalArgumentException(String.format("No instruction starts at offset %s", Integer.toString(pc)));
+		}
+		
+		return codeOffsetIndex.getIndex(pc);
+	}
+	
+	private static int doGetKind(final InstructionCursor instructionCursor) {
+		final int opcode = instructionCursor.getOpcode();
+		
+		if(opcode >= Instruction.OPCODE_IF_EQ && opcode <= Instruction.OPCODE_IF_A_CMP_N_E || opcode == Instruction.OPCODE_IF_NULL || opcode == Instruction.OPCODE_IF_NON_NULL || opcode == Instruction.OPCODE_J_S_R || opcode == Instruction.OPCODE_J_S_R_W) {
+			return KIND_BRANCH;
+		} else if(opcode == Instruction.OPCODE_GO_TO || opcode == Instruction.OPCODE_GO_TO_W) {
+			return KIND_GO_TO;
+		} else if(opcode >= Instruction.OPCODE_I_RETURN && opcode <= Instruction.OPCODE_RETURN || opcode == Instruction.OPCODE_A_THROW || opcode == Instruction.OPCODE_RET) {
+			return KIND_RETURN;
+		} else if(opcode == Instruction.OPCODE_WIDE && instructionCursor.getOperand(0) == Instruction.OPCODE_RET) {
+			return KIND_RETURN;
+		} else if(opcode == Instruction.OPCODE_LOOKUP_SWITCH || opcode == Instruction.OPCODE_TABLE_SWITCH) {
+			return KIND_SWITCH;
+		} else {
+			return KIND_NONE;
+		}
+	}
+	
+	private static int[] doAdd(final int[] array, final int index, final int value) {
+		final int[] newArray = index < array.length ? array : Arrays.copyOf(array, array.length * 2);
+		
+		newArray[index] = value;
+		
+		return newArray;
+	}
+	
+	private static int[] doCreateReversePostorder(final int[][] successors, final int[][] exceptionSuccessors, final boolean[] isReachable) {
+		final int basicBlockCount = successors.length;
+		
+		final int[] postorder = new int[basicBlockCount];
+		final int[] stack = new int[basicBlockCount];
+		final int[] edges = new int[basicBlockCount];
+		
+		int postorderCount = 0;
+		int stackCount = 0;
+		
+		isReachable[0] = true;
+		
+		stack[stackCount++] = 0;
+		
+		while(stackCount > 0) {
+			final int index = stack[stackCount - 1];
+			final int edge = edges[index]++;
+			final int successorCount = successors[index].length;
+			
+			if(edge < successorCount + exceptionSuccessors[index].length) {
+				final int successor = edge < successorCount ? successors[index][edge] : exceptionSuccessors[index][edge - successorCount];
+				
+				if(!isReachable[successor]) {
+					isReachable[successor] = true;
+					
+					stack[stackCount++] = successor;
+				}
+			} else {
+				postorder[postorderCount++] = index;
+				
+				stackCount--;
+			}
+		}
+		
+		final int[] reversePostorder = new int[basicBlockCount];
+		
+		for(int i = 0; i < postorderCount; i++) {
+			reversePostorder[i] = postorder[postorderCount - 1 - i];
+		}
+		
+		for(int i = 0, j = postorderCount; i < basicBlockCount; i++) {
+			if(!isReachable[i]) {
+				reversePostorder[j++] = i;
+			}
+		}
+		
+		return reversePostorder;
+	}
+	
+	private static int[][] doInvert(final int[][] edges) {
+		final int[] counts = new int[edges.length];
+		
+		for(final int[] targets : edges) {
+			for(final int target : targets) {
+				counts[target]++;
+			}
+		}
+		
+		final int[][] invertedEdges = new int[edges.length][];
+		
+		for(int i = 0; i < edges.length; i++) {
+			invertedEdges[i] = new int[counts[i]];
+			
+			counts[i] = 0;
+		}
+		
+		for(int i = 0; i < edges.length; i++) {
+			for(final int target : edges[i]) {
+				invertedEdges[target][counts[target]++] = i;
+			}
+		}
+		
+		return invertedEdges;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,106 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+/**
+ * A {@code DataflowProblem} describes a dataflow problem that can be solved by a {@link DataflowSolver}.
+ * <p>
+ * The facts of a {@code DataflowProblem} are numbered from {@code 0} to {@code getBitCount() - 1} and are stored as bits in {@code long} arrays. Bit {@code i} is stored in element {@code i >>> 6}, at bit position {@code i & 63}. Every
+ * {@code long} array that is passed to a {@code DataflowProblem} has a length of {@code (getBitCount() + 63) >>> 6}.
+ * <p>
+ * To use this interface, consider the following example that computes the local variables that are live at the start of every {@link BasicBlock}:
+ * <pre>
+ * {@code
+ * DataflowProblem dataflowProblem = new DataflowProblem() {
+ *     public int getBitCount() {
+ *         return codeAttribute.getMaxLocals();
+ *     }
+ * 
+ *     public boolean isForward() {
+ *         return false;
+ *     }
+ * 
+ *     public boolean isUnion() {
+ *         return true;
+ *     }
+ * 
+ *     public void transfer(BasicBlock basicBlock, long[] input, long[] output) {
+ *         for(int i = 0; i < output.length; i++) {
+ *             output[i] = use[basicBlock.getIndex()][i] | (input[i] & ~def[basicBlock.getIndex()][i]);
+ *         }
+ *     }
+ * };
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public interface DataflowProblem {
+	/**
+	 * Returns {@code true} if, and only if, the facts of this {@code DataflowProblem} flow forward, from the entry {@link BasicBlock} towards its successors, {@code false} otherwise.
+	 * <p>
+	 * A forward problem, such as reaching definitions, computes the facts at the end of a {@code BasicBlock} from the facts at its start. A backward problem, such as liveness, computes the facts at the start of a {@code BasicBlock} from the
+	 * facts at its end.
+	 * 
+	 * @return {@code true} if, and only if, the facts of this {@code DataflowProblem} flow forward, {@code false} otherwise
+	 */
+	boolean isForward();
+	
+	/**
+	 * Returns {@code true} if, and only if, the facts that flow into a {@link BasicBlock} from several edges are combined by union, {@code false} if they are combined by intersection.
+	 * 
+	 * @return {@code true} if, and only if, the facts that flow into a {@code BasicBlock} from several edges are combined by union, {@code false} if they are combined by intersection
+	 */
+	boolean isUnion();
+	
+	/**
+	 * Returns the number of facts of this {@code DataflowProblem}.
+	 * 
+	 * @return the number of facts of this {@code DataflowProblem}
+	 */
+	int getBitCount();
+	
+	/**
+	 * Initializes the facts at the boundary of the {@link ControlFlowGraph}.
+	 * <p>
+	 * For a forward problem, the boundary is the start of the entry {@link BasicBlock}. For a backward problem, the boundary is the end of every {@code BasicBlock} that has no normal successors.
+	 * <p>
+	 * The {@code long} array {@code bits} is filled with zeros when this method is called. The default implementation leaves it as it is.
+	 * 
+	 * @param bits a {@code long} array with the facts at the boundary
+	 */
+	default void initializeBoundary(final long[] bits) {
+		
+	}
+	
+	/**
+	 * Computes the facts on one side of {@code basicBlock} from the facts on its other side.
+	 * <p>
+	 * For a forward problem, {@code input} contains the facts at the start of {@code basicBlock} and {@code output} should receive the facts at its end. For a backward problem, {@code input} contains the facts at the end of {@code basicBlock}
+	 * and {@code output} should receive the facts at its start.
+	 * <p>
+	 * The {@code long} array {@code output} is filled with zeros when this method is called. This method should not modify {@code input}.
+	 * 
+	 * @param basicBlock the {@link BasicBlock} to compute the facts for
+	 * @param input a {@code long} array with the facts on the input side of {@code basicBlock}
+	 * @param output a {@code long} array that should receive the facts on the output side of {@code basicBlock}
+	 */
+	void transfer(final BasicBlock basicBlock, final long[] input, final long[] output);
+}
\ No newline at end of file
@@ -0,0 +1,155 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+/**
+ * A {@code DataflowResult} contains the solution of a {@link DataflowProblem}.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * The facts are stored per {@link BasicBlock}, both at its start and at its end, independent of the direction of the {@code DataflowProblem}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class DataflowResult {
+	private final long[] ins;
+	private final long[] outs;
+	private final int basicBlockCount;
+	private final int bitCount;
+	private final int evaluationCount;
+	private final int wordCount;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	DataflowResult(final long[] ins, final long[] outs, final int basicBlockCount, final int bitCount, final int evaluationCount, final int wordCount) {
+		this.ins = ins;
+		this.outs = outs;
+		this.basicBlockCount = basicBlockCount;
+		this.bitCount = bitCount;
+		this.evaluationCount = evaluationCount;
+		this.wordCount = wordCount;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns {@code true} if, and only if, fact {@code bit} holds at the start of the {@link BasicBlock} at index {@code index}, {@code false} otherwise.
+	 * <p>
+	 * If either {@code index} or {@code bit} are out of bounds, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the {@code BasicBlock}
+	 * @param bit the index of the fact
+	 * @return {@code true} if, and only if, fact {@code bit} holds at the start of the {@code BasicBlock} at index {@code index}, {@code false} otherwise
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code index} or {@code bit} are out of bounds
+	 */
+	public boolean isIn(final int index, final int bit) {
+		return doIsSet(this.ins, index, bit);
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, fact {@code bit} holds at the end of the {@link BasicBlock} at index {@code index}, {@code false} otherwise.
+	 * <p>
+	 * If either {@code index} or {@code bit} are out of bounds, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the {@code BasicBlock}
+	 * @param bit the index of the fact
+	 * @return {@code true} if, and only if, fact {@code bit} holds at the end of the {@code BasicBlock} at index {@code index}, {@code false} otherwise
+	 * @throws IndexOutOfBoundsException thrown if, and only if, either {@code index} or {@code bit} are out of bounds
+	 */
+	public boolean isOut(final int index, final int bit) {
+		return doIsSet(this.outs, index, bit);
+	}
+	
+	/**
+	 * Returns the number of facts.
+	 * 
+	 * @return the number of facts
+	 */
+	public int getBitCount() {
+		return this.bitCount;
+	}
+	
+	/**
+	 * Returns the number of times a {@link BasicBlock} was evaluated before the solution was found.
+	 * 
+	 * @return the number of times a {@code BasicBlock} was evaluated before the solution was found
+	 */
+	public int getEvaluationCount() {
+		return this.evaluationCount;
+	}
+	
+	/**
+	 * Returns a {@code long} array with the facts at the start of the {@link BasicBlock} at index {@code index}.
+	 * <p>
+	 * Modifying the returned {@code long} array will not affect this {@code DataflowResult} instance.
+	 * <p>
+	 * If {@code index} is out of bounds, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the {@code BasicBlock}
+	 * @return a {@code long} array with the facts at the start of the {@code BasicBlock} at index {@code index}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is out of bounds
+	 */
+	public long[] getIn(final int index) {
+		return doGet(this.ins, index);
+	}
+	
+	/**
+	 * Returns a {@code long} array with the facts at the end of the {@link BasicBlock} at index {@code index}.
+	 * <p>
+	 * Modifying the returned {@code long} array will not affect this {@code DataflowResult} instance.
+	 * <p>
+	 * If {@code index} is out of bounds, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the {@code BasicBlock}
+	 * @return a {@code long} array with the facts at the end of the {@code BasicBlock} at index {@code index}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is out of bounds
+	 */
+	public long[] getOut(final int index) {
+		return doGet(this.outs, index);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private boolean doIsSet(final long[] bits, final int index, final int bit) {
+		doCheckIndex(index);
+		
+		if(bit < 0 || bit >= this.bitCount) {
+			throw new IndexOutOfBoundsException(String.format("Illegal bit: bit = %s, bitCount = %s", Integer.toString(bit), Integer.toString(this.bitCount)));
+		}
+		
+		return (bits[index * this.wordCount + (bit >>> 6)] & (1L << bit)) != 0L;
+	}
+	
+	private long[] doGet(final long[] bits, final int index) {
+		doCheckIndex(index);
+		
+		final long[] result = new long[this.wordCount];
+		
+		System.arraycopy(bits, index * this.wordCount, result, 0, this.wordCount);
+		
+		return result;
+	}
+	
+	private void doCheckIndex(final int index) {
+		if(index < 0 || index >= this.basicBlockCount) {
+			throw new IndexOutOfBoundsException(String.format("Illegal index: index = %s, basicBlockCount = %s", Integer.toString(index), Integer.toString(this.basicBlockCount)));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,288 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A class that consists exclusively of static methods that solves {@link DataflowProblem} instances over {@link ControlFlowGraph} instances.
+ * <p>
+ * The facts are stored as bits in {@code long} arrays and the {@link BasicBlock} instances are evaluated by a worklist algorithm. A forward problem visits the {@code BasicBlock} instances in reverse postorder and a backward problem visits
+ * them in postorder, so most acyclic parts of a {@code ControlFlowGraph} are solved in a single pass. A {@code BasicBlock} is only evaluated again if the facts of one of its neighbours changed.
+ * <p>
+ * The exception edges are handled at the granularity of a {@code BasicBlock}. For a forward problem, the start of an exception handler receives both the facts at the start and the facts at the end of every {@code BasicBlock} it covers,
+ * combined with the meet operator of the {@code DataflowProblem}. For a backward problem, the facts at the start of an exception handler are added to the facts at the start of every {@code BasicBlock} it covers.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ControlFlowGraph controlFlowGraph = ControlFlowGraph.build(codeAttribute);
+ * 
+ * DataflowResult dataflowResult = DataflowSolver.solve(controlFlowGraph, dataflowProblem);
+ * 
+ * long[] liveAtEntry = dataflowResult.getIn(0);
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class DataflowSolver {
+	private DataflowSolver() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Solves {@code dataflowProblem} over {@code controlFlowGraph}.
+	 * <p>
+	 * Returns a {@link DataflowResult} with the facts at the start and at the end of every {@link BasicBlock}.
+	 * <p>
+	 * If either {@code controlFlowGraph} or {@code dataflowProblem} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code dataflowProblem.getBitCount()} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param controlFlowGraph the {@link ControlFlowGraph} to solve {@code dataflowProblem} over
+	 * @param dataflowProblem the {@link DataflowProblem} to solve
+	 * @return a {@code DataflowResult} with the facts at the start and at the end of every {@code BasicBlock}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code dataflowProblem.getBitCount()} is less than {@code 0}
+	 * @throws NullPointerException thrown if, and only if, either {@code controlFlowGraph} or {@code dataflowProblem} are {@code null}
+	 */
+	public static DataflowResult solve(final ControlFlowGraph controlFlowGraph, final DataflowProblem dataflowProblem) {
+		Objects.requireNonNull(controlFlowGraph, "controlFlowGraph == null");
+		Objects.requireNonNull(dataflowProblem, "dataflowProblem == null");
+		
+		final int bitCount = dataflowProblem.getBitCount();
+		
+		if(bitCount < 0) {
+			throw new IllegalArgumentException(String.format("dataflowProblem.getBitCount() < 0: dataflowProblem.getBitCount() = %s", Integer.toString(bitCount)));
+		}
+		
+		final boolean isUnion = dataflowProblem.isUnion();
+		
+		final int basicBlockCount = controlFlowGraph.getBasicBlockCount();
+		final int wordCount = (bitCount + 63) >>> 6;
+		
+		final long[] ins = new long[basicBlockCount * wordCount];
+		final long[] outs = new long[basicBlockCount * wordCount];
+		
+		final long[] boundary = new long[wordCount];
+		final long[] identity = new long[wordCount];
+		
+		dataflowProblem.initializeBoundary(boundary);
+		
+		if(!isUnion) {
+			Arrays.fill(identity, -1L);
+			
+			if((bitCount & 63) != 0) {
+				identity[wordCount - 1] = (1L << bitCount) - 1L;
+			}
+			
+			for(int i = 0; i < basicBlockCount; i++) {
+				System.arraycopy(identity, 0, ins, i * wordCount, wordCount);
+				System.arraycopy(identity, 0, outs, i * wordCount, wordCount);
+			}
+		}
+		
+		final int evaluationCount = dataflowProblem.isForward() ? doSolveForward(controlFlowGraph, dataflowProblem, ins, outs, boundary, identity, isUnion) : doSolveBackward(controlFlowGraph, dataflowProblem, ins, outs, boundary, identity, isUnion);
+		
+		return new DataflowResult(ins, outs, basicBlockCount, bitCount, evaluationCount, wordCount);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static boolean doStore(final long[] source, final long[] destination, final int offset) {
+		boolean isChanged = false;
+		
+		for(int i = 0; i < source.length; i++) {
+			if(destination[offset + i] != source[i]) {
+				destination[offset + i] = source[i];
+				
+				isChanged = true;
+			}
+		}
+		
+		return isChanged;
+	}
+	
+	private static int doSolveBackward(final ControlFlowGraph controlFlowGraph, final DataflowProblem dataflowProblem, final long[] ins, final long[] outs, final long[] boundary, final long[] identity, final boolean isUnion) {
+		final int basicBlockCount = controlFlowGraph.getBasicBlockCount();
+		final int wordCount = identity.length;
+		
+		final int[] reversePostorder = controlFlowGraph.getReversePostorder();
+		
+		final boolean[] isPending = new boolean[basicBlockCount];
+		
+		final long[] input = new long[wordCount];
+		final long[] output = new long[wordCount];
+		
+		Arrays.fill(isPending, true);
+		
+		int evaluationCount = 0;
+		int pendingCount = basicBlockCount;
+		
+		while(pendingCount > 0) {
+			for(int i = basicBlockCount - 1; i >= 0; i--) {
+				final int index = reversePostorder[i];
+				
+				if(!isPending[index]) {
+					continue;
+				}
+				
+				isPending[index] = false;
+				
+				pendingCount--;
+				evaluationCount++;
+				
+				final BasicBlock basicBlock = controlFlowGraph.getBasicBlock(index);
+				
+				System.arraycopy(identity, 0, input, 0, wordCount);
+				
+				if(basicBlock.getSuccessorCount() == 0) {
+					doMeet(input, boundary, 0, isUnion);
+				}
+				
+				for(int j = 0; j < basicBlock.getSuccessorCount(); j++) {
+					doMeet(input, ins, basicBlock.getSuccessor(j) * wordCount, isUnion);
+				}
+				
+				Arrays.fill(output, 0L);
+				
+				dataflowProblem.transfer(basicBlock, input, output);
+				
+				for(int j = 0; j < basicBlock.getExceptionSuccessorCount(); j++) {
+					doMeet(output, ins, basicBlock.getExceptionSuccessor(j) * wordCount, isUnion);
+				}
+				
+				doStore(input, outs, index * wordCount);
+				
+				if(doStore(output, ins, index * wordCount)) {
+					for(int j = 0; j < basicBlock.getPredecessorCount(); j++) {
+						pendingCount += doMarkPending(isPending, basicBlock.getPredecessor(j));
+					}
+					
+					for(int j = 0; j < basicBlock.getExceptionPredecessorCount(); j++) {
+						pendingCount += doMarkPending(isPending, basicBlock.getExceptionPredecessor(j));
+					}
+				}
+			}
+		}
+		
+		return evaluationCount;
+	}
+	
+	private static int doSolveForward(final ControlFlowGraph controlFlowGraph, final DataflowProblem dataflowProblem, final long[] ins, final long[] outs, final long[] boundary, final long[] identity, final boolean isUnion) {
+		final int basicBlockCount = controlFlowGraph.getBasicBlockCount();
+		final int wordCount = identity.length;
+		
+		final int[] reversePostorder = controlFlowGraph.getReversePostorder();
+		
+		final boolean[] isPending = new boolean[basicBlockCount];
+		
+		final long[] input = new long[wordCount];
+		final long[] output = new long[wordCount];
+		final long[] thrown = new long[wordCount];
+		
+		Arrays.fill(isPending, true);
+		
+		int evaluationCount = 0;
+		int pendingCount = basicBlockCount;
+		
+		while(pendingCount > 0) {
+			for(int i = 0; i < basicBlockCount; i++) {
+				final int index = reversePostorder[i];
+				
+				if(!isPending[index]) {
+					continue;
+				}
+				
+				isPending[index] = false;
+				
+				pendingCount--;
+				evaluationCount++;
+				
+				final BasicBlock basicBlock = controlFlowGraph.getBasicBlock(index);
+				
+				System.arraycopy(identity, 0, input, 0, wordCount);
+				
+				if(index == 0) {
+					doMeet(input, boundary, 0, isUnion);
+				}
+				
+				for(int j = 0; j < basicBlock.getPredecessorCount(); j++) {
+					doMeet(input, outs, basicBlock.getPredecessor(j) * wordCount, isUnion);
+				}
+				
+				for(int j = 0; j < basicBlock.getExceptionPredecessorCount(); j++) {
+					final int offset = basicBlock.getExceptionPredecessor(j) * wordCount;
+					
+					System.arraycopy(ins, offset, thrown, 0, wordCount);
+					
+					doMeet(thrown, outs, offset, isUnion);
+					doMeet(input, thrown, 0, isUnion);
+				}
+				
+				Arrays.fill(output, 0L);
+				
+				dataflowProblem.transfer(basicBlock, input, output);
+				
+				final boolean isInChanged = doStore(input, ins, index * wordCount);
+				final boolean isOutChanged = doStore(output, outs, index * wordCount);
+				
+				if(isOutChanged) {
+					for(int j = 0; j < basicBlock.getSuccessorCount(); j++) {
+						pendingCount += doMarkPending(isPending, basicBlock.getSuccessor(j));
+					}
+				}
+				
+				if(isInChanged || isOutChanged) {
+					for(int j = 0; j < basicBlock.getExceptionSuccessorCount(); j++) {
+						pendingCount += doMarkPending(isPending, basicBlock.getExceptionSuccessor(j));
+					}
+				}
+			}
+		}
+		
+		return evaluationCount;
+	}
+	
+	private static int doMarkPending(final boolean[] isPending, final int index) {
+		if(isPending[index]) {
+			return 0;
+		}
+		
+		isPending[index] = true;
+		
+		return 1;
+	}
+	
+	private static void doMeet(final long[] bits, final long[] source, final int offset, final boolean isUnion) {
+		if(isUnion) {
+			for(int i = 0; i < bits.length; i++) {
+				bits[i] |= source[offset + i];
+			}
+		} else {
+			for(int i = 0; i < bits.length; i++) {
+				bits[i] &= source[offset + i];
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,1572 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.ConstantPool;
+import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.AppendFrame;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ChopFrame;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.DoubleVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ExceptionHandler;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.FloatVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.FullFrame;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.Instruction;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InstructionCursor;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.IntegerVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LazyAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LongVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.NullVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ObjectVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SameFrame;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SameFrameExtended;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SameLocals1StackItemFrame;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SameLocals1StackItemFrameExtended;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.StackMapFrame;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.StackMapTableAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.TopVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.UninitializedThisVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.UninitializedVariableInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.VerificationTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantDoubleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantDynamicInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFieldRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFloatInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantIntegerInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInterfaceMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInvokeDynamicInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantLongInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodHandleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantNameAndTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantStringInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+
+/**
+ * A {@code FrameComputer} recomputes the {@code max_stack} and {@code max_locals} items and the {@link StackMapTableAttribute} of the {@link CodeAttribute} of a method.
+ * <p>
+ * This class is thread-safe, as long as the same {@link ClassFile} instance is not processed by more than one thread at a time.
+ * <p>
+ * The types of the local variables and the operand stack are inferred at the start of every {@link BasicBlock} of a {@link ControlFlowGraph}, using the same rules as the Java Virtual Machine verifier. Whenever two types meet, their common
+ * superclass is computed by a {@link TypeHierarchyResolver}. Because the {@code TypeHierarchyResolver} caches what it has looked up, a single {@code FrameComputer} instance should be shared by all classes that are processed together.
+ * <p>
+ * A {@code StackMapFrame} is only written at the start of a {@code BasicBlock} that is the target of a branch, the start of an exception handler or that cannot be reached by falling through from the previous instruction. The most compact
+ * type of {@code StackMapFrame} is chosen for each of them.
+ * <p>
+ * Code that cannot be reached is replaced by {@code nop} instructions followed by an {@code athrow} instruction, and it is removed from the ranges of the exception handlers, just as other bytecode generators do. The offsets of all other
+ * instructions are left as they are.
+ * <p>
+ * The {@code StackMapTableAttribute} is only computed for class files with a major version of {@code 50} or above. A method that contains the {@code jsr}, {@code jsr_w} or {@code ret} instructions only gets its {@code max_stack} and
+ * {@code max_locals} items recomputed, and only if the major version is below {@code 51}.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * FrameComputer frameComputer = new FrameComputer();
+ * 
+ * codeAttribute.addInstruction(Instruction.NOP);
+ * 
+ * int count = frameComputer.compute(classFile);
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class FrameComputer {
+	private static final int DOUBLE = 4;
+	private static final int FLOAT = 2;
+	private static final int INTEGER = 1;
+	private static final int KIND_OBJECT = 8;
+	private static final int KIND_UNINITIALIZED = 9;
+	private static final int LONG = 3;
+	private static final int NULL = 5;
+	private static final int RETURN_ADDRESS = 7;
+	private static final int TOP = 0;
+	private static final int UNINITIALIZED_THIS = 6;
+	private static final String OBJECT = "java/lang/Object";
+	private static final String THROWABLE = "java/lang/Throwable";
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final TypeHierarchyResolver typeHierarchyResolver;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code FrameComputer} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new FrameComputer(new TypeHierarchyResolver(TypeHierarchy.ofClassLoader(ClassLoader.getSystemClassLoader())));
+	 * }
+	 * </pre>
+	 */
+	public FrameComputer() {
+		this(new TypeHierarchyResolver(TypeHierarchy.ofClassLoader(ClassLoader.getSystemClassLoader())));
+	}
+	
+	/**
+	 * Constructs a new {@code FrameComputer} instance.
+	 * <p>
+	 * If {@code typeHierarchyResolver} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param typeHierarchyResolver the {@link TypeHierarchyResolver} to compute common superclasses with
+	 * @throws NullPointerException thrown if, and only if, {@code typeHierarchyResolver} is {@code null}
+	 */
+	public FrameComputer(final TypeHierarchyResolver typeHierarchyResolver) {
+		this.typeHierarchyResolver = Objects.requireNonNull(typeHierarchyResolver, "typeHierarchyResolver == null");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the {@link TypeHierarchyResolver} that is used by this {@code FrameComputer} instance.
+	 * 
+	 * @return the {@code TypeHierarchyResolver} that is used by this {@code FrameComputer} instance
+	 */
+	public TypeHierarchyResolver getTypeHierarchyResolver() {
+		return this.typeHierarchyResolver;
+	}
+	
+	/**
+	 * Recomputes the {@code max_stack} and {@code max_locals} items and the {@link StackMapTableAttribute} of every modified {@link CodeAttribute} in {@code classFile}.
+	 * <p>
+	 * Returns the number of methods that were recomputed.
+	 * <p>
+	 * A {@code CodeAttribute} is modified if {@link CodeAttribute#isModified()} returns {@code true}. A {@link LazyAttribute} that has not been decoded is never modified, so it is not decoded by this method. After a {@code CodeAttribute} has
+	 * been recomputed, it is no longer modified.
+	 * <p>
+	 * If {@code classFile} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the code of a modified method is not valid, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If an entry has to be added to the {@code constant_pool} of a frozen {@code ClassFile} instance, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param classFile the {@link ClassFile} instance to recompute the modified methods of
+	 * @return the number of methods that were recomputed
+	 * @throws IllegalArgumentException thrown if, and only if, the code of a modified method is not valid
+	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, an entry has to be added to the {@code constant_pool} of a frozen {@code ClassFile} instance
+	 */
+	public int compute(final ClassFile classFile) {
+		Objects.requireNonNull(classFile, "classFile == null");
+		
+		int count = 0;
+		
+		for(final MethodInfo methodInfo : classFile.getMethodInfosView()) {
+			final CodeAttribute codeAttribute = doFindDecodedCodeAttribute(methodInfo);
+			
+			if(codeAttribute != null && codeAttribute.isModified()) {
+				doCompute(classFile, methodInfo, codeAttribute);
+				
+				count++;
+			}
+		}
+		
+		return count;
+	}
+	
+	/**
+	 * Recomputes the {@code max_stack} and {@code max_locals} items and the {@link StackMapTableAttribute} of the {@link CodeAttribute} of {@code methodInfo}, whether it is modified or not.
+	 * <p>
+	 * If either {@code classFile} or {@code methodInfo} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code methodInfo} does not have a {@code CodeAttribute}, or its code is not valid, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If an entry has to be added to the {@code constant_pool} of a frozen {@code ClassFile} instance, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param classFile the {@link ClassFile} instance that contains {@code methodInfo}
+	 * @param methodInfo the {@link MethodInfo} instance to recompute
+	 * @throws IllegalArgumentException thrown if, and only if, {@code methodInfo} does not have a {@code CodeAttribute}, or its code is not valid
+	 * @throws NullPointerException thrown if, and only if, either {@code classFile} or {@code methodInfo} are {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, an entry has to be added to the {@code constant_pool} of a frozen {@code ClassFile} instance
+	 */
+	public void compute(final ClassFile classFile, final MethodInfo methodInfo) {
+		Objects.requireNonNull(classFile, "classFile == null");
+		Objects.requireNonNull(methodInfo, "methodInfo == null");
+		
+		final Optional<CodeAttribute> optionalCodeAttribute = CodeAttribute.find(methodInfo);
+		
+		if(!optionalCodeAttribute.isPresent()) {
+			throw new IllegalArgumentException("The method does not have a Code attribute.");
+		}
+		
+		doCompute(classFile, methodInfo, optionalCodeAttribute.get());
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doCompute(final ClassFile classFile, final MethodInfo methodInfo, final CodeAttribute codeAttribute) {
+		final String className = doGetClassName(classFile, classFile.getThisClass());
+		final String methodName = classFile.getCPInfo(methodInfo.getNameIndex(), ConstantUTF8Info.class).getStringValue();
+		final String methodDescriptor = classFile.getCPInfo(methodInfo.getDescriptorIndex(), ConstantUTF8Info.class).getStringValue();
+		
+		final boolean isStatic = (methodInfo.getAccessFlags() & MethodInfo.ACC_STATIC) != 0;
+		final boolean hasSubroutines = doHasSubroutines(codeAttribute);
+		
+		if(hasSubroutines && classFile.getMajorVersion() >= 51) {
+			throw new IllegalArgumentException(String.format("The jsr, jsr_w and ret instructions are not allowed in a class file with major version %s.", Integer.toString(classFile.getMajorVersion())));
+		}
+		
+		final boolean isComputingFrames = !hasSubroutines && classFile.getMajorVersion() >= 50;
+		
+		final int maxLocals = doGetMaxLocals(codeAttribute, doGetArgumentSize(methodDescriptor) + (isStatic ? 0 : 1));
+		
+		ControlFlowGraph controlFlowGraph = ControlFlowGraph.build(codeAttribute);
+		
+		if(isComputingFrames && doRemoveUnreachableCode(codeAttribute, controlFlowGraph)) {
+			controlFlowGraph = ControlFlowGraph.build(codeAttribute);
+		}
+		
+		final Interpreter interpreter = new Interpreter(classFile, codeAttribute, controlFlowGraph, this.typeHierarchyResolver, className, maxLocals);
+		
+		interpreter.initialize(methodName, methodDescriptor, isStatic);
+		interpreter.run();
+		
+		codeAttribute.setMaxLocals(maxLocals);
+		codeAttribute.setMaxStack(interpreter.getMaxStack());
+		
+		for(final AttributeInfo attributeInfo : codeAttribute.getAttributeInfos()) {
+			if(attributeInfo.getName().equals(StackMapTableAttribute.NAME)) {
+				codeAttribute.removeAttributeInfo(attributeInfo);
+			}
+		}
+		
+		if(isComputingFrames) {
+			final StackMapTableAttribute stackMapTableAttribute = interpreter.createStackMapTableAttribute();
+			
+			if(stackMapTableAttribute.getNumberOfEntries() > 0) {
+				codeAttribute.addAttributeInfo(stackMapTableAttribute);
+			}
+		}
+		
+		codeAttribute.setModified(false);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static CodeAttribute doFindDecodedCodeAttribute(final MethodInfo methodInfo) {
+		for(final AttributeInfo attributeInfo : methodInfo.getAttributeInfosView()) {
+			if(attributeInfo instanceof CodeAttribute) {
+				return CodeAttribute.class.cast(attributeInfo);
+			} else if(attributeInfo instanceof LazyAttribute && attributeInfo.getName().equals(CodeAttribute.NAME) && LazyAttribute.class.cast(attributeInfo).isDecoded()) {
+				final AttributeInfo decodedAttributeInfo = LazyAttribute.unwrap(attributeInfo);
+				
+				return decodedAttributeInfo instanceof CodeAttribute ? CodeAttribute.class.cast(decodedAttributeInfo) : null;
+			}
+		}
+		
+		return null;
+	}
+	
+	private static String doGetClassName(final ClassFile classFile, final int index) {
+		return classFile.getCPInfo(classFile.getCPInfo(index, ConstantClassInfo.class).getNameIndex(), ConstantUTF8Info.class).getStringValue();
+	}
+	
+	private static boolean doHasSubroutines(final CodeAttribute codeAttribute) {
+		final InstructionCursor instructionCursor = codeAttribute.getInstructionCursor();
+		
+		while(instructionCursor.next()) {
+			final int opcode = instructionCursor.getOpcode();
+			
+			if(opcode == Instruction.OPCODE_J_S_R || opcode == Instruction.OPCODE_J_S_R_W || opcode == Instruction.OPCODE_RET || opcode == Instruction.OPCODE_WIDE && instructionCursor.getOperand(0) == Instruction.OPCODE_RET) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private static boolean doRemoveUnreachableCode(final CodeAttribute codeAttribute, final ControlFlowGraph controlFlowGraph) {
+		final List<int[]> ranges = new ArrayList<>();
+		
+		for(final BasicBlock basicBlock : controlFlowGraph.getBasicBlocks()) {
+			if(!basicBlock.isReachable()) {
+				final int[] range = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+				
+				if(range != null && range[1] == basicBlock.getStartPC()) {
+					range[1] = basicBlock.getEndPC();
+				} else {
+					ranges.add(new int[] {basicBlock.getStartPC(), basicBlock.getEndPC()});
+				}
+			}
+		}
+		
+		if(ranges.isEmpty()) {
+			return false;
+		}
+		
+		final byte[] code = codeAttribute.getCode();
+		
+		for(final BasicBlock basicBlock : controlFlowGraph.getBasicBlocks()) {
+			if(!basicBlock.isReachable()) {
+				Arrays.fill(code, basicBlock.getStartPC(), basicBlock.getEndPC() - 1, (byte)(Instruction.OPCODE_NOP));
+				
+				code[basicBlock.getEndPC() - 1] = (byte)(Instruction.OPCODE_A_THROW);
+			}
+		}
+		
+		codeAttribute.setCode(code);
+		
+		final List<ExceptionHandler> exceptionHandlers = codeAttribute.getExceptionHandlers();
+		
+		for(final ExceptionHandler exceptionHandler : exceptionHandlers) {
+			codeAttribute.removeExceptionHandler(exceptionHandler);
+		}
+		
+		for(final ExceptionHandler exceptionHandler : exceptionHandlers) {
+			int startPC = exceptionHandler.getStartPC();
+			
+			final int endPC = exceptionHandler.getEndPC();
+			
+			for(final int[] range : ranges) {
+				if(range[1] <= startPC || range[0] >= endPC) {
+					continue;
+				}
+				
+				if(range[0] > startPC) {
+					codeAttribute.addExceptionHandler(new ExceptionHandler(startPC, range[0], exceptionHandler.getHandlerPC(), exceptionHandler.getCatchType()));
+				}
+				
+				startPC = Math.min(range[1], endPC);
+			}
+			
+			if(startPC < endPC) {
+				codeAttribute.addExceptionHandler(new ExceptionHandler(startPC, endPC, exceptionHandler.getHandlerPC(), exceptionHandler.getCatchType()));
+			}
+		}
+		
+		return true;
+	}
+	
+	private static int doGetArgumentSize(final String methodDescriptor) {
+		int argumentSize = 0;
+		
+		for(int i = 1; methodDescriptor.charAt(i) != ')'; i = doSkipType(methodDescriptor, i)) {
+			final char character = methodDescriptor.charAt(i);
+			
+			argumentSize += character == 'D' || character == 'J' ? 2 : 1;
+		}
+		
+		return argumentSize;
+	}
+	
+	private static int doGetMaxLocals(final CodeAttribute codeAttribute, final int argumentSize) {
+		final InstructionCursor instructionCursor = codeAttribute.getInstructionCursor();
+		
+		int maxLocals = argumentSize;
+		
+		while(instructionCursor.next()) {
+			final int opcode = instructionCursor.getOpcode();
+			
+			if(opcode >= Instruction.OPCODE_I_LOAD_0 && opcode <= Instruction.OPCODE_A_LOAD_3) {
+				maxLocals = Math.max(maxLocals, (opcode - Instruction.OPCODE_I_LOAD_0) % 4 + doGetSize(Instruction.OPCODE_I_LOAD + (opcode - Instruction.OPCODE_I_LOAD_0) / 4));
+			} else if(opcode >= Instruction.OPCODE_I_STORE_0 && opcode <= Instruction.OPCODE_A_STORE_3) {
+				maxLocals = Math.max(maxLocals, (opcode - Instruction.OPCODE_I_STORE_0) % 4 + doGetSize(Instruction.OPCODE_I_LOAD + (opcode - Instruction.OPCODE_I_STORE_0) / 4));
+			} else if(opcode >= Instruction.OPCODE_I_LOAD && opcode <= Instruction.OPCODE_A_LOAD || opcode == Instruction.OPCODE_I_INC || opcode == Instruction.OPCODE_RET) {
+				maxLocals = Math.max(maxLocals, instructionCursor.getOperand(0) + doGetSize(opcode));
+			} else if(opcode >= Instruction.OPCODE_I_STORE && opcode <= Instruction.OPCODE_A_STORE) {
+				maxLocals = Math.max(maxLocals, instructionCursor.getOperand(0) + doGetSize(opcode - Instruction.OPCODE_I_STORE + Instruction.OPCODE_I_LOAD));
+			} else if(opcode == Instruction.OPCODE_WIDE) {
+				final int modifiedOpcode = instructionCursor.getOperand(0);
+				
+				final int size = modifiedOpcode >= Instruction.OPCODE_I_STORE && modifiedOpcode <= Instruction.OPCODE_A_STORE ? doGetSize(modifiedOpcode - Instruction.OPCODE_I_STORE + Instruction.OPCODE_I_LOAD) : doGetSize(modifiedOpcode);
+				
+				maxLocals = Math.max(maxLocals, instructionCursor.getOperandU2(1) + size);
+			}
+		}
+		
+		return maxLocals;
+	}
+	
+	private static int doGetSize(final int loadOpcode) {
+		return loadOpcode == Instruction.OPCODE_L_LOAD || loadOpcode == Instruction.OPCODE_D_LOAD ? 2 : 1;
+	}
+	
+	private static int doSkipType(final String descriptor, final int index) {
+		int currentIndex = index;
+		
+		while(descriptor.charAt(currentIndex) == '[') {
+			currentIndex++;
+		}
+		
+		return descriptor.charAt(currentIndex) == 'L' ? descriptor.indexOf(';', currentIndex) + 1 : currentIndex + 1;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Interpreter {
+		private final ClassFile classFile;
+		private final CodeAttribute codeAttribute;
+		private final ControlFlowGraph controlFlowGraph;
+		private final InstructionCursor instructionCursor;
+		private final List<String> names;
+		private final Map<Integer, String> uninitializedNames;
+		private final Map<String, Integer> nameIndices;
+		private final String className;
+		private final TypeHierarchyResolver typeHierarchyResolver;
+		private final int[][] inLocals;
+		private final int[][] inStacks;
+		private final int[] handlerTypes;
+		private final int[] locals;
+		private final int[] thrownLocals;
+		private final int maxLocals;
+		private int[] initialLocals;
+		private int[] stack;
+		private int maxStack;
+		private int offset;
+		private int stackSize;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Interpreter(final ClassFile classFile, final CodeAttribute codeAttribute, final ControlFlowGraph controlFlowGraph, final TypeHierarchyResolver typeHierarchyResolver, final String className, final int maxLocals) {
+			this.classFile = classFile;
+			this.codeAttribute = codeAttribute;
+			this.controlFlowGraph = controlFlowGraph;
+			this.instructionCursor = codeAttribute.getInstructionCursor();
+			this.names = new ArrayList<>();
+			this.uninitializedNames = new HashMap<>();
+			this.nameIndices = new HashMap<>();
+			this.className = className;
+			this.typeHierarchyResolver = typeHierarchyResolver;
+			this.inLocals = new int[controlFlowGraph.getBasicBlockCount()][];
+			this.inStacks = new int[controlFlowGraph.getBasicBlockCount()][];
+			this.handlerTypes = new int[controlFlowGraph.getBasicBlockCount()];
+			this.locals = new int[maxLocals];
+			this.thrownLocals = new int[maxLocals];
+			this.maxLocals = maxLocals;
+			this.initialLocals = new int[maxLocals];
+			this.stack = new int[16];
+			this.maxStack = 0;
+			this.offset = 0;
+			this.stackSize = 0;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public StackMapTableAttribute createStackMapTableAttribute() {
+			final ConstantPool constantPool = this.classFile.getConstantPool();
+			
+			final StackMapTableAttribute stackMapTableAttribute = new StackMapTableAttribute(constantPool.utf8(StackMapTableAttribute.NAME));
+			
+			int[] previousLocals = doCompress(this.initialLocals, doGetLength(this.initialLocals));
+			
+			int previousOffset = -1;
+			
+			for(final BasicBlock basicBlock : this.controlFlowGraph.getBasicBlocks()) {
+				final int index = basicBlock.getIndex();
+				
+				final boolean isFallingThrough = index > 0 && doHasSuccessor(this.controlFlowGraph.getBasicBlock(index - 1), index);
+				
+				if(!basicBlock.isBranchTarget() && !basicBlock.isExceptionHandler() && (index == 0 || isFallingThrough)) {
+					continue;
+				}
+				
+				final int[] locals = this.inLocals[index] != null ? doCompress(this.inLocals[index], doGetLength(this.inLocals[index])) : new int[0];
+				final int[] stack = this.inStacks[index] != null ? doCompress(this.inStacks[index], this.inStacks[index].length) : new int[] {doGetObjectType(THROWABLE)};
+				
+				stackMapTableAttribute.addEntry(doCreateStackMapFrame(basicBlock.getStartPC() - previousOffset - 1, previousLocals, locals, stack, constantPool));
+				
+				previousLocals = locals;
+				previousOffset = basicBlock.getStartPC();
+			}
+			
+			return stackMapTableAttribute;
+		}
+		
+		public int getMaxStack() {
+			return this.maxStack;
+		}
+		
+		public void initialize(final String methodName, final String methodDescriptor, final boolean isStatic) {
+			Arrays.fill(this.locals, TOP);
+			
+			int local = 0;
+			
+			if(!isStatic) {
+				this.locals[local++] = methodName.equals("<init>") && !this.className.equals(OBJECT) ? UNINITIALIZED_THIS : doGetObjectType(this.className);
+			}
+			
+			for(int i = 1; methodDescriptor.charAt(i) != ')'; i = doSkipType(methodDescriptor, i)) {
+				final int type = doGetType(methodDescriptor, i);
+				
+				doSetLocal(local, type);
+				
+				local += type == LONG || type == DOUBLE ? 2 : 1;
+			}
+			
+			this.initialLocals = this.locals.clone();
+		}
+		
+		public void run() {
+			final int basicBlockCount = this.controlFlowGraph.getBasicBlockCount();
+			
+			if(basicBlockCount == 0) {
+				return;
+			}
+			
+			for(final ExceptionHandler exceptionHandler : this.codeAttribute.getExceptionHandlersView()) {
+				final int index = this.controlFlowGraph.getBasicBlockAt(exceptionHandler.getHandlerPC()).getIndex();
+				final int type = doGetObjectType(exceptionHandler.getCatchType() == 0 ? THROWABLE : doGetClassName(this.classFile, exceptionHandler.getCatchType()));
+				
+				this.handlerTypes[index] = this.handlerTypes[index] == TOP ? type : doMergeType(this.handlerTypes[index], type);
+			}
+			
+			this.inLocals[0] = this.initialLocals.clone();
+			this.inStacks[0] = new int[0];
+			
+			final int[] reversePostorder = this.controlFlowGraph.getReversePostorder();
+			
+			final boolean[] isPending = new boolean[basicBlockCount];
+			
+			isPending[0] = true;
+			
+			int pendingCount = 1;
+			
+			while(pendingCount > 0) {
+				for(int i = 0; i < basicBlockCount; i++) {
+					final int index = reversePostorder[i];
+					
+					if(isPending[index]) {
+						isPending[index] = false;
+						
+						pendingCount--;
+						
+						pendingCount += doExecute(this.controlFlowGraph.getBasicBlock(index), isPending);
+					}
+				}
+			}
+			
+			for(final BasicBlock basicBlock : this.controlFlowGraph.getBasicBlocks()) {
+				if(!basicBlock.isReachable()) {
+					this.maxStack = Math.max(this.maxStack, 1);
+				}
+			}
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private ConstantNameAndTypeInfo doGetNameAndType(final int index) {
+			final CPInfo cPInfo = this.classFile.getCPInfo(index);
+			
+			if(cPInfo instanceof ConstantFieldRefInfo) {
+				return this.classFile.getCPInfo(ConstantFieldRefInfo.class.cast(cPInfo).getNameAndTypeIndex(), ConstantNameAndTypeInfo.class);
+			} else if(cPInfo instanceof ConstantMethodRefInfo) {
+				return this.classFile.getCPInfo(ConstantMethodRefInfo.class.cast(cPInfo).getNameAndTypeIndex(), ConstantNameAndTypeInfo.class);
+			} else if(cPInfo instanceof ConstantInterfaceMethodRefInfo) {
+				return this.classFile.getCPInfo(ConstantInterfaceMethodRefInfo.class.cast(cPInfo).getNameAndTypeIndex(), ConstantNameAndTypeInfo.class);
+			} else if(cPInfo instanceof ConstantInvokeDynamicInfo) {
+				return this.classFile.getCPInfo(ConstantInvokeDynamicInfo.class.cast(cPInfo).getNameAndTypeIndex(), ConstantNameAndTypeInfo.class);
+			} else if(cPInfo instanceof ConstantDynamicInfo) {
+				return this.classFile.getCPInfo(ConstantDynamicInfo.class.cast(cPInfo).getNameAndTypeIndex(), ConstantNameAndTypeInfo.class);
+			} else {
+				throw new IllegalArgumentException(String.format("The constant_pool entry at index %s is not a reference: offset = %s", Integer.toString(index), Integer.toString(this.offset)));
+			}
+		}
+		
+		private StackMapFrame doCreateStackMapFrame(final int offsetDelta, final int[] previousLocals, final int[] locals, final int[] stack, final ConstantPool constantPool) {
+			final boolean isSameLocals = Arrays.equals(previousLocals, locals);
+			
+			if(stack.length == 0 && isSameLocals) {
+				return offsetDelta < 64 ? new SameFrame(offsetDelta) : new SameFrameExtended(251, offsetDelta);
+			}
+			
+			if(stack.length == 1 && isSameLocals) {
+				return offsetDelta < 64 ? new SameLocals1StackItemFrame(64 + offsetDelta, doCreateVerificationTypeInfo(stack[0], constantPool)) : new SameLocals1StackItemFrameExtended(247, offsetDelta, doCreateVerificationTypeInfo(stack[0], constantPool));
+			}
+			
+			if(stack.length == 0) {
+				final int difference = locals.length - previousLocals.length;
+				
+				if(difference >= 1 && difference <= 3 && doIsPrefix(previousLocals, locals)) {
+					return new AppendFrame(251 + difference, offsetDelta, doCreateVerificationTypeInfos(locals, previousLocals.length, constantPool));
+				}
+				
+				if(difference >= -3 && difference <= -1 && doIsPrefix(locals, previousLocals)) {
+					return new ChopFrame(251 + difference, offsetDelta);
+				}
+			}
+			
+			return new FullFrame(255, offsetDelta, doCreateVerificationTypeInfos(locals, 0, constantPool), doCreateVerificationTypeInfos(stack, 0, constantPool));
+		}
+		
+		private VerificationTypeInfo doCreateVerificationTypeInfo(final int type, final ConstantPool constantPool) {
+			switch(type & 15) {
+				case TOP:
+					return TopVariableInfo.getInstance();
+				case INTEGER:
+					return IntegerVariableInfo.getInstance();
+				case FLOAT:
+					return FloatVariableInfo.getInstance();
+				case LONG:
+					return LongVariableInfo.getInstance();
+				case DOUBLE:
+					return DoubleVariableInfo.getInstance();
+				case NULL:
+					return NullVariableInfo.getInstance();
+				case UNINITIALIZED_THIS:
+					return UninitializedThisVariableInfo.getInstance();
+				case KIND_OBJECT:
+					return new ObjectVariableInfo(constantPool.classRef(this.names.get(type >>> 4)));
+				case KIND_UNINITIALIZED:
+					return new UninitializedVariableInfo(type >>> 4);
+				default:
+					throw new IllegalStateException(String.format("A return address cannot be written to a StackMapFrame: offset = %s", Integer.toString(this.offset)));
+			}
+		}
+		
+		private List<VerificationTypeInfo> doCreateVerificationTypeInfos(final int[] types, final int start, final ConstantPool constantPool) {
+			final List<VerificationTypeInfo> verificationTypeInfos = new ArrayList<>(types.length - start);
+			
+			for(int i = start; i < types.length; i++) {
+				verificationTypeInfos.add(doCreateVerificationTypeInfo(types[i], constantPool));
+			}
+			
+			return verificationTypeInfos;
+		}
+		
+		private boolean doMerge(final int index, final int[] locals, final int[] stack, final int stackSize) {
+			final int[] inLocals = this.inLocals[index];
+			final int[] inStack = this.inStacks[index];
+			
+			if(inLocals == null) {
+				this.inLocals[index] = locals.clone();
+				this.inStacks[index] = Arrays.copyOf(stack, stackSize);
+				
+				return true;
+			}
+			
+			if(inStack.length != stackSize) {
+				throw new IllegalArgumentException(String.format("Inconsistent stack height at offset %s: %s != %s", Integer.toString(this.controlFlowGraph.getBasicBlock(index).getStartPC()), Integer.toString(inStack.length), Integer.toString(stackSize)));
+			}
+			
+			boolean isChanged = false;
+			
+			for(int i = 0; i < inLocals.length; i++) {
+				final int type = doMergeType(inLocals[i], locals[i]);
+				
+				if(inLocals[i] != type) {
+					inLocals[i] = type;
+					
+					isChanged = true;
+				}
+			}
+			
+			for(int i = 0; i < stackSize; i++) {
+				final int type = doMergeType(inStack[i], stack[i]);
+				
+				if(inStack[i] != type) {
+					inStack[i] = type;
+					
+					isChanged = true;
+				}
+			}
+			
+			return isChanged;
+		}
+		
+		private int doExecute(final BasicBlock basicBlock, final boolean[] isPending) {
+			final int index = basicBlock.getIndex();
+			
+			System.arraycopy(this.inLocals[index], 0, this.locals, 0, this.maxLocals);
+			
+			this.stackSize = 0;
+			
+			for(final int type : this.inStacks[index]) {
+				doPush(type);
+			}
+			
+			final boolean hasExceptionSuccessors = basicBlock.getExceptionSuccessorCount() > 0;
+			
+			if(hasExceptionSuccessors) {
+				System.arraycopy(this.locals, 0, this.thrownLocals, 0, this.maxLocals);
+			}
+			
+			int jumpTarget = -1;
+			
+			for(int i = basicBlock.getFirstInstructionIndex(); i <= basicBlock.getLastInstructionIndex(); i++) {
+				this.instructionCursor.setIndex(i);
+				
+				this.offset = this.instructionCursor.getOffset();
+				
+				jumpTarget = doExecuteInstruction();
+				
+				if(hasExceptionSuccessors) {
+					for(int j = 0; j < this.maxLocals; j++) {
+						this.thrownLocals[j] = doMergeType(this.thrownLocals[j], this.locals[j]);
+					}
+				}
+			}
+			
+			int pendingCount = 0;
+			
+			for(int i = 0; i < basicBlock.getExceptionSuccessorCount(); i++) {
+				final int exceptionSuccessor = basicBlock.getExceptionSuccessor(i);
+				
+				if(doMerge(exceptionSuccessor, this.thrownLocals, new int[] {this.handlerTypes[exceptionSuccessor]}, 1) && !isPending[exceptionSuccessor]) {
+					isPending[exceptionSuccessor] = true;
+					
+					pendingCount++;
+				}
+				
+				this.maxStack = Math.max(this.maxStack, 1);
+			}
+			
+			for(int i = 0; i < basicBlock.getSuccessorCount(); i++) {
+				final int successor = basicBlock.getSuccessor(i);
+				final int stackSize = jumpTarget >= 0 && this.controlFlowGraph.getBasicBlockAt(jumpTarget).getIndex() != successor ? this.stackSize - 1 : this.stackSize;
+				
+				if(doMerge(successor, this.locals, this.stack, stackSize) && !isPending[successor]) {
+					isPending[successor] = true;
+					
+					pendingCount++;
+				}
+			}
+			
+			return pendingCount;
+		}
+		
+		@SuppressWarnings("fallthrough")
+		private int doExecuteInstruction() {
+			final InstructionCursor instructionCursor = this.instructionCursor;
+			
+			final int opcode = instructionCursor.getOpcode();
+			
+			switch(opcode) {
+				case Instruction.OPCODE_NOP:
+				case Instruction.OPCODE_I_NEG:
+				case Instruction.OPCODE_F_NEG:
+				case Instruction.OPCODE_I_2_B:
+				case Instruction.OPCODE_I_2_C:
+				case Instruction.OPCODE_I_2_S:
+				case Instruction.OPCODE_GO_TO:
+				case Instruction.OPCODE_GO_TO_W:
+				case Instruction.OPCODE_RETURN:
+				case Instruction.OPCODE_BREAK_POINT:
+				case Instruction.OPCODE_IMP_DEP_1:
+				case Instruction.OPCODE_IMP_DEP_2:
+					if(opcode == Instruction.OPCODE_I_NEG || opcode == Instruction.OPCODE_I_2_B || opcode == Instruction.OPCODE_I_2_C || opcode == Instruction.OPCODE_I_2_S) {
+						doPop(1);
+						doPush(INTEGER);
+					} else if(opcode == Instruction.OPCODE_F_NEG) {
+						doPop(1);
+						doPush(FLOAT);
+					}
+					
+					break;
+				case Instruction.OPCODE_L_NEG:
+				case Instruction.OPCODE_D_NEG:
+					break;
+				case Instruction.OPCODE_A_CONST_NULL:
+					doPush(NULL);
+					
+					break;
+				case Instruction.OPCODE_I_CONST_M1:
+				case Instruction.OPCODE_I_CONST_0:
+				case Instruction.OPCODE_I_CONST_1:
+				case Instruction.OPCODE_I_CONST_2:
+				case Instruction.OPCODE_I_CONST_3:
+				case Instruction.OPCODE_I_CONST_4:
+				case Instruction.OPCODE_I_CONST_5:
+				case Instruction.OPCODE_B_I_PUSH:
+				case Instruction.OPCODE_S_I_PUSH:
+				case Instruction.OPCODE_I_LOAD:
+				case Instruction.OPCODE_I_LOAD_0:
+				case Instruction.OPCODE_I_LOAD_1:
+				case Instruction.OPCODE_I_LOAD_2:
+				case Instruction.OPCODE_I_LOAD_3:
+					doPush(INTEGER);
+					
+					break;
+				case Instruction.OPCODE_L_CONST_0:
+				case Instruction.OPCODE_L_CONST_1:
+				case Instruction.OPCODE_L_LOAD:
+				case Instruction.OPCODE_L_LOAD_0:
+				case Instruction.OPCODE_L_LOAD_1:
+				case Instruction.OPCODE_L_LOAD_2:
+				case Instruction.OPCODE_L_LOAD_3:
+					doPushValue(LONG);
+					
+					break;
+				case Instruction.OPCODE_F_CONST_0:
+				case Instruction.OPCODE_F_CONST_1:
+				case Instruction.OPCODE_F_CONST_2:
+				case Instruction.OPCODE_F_LOAD:
+				case Instruction.OPCODE_F_LOAD_0:
+				case Instruction.OPCODE_F_LOAD_1:
+				case Instruction.OPCODE_F_LOAD_2:
+				case Instruction.OPCODE_F_LOAD_3:
+					doPush(FLOAT);
+					
+					break;
+				case Instruction.OPCODE_D_CONST_0:
+				case Instruction.OPCODE_D_CONST_1:
+				case Instruction.OPCODE_D_LOAD:
+				case Instruction.OPCODE_D_LOAD_0:
+				case Instruction.OPCODE_D_LOAD_1:
+				case Instruction.OPCODE_D_LOAD_2:
+				case Instruction.OPCODE_D_LOAD_3:
+					doPushValue(DOUBLE);
+					
+					break;
+				case Instruction.OPCODE_L_D_C:
+					doPushValue(doGetConstantType(instructionCursor.getOperand(0)));
+					
+					break;
+				case Instruction.OPCODE_L_D_C_W:
+				case Instruction.OPCODE_L_D_C_2_W:
+					doPushValue(doGetConstantType(instructionCursor.getOperandU2(0)));
+					
+					break;
+				case Instruction.OPCODE_A_LOAD:
+					doPush(doGetLocal(instructionCursor.getOperand(0)));
+					
+					break;
+				case Instruction.OPCODE_A_LOAD_0:
+				case Instruction.OPCODE_A_LOAD_1:
+				case Instruction.OPCODE_A_LOAD_2:
+				case Instruction.OPCODE_A_LOAD_3:
+					doPush(doGetLocal(opcode - Instruction.OPCODE_A_LOAD_0));
+					
+					break;
+				case Instruction.OPCODE_I_A_LOAD:
+				case Instruction.OPCODE_B_A_LOAD:
+				case Instruction.OPCODE_C_A_LOAD:
+				case Instruction.OPCODE_S_A_LOAD:
+				case Instruction.OPCODE_ARRAY_LENGTH:
+				case Instruction.OPCODE_INSTANCE_OF:
+					doPop(opcode == Instruction.OPCODE_ARRAY_LENGTH || opcode == Instruction.OPCODE_INSTANCE_OF ? 1 : 2);
+					doPush(INTEGER);
+					
+					break;
+				case Instruction.OPCODE_L_A_LOAD:
+				case Instruction.OPCODE_D_2_L:
+					doPop(2);
+					doPushValue(LONG);
+					
+					break;
+				case Instruction.OPCODE_F_A_LOAD:
+					doPop(2);
+					doPush(FLOAT);
+					
+					break;
+				case Instruction.OPCODE_D_A_LOAD:
+				case Instruction.OPCODE_L_2_D:
+					doPop(2);
+					doPushValue(DOUBLE);
+					
+					break;
+				case Instruction.OPCODE_A_A_LOAD:
+					doPop(1);
+					doPush(doGetComponentType(doPop()));
+					
+					break;
+				case Instruction.OPCODE_I_STORE:
+				case Instruction.OPCODE_F_STORE:
+				case Instruction.OPCODE_A_STORE:
+					doSetLocal(instructionCursor.getOperand(0), doPop());
+					
+					break;
+				case Instruction.OPCODE_L_STORE:
+				case Instruction.OPCODE_D_STORE:
+					doPop(1);
+					doSetLocal(instructionCursor.getOperand(0), doPop());
+					
+					break;
+				case Instruction.OPCODE_I_STORE_0:
+				case Instruction.OPCODE_I_STORE_1:
+				case Instruction.OPCODE_I_STORE_2:
+				case Instruction.OPCODE_I_STORE_3:
+				case Instruction.OPCODE_F_STORE_0:
+				case Instruction.OPCODE_F_STORE_1:
+				case Instruction.OPCODE_F_STORE_2:
+				case Instruction.OPCODE_F_STORE_3:
+				case Instruction.OPCODE_A_STORE_0:
+				case Instruction.OPCODE_A_STORE_1:
+				case Instruction.OPCODE_A_STORE_2:
+				case Instruction.OPCODE_A_STORE_3:
+					doSetLocal((opcode - Instruction.OPCODE_I_STORE_0) % 4, doPop());
+					
+					break;
+				case Instruction.OPCODE_L_STORE_0:
+				case Instruction.OPCODE_L_STORE_1:
+				case Instruction.OPCODE_L_STORE_2:
+				case Instruction.OPCODE_L_STORE_3:
+				case Instruction.OPCODE_D_STORE_0:
+				case Instruction.OPCODE_D_STORE_1:
+				case Instruction.OPCODE_D_STORE_2:
+				case Instruction.OPCODE_D_STORE_3:
+					doPop(1);
+					doSetLocal((opcode - Instruction.OPCODE_I_STORE_0) % 4, doPop());
+					
+					break;
+				case Instruction.OPCODE_I_A_STORE:
+				case Instruction.OPCODE_F_A_STORE:
+				case Instruction.OPCODE_A_A_STORE:
+				case Instruction.OPCODE_B_A_STORE:
+				case Instruction.OPCODE_C_A_STORE:
+				case Instruction.OPCODE_S_A_STORE:
+					doPop(3);
+					
+					break;
+				case Instruction.OPCODE_L_A_STORE:
+				case Instruction.OPCODE_D_A_STORE:
+				case Instruction.OPCODE_L_CMP:
+				case Instruction.OPCODE_D_CMP_L:
+				case Instruction.OPCODE_D_CMP_G:
+					doPop(4);
+					
+					if(opcode != Instruction.OPCODE_L_A_STORE && opcode != Instruction.OPCODE_D_A_STORE) {
+						doPush(INTEGER);
+					}
+					
+					break;
+				case Instruction.OPCODE_POP:
+				case Instruction.OPCODE_IF_EQ:
+				case Instruction.OPCODE_IF_N_E:
+				case Instruction.OPCODE_IF_L_T:
+				case Instruction.OPCODE_IF_G_E:
+				case Instruction.OPCODE_IF_G_T:
+				case Instruction.OPCODE_IF_L_E:
+				case Instruction.OPCODE_IF_NULL:
+				case Instruction.OPCODE_IF_NON_NULL:
+				case Instruction.OPCODE_TABLE_SWITCH:
+				case Instruction.OPCODE_LOOKUP_SWITCH:
+				case Instruction.OPCODE_I_RETURN:
+				case Instruction.OPCODE_F_RETURN:
+				case Instruction.OPCODE_A_RETURN:
+				case Instruction.OPCODE_A_THROW:
+				case Instruction.OPCODE_MONITOR_ENTER:
+				case Instruction.OPCODE_MONITOR_EXIT:
+				case Instruction.OPCODE_PUT_STATIC:
+					doPop(opcode == Instruction.OPCODE_PUT_STATIC ? doGetSize(doGetNameAndTypeDescriptor(instructionCursor.getOperandU2(0)), 0) : 1);
+					
+					break;
+				case Instruction.OPCODE_POP_2:
+				case Instruction.OPCODE_IF_I_CMP_EQ:
+				case Instruction.OPCODE_IF_I_CMP_N_E:
+				case Instruction.OPCODE_IF_I_CMP_L_T:
+				case Instruction.OPCODE_IF_I_CMP_G_E:
+				case Instruction.OPCODE_IF_I_CMP_G_T:
+				case Instruction.OPCODE_IF_I_CMP_L_E:
+				case Instruction.OPCODE_IF_A_CMP_EQ:
+				case Instruction.OPCODE_IF_A_CMP_N_E:
+				case Instruction.OPCODE_L_RETURN:
+				case Instruction.OPCODE_D_RETURN:
+					doPop(2);
+					
+					break;
+				case Instruction.OPCODE_DUP: {
+					final int value1 = doPop();
+					
+					doPush(value1);
+					doPush(value1);
+					
+					break;
+				}
+				case Instruction.OPCODE_DUP_X_1: {
+					final int value1 = doPop();
+					final int value2 = doPop();
+					
+					doPush(value1);
+					doPush(value2);
+					doPush(value1);
+					
+					break;
+				}
+				case Instruction.OPCODE_DUP_X_2: {
+					final int value1 = doPop();
+					final int value2 = doPop();
+					final int value3 = doPop();
+					
+					doPush(value1);
+					doPush(value3);
+					doPush(value2);
+					doPush(value1);
+					
+					break;
+				}
+				case Instruction.OPCODE_DUP_2: {
+					final int value1 = doPop();
+					final int value2 = doPop();
+					
+					doPush(value2);
+					doPush(value1);
+					doPush(value2);
+					doPush(value1);
+					
+					break;
+				}
+				case Instruction.OPCODE_DUP_2_X_1: {
+					final int value1 = doPop();
+					final int value2 = doPop();
+					final int value3 = doPop();
+					
+					doPush(value2);
+					doPush(value1);
+					doPush(value3);
+					doPush(value2);
+					doPush(value1);
+					
+					break;
+				}
+				case Instruction.OPCODE_DUP_2_X_2: {
+					final int value1 = doPop();
+					final int value2 = doPop();
+					final int value3 = doPop();
+					final int value4 = doPop();
+					
+					doPush(value2);
+					doPush(value1);
+					doPush(value4);
+					doPush(value3);
+					doPush(value2);
+					doPush(value1);
+					
+					break;
+				}
+				case Instruction.OPCODE_SWAP: {
+					final int value1 = doPop();
+					final int value2 = doPop();
+					
+					doPush(value1);
+					doPush(value2);
+					
+					break;
+				}
+				case Instruction.OPCODE_I_ADD:
+				case Instruction.OPCODE_I_SUB:
+				case Instruction.OPCODE_I_MUL:
+				case Instruction.OPCODE_I_DIV:
+				case Instruction.OPCODE_I_REM:
+				case Instruction.OPCODE_I_SH_L:
+				case Instruction.OPCODE_I_SH_R:
+				case Instruction.OPCODE_I_U_SH_R:
+				case Instruction.OPCODE_I_AND:
+				case Instruction.OPCODE_I_OR:
+				case Instruction.OPCODE_I_XOR:
+				case Instruction.OPCODE_L_2_I:
+				case Instruction.OPCODE_D_2_I:
+				case Instruction.OPCODE_F_CMP_L:
+				case Instruction.OPCODE_F_CMP_G:
+					doPop(2);
+					doPush(INTEGER);
+					
+					break;
+				case Instruction.OPCODE_L_ADD:
+				case Instruction.OPCODE_L_SUB:
+				case Instruction.OPCODE_L_MUL:
+				case Instruction.OPCODE_L_DIV:
+				case Instruction.OPCODE_L_REM:
+				case Instruction.OPCODE_L_AND:
+				case Instruction.OPCODE_L_OR:
+				case Instruction.OPCODE_L_XOR:
+					doPop(4);
+					doPushValue(LONG);
+					
+					break;
+				case Instruction.OPCODE_L_SH_L:
+				case Instruction.OPCODE_L_SH_R:
+				case Instruction.OPCODE_L_U_SH_R:
+					doPop(3);
+					doPushValue(LONG);
+					
+					break;
+				case Instruction.OPCODE_F_ADD:
+				case Instruction.OPCODE_F_SUB:
+				case Instruction.OPCODE_F_MUL:
+				case Instruction.OPCODE_F_DIV:
+				case Instruction.OPCODE_F_REM:
+				case Instruction.OPCODE_L_2_F:
+				case Instruction.OPCODE_D_2_F:
+					doPop(2);
+					doPush(FLOAT);
+					
+					break;
+				case Instruction.OPCODE_D_ADD:
+				case Instruction.OPCODE_D_SUB:
+				case Instruction.OPCODE_D_MUL:
+				case Instruction.OPCODE_D_DIV:
+				case Instruction.OPCODE_D_REM:
+					doPop(4);
+					doPushValue(DOUBLE);
+					
+					break;
+				case Instruction.OPCODE_I_INC:
+					doSetLocal(instructionCursor.getOperand(0), INTEGER);
+					
+					break;
+				case Instruction.OPCODE_I_2_L:
+				case Instruction.OPCODE_F_2_L:
+					doPop(1);
+					doPushValue(LONG);
+					
+					break;
+				case Instruction.OPCODE_I_2_F:
+					doPop(1);
+					doPush(FLOAT);
+					
+					break;
+				case Instruction.OPCODE_I_2_D:
+				case Instruction.OPCODE_F_2_D:
+					doPop(1);
+					doPushValue(DOUBLE);
+					
+					break;
+				case Instruction.OPCODE_F_2_I:
+					doPop(1);
+					doPush(INTEGER);
+					
+					break;
+				case Instruction.OPCODE_J_S_R:
+					doPush(RETURN_ADDRESS);
+					
+					return this.offset + instructionCursor.getOperandS2(0);
+				case Instruction.OPCODE_J_S_R_W:
+					doPush(RETURN_ADDRESS);
+					
+					return this.offset + instructionCursor.getOperandS4(0);
+				case Instruction.OPCODE_RET:
+					break;
+				case Instruction.OPCODE_GET_STATIC:
+					doPushValue(doGetType(doGetNameAndTypeDescriptor(instructionCursor.getOperandU2(0)), 0));
+					
+					break;
+				case Instruction.OPCODE_GET_FIELD:
+					doPop(1);
+					doPushValue(doGetType(doGetNameAndTypeDescriptor(instructionCursor.getOperandU2(0)), 0));
+					
+					break;
+				case Instruction.OPCODE_PUT_FIELD:
+					doPop(doGetSize(doGetNameAndTypeDescriptor(instructionCursor.getOperandU2(0)), 0) + 1);
+					
+					break;
+				case Instruction.OPCODE_INVOKE_VIRTUAL:
+				case Instruction.OPCODE_INVOKE_SPECIAL:
+				case Instruction.OPCODE_INVOKE_STATIC:
+				case Instruction.OPCODE_INVOKE_INTERFACE:
+				case Instruction.OPCODE_INVOKE_DYNAMIC:
+					doInvoke(opcode, instructionCursor.getOperandU2(0));
+					
+					break;
+				case Instruction.OPCODE_NEW:
+					this.uninitializedNames.put(Integer.valueOf(this.offset), doGetClassName(this.classFile, instructionCursor.getOperandU2(0)));
+					
+					doPush((this.offset << 4) | KIND_UNINITIALIZED);
+					
+					break;
+				case Instruction.OPCODE_NEW_ARRAY:
+					doPop(1);
+					doPush(doGetObjectType(doGetPrimitiveArrayName(instructionCursor.getOperand(0))));
+					
+					break;
+				case Instruction.OPCODE_A_NEW_ARRAY: {
+					final String componentName = doGetClassName(this.classFile, instructionCursor.getOperandU2(0));
+					
+					doPop(1);
+					doPush(doGetObjectType(componentName.charAt(0) == '[' ? "[" + componentName : "[L" + componentName + ";"));
+					
+					break;
+				}
+				case Instruction.OPCODE_CHECK_CAST:
+					doPop(1);
+					doPush(doGetObjectType(doGetClassName(this.classFile, instructionCursor.getOperandU2(0))));
+					
+					break;
+				case Instruction.OPCODE_MULTI_A_NEW_ARRAY:
+					doPop(instructionCursor.getOperand(2));
+					doPush(doGetObjectType(doGetClassName(this.classFile, instructionCursor.getOperandU2(0))));
+					
+					break;
+				case Instruction.OPCODE_WIDE:
+					doExecuteWideInstruction();
+					
+					break;
+				default:
+					throw new IllegalArgumentException(String.format("Illegal opcode at offset %s: %s", Integer.toString(this.offset), Integer.toString(opcode)));
+			}
+			
+			return -1;
+		}
+		
+		private String doGetNameAndTypeDescriptor(final int index) {
+			return this.classFile.getCPInfo(doGetNameAndType(index).getDescriptorIndex(), ConstantUTF8Info.class).getStringValue();
+		}
+		
+		private boolean doHasSuccessor(final BasicBlock basicBlock, final int index) {
+			for(int i = 0; i < basicBlock.getSuccessorCount(); i++) {
+				if(basicBlock.getSuccessor(i) == index) {
+					return true;
+				}
+			}
+			
+			return false;
+		}
+		
+		private int doGetComponentType(final int arrayType) {
+			if(arrayType == NULL) {
+				return NULL;
+			}
+			
+			if((arrayType & 15) == KIND_OBJECT) {
+				final String name = this.names.get(arrayType >>> 4);
+				
+				if(name.length() > 1 && name.charAt(0) == '[') {
+					return doGetType(name, 1);
+				}
+			}
+			
+			return doGetObjectType(OBJECT);
+		}
+		
+		private int doGetConstantType(final int index) {
+			final CPInfo cPInfo = this.classFile.getCPInfo(index);
+			
+			if(cPInfo instanceof ConstantIntegerInfo) {
+				return INTEGER;
+			} else if(cPInfo instanceof ConstantFloatInfo) {
+				return FLOAT;
+			} else if(cPInfo instanceof ConstantLongInfo) {
+				return LONG;
+			} else if(cPInfo instanceof ConstantDoubleInfo) {
+				return DOUBLE;
+			} else if(cPInfo instanceof ConstantStringInfo) {
+				return doGetObjectType("java/lang/String");
+			} else if(cPInfo instanceof ConstantClassInfo) {
+				return doGetObjectType("java/lang/Class");
+			} else if(cPInfo instanceof ConstantMethodTypeInfo) {
+				return doGetObjectType("java/lang/invoke/MethodType");
+			} else if(cPInfo instanceof ConstantMethodHandleInfo) {
+				return doGetObjectType("java/lang/invoke/MethodHandle");
+			} else if(cPInfo instanceof ConstantDynamicInfo) {
+				return doGetType(doGetNameAndTypeDescriptor(index), 0);
+			} else {
+				throw new IllegalArgumentException(String.format("The constant_pool entry at index %s is not loadable: offset = %s", Integer.toString(index), Integer.toString(this.offset)));
+			}
+		}
+		
+		private int doGetLocal(final int local) {
+			if(local < 0 || local >= this.maxLocals) {
+				throw new IllegalArgumentException(String.format("Illegal local variable index at offset %s: %s", Integer.toString(this.offset), Integer.toString(local)));
+			}
+			
+			return this.locals[local];
+		}
+		
+		private int doGetObjectType(final String name) {
+			final Integer index = this.nameIndices.get(name);
+			
+			if(index != null) {
+				return (index.intValue() << 4) | KIND_OBJECT;
+			}
+			
+			final int newIndex = this.names.size();
+			
+			this.names.add(name);
+			this.nameIndices.put(name, Integer.valueOf(newIndex));
+			
+			return (newIndex << 4) | KIND_OBJECT;
+		}
+		
+		private int doGetType(final String descriptor, final int index) {
+			switch(descriptor.charAt(index)) {
+				case 'B':
+				case 'C':
+				case 'I':
+				case 'S':
+				case 'Z':
+					return INTEGER;
+				case 'D':
+					return DOUBLE;
+				case 'F':
+					return FLOAT;
+				case 'J':
+					return LONG;
+				case 'L':
+					return doGetObjectType(descriptor.substring(index + 1, descriptor.indexOf(';', index)));
+				case '[':
+					return doGetObjectType(descriptor.substring(index, doSkipType(descriptor, index)));
+				default:
+					throw new IllegalArgumentException(String.format("Illegal descriptor at offset %s: %s", Integer.toString(this.offset), descriptor));
+			}
+		}
+		
+		private int doMergeType(final int typeA, final int typeB) {
+			if(typeA == typeB) {
+				return typeA;
+			}
+			
+			final boolean isReferenceA = typeA == NULL || (typeA & 15) == KIND_OBJECT;
+			final boolean isReferenceB = typeB == NULL || (typeB & 15) == KIND_OBJECT;
+			
+			if(!isReferenceA || !isReferenceB) {
+				return TOP;
+			}
+			
+			if(typeA == NULL) {
+				return typeB;
+			}
+			
+			if(typeB == NULL) {
+				return typeA;
+			}
+			
+			return doGetObjectType(this.typeHierarchyResolver.getCommonSuperclassName(this.names.get(typeA >>> 4), this.names.get(typeB >>> 4)));
+		}
+		
+		private int doPop() {
+			if(this.stackSize == 0) {
+				throw new IllegalArgumentException(String.format("Stack underflow at offset %s", Integer.toString(this.offset)));
+			}
+			
+			return this.stack[--this.stackSize];
+		}
+		
+		private void doExecuteWideInstruction() {
+			final int modifiedOpcode = this.instructionCursor.getOperand(0);
+			final int local = this.instructionCursor.getOperandU2(1);
+			
+			switch(modifiedOpcode) {
+				case Instruction.OPCODE_I_LOAD:
+					doPush(INTEGER);
+					
+					break;
+				case Instruction.OPCODE_L_LOAD:
+					doPushValue(LONG);
+					
+					break;
+				case Instruction.OPCODE_F_LOAD:
+					doPush(FLOAT);
+					
+					break;
+				case Instruction.OPCODE_D_LOAD:
+					doPushValue(DOUBLE);
+					
+					break;
+				case Instruction.OPCODE_A_LOAD:
+					doPush(doGetLocal(local));
+					
+					break;
+				case Instruction.OPCODE_I_STORE:
+				case Instruction.OPCODE_F_STORE:
+				case Instruction.OPCODE_A_STORE:
+					doSetLocal(local, doPop());
+					
+					break;
+				case Instruction.OPCODE_L_STORE:
+				case Instruction.OPCODE_D_STORE:
+					doPop(1);
+					doSetLocal(local, doPop());
+					
+					break;
+				case Instruction.OPCODE_I_INC:
+					doSetLocal(local, INTEGER);
+					
+					break;
+				case Instruction.OPCODE_RET:
+					break;
+				default:
+					throw new IllegalArgumentException(String.format("Illegal opcode for the wide instruction at offset %s: %s", Integer.toString(this.offset), Integer.toString(modifiedOpcode)));
+			}
+		}
+		
+		private void doInvoke(final int opcode, final int index) {
+			final ConstantNameAndTypeInfo constantNameAndTypeInfo = doGetNameAndType(index);
+			
+			final String name = this.classFile.getCPInfo(constantNameAndTypeInfo.getNameIndex(), ConstantUTF8Info.class).getStringValue();
+			final String descriptor = this.classFile.getCPInfo(constantNameAndTypeInfo.getDescriptorIndex(), ConstantUTF8Info.class).getStringValue();
+			
+			doPop(doGetArgumentSize(descriptor));
+			
+			if(opcode != Instruction.OPCODE_INVOKE_STATIC && opcode != Instruction.OPCODE_INVOKE_DYNAMIC) {
+				final int receiver = doPop();
+				
+				if(opcode == Instruction.OPCODE_INVOKE_SPECIAL && name.equals("<init>")) {
+					final int type;
+					
+					if(receiver == UNINITIALIZED_THIS) {
+						type = doGetObjectType(this.className);
+					} else if((receiver & 15) == KIND_UNINITIALIZED) {
+						final String uninitializedName = this.uninitializedNames.get(Integer.valueOf(receiver >>> 4));
+						
+						if(uninitializedName == null) {
+							throw new IllegalArgumentException(String.format("No new instruction at offset %s: offset = %s", Integer.toString(receiver >>> 4), Integer.toString(this.offset)));
+						}
+						
+						type = doGetObjectType(uninitializedName);
+					} else {
+						throw new IllegalArgumentException(String.format("The receiver of <init> is already initialized at offset %s", Integer.toString(this.offset)));
+					}
+					
+					for(int i = 0; i < this.maxLocals; i++) {
+						if(this.locals[i] == receiver) {
+							this.locals[i] = type;
+						}
+					}
+					
+					for(int i = 0; i < this.stackSize; i++) {
+						if(this.stack[i] == receiver) {
+							this.stack[i] = type;
+						}
+					}
+				}
+			}
+			
+			final int returnTypeIndex = descriptor.indexOf(')') + 1;
+			
+			if(descriptor.charAt(returnTypeIndex) != 'V') {
+				doPushValue(doGetType(descriptor, returnTypeIndex));
+			}
+		}
+		
+		private void doPop(final int count) {
+			if(this.stackSize < count) {
+				throw new IllegalArgumentException(String.format("Stack underflow at offset %s", Integer.toString(this.offset)));
+			}
+			
+			this.stackSize -= count;
+		}
+		
+		private void doPush(final int type) {
+			if(this.stackSize == this.stack.length) {
+				this.stack = Arrays.copyOf(this.stack, this.stack.length * 2);
+			}
+			
+			this.stack[this.stackSize++] = type;
+			
+			this.maxStack = Math.max(this.maxStack, this.stackSize);
+		}
+		
+		private void doPushValue(final int type) {
+			doPush(type);
+			
+			if(type == LONG || type == DOUBLE) {
+				doPush(TOP);
+			}
+		}
+		
+		private void doSetLocal(final int local, final int type) {
+			final boolean isWide = type == LONG || type == DOUBLE;
+			
+			if(local < 0 || local + (isWide ? 1 : 0) >= this.maxLocals) {
+				throw new IllegalArgumentException(String.format("Illegal local variable index at offset %s: %s", Integer.toString(this.offset), Integer.toString(local)));
+			}
+			
+			if(local > 0 && (this.locals[local - 1] == LONG || this.locals[local - 1] == DOUBLE)) {
+				this.locals[local - 1] = TOP;
+			}
+			
+			this.locals[local] = type;
+			
+			if(isWide) {
+				this.locals[local + 1] = TOP;
+			}
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private static boolean doIsPrefix(final int[] prefix, final int[] array) {
+			for(int i = 0; i < prefix.length; i++) {
+				if(prefix[i] != array[i]) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+		
+		private static String doGetPrimitiveArrayName(final int arrayType) {
+			switch(arrayType) {
+				case 4:
+					return "[Z";
+				case 5:
+					return "[C";
+				case 6:
+					return "[F";
+				case 7:
+					return "[D";
+				case 8:
+					return "[B";
+				case 9:
+					return "[S";
+				case 10:
+					return "[I";
+				case 11:
+					return "[J";
+				default:
+					throw new IllegalArgumentException(String.format("Illegal array type: %s", Integer.toString(arrayType)));
+			}
+		}
+		
+		private static int doGetLength(final int[] locals) {
+			int length = locals.length;
+			
+			while(length > 0 && locals[length - 1] == TOP) {
+				length--;
+			}
+			
+			return length;
+		}
+		
+		private static int doGetSize(final String descriptor, final int index) {
+			final char character = descriptor.charAt(index);
+			
+			return character == 'D' || character == 'J' ? 2 : 1;
+		}
+		
+		private static int[] doCompress(final int[] types, final int length) {
+			int count = 0;
+			
+			for(int i = 0; i < length; i++) {
+				if(types[i] == LONG || types[i] == DOUBLE) {
+					i++;
+				}
+				
+				count++;
+			}
+			
+			final int[] compressedTypes = new int[count];
+			
+			for(int i = 0, j = 0; i < length; i++) {
+				compressedTypes[j++] = types[i];
+				
+				if(types[i] == LONG || types[i] == DOUBLE) {
+					i++;
+				}
+			}
+			
+			return compressedTypes;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.util.Objects;
+
+/**
+ * A {@code MemberHash} contains the 64-bit content hashes of a field or a method of a class.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * The signature hash covers everything about a member that is visible to the classes that use it, such as its access flags, name, descriptor, generic signature, annotations, constant value and declared exceptions. The body hash covers the
+ * instructions and the exception handlers of a method. It is {@code 0L} for a field and for a method without a {@code Code} attribute.
+ * <p>
+ * Both hashes are computed by {@link ClassHash} with every {@code constant_pool} index resolved to the entry it denotes, so they do not depend on the layout of the {@code constant_pool}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class MemberHash {
+	private final String descriptor;
+	private final String name;
+	private final boolean isField;
+	private final int accessFlags;
+	private final long bodyHash;
+	private final long signatureHash;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code MemberHash} instance.
+	 * <p>
+	 * If either {@code name} or {@code descriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param isField {@code true} if, and only if, the member is a field, {@code false} if it is a method
+	 * @param name the name of the member
+	 * @param descriptor the descriptor of the member
+	 * @param accessFlags the access flags of the member
+	 * @param signatureHash the signature hash of the member
+	 * @param bodyHash the body hash of the member
+	 * @throws NullPointerException thrown if, and only if, either {@code name} or {@code descriptor} are {@code null}
+	 */
+	public MemberHash(final boolean isField, final String name, final String descriptor, final int accessFlags, final long signatureHash, final long bodyHash) {
+		this.isField = isField;
+		this.name = Objects.requireNonNull(name, "name == null");
+		this.descriptor = Objects.requireNonNull(descriptor, "descriptor == null");
+		this.accessFlags = accessFlags;
+		this.signatureHash = signatureHash;
+		this.bodyHash = bodyHash;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the descriptor of the member.
+	 * 
+	 * @return the descriptor of the member
+	 */
+	public String getDescriptor() {
+		return this.descriptor;
+	}
+	
+	/**
+	 * Returns the name of the member.
+	 * 
+	 * @return the name of the member
+	 */
+	public String getName() {
+		return this.name;
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code MemberHash} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code MemberHash} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("new MemberHash(%s, \"%s\", \"%s\", %s, 0x%016XL, 0x%016XL)", Boolean.toString(this.isField), this.name, this.descriptor, Integer.toString(this.accessFlags), Long.valueOf(this.signatureHash), Long.valueOf(this.bodyHash));
+	}
+	
+	/**
+	 * Compares {@code object} to this {@code MemberHash} instance for equality.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code object} is an instance of {@code MemberHash}, and their respective values are equal, {@code false} otherwise.
+	 * 
+	 * @param object the {@code Object} to compare to this {@code MemberHash} instance for equality
+	 * @return {@code true} if, and only if, {@code object} is an instance of {@code MemberHash}, and their respective values are equal, {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		} else if(!(object instanceof MemberHash)) {
+			return false;
+		} else if(this.isField != MemberHash.class.cast(object).isField) {
+			return false;
+		} else if(!Objects.equals(this.name, MemberHash.class.cast(object).name)) {
+			return false;
+		} else if(!Objects.equals(this.descriptor, MemberHash.class.cast(object).descriptor)) {
+			return false;
+		} else if(this.accessFlags != MemberHash.class.cast(object).accessFlags) {
+			return false;
+		} else if(this.signatureHash != MemberHash.class.cast(object).signatureHash) {
+			return false;
+		} else if(this.bodyHash != MemberHash.class.cast(object).bodyHash) {
+			return false;
+		} else {
+			return true;
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the member is a field, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the member is a field, {@code false} otherwise
+	 */
+	public boolean isField() {
+		return this.isField;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the member is a method, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the member is a method, {@code false} otherwise
+	 */
+	public boolean isMethod() {
+		return !this.isField;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, {@code ACC_PRIVATE} is set in the access flags of the member, {@code false} otherwise.
+	 * <p>
+	 * A private member is not part of the API of its class.
+	 * 
+	 * @return {@code true} if, and only if, {@code ACC_PRIVATE} is set in the access flags of the member, {@code false} otherwise
+	 */
+	public boolean isPrivate() {
+		return (this.accessFlags & 0x0002) != 0;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, {@code memberHash} denotes the same member as this {@code MemberHash} instance, {@code false} otherwise.
+	 * <p>
+	 * Two {@code MemberHash} instances denote the same member if they are both fields or both methods and their names and descriptors are equal.
+	 * <p>
+	 * If {@code memberHash} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param memberHash a {@code MemberHash} instance
+	 * @return {@code true} if, and only if, {@code memberHash} denotes the same member as this {@code MemberHash} instance, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code memberHash} is {@code null}
+	 */
+	public boolean isSameMember(final MemberHash memberHash) {
+		return this.isField == memberHash.isField && this.name.equals(memberHash.name) && this.descriptor.equals(memberHash.descriptor);
+	}
+	
+	/**
+	 * Returns the access flags of the member.
+	 * 
+	 * @return the access flags of the member
+	 */
+	public int getAccessFlags() {
+		return this.accessFlags;
+	}
+	
+	/**
+	 * Returns a hash code for this {@code MemberHash} instance.
+	 * 
+	 * @return a hash code for this {@code MemberHash} instance
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(Boolean.valueOf(this.isField), this.name, this.descriptor, Integer.valueOf(this.accessFlags), Long.valueOf(this.signatureHash), Long.valueOf(this.bodyHash));
+	}
+	
+	/**
+	 * Returns the body hash of the member.
+	 * <p>
+	 * The body hash covers the {@code max_stack}, {@code max_locals} and {@code code} items and the exception handlers of the {@code Code} attribute of a method. The attributes of the {@code Code} attribute, such as
+	 * {@code LineNumberTable} and {@code StackMapTable}, are not covered.
+	 * <p>
+	 * Returns {@code 0L} for a field and for a method without a {@code Code} attribute.
+	 * 
+	 * @return the body hash of the member
+	 */
+	public long getBodyHash() {
+		return this.bodyHash;
+	}
+	
+	/**
+	 * Returns the signature hash of the member.
+	 * <p>
+	 * The access flags, the name and the descriptor of the member are covered by the signature hash.
+	 * 
+	 * @return the signature hash of the member
+	 */
+	public long getSignatureHash() {
+		return this.signatureHash;
+	}
+}
\ No newline at end of file
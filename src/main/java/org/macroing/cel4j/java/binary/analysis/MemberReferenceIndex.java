@@ -0,0 +1,696 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.Instruction;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InstructionCursor;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFieldRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInterfaceMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantNameAndTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+import org.macroing.cel4j.java.binary.reader.ClassFileReaderException;
+import org.macroing.cel4j.java.binary.reader.ReadResult;
+
+/**
+ * A {@code MemberReferenceIndex} maps the fields and methods that are referenced by a set of classes to the {@link CallSite} instances that reference them.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * A {@code MemberReferenceIndex} is built by scanning the {@code getfield}, {@code getstatic}, {@code putfield}, {@code putstatic}, {@code invokeinterface}, {@code invokespecial}, {@code invokestatic} and {@code invokevirtual}
+ * instructions of every method once, in parallel. A member is identified by the class, name and descriptor of the {@code CONSTANT_Fieldref_info}, {@code CONSTANT_Methodref_info} or {@code CONSTANT_InterfaceMethodref_info} structure
+ * that the instruction references. No attempt is made to resolve the member to the class that declares it.
+ * <p>
+ * The index is stored in a single compact {@code ByteBuffer}. All strings are stored once, in sorted order, and the members and call sites are stored as fixed-size records that refer to the strings by their position. Because the strings are
+ * sorted, the members can be sorted by the positions of their strings alone. A query is therefore answered by a few binary searches, without decoding anything but the strings it visits and the {@code CallSite} instances it returns.
+ * <p>
+ * The index can be written to a file with {@link #write(Path)} and memory-mapped again with {@link #open(Path)}, so it does not have to be rebuilt or even read into memory to be queried. When some class files change, {@link #update(Collection, Collection)}
+ * returns a new index that only scans the changed class files and keeps the call sites of all other classes. Because the strings are shared by all members and call sites, the new index is still encoded from scratch, so an update costs time
+ * proportional to the size of the whole index and not just to the changed classes.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * MemberReferenceIndex memberReferenceIndex = MemberReferenceIndex.build(Paths.get("application.jar"));
+ * 
+ * memberReferenceIndex.write(Paths.get("application.index"));
+ * 
+ * MemberReferenceIndex mappedMemberReferenceIndex = MemberReferenceIndex.open(Paths.get("application.index"));
+ * 
+ * List<CallSite> callSites = mappedMemberReferenceIndex.findCallSites("java/io/PrintStream", "println", "(Ljava/lang/String;)V");
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class MemberReferenceIndex {
+	private static final int HEADER_SIZE = 24;
+	private static final int MAGIC = 0x4D524958;
+	private static final int MEMBER_SIZE = 20;
+	private static final int SITE_SIZE = 16;
+	private static final int VERSION = 1;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final ByteBuffer byteBuffer;
+	private final int memberCount;
+	private final int memberOffset;
+	private final int siteCount;
+	private final int siteOffset;
+	private final int stringCount;
+	private final int stringDataOffset;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private MemberReferenceIndex(final ByteBuffer byteBuffer) {
+		if(byteBuffer.capacity() < HEADER_SIZE || byteBuffer.getInt(0) != MAGIC) {
+			throw new IllegalArgumentException("The ByteBuffer does not contain a MemberReferenceIndex.");
+		}
+		
+		if(byteBuffer.getInt(4) != VERSION) {
+			throw new IllegalArgumentException(String.format("The MemberReferenceIndex has an unsupported version: %s", Integer.toString(byteBuffer.getInt(4))));
+		}
+		
+		this.byteBuffer = byteBuffer;
+		this.stringCount = byteBuffer.getInt(8);
+		this.memberCount = byteBuffer.getInt(12);
+		this.siteCount = byteBuffer.getInt(16);
+		this.stringDataOffset = HEADER_SIZE + (this.stringCount + 1) * 4;
+		this.memberOffset = this.stringDataOffset + byteBuffer.getInt(20);
+		this.siteOffset = this.memberOffset + this.memberCount * MEMBER_SIZE;
+		
+		if(this.stringCount < 0 || this.memberCount < 0 || this.siteCount < 0 || (long)(this.siteOffset) + (long)(this.siteCount) * SITE_SIZE != byteBuffer.capacity()) {
+			throw new IllegalArgumentException("The MemberReferenceIndex is truncated or corrupt.");
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code List} with the {@link CallSite} instances that reference the field or method with the name {@code name} and the descriptor {@code descriptor} in the class {@code className}.
+	 * <p>
+	 * If either {@code className}, {@code name} or {@code descriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The {@code CallSite} instances are sorted by their class name, method name, method descriptor and offset.
+	 * 
+	 * @param className the internal name of the class, such as {@code "java/lang/String"}
+	 * @param name the name of the field or method
+	 * @param descriptor the descriptor of the field or method
+	 * @return a {@code List} with the {@code CallSite} instances that reference the field or method
+	 * @throws NullPointerException thrown if, and only if, either {@code className}, {@code name} or {@code descriptor} are {@code null}
+	 */
+	public List<CallSite> findCallSites(final String className, final String name, final String descriptor) {
+		Objects.requireNonNull(className, "className == null");
+		Objects.requireNonNull(name, "name == null");
+		Objects.requireNonNull(descriptor, "descriptor == null");
+		
+		return doFindCallSites(doFindString(className), doFindString(name), doFindString(descriptor));
+	}
+	
+	/**
+	 * Returns a {@code List} with the {@link CallSite} instances that reference any field or method with the name {@code name} in the class {@code className}, regardless of its descriptor.
+	 * <p>
+	 * If either {@code className} or {@code name} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The {@code CallSite} instances are sorted by the descriptor of the member they reference, and then by their class name, method name, method descriptor and offset.
+	 * 
+	 * @param className the internal name of the class, such as {@code "java/lang/String"}
+	 * @param name the name of the field or method
+	 * @return a {@code List} with the {@code CallSite} instances that reference any field or method with the name {@code name} in the class {@code className}
+	 * @throws NullPointerException thrown if, and only if, either {@code className} or {@code name} are {@code null}
+	 */
+	public List<CallSite> findCallSites(final String className, final String name) {
+		Objects.requireNonNull(className, "className == null");
+		Objects.requireNonNull(name, "name == null");
+		
+		return doFindCallSites(doFindString(className), doFindString(name), -1);
+	}
+	
+	/**
+	 * Returns a new {@code MemberReferenceIndex} that replaces the call sites of the classes in {@code classFiles} and removes the call sites of the classes in {@code removedClassNames}.
+	 * <p>
+	 * If either {@code classFiles}, {@code removedClassNames} or any of their elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Only the {@link ClassFile} instances in {@code classFiles} are scanned. The call sites of all other classes are copied from this {@code MemberReferenceIndex} instance, which is left unchanged. A class in {@code classFiles} that was not
+	 * indexed before is added.
+	 * <p>
+	 * Scanning is the expensive part of building an index, and only the changed classes are scanned. But adding or removing a string shifts the positions of all strings after it, so every call site of this {@code MemberReferenceIndex}
+	 * instance is decoded, sorted and encoded again. An update therefore costs {@code O(n log n)} time and {@code O(n)} memory, where {@code n} is the number of call sites in the new index. To apply many changes, it is cheaper to collect
+	 * them and call this method once than to call it once per changed class.
+	 * 
+	 * @param classFiles a {@code Collection} with the {@code ClassFile} instances that have been added or changed
+	 * @param removedClassNames a {@code Collection} with the internal names of the classes that have been removed
+	 * @return a new {@code MemberReferenceIndex}
+	 * @throws NullPointerException thrown if, and only if, either {@code classFiles}, {@code removedClassNames} or any of their elements are {@code null}
+	 */
+	public MemberReferenceIndex update(final Collection<ClassFile> classFiles, final Collection<String> removedClassNames) {
+		final List<ClassFile> currentClassFiles = new ArrayList<>(Objects.requireNonNull(classFiles, "classFiles == null"));
+		
+		final Set<String> classNames = new HashSet<>();
+		
+		for(final String removedClassName : Objects.requireNonNull(removedClassNames, "removedClassNames == null")) {
+			classNames.add(Objects.requireNonNull(removedClassName, "removedClassName == null"));
+		}
+		
+		for(final ClassFile classFile : currentClassFiles) {
+			classNames.add(doGetClassName(Objects.requireNonNull(classFile, "classFile == null"), classFile.getThisClass()));
+		}
+		
+		final String[] strings = new String[this.stringCount];
+		
+		for(int i = 0; i < strings.length; i++) {
+			strings[i] = doGetString(i);
+		}
+		
+		final List<Site> sites = new ArrayList<>(this.siteCount);
+		
+		for(int i = 0; i < this.memberCount; i++) {
+			final int member = this.memberOffset + i * MEMBER_SIZE;
+			
+			final String owner = strings[this.byteBuffer.getInt(member)];
+			final String name = strings[this.byteBuffer.getInt(member + 4)];
+			final String descriptor = strings[this.byteBuffer.getInt(member + 8)];
+			
+			final int firstSite = this.byteBuffer.getInt(member + 12);
+			final int lastSite = firstSite + this.byteBuffer.getInt(member + 16);
+			
+			for(int j = firstSite; j < lastSite; j++) {
+				final int site = this.siteOffset + j * SITE_SIZE;
+				
+				final String className = strings[this.byteBuffer.getInt(site)];
+				
+				if(!classNames.contains(className)) {
+					sites.add(new Site(owner, name, descriptor, className, strings[this.byteBuffer.getInt(site + 4)], strings[this.byteBuffer.getInt(site + 8)], this.byteBuffer.getShort(site + 12) & 0xFFFF, this.byteBuffer.get(site + 14) & 0xFF));
+				}
+			}
+		}
+		
+		sites.addAll(doScan(currentClassFiles.parallelStream()));
+		
+		return new MemberReferenceIndex(doEncode(sites));
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code MemberReferenceIndex} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code MemberReferenceIndex} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("MemberReferenceIndex: [MemberCount=%s], [CallSiteCount=%s], [Size=%s]", Integer.toString(this.memberCount), Integer.toString(this.siteCount), Integer.toString(this.byteBuffer.capacity()));
+	}
+	
+	/**
+	 * Returns the number of call sites in this {@code MemberReferenceIndex} instance.
+	 * 
+	 * @return the number of call sites in this {@code MemberReferenceIndex} instance
+	 */
+	public int getCallSiteCount() {
+		return this.siteCount;
+	}
+	
+	/**
+	 * Returns the number of distinct fields and methods that are referenced in this {@code MemberReferenceIndex} instance.
+	 * 
+	 * @return the number of distinct fields and methods that are referenced in this {@code MemberReferenceIndex} instance
+	 */
+	public int getMemberCount() {
+		return this.memberCount;
+	}
+	
+	/**
+	 * Returns the size of this {@code MemberReferenceIndex} instance in bytes.
+	 * <p>
+	 * This is also the size of the file that is written by {@link #write(Path)}.
+	 * 
+	 * @return the size of this {@code MemberReferenceIndex} instance in bytes
+	 */
+	public int getSize() {
+		return this.byteBuffer.capacity();
+	}
+	
+	/**
+	 * Writes this {@code MemberReferenceIndex} instance to the file denoted by {@code path}.
+	 * <p>
+	 * If {@code path} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @param path the {@code Path} to the file to write
+	 * @throws NullPointerException thrown if, and only if, {@code path} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
+	 */
+	public void write(final Path path) {
+		Objects.requireNonNull(path, "path == null");
+		
+		try(final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			final ByteBuffer byteBuffer = this.byteBuffer.duplicate();
+			
+			byteBuffer.clear();
+			
+			while(byteBuffer.hasRemaining()) {
+				fileChannel.write(byteBuffer);
+			}
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Builds a {@code MemberReferenceIndex} from all class files in the JAR file, ZIP file or directory denoted by {@code path}.
+	 * <p>
+	 * Returns a new {@code MemberReferenceIndex} instance.
+	 * <p>
+	 * If {@code path} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the JAR file, ZIP file or directory cannot be opened, a {@code ClassFileReaderException} will be thrown.
+	 * <p>
+	 * The class files are read and scanned in parallel by {@link ClassFileReader#readAll(Path, boolean)}. A class file that cannot be read is skipped.
+	 * 
+	 * @param path the {@code Path} to a JAR file, a ZIP file, a directory or a single class file
+	 * @return a new {@code MemberReferenceIndex} instance
+	 * @throws ClassFileReaderException thrown if, and only if, the JAR file, ZIP file or directory cannot be opened
+	 * @throws NullPointerException thrown if, and only if, {@code path} is {@code null}
+	 */
+	public static MemberReferenceIndex build(final Path path) {
+		try(final Stream<ReadResult> stream = new ClassFileReader().readAll(Objects.requireNonNull(path, "path == null"), false)) {
+			return new MemberReferenceIndex(doEncode(doScan(stream.map(ReadResult::getClassFile).filter(Optional::isPresent).map(Optional::get))));
+		}
+	}
+	
+	/**
+	 * Builds a {@code MemberReferenceIndex} from the {@link ClassFile} instances in {@code classFiles}.
+	 * <p>
+	 * Returns a new {@code MemberReferenceIndex} instance.
+	 * <p>
+	 * If either {@code classFiles} or any of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param classFiles a {@code Collection} with the {@code ClassFile} instances to index
+	 * @return a new {@code MemberReferenceIndex} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code classFiles} or any of its elements are {@code null}
+	 */
+	public static MemberReferenceIndex build(final Collection<ClassFile> classFiles) {
+		return new MemberReferenceIndex(doEncode(doScan(new ArrayList<>(Objects.requireNonNull(classFiles, "classFiles == null")).parallelStream().map(classFile -> Objects.requireNonNull(classFile, "classFile == null")))));
+	}
+	
+	/**
+	 * Opens the {@code MemberReferenceIndex} in the file denoted by {@code path} by memory-mapping it.
+	 * <p>
+	 * Returns a new {@code MemberReferenceIndex} instance.
+	 * <p>
+	 * If {@code path} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the file does not contain a {@code MemberReferenceIndex}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * The file is not read into memory. The parts of it that a query visits are paged in by the operating system. The file should not be modified while the returned {@code MemberReferenceIndex} instance is in use.
+	 * 
+	 * @param path the {@code Path} to the file to open
+	 * @return a new {@code MemberReferenceIndex} instance
+	 * @throws IllegalArgumentException thrown if, and only if, the file does not contain a {@code MemberReferenceIndex}
+	 * @throws NullPointerException thrown if, and only if, {@code path} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
+	 */
+	public static MemberReferenceIndex open(final Path path) {
+		Objects.requireNonNull(path, "path == null");
+		
+		try(final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			if(fileChannel.size() > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException(String.format("The file is too large to contain a MemberReferenceIndex: %s", path));
+			}
+			
+			return new MemberReferenceIndex(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, fileChannel.size()));
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private List<CallSite> doFindCallSites(final int owner, final int name, final int descriptor) {
+		if(owner < 0 || name < 0 || descriptor < -1) {
+			return Collections.emptyList();
+		}
+		
+		final List<CallSite> callSites = new ArrayList<>();
+		
+		for(int i = doFindFirstMember(owner, name, descriptor); i < this.memberCount; i++) {
+			final int member = this.memberOffset + i * MEMBER_SIZE;
+			
+			if(this.byteBuffer.getInt(member) != owner || this.byteBuffer.getInt(member + 4) != name || descriptor >= 0 && this.byteBuffer.getInt(member + 8) != descriptor) {
+				break;
+			}
+			
+			final int firstSite = this.byteBuffer.getInt(member + 12);
+			final int lastSite = firstSite + this.byteBuffer.getInt(member + 16);
+			
+			for(int j = firstSite; j < lastSite; j++) {
+				final int site = this.siteOffset + j * SITE_SIZE;
+				
+				callSites.add(new CallSite(doGetString(this.byteBuffer.getInt(site)), doGetString(this.byteBuffer.getInt(site + 4)), doGetString(this.byteBuffer.getInt(site + 8)), this.byteBuffer.getShort(site + 12) & 0xFFFF, this.byteBuffer.get(site + 14) & 0xFF));
+			}
+		}
+		
+		return callSites;
+	}
+	
+	private String doGetString(final int index) {
+		final int start = this.byteBuffer.getInt(HEADER_SIZE + index * 4);
+		final int end = this.byteBuffer.getInt(HEADER_SIZE + index * 4 + 4);
+		
+		final byte[] bytes = new byte[end - start];
+		
+		final ByteBuffer byteBuffer = this.byteBuffer.duplicate();
+		
+		byteBuffer.position(this.stringDataOffset + start);
+		byteBuffer.get(bytes);
+		
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+	
+	private int doFindFirstMember(final int owner, final int name, final int descriptor) {
+		int low = 0;
+		int high = this.memberCount;
+		
+		while(low < high) {
+			final int middle = (low + high) >>> 1;
+			final int member = this.memberOffset + middle * MEMBER_SIZE;
+			
+			int comparison = Integer.compare(this.byteBuffer.getInt(member), owner);
+			
+			if(comparison == 0) {
+				comparison = Integer.compare(this.byteBuffer.getInt(member + 4), name);
+			}
+			
+			if(comparison == 0) {
+				comparison = Integer.compare(this.byteBuffer.getInt(member + 8), descriptor);
+			}
+			
+			if(comparison < 0) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		
+		return low;
+	}
+	
+	private int doFindString(final String string) {
+		int low = 0;
+		int high = this.stringCount - 1;
+		
+		while(low <= high) {
+			final int middle = (low + high) >>> 1;
+			final int comparison = doGetString(middle).compareTo(string);
+			
+			if(comparison < 0) {
+				low = middle + 1;
+			} else if(comparison > 0) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		
+		return -2;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static ByteBuffer doEncode(final List<Site> sites) {
+		final Set<String> stringSet = new TreeSet<>();
+		
+		for(final Site site : sites) {
+			stringSet.add(site.owner);
+			stringSet.add(site.name);
+			stringSet.add(site.descriptor);
+			stringSet.add(site.className);
+			stringSet.add(site.methodName);
+			stringSet.add(site.methodDescriptor);
+		}
+		
+		final String[] strings = stringSet.toArray(new String[stringSet.size()]);
+		
+		final Map<String, Integer> stringIndices = new HashMap<>(strings.length * 2);
+		
+		final byte[][] stringBytes = new byte[strings.length][];
+		
+		int stringDataLength = 0;
+		
+		for(int i = 0; i < strings.length; i++) {
+			stringIndices.put(strings[i], Integer.valueOf(i));
+			
+			stringBytes[i] = strings[i].getBytes(StandardCharsets.UTF_8);
+			
+			stringDataLength += stringBytes[i].length;
+		}
+		
+		final int[][] keys = new int[sites.size()][];
+		
+		for(int i = 0; i < keys.length; i++) {
+			final Site site = sites.get(i);
+			
+			keys[i] = new int[] {stringIndices.get(site.owner).intValue(), stringIndices.get(site.name).intValue(), stringIndices.get(site.descriptor).intValue(), stringIndices.get(site.className).intValue(), stringIndices.get(site.methodName).intValue(), stringIndices.get(site.methodDescriptor).intValue(), site.pC, site.opcode};
+		}
+		
+		Arrays.sort(keys, MemberReferenceIndex::doCompare);
+		
+		int memberCount = 0;
+		
+		for(int i = 0; i < keys.length; i++) {
+			if(i == 0 || doCompareMember(keys[i - 1], keys[i]) != 0) {
+				memberCount++;
+			}
+		}
+		
+		final int stringDataOffset = HEADER_SIZE + (strings.length + 1) * 4;
+		final int memberOffset = stringDataOffset + stringDataLength;
+		final int siteOffset = memberOffset + memberCount * MEMBER_SIZE;
+		
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(siteOffset + keys.length * SITE_SIZE);
+		
+		byteBuffer.putInt(MAGIC);
+		byteBuffer.putInt(VERSION);
+		byteBuffer.putInt(strings.length);
+		byteBuffer.putInt(memberCount);
+		byteBuffer.putInt(keys.length);
+		byteBuffer.putInt(stringDataLength);
+		
+		for(int i = 0, offset = 0; i <= strings.length; i++) {
+			byteBuffer.putInt(offset);
+			
+			offset += i < strings.length ? stringBytes[i].length : 0;
+		}
+		
+		for(final byte[] bytes : stringBytes) {
+			byteBuffer.put(bytes);
+		}
+		
+		for(int i = 0, member = memberOffset; i < keys.length; i++) {
+			final int[] key = keys[i];
+			
+			if(i == 0 || doCompareMember(keys[i - 1], key) != 0) {
+				byteBuffer.putInt(member, key[0]);
+				byteBuffer.putInt(member + 4, key[1]);
+				byteBuffer.putInt(member + 8, key[2]);
+				byteBuffer.putInt(member + 12, i);
+				byteBuffer.putInt(member + 16, 0);
+				
+				member += MEMBER_SIZE;
+			}
+			
+			byteBuffer.putInt(member - MEMBER_SIZE + 16, byteBuffer.getInt(member - MEMBER_SIZE + 16) + 1);
+			
+			final int site = siteOffset + i * SITE_SIZE;
+			
+			byteBuffer.putInt(site, key[3]);
+			byteBuffer.putInt(site + 4, key[4]);
+			byteBuffer.putInt(site + 8, key[5]);
+			byteBuffer.putShort(site + 12, (short)(key[6]));
+			byteBuffer.put(site + 14, (byte)(key[7]));
+			byteBuffer.put(site + 15, (byte)(0));
+		}
+		
+		byteBuffer.clear();
+		
+		return byteBuffer;
+	}
+	
+	private static List<Site> doScan(final ClassFile classFile) {
+		final List<Site> sites = new ArrayList<>();
+		
+		final String className = doGetClassName(classFile, classFile.getThisClass());
+		
+		for(final MethodInfo methodInfo : classFile.getMethodInfosView()) {
+			final Optional<CodeAttribute> optionalCodeAttribute = CodeAttribute.find(methodInfo);
+			
+			if(!optionalCodeAttribute.isPresent()) {
+				continue;
+			}
+			
+			final String methodName = doGetUTF8(classFile, methodInfo.getNameIndex());
+			final String methodDescriptor = doGetUTF8(classFile, methodInfo.getDescriptorIndex());
+			
+			final InstructionCursor instructionCursor = optionalCodeAttribute.get().getInstructionCursor();
+			
+			while(instructionCursor.next()) {
+				switch(instructionCursor.getOpcode()) {
+					case Instruction.OPCODE_GET_FIELD:
+					case Instruction.OPCODE_GET_STATIC:
+					case Instruction.OPCODE_INVOKE_INTERFACE:
+					case Instruction.OPCODE_INVOKE_SPECIAL:
+					case Instruction.OPCODE_INVOKE_STATIC:
+					case Instruction.OPCODE_INVOKE_VIRTUAL:
+					case Instruction.OPCODE_PUT_FIELD:
+					case Instruction.OPCODE_PUT_STATIC:
+						doAddSite(sites, classFile, className, methodName, methodDescriptor, instructionCursor);
+						
+						break;
+					default:
+						break;
+				}
+			}
+		}
+		
+		return sites;
+	}
+	
+	private static List<Site> doScan(final Stream<ClassFile> stream) {
+		return stream.map(MemberReferenceIndex::doScan).collect(Collectors.toList()).stream().flatMap(List::stream).collect(Collectors.toList());
+	}
+	
+	private static String doGetClassName(final ClassFile classFile, final int index) {
+		return doGetUTF8(classFile, classFile.getCPInfo(index, ConstantClassInfo.class).getNameIndex());
+	}
+	
+	private static String doGetUTF8(final ClassFile classFile, final int index) {
+		return classFile.getCPInfo(index, ConstantUTF8Info.class).getStringValue();
+	}
+	
+	private static int doCompare(final int[] keyA, final int[] keyB) {
+		for(int i = 0; i < keyA.length; i++) {
+			final int comparison = Integer.compare(keyA[i], keyB[i]);
+			
+			if(comparison != 0) {
+				return comparison;
+			}
+		}
+		
+		return 0;
+	}
+	
+	private static int doCompareMember(final int[] keyA, final int[] keyB) {
+		for(int i = 0; i < 3; i++) {
+			final int comparison = Integer.compare(keyA[i], keyB[i]);
+			
+			if(comparison != 0) {
+				return comparison;
+			}
+		}
+		
+		return 0;
+	}
+	
+	private static void doAddSite(final List<Site> sites, final ClassFile classFile, final String className, final String methodName, final String methodDescriptor, final InstructionCursor instructionCursor) {
+		final CPInfo cPInfo = classFile.getCPInfo(instructionCursor.getOperandU2(0));
+		
+		final int classIndex;
+		final int nameAndTypeIndex;
+		
+		if(cPInfo instanceof ConstantFieldRefInfo) {
+			classIndex = ConstantFieldRefInfo.class.cast(cPInfo).getClassIndex();
+			nameAndTypeIndex = ConstantFieldRefInfo.class.cast(cPInfo).getNameAndTypeIndex();
+		} else if(cPInfo instanceof ConstantMethodRefInfo) {
+			classIndex = ConstantMethodRefInfo.class.cast(cPInfo).getClassIndex();
+			nameAndTypeIndex = ConstantMethodRefInfo.class.cast(cPInfo).getNameAndTypeIndex();
+		} else if(cPInfo instanceof ConstantInterfaceMethodRefInfo) {
+			classIndex = ConstantInterfaceMethodRefInfo.class.cast(cPInfo).getClassIndex();
+			nameAndTypeIndex = ConstantInterfaceMethodRefInfo.class.cast(cPInfo).getNameAndTypeIndex();
+		} else {
+			return;
+		}
+		
+		final ConstantNameAndTypeInfo constantNameAndTypeInfo = classFile.getCPInfo(nameAndTypeIndex, ConstantNameAndTypeInfo.class);
+		
+		final String owner = doGetClassName(classFile, classIndex);
+		final String name = doGetUTF8(classFile, constantNameAndTypeInfo.getNameIndex());
+		final String descriptor = doGetUTF8(classFile, constantNameAndTypeInfo.getDescriptorIndex());
+		
+		sites.add(new Site(owner, name, descriptor, className, methodName, methodDescriptor, instructionCursor.getOffset(), instructionCursor.getOpcode()));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Site {
+		private final String className;
+		private final String descriptor;
+		private final String methodDescriptor;
+		private final String methodName;
+		private final String name;
+		private final String owner;
+		private final int opcode;
+		private final int pC;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Site(final String owner, final String name, final String descriptor, final String className, final String methodName, final String methodDescriptor, final int pC, final int opcode) {
+			this.owner = owner;
+			this.name = name;
+			this.descriptor = descriptor;
+			this.className = className;
+			this.methodName = methodName;
+			this.methodDescriptor = methodDescriptor;
+			this.pC = pC;
+			this.opcode = opcode;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+import org.macroing.cel4j.java.binary.reader.ReadOptions;
+
+/**
+ * A {@code TypeHierarchy} provides the superclass of a class, given its internal name.
+ * <p>
+ * A {@code TypeHierarchy} is used by a {@link TypeHierarchyResolver} to compute the common superclass of two classes. It is called at most once per class by each {@code TypeHierarchyResolver}, so an implementation does not have to cache
+ * anything.
+ * <p>
+ * To use this interface, consider the following example:
+ * <pre>
+ * {@code
+ * TypeHierarchy typeHierarchy = TypeHierarchy.ofClassLoader(ClassLoader.getSystemClassLoader());
+ * 
+ * String superclassName = typeHierarchy.getSuperclassName("java/util/ArrayList");
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+@FunctionalInterface
+public interface TypeHierarchy {
+	/**
+	 * Returns the internal name of the superclass of the class with the internal name {@code className}, or {@code null} if it has none or it cannot be found.
+	 * <p>
+	 * The class {@code java/lang/Object} and all interfaces should return {@code null}.
+	 * <p>
+	 * If {@code className} is {@code null}, a {@code NullPointerException} may be thrown. But no guarantees can be made.
+	 * 
+	 * @param className the internal name of a class, such as {@code "java/util/ArrayList"}
+	 * @return the internal name of the superclass of the class with the internal name {@code className}, or {@code null} if it has none or it cannot be found
+	 * @throws NullPointerException thrown if {@code className} is {@code null}
+	 */
+	String getSuperclassName(final String className);
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code TypeHierarchy} that reads the classes as resources from {@code classLoader}.
+	 * <p>
+	 * If {@code classLoader} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The classes are not loaded. Only the header of each class file is read, using {@link ReadOptions#HEADER_ONLY}. A class that cannot be found is treated as a class that has no superclass. The returned {@code TypeHierarchy} is thread-safe.
+	 * <p>
+	 * The methods of the returned {@code TypeHierarchy} will throw an {@code UncheckedIOException} if an {@code IOException} is caught.
+	 * 
+	 * @param classLoader the {@code ClassLoader} to read the classes from
+	 * @return a {@code TypeHierarchy} that reads the classes as resources from {@code classLoader}
+	 * @throws NullPointerException thrown if, and only if, {@code classLoader} is {@code null}
+	 */
+	static TypeHierarchy ofClassLoader(final ClassLoader classLoader) {
+		Objects.requireNonNull(classLoader, "classLoader == null");
+		
+		return new TypeHierarchy() {
+			@Override
+			public String getSuperclassName(final String className) {
+				final ClassFile classFile = doRead(className);
+				
+				if(classFile == null || classFile.getSuperClass() == 0 || (classFile.getAccessFlags() & ClassFile.ACC_INTERFACE) != 0) {
+					return null;
+				}
+				
+				return classFile.getCPInfo(classFile.getCPInfo(classFile.getSuperClass(), ConstantClassInfo.class).getNameIndex(), ConstantUTF8Info.class).getStringValue();
+			}
+			
+			private ClassFile doRead(final String className) {
+				try(final InputStream inputStream = classLoader.getResourceAsStream(Objects.requireNonNull(className, "className == null") + ".class")) {
+					if(inputStream == null) {
+						return null;
+					}
+					
+					final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+					
+					final byte[] buffer = new byte[4096];
+					
+					for(int length = inputStream.read(buffer); length != -1; length = inputStream.read(buffer)) {
+						byteArrayOutputStream.write(buffer, 0, length);
+					}
+					
+					return new ClassFileReader(ReadOptions.HEADER_ONLY).read(byteArrayOutputStream.toByteArray());
+				} catch(final IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		};
+	}
+}
\ No newline at end of file
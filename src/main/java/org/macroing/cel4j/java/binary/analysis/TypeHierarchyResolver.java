@@ -0,0 +1,227 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@code TypeHierarchyResolver} computes the common superclass of two classes or array types, using a {@link TypeHierarchy}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * The superclass chain of every class and the common superclass of every pair of classes are cached, so each class is looked up in the {@code TypeHierarchy} at most once. A single {@code TypeHierarchyResolver} instance can therefore be
+ * shared by all methods and classes that are processed together. Call {@link #clear()} if the {@code TypeHierarchy} changes.
+ * <p>
+ * The names that are accepted and returned are internal names, such as {@code "java/lang/String"}, or array descriptors, such as {@code "[Ljava/lang/String;"} and {@code "[I"}. Interfaces are treated like the Java Virtual Machine verifier
+ * treats them, that is, as {@code java/lang/Object}.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * TypeHierarchyResolver typeHierarchyResolver = new TypeHierarchyResolver(TypeHierarchy.ofClassLoader(ClassLoader.getSystemClassLoader()));
+ * 
+ * String commonSuperclassName = typeHierarchyResolver.getCommonSuperclassName("java/lang/Integer", "java/lang/Long");
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class TypeHierarchyResolver {
+	private static final String OBJECT = "java/lang/Object";
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final Map<String, String> commonSuperclassNames;
+	private final Map<String, String[]> superclassNames;
+	private final TypeHierarchy typeHierarchy;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code TypeHierarchyResolver} instance.
+	 * <p>
+	 * If {@code typeHierarchy} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param typeHierarchy the {@link TypeHierarchy} to look the classes up in
+	 * @throws NullPointerException thrown if, and only if, {@code typeHierarchy} is {@code null}
+	 */
+	public TypeHierarchyResolver(final TypeHierarchy typeHierarchy) {
+		this.commonSuperclassNames = new ConcurrentHashMap<>();
+		this.superclassNames = new ConcurrentHashMap<>();
+		this.typeHierarchy = Objects.requireNonNull(typeHierarchy, "typeHierarchy == null");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the internal name or array descriptor of the most specific common superclass of {@code nameA} and {@code nameB}.
+	 * <p>
+	 * If either {@code nameA} or {@code nameB} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Two array types with the same number of dimensions and class elements have an array type of their common superclass as their common superclass. Any other pair of array types has an array of {@code java/lang/Object}, with as many
+	 * dimensions as both of them can be assigned to, or {@code java/lang/Object} itself, as their common superclass. An array type and a class has {@code java/lang/Object} as their common superclass.
+	 * 
+	 * @param nameA the internal name or array descriptor of a class
+	 * @param nameB the internal name or array descriptor of a class
+	 * @return the internal name or array descriptor of the most specific common superclass of {@code nameA} and {@code nameB}
+	 * @throws NullPointerException thrown if, and only if, either {@code nameA} or {@code nameB} are {@code null}
+	 */
+	public String getCommonSuperclassName(final String nameA, final String nameB) {
+		Objects.requireNonNull(nameA, "nameA == null");
+		Objects.requireNonNull(nameB, "nameB == null");
+		
+		if(nameA.equals(nameB)) {
+			return nameA;
+		}
+		
+		final boolean isArrayA = nameA.charAt(0) == '[';
+		final boolean isArrayB = nameB.charAt(0) == '[';
+		
+		if(isArrayA && isArrayB) {
+			return doGetCommonArrayTypeName(nameA, nameB);
+		}
+		
+		if(isArrayA || isArrayB || nameA.equals(OBJECT) || nameB.equals(OBJECT)) {
+			return OBJECT;
+		}
+		
+		final String key = nameA.compareTo(nameB) < 0 ? nameA + ";" + nameB : nameB + ";" + nameA;
+		
+		final String commonSuperclassName = this.commonSuperclassNames.get(key);
+		
+		if(commonSuperclassName != null) {
+			return commonSuperclassName;
+		}
+		
+		final String newCommonSuperclassName = doGetCommonSuperclassName(doGetSuperclassNames(nameA), doGetSuperclassNames(nameB));
+		
+		this.commonSuperclassNames.putIfAbsent(key, newCommonSuperclassName);
+		
+		return newCommonSuperclassName;
+	}
+	
+	/**
+	 * Clears the caches of this {@code TypeHierarchyResolver} instance.
+	 */
+	public void clear() {
+		this.commonSuperclassNames.clear();
+		this.superclassNames.clear();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private String doGetCommonArrayTypeName(final String nameA, final String nameB) {
+		final int dimensionsA = doGetDimensions(nameA);
+		final int dimensionsB = doGetDimensions(nameB);
+		
+		final boolean isClassA = nameA.charAt(dimensionsA) == 'L';
+		final boolean isClassB = nameB.charAt(dimensionsB) == 'L';
+		
+		if(dimensionsA == dimensionsB && isClassA && isClassB) {
+			final String componentName = getCommonSuperclassName(nameA.substring(dimensionsA + 1, nameA.length() - 1), nameB.substring(dimensionsB + 1, nameB.length() - 1));
+			
+			return nameA.substring(0, dimensionsA) + "L" + componentName + ";";
+		}
+		
+		final int dimensions = Math.min(isClassA ? dimensionsA : dimensionsA - 1, isClassB ? dimensionsB : dimensionsB - 1);
+		
+		if(dimensions == 0) {
+			return OBJECT;
+		}
+		
+		final StringBuilder stringBuilder = new StringBuilder(dimensions + OBJECT.length() + 2);
+		
+		for(int i = 0; i < dimensions; i++) {
+			stringBuilder.append('[');
+		}
+		
+		return stringBuilder.append('L').append(OBJECT).append(';').toString();
+	}
+	
+	private String[] doGetSuperclassNames(final String className) {
+		final String[] superclassNames = this.superclassNames.get(className);
+		
+		if(superclassNames != null) {
+			return superclassNames;
+		}
+		
+		final List<String> newSuperclassNames = new ArrayList<>();
+		
+		String currentClassName = className;
+		
+		while(currentClassName != null && !currentClassName.equals(OBJECT)) {
+			final String[] cachedSuperclassNames = currentClassName.equals(className) ? null : this.superclassNames.get(currentClassName);
+			
+			if(cachedSuperclassNames != null) {
+				for(final String cachedSuperclassName : cachedSuperclassNames) {
+					newSuperclassNames.add(cachedSuperclassName);
+				}
+				
+				break;
+			}
+			
+			if(newSuperclassNames.contains(currentClassName)) {
+				throw new IllegalStateException(String.format("The superclasses of %s are circular.", className));
+			}
+			
+			newSuperclassNames.add(currentClassName);
+			
+			currentClassName = this.typeHierarchy.getSuperclassName(currentClassName);
+		}
+		
+		if(!newSuperclassNames.get(newSuperclassNames.size() - 1).equals(OBJECT)) {
+			newSuperclassNames.add(OBJECT);
+		}
+		
+		final String[] array = newSuperclassNames.toArray(new String[newSuperclassNames.size()]);
+		
+		this.superclassNames.putIfAbsent(className, array);
+		
+		return array;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static String doGetCommonSuperclassName(final String[] superclassNamesA, final String[] superclassNamesB) {
+		int indexA = superclassNamesA.length - 1;
+		int indexB = superclassNamesB.length - 1;
+		
+		while(indexA > 0 && indexB > 0 && superclassNamesA[indexA - 1].equals(superclassNamesB[indexB - 1])) {
+			indexA--;
+			indexB--;
+		}
+		
+		return superclassNamesA[indexA];
+	}
+	
+	private static int doGetDimensions(final String name) {
+		int dimensions = 0;
+		
+		while(name.charAt(dimensions) == '[') {
+			dimensions++;
+		}
+		
+		return dimensions;
+	}
+}
\ No newline at end of file
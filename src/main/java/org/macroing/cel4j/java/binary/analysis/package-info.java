@@ -0,0 +1,18 @@
+/**
+ * Provides the Java Binary Analysis API.
+ * <p>
+ * The Java Binary Analysis API is used for analyzing the instructions of {@link org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute CodeAttribute} instances.
+ * <p>
+ * The classes and interfaces provided by this API are specified below.
+ * <h3>ControlFlowGraph</h3>
+ * The {@link org.macroing.cel4j.java.binary.analysis.ControlFlowGraph ControlFlowGraph} class divides the instructions of a {@code CodeAttribute} into {@link org.macroing.cel4j.java.binary.analysis.BasicBlock BasicBlock} instances and connects them with normal and exception edges.
+ * <h3>DataflowSolver</h3>
+ * The {@link org.macroing.cel4j.java.binary.analysis.DataflowSolver DataflowSolver} class solves a {@link org.macroing.cel4j.java.binary.analysis.DataflowProblem DataflowProblem}, such as liveness or reaching definitions, over a {@code ControlFlowGraph}. The result is returned as a {@link org.macroing.cel4j.java.binary.analysis.DataflowResult DataflowResult}.
+ * <h3>FrameComputer</h3>
+ * The {@link org.macroing.cel4j.java.binary.analysis.FrameComputer FrameComputer} class recomputes the {@code max_stack} and {@code max_locals} items and the {@code StackMapTable} attribute of the methods whose code has been modified. The common superclasses it needs are computed by a {@link org.macroing.cel4j.java.binary.analysis.TypeHierarchyResolver TypeHierarchyResolver}, which caches what it looks up in a pluggable {@link org.macroing.cel4j.java.binary.analysis.TypeHierarchy TypeHierarchy}.
+ * <h3>MemberReferenceIndex</h3>
+ * The {@link org.macroing.cel4j.java.binary.analysis.MemberReferenceIndex MemberReferenceIndex} class maps every field and method that is referenced by a set of classes to the {@link org.macroing.cel4j.java.binary.analysis.CallSite CallSite} instances that reference it. It can be written to a file, memory-mapped again and updated when individual class files change.
+ * <h3>ClassHash and ClassDiff</h3>
+ * The {@link org.macroing.cel4j.java.binary.analysis.ClassHash ClassHash} class computes stable 64-bit hashes of a class and each of its members directly from its sequence of bytes, with every {@code constant_pool} index resolved to the entry it denotes. The {@link org.macroing.cel4j.java.binary.analysis.ClassDiff ClassDiff} class compares two {@code ClassHash} instances, or all classes of two JAR files or directories, and reports the {@link org.macroing.cel4j.java.binary.analysis.MemberHash MemberHash} instances of the members that were added, removed or changed.
+ */
+package org.macroing.cel4j.java.binary.analysis;
\ No newline at end of file
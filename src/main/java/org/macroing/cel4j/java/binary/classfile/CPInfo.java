@@ -48,6 +48,7 @@ public abstract class CPInfo implements Documentable, Node {
 	private final String name;
 	private final int constantPoolEntryCount;
 	private final int tag;
+	private int modificationCount;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -97,6 +98,17 @@ public abstract class CPInfo implements Documentable, Node {
 		return this.constantPoolEntryCount;
 	}
 	
+	/**
+	 * Returns the number of times this {@code CPInfo} instance has been modified.
+	 * <p>
+	 * The modification count is incremented by {@link #notifyModified()}. It can be compared to a previous value to find out whether this {@code CPInfo} instance has been modified since then.
+	 * 
+	 * @return the number of times this {@code CPInfo} instance has been modified
+	 */
+	public final int getModificationCount() {
+		return this.modificationCount;
+	}
+	
 	/**
 	 * Returns the value for the {@code tag} item associated with this {@code CPInfo} instance.
 	 * 
@@ -120,4 +132,17 @@ public abstract class CPInfo implements Documentable, Node {
 	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
 	 */
 	public abstract void write(final DataOutput dataOutput);
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Records that the state of this {@code CPInfo} instance has been modified.
+	 * <p>
+	 * A subclass must call this method from every method that modifies the state used by {@code equals(Object)} and {@code hashCode()}. This increments the value returned by {@link #getModificationCount()}.
+	 * <p>
+	 * A {@link ConstantPool} instance is not notified. If this {@code CPInfo} instance is modified while it is in a {@code constant_pool}, call {@link ConstantPool#reindex()} on the {@code ConstantPool} instance that contains it.
+	 */
+	protected final void notifyModified() {
+		this.modificationCount++;
+	}
 }
\ No newline at end of file
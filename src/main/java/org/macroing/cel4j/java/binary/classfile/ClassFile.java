@@ -18,7 +18,6 @@
  */
 package org.macroing.cel4j.java.binary.classfile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.File;
@@ -26,10 +25,12 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LazyAttribute;
+import org.macroing.cel4j.java.binary.writer.ClassFileWriter;
 import org.macroing.cel4j.node.Node;
 import org.macroing.cel4j.node.NodeHierarchicalVisitor;
 import org.macroing.cel4j.node.NodeTraversalException;
@@ -40,7 +41,11 @@ import org.macroing.cel4j.util.ParameterArguments;
 /**
  * A {@code ClassFile} represents a {@code ClassFile} structure as defined by the Java Virtual Machine Specifications.
  * <p>
- * This class is mutable and not thread-safe.
+ * This class is either mutable and not thread-safe, or frozen.
+ * <p>
+ * A {@code ClassFile} instance that is constructed using one of its constructors is mutable. A {@code ClassFile} instance that is built by a {@link Builder}, such as the ones returned by
+ * {@link org.macroing.cel4j.java.binary.reader.ClassFileReader ClassFileReader}, is frozen. A frozen {@code ClassFile} instance cannot be modified. Its {@link FieldInfo} and {@link MethodInfo} instances are frozen as well. Because it cannot be
+ * modified, it can be read by multiple threads without synchronization. The {@link AttributeInfo} instances are not frozen. To modify a frozen {@code ClassFile} instance, call {@link #toMutable()} and modify the returned copy.
  * <p>
  * The {@code ClassFile} structure has the following format:
  * <pre>
@@ -237,11 +242,18 @@ public final class ClassFile implements Documentable, Node {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	private final CopyOnWriteArrayList<AttributeInfo> attributeInfos;
-	private final CopyOnWriteArrayList<CPInfo> cPInfos;
-	private final CopyOnWriteArrayList<FieldInfo> fieldInfos;
-	private final CopyOnWriteArrayList<Integer> interfaces;
-	private final CopyOnWriteArrayList<MethodInfo> methodInfos;
+	private final List<AttributeInfo> attributeInfos;
+	private final List<AttributeInfo> attributeInfosView;
+	private final List<CPInfo> cPInfos;
+	private final List<CPInfo> cPInfosView;
+	private final List<FieldInfo> fieldInfos;
+	private final List<FieldInfo> fieldInfosView;
+	private final List<Integer> interfaces;
+	private final List<Integer> interfacesView;
+	private final List<MethodInfo> methodInfos;
+	private final List<MethodInfo> methodInfosView;
+	private final ConstantPool constantPool;
+	private final boolean isFrozen;
 	private int accessFlags;
 	private int majorVersion;
 	private int minorVersion;
@@ -254,12 +266,19 @@ public final class ClassFile implements Documentable, Node {
 	 * Constructs a new empty {@code ClassFile} instance.
 	 */
 	public ClassFile() {
-		this.attributeInfos = new CopyOnWriteArrayList<>();
-		this.cPInfos = new CopyOnWriteArrayList<>();
+		this.attributeInfos = new ArrayList<>();
+		this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
+		this.cPInfos = new ArrayList<>();
+		this.cPInfosView = Collections.unmodifiableList(this.cPInfos);
 		this.cPInfos.add(new ConstantUnreachableInfo());
-		this.fieldInfos = new CopyOnWriteArrayList<>();
-		this.interfaces = new CopyOnWriteArrayList<>();
-		this.methodInfos = new CopyOnWriteArrayList<>();
+		this.fieldInfos = new ArrayList<>();
+		this.fieldInfosView = Collections.unmodifiableList(this.fieldInfos);
+		this.interfaces = new ArrayList<>();
+		this.interfacesView = Collections.unmodifiableList(this.interfaces);
+		this.methodInfos = new ArrayList<>();
+		this.methodInfosView = Collections.unmodifiableList(this.methodInfos);
+		this.constantPool = new ConstantPool(this, this.cPInfos);
+		this.isFrozen = false;
 		this.accessFlags = ACC_PUBLIC;
 		this.majorVersion = MAJOR_VERSION_8_0;
 		this.minorVersion = MINOR_VERSION_8_0;
@@ -270,17 +289,26 @@ public final class ClassFile implements Documentable, Node {
 	/**
 	 * Constructs a new {@code ClassFile} instance that is a copy of {@code classFile}.
 	 * <p>
+	 * The copy is always mutable, even if {@code classFile} is frozen.
+	 * <p>
 	 * If {@code classFile} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
 	 * @param classFile the {@code ClassFile} instance to copy
 	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
 	 */
 	public ClassFile(final ClassFile classFile) {
-		this.attributeInfos = classFile.attributeInfos.stream().map(attributeInfo -> attributeInfo.copy()).collect(CopyOnWriteArrayList::new, CopyOnWriteArrayList::add, CopyOnWriteArrayList::addAll);
-		this.cPInfos = classFile.cPInfos.stream().map(cPInfo -> cPInfo.copy()).collect(CopyOnWriteArrayList::new, CopyOnWriteArrayList::add, CopyOnWriteArrayList::addAll);
-		this.fieldInfos = classFile.fieldInfos.stream().map(fieldInfo -> new FieldInfo(fieldInfo)).collect(CopyOnWriteArrayList::new, CopyOnWriteArrayList::add, CopyOnWriteArrayList::addAll);
-		this.interfaces = classFile.interfaces.stream().collect(CopyOnWriteArrayList::new, CopyOnWriteArrayList::add, CopyOnWriteArrayList::addAll);
-		this.methodInfos = classFile.methodInfos.stream().map(methodInfo -> new MethodInfo(methodInfo)).collect(CopyOnWriteArrayList::new, CopyOnWriteArrayList::add, CopyOnWriteArrayList::addAll);
+		this.attributeInfos = classFile.attributeInfos.stream().map(attributeInfo -> attributeInfo.copy()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
+		this.cPInfos = classFile.cPInfos.stream().map(cPInfo -> cPInfo.copy()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.cPInfosView = Collections.unmodifiableList(this.cPInfos);
+		this.fieldInfos = classFile.fieldInfos.stream().map(fieldInfo -> new FieldInfo(fieldInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.fieldInfosView = Collections.unmodifiableList(this.fieldInfos);
+		this.interfaces = new ArrayList<>(classFile.interfaces);
+		this.interfacesView = Collections.unmodifiableList(this.interfaces);
+		this.methodInfos = classFile.methodInfos.stream().map(methodInfo -> new MethodInfo(methodInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.methodInfosView = Collections.unmodifiableList(this.methodInfos);
+		this.constantPool = new ConstantPool(this, this.cPInfos);
+		this.isFrozen = false;
 		this.accessFlags = classFile.accessFlags;
 		this.majorVersion = classFile.majorVersion;
 		this.minorVersion = classFile.minorVersion;
@@ -288,6 +316,40 @@ public final class ClassFile implements Documentable, Node {
 		this.thisClass = classFile.thisClass;
 	}
 	
+	private ClassFile(final Builder builder, final boolean isFrozen) {
+		if(isFrozen) {
+			this.attributeInfos = Collections.unmodifiableList(new ArrayList<>(builder.attributeInfos));
+			this.attributeInfosView = this.attributeInfos;
+			this.cPInfos = Collections.unmodifiableList(new ArrayList<>(builder.cPInfos));
+			this.cPInfosView = this.cPInfos;
+			this.fieldInfos = Collections.unmodifiableList(builder.fieldInfos.stream().map(fieldInfo -> fieldInfo.freeze()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll));
+			this.fieldInfosView = this.fieldInfos;
+			this.interfaces = Collections.unmodifiableList(new ArrayList<>(builder.interfaces));
+			this.interfacesView = this.interfaces;
+			this.methodInfos = Collections.unmodifiableList(builder.methodInfos.stream().map(methodInfo -> methodInfo.freeze()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll));
+			this.methodInfosView = this.methodInfos;
+		} else {
+			this.attributeInfos = new ArrayList<>(builder.attributeInfos);
+			this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
+			this.cPInfos = new ArrayList<>(builder.cPInfos);
+			this.cPInfosView = Collections.unmodifiableList(this.cPInfos);
+			this.fieldInfos = new ArrayList<>(builder.fieldInfos);
+			this.fieldInfosView = Collections.unmodifiableList(this.fieldInfos);
+			this.interfaces = new ArrayList<>(builder.interfaces);
+			this.interfacesView = Collections.unmodifiableList(this.interfaces);
+			this.methodInfos = new ArrayList<>(builder.methodInfos);
+			this.methodInfosView = Collections.unmodifiableList(this.methodInfos);
+		}
+		
+		this.constantPool = new ConstantPool(this, this.cPInfos);
+		this.isFrozen = isFrozen;
+		this.accessFlags = builder.accessFlags;
+		this.majorVersion = builder.majorVersion;
+		this.minorVersion = builder.minorVersion;
+		this.superClass = builder.superClass;
+		this.thisClass = builder.thisClass;
+	}
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
@@ -340,12 +402,10 @@ public final class ClassFile implements Documentable, Node {
 	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
 	 */
 	public CPInfo getCPInfo(final CPInfo cPInfo) {
-		Objects.requireNonNull(cPInfo, "cPInfo == null");
+		final int index = doIndexOf(cPInfo);
 		
-		for(final CPInfo currentCPInfo : getCPInfos()) {
-			if(currentCPInfo.equals(cPInfo)) {
-				return currentCPInfo;
-			}
+		if(index != -1) {
+			return this.cPInfos.get(index);
 		}
 		
 		throw new IllegalArgumentException("This ClassFile does not contain the provided cp_info.");
@@ -366,6 +426,8 @@ public final class ClassFile implements Documentable, Node {
 	
 	/**
 	 * Returns a copy of this {@code ClassFile} instance.
+	 * <p>
+	 * The copy is always mutable, even if this {@code ClassFile} instance is frozen.
 	 * 
 	 * @return a copy of this {@code ClassFile} instance
 	 */
@@ -373,6 +435,28 @@ public final class ClassFile implements Documentable, Node {
 		return new ClassFile(this);
 	}
 	
+	/**
+	 * Returns the {@link ConstantPool} instance associated with this {@code ClassFile} instance.
+	 * <p>
+	 * The {@code ConstantPool} instance provides constant time lookup of the index of a {@link CPInfo} instance and find-or-add methods for the most common {@code CPInfo} instances.
+	 * 
+	 * @return the {@code ConstantPool} instance associated with this {@code ClassFile} instance
+	 */
+	public ConstantPool getConstantPool() {
+		return this.constantPool;
+	}
+	
+	/**
+	 * Returns a mutable {@code ClassFile} instance with the same content as this {@code ClassFile} instance.
+	 * <p>
+	 * If this {@code ClassFile} instance is mutable, it will be returned. Otherwise a mutable copy will be returned.
+	 * 
+	 * @return a mutable {@code ClassFile} instance with the same content as this {@code ClassFile} instance
+	 */
+	public ClassFile toMutable() {
+		return this.isFrozen ? new ClassFile(this) : this;
+	}
+	
 	/**
 	 * Writes this {@code ClassFile} to {@code dataOutput}.
 	 * <p>
@@ -504,7 +588,7 @@ public final class ClassFile implements Documentable, Node {
 		document.linef("cp_info[%s] constant_pool = {", Integer.toString(getCPInfoCount() - 1));
 		document.indent();
 		
-		for(final CPInfo cPInfo : getCPInfos()) {
+		for(final CPInfo cPInfo : this.cPInfos) {
 			cPInfo.write(document);
 		}
 		
@@ -517,7 +601,7 @@ public final class ClassFile implements Documentable, Node {
 		document.linef("u2[%s] interfaces = {", Integer.toString(getInterfaceCount()));
 		document.indent();
 		
-		for(final int interfaceIndex : getInterfaces()) {
+		for(final int interfaceIndex : this.interfaces) {
 			document.linef("u2 interface = %s;", Integer.toString(interfaceIndex));
 		}
 		
@@ -527,7 +611,7 @@ public final class ClassFile implements Documentable, Node {
 		document.linef("field_info[%s] fields = {", Integer.toString(getFieldInfoCount()));
 		document.indent();
 		
-		for(final FieldInfo fieldInfo : getFieldInfos()) {
+		for(final FieldInfo fieldInfo : this.fieldInfos) {
 			fieldInfo.write(document);
 		}
 		
@@ -537,7 +621,7 @@ public final class ClassFile implements Documentable, Node {
 		document.linef("method_info[%s] methods = {", Integer.toString(getMethodInfoCount()));
 		document.indent();
 		
-		for(final MethodInfo methodInfo : getMethodInfos()) {
+		for(final MethodInfo methodInfo : this.methodInfos) {
 			methodInfo.write(document);
 		}
 		
@@ -569,7 +653,7 @@ public final class ClassFile implements Documentable, Node {
 	public FieldInfo getFieldInfo(final FieldInfo fieldInfo) {
 		Objects.requireNonNull(fieldInfo, "fieldInfo == null");
 		
-		for(final FieldInfo currentFieldInfo : getFieldInfos()) {
+		for(final FieldInfo currentFieldInfo : this.fieldInfos) {
 			if(currentFieldInfo.equals(fieldInfo)) {
 				return currentFieldInfo;
 			}
@@ -602,6 +686,19 @@ public final class ClassFile implements Documentable, Node {
 		return new ArrayList<>(this.attributeInfos);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link AttributeInfo} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code ClassFile} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getAttributeInfos()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code AttributeInfo} instances
+	 */
+	public List<AttributeInfo> getAttributeInfosView() {
+		return this.attributeInfosView;
+	}
+	
 	/**
 	 * Returns a {@code List} with all currently added {@link CPInfo} instances.
 	 * <p>
@@ -613,6 +710,19 @@ public final class ClassFile implements Documentable, Node {
 		return new ArrayList<>(this.cPInfos);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link CPInfo} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code ClassFile} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getCPInfos()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code CPInfo} instances
+	 */
+	public List<CPInfo> getCPInfosView() {
+		return this.cPInfosView;
+	}
+	
 	/**
 	 * Returns a {@code List} with all currently added {@link FieldInfo} instances.
 	 * <p>
@@ -624,6 +734,19 @@ public final class ClassFile implements Documentable, Node {
 		return new ArrayList<>(this.fieldInfos);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link FieldInfo} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code ClassFile} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getFieldInfos()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code FieldInfo} instances
+	 */
+	public List<FieldInfo> getFieldInfosView() {
+		return this.fieldInfosView;
+	}
+	
 	/**
 	 * Returns a {@code List} with all currently added interfaces.
 	 * <p>
@@ -635,6 +758,19 @@ public final class ClassFile implements Documentable, Node {
 		return new ArrayList<>(this.interfaces);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added interfaces.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code ClassFile} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getInterfaces()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added interfaces
+	 */
+	public List<Integer> getInterfacesView() {
+		return this.interfacesView;
+	}
+	
 	/**
 	 * Returns a {@code List} with all currently added {@link MethodInfo} instances.
 	 * <p>
@@ -646,6 +782,19 @@ public final class ClassFile implements Documentable, Node {
 		return new ArrayList<>(this.methodInfos);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link MethodInfo} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code ClassFile} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getMethodInfos()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code MethodInfo} instances
+	 */
+	public List<MethodInfo> getMethodInfosView() {
+		return this.methodInfosView;
+	}
+	
 	/**
 	 * Returns the {@link MethodInfo} instance of this {@code ClassFile} instance that is equal to {@code methodInfo}.
 	 * <p>
@@ -661,7 +810,7 @@ public final class ClassFile implements Documentable, Node {
 	public MethodInfo getMethodInfo(final MethodInfo methodInfo) {
 		Objects.requireNonNull(methodInfo, "methodInfo == null");
 		
-		for(final MethodInfo currentMethodInfo : getMethodInfos()) {
+		for(final MethodInfo currentMethodInfo : this.methodInfos) {
 			if(currentMethodInfo.equals(methodInfo)) {
 				return currentMethodInfo;
 			}
@@ -861,13 +1010,18 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code attributeInfo} was added, {@code false} otherwise.
 	 * <p>
 	 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param attributeInfo the {@link AttributeInfo} to add
 	 * @return {@code true} if, and only if, {@code attributeInfo} was added, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean addAttributeInfo(final AttributeInfo attributeInfo) {
-		return this.attributeInfos.addIfAbsent(Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
+		doRequireMutable();
+		
+		return doAddIfAbsent(this.attributeInfos, Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
 	}
 	
 	/**
@@ -876,12 +1030,17 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code cPInfo} was added, {@code false} otherwise.
 	 * <p>
 	 * If {@code cPInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param cPInfo the {@link CPInfo} to add
 	 * @return {@code true} if, and only if, {@code cPInfo} was added, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean addCPInfo(final CPInfo cPInfo) {
+		doRequireMutable();
+		
 		if(this.cPInfos.add(Objects.requireNonNull(cPInfo, "cPInfo == null"))) {
 			for(int i = 1; i < cPInfo.getConstantPoolEntryCount(); i++) {
 				this.cPInfos.add(new ConstantUnreachableInfo());
@@ -899,13 +1058,18 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code fieldInfo} was added, {@code false} otherwise.
 	 * <p>
 	 * If {@code fieldInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param fieldInfo the {@link FieldInfo} to add
 	 * @return {@code true} if, and only if, {@code fieldInfo} was added, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code fieldInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean addFieldInfo(final FieldInfo fieldInfo) {
-		return this.fieldInfos.addIfAbsent(Objects.requireNonNull(fieldInfo, "fieldInfo == null"));
+		doRequireMutable();
+		
+		return doAddIfAbsent(this.fieldInfos, Objects.requireNonNull(fieldInfo, "fieldInfo == null"));
 	}
 	
 	/**
@@ -914,13 +1078,18 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, the interface index was added, {@code false} otherwise.
 	 * <p>
 	 * If {@code index} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param index the interface index to add
 	 * @return {@code true} if, and only if, the interface index was added, {@code false} otherwise
 	 * @throws IllegalArgumentException thrown if, and only if, {@code index} is less than {@code 1}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean addInterface(final int index) {
-		return this.interfaces.addIfAbsent(Integer.valueOf(ParameterArguments.requireRange(index, 1, Integer.MAX_VALUE)));
+		doRequireMutable();
+		
+		return doAddIfAbsent(this.interfaces, Integer.valueOf(ParameterArguments.requireRange(index, 1, Integer.MAX_VALUE)));
 	}
 	
 	/**
@@ -929,13 +1098,18 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code methodInfo} was added, {@code false} otherwise.
 	 * <p>
 	 * If {@code methodInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param methodInfo the {@link MethodInfo} to add
 	 * @return {@code true} if, and only if, {@code methodInfo} was added, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean addMethodInfo(final MethodInfo methodInfo) {
-		return this.methodInfos.addIfAbsent(Objects.requireNonNull(methodInfo, "methodInfo"));
+		doRequireMutable();
+		
+		return doAddIfAbsent(this.methodInfos, Objects.requireNonNull(methodInfo, "methodInfo"));
 	}
 	
 	/**
@@ -950,7 +1124,7 @@ public final class ClassFile implements Documentable, Node {
 	public boolean containsAttributeInfo(final AttributeInfo attributeInfo) {
 		Objects.requireNonNull(attributeInfo, "attributeInfo == null");
 		
-		for(final AttributeInfo currentAttributeInfo : getAttributeInfos()) {
+		for(final AttributeInfo currentAttributeInfo : this.attributeInfos) {
 			if(currentAttributeInfo.equals(attributeInfo)) {
 				return true;
 			}
@@ -969,15 +1143,7 @@ public final class ClassFile implements Documentable, Node {
 	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
 	 */
 	public boolean containsCPInfo(final CPInfo cPInfo) {
-		Objects.requireNonNull(cPInfo, "cPInfo == null");
-		
-		for(final CPInfo currentCPInfo : getCPInfos()) {
-			if(currentCPInfo.equals(cPInfo)) {
-				return true;
-			}
-		}
-		
-		return false;
+		return doIndexOf(cPInfo) != -1;
 	}
 	
 	/**
@@ -992,7 +1158,7 @@ public final class ClassFile implements Documentable, Node {
 	public boolean containsFieldInfo(final FieldInfo fieldInfo) {
 		Objects.requireNonNull(fieldInfo, "fieldInfo == null");
 		
-		for(final FieldInfo currentFieldInfo : getFieldInfos()) {
+		for(final FieldInfo currentFieldInfo : this.fieldInfos) {
 			if(currentFieldInfo.equals(fieldInfo)) {
 				return true;
 			}
@@ -1013,7 +1179,7 @@ public final class ClassFile implements Documentable, Node {
 	public boolean containsMethodInfo(final MethodInfo methodInfo) {
 		Objects.requireNonNull(methodInfo, "methodInfo == null");
 		
-		for(final MethodInfo currentMethodInfo : getMethodInfos()) {
+		for(final MethodInfo currentMethodInfo : this.methodInfos) {
 			if(currentMethodInfo.equals(methodInfo)) {
 				return true;
 			}
@@ -1054,7 +1220,7 @@ public final class ClassFile implements Documentable, Node {
 			return false;
 		} else if(!Objects.equals(this.methodInfos, ClassFile.class.cast(object).methodInfos)) {
 			return false;
-		} else if(!Objects.equals(this.attributeInfos, ClassFile.class.cast(object).attributeInfos)) {
+		} else if(!Objects.equals(LazyAttribute.unwrap(this.attributeInfos), LazyAttribute.unwrap(ClassFile.class.cast(object).attributeInfos))) {
 			return false;
 		} else {
 			return true;
@@ -1097,6 +1263,17 @@ public final class ClassFile implements Documentable, Node {
 		return (this.accessFlags & ACC_FINAL) != 0;
 	}
 	
+	/**
+	 * Returns {@code true} if, and only if, this {@code ClassFile} instance is frozen, {@code false} otherwise.
+	 * <p>
+	 * A frozen {@code ClassFile} instance cannot be modified. Call {@link #toMutable()} to get a mutable copy.
+	 * 
+	 * @return {@code true} if, and only if, this {@code ClassFile} instance is frozen, {@code false} otherwise
+	 */
+	public boolean isFrozen() {
+		return this.isFrozen;
+	}
+	
 	/**
 	 * Returns {@code true} if, and only if, {@code ACC_INTERFACE} is set in the {@code access_flags} item associated with this {@code ClassFile} instance, {@code false} otherwise.
 	 * 
@@ -1148,12 +1325,17 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code attributeInfo} was removed, {@code false} otherwise.
 	 * <p>
 	 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param attributeInfo the {@link AttributeInfo} to remove
 	 * @return {@code true} if, and only if, {@code attributeInfo} was removed, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean removeAttributeInfo(final AttributeInfo attributeInfo) {
+		doRequireMutable();
+		
 		return this.attributeInfos.remove(Objects.requireNonNull(attributeInfo, "attributeInfo"));
 	}
 	
@@ -1162,16 +1344,25 @@ public final class ClassFile implements Documentable, Node {
 	 * <p>
 	 * Returns {@code true} if, and only if, {@code cPInfo} was removed, {@code false} otherwise.
 	 * <p>
+	 * The indices that refer to the entries after {@code cPInfo} are not updated. To remove all unused entries and update their indices, consider using {@link org.macroing.cel4j.java.binary.writer.ClassFileShrinker ClassFileShrinker}.
+	 * <p>
 	 * If {@code cPInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param cPInfo the {@link CPInfo} to remove
 	 * @return {@code true} if, and only if, {@code cPInfo} was removed, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean removeCPInfo(CPInfo cPInfo) {
+		doRequireMutable();
+		
 		final int index = this.cPInfos.indexOf(Objects.requireNonNull(cPInfo, "cPInfo"));
 		
 		if(index != -1) {
+			this.constantPool.reindex();
+			
 			boolean isRemoved = this.cPInfos.remove(index) == cPInfo;
 			
 			if(index < this.cPInfos.size()) {
@@ -1194,12 +1385,17 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code fieldInfo} was removed, {@code false} otherwise.
 	 * <p>
 	 * If {@code fieldInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param fieldInfo the {@link FieldInfo} to remove
 	 * @return {@code true} if, and only if, {@code fieldInfo} was removed, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code fieldInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean removeFieldInfo(final FieldInfo fieldInfo) {
+		doRequireMutable();
+		
 		return this.fieldInfos.remove(Objects.requireNonNull(fieldInfo, "fieldInfo == null"));
 	}
 	
@@ -1209,12 +1405,17 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, the interface index was removed, {@code false} otherwise.
 	 * <p>
 	 * If {@code index} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param index the interface index to remove
 	 * @return {@code true} if, and only if, the interface index was removed, {@code false} otherwise
 	 * @throws IllegalArgumentException thrown if, and only if, {@code index} is less than {@code 1}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean removeInterface(final int index) {
+		doRequireMutable();
+		
 		return this.interfaces.remove(Integer.valueOf(ParameterArguments.requireRange(index, 1, Integer.MAX_VALUE)));
 	}
 	
@@ -1224,12 +1425,17 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code methodInfo} was removed, {@code false} otherwise.
 	 * <p>
 	 * If {@code methodInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param methodInfo the {@link MethodInfo} to remove
 	 * @return {@code true} if, and only if, {@code methodInfo} was removed, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean removeMethodInfo(final MethodInfo methodInfo) {
+		doRequireMutable();
+		
 		return this.methodInfos.remove(Objects.requireNonNull(methodInfo, "methodInfo"));
 	}
 	
@@ -1241,14 +1447,19 @@ public final class ClassFile implements Documentable, Node {
 	 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getAttributeInfoCount()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param attributeInfo the {@code AttributeInfo} to set
 	 * @param index the index of the {@code AttributeInfo}
 	 * @return {@code true} if, and only if, {@code attributeInfo} was set, {@code false} otherwise
 	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getAttributeInfoCount()}
 	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean setAttributeInfo(final AttributeInfo attributeInfo, final int index) {
+		doRequireMutable();
+		
 		this.attributeInfos.set(index, Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
 		
 		return true;
@@ -1262,14 +1473,19 @@ public final class ClassFile implements Documentable, Node {
 	 * If {@code cPInfo} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getCPInfoCount()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param cPInfo the {@code CPInfo} to set
 	 * @param index the index of the {@code CPInfo}
 	 * @return {@code true} if, and only if, {@code cPInfo} is not an instance of {@code ConstantUnreachableInfo} and it was set, {@code false} otherwise
 	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getCPInfoCount()}
 	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean setCPInfo(final CPInfo cPInfo, final int index) {
+		doRequireMutable();
+		
 		if(cPInfo instanceof ConstantUnreachableInfo) {
 			return false;
 		}
@@ -1280,6 +1496,8 @@ public final class ClassFile implements Documentable, Node {
 			return false;
 		}
 		
+		this.constantPool.reindex();
+		
 		final CPInfo cPInfo1 = this.cPInfos.remove(index);
 		
 		for(int i = 1; i < cPInfo1.getConstantPoolEntryCount(); i++) {
@@ -1303,14 +1521,19 @@ public final class ClassFile implements Documentable, Node {
 	 * If {@code fieldInfo} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getFieldInfoCount()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param fieldInfo the {@code FieldInfo} to set
 	 * @param index the index of the {@code FieldInfo}
 	 * @return {@code true} if, and only if, {@code fieldInfo} was set, {@code false} otherwise
 	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getFieldInfoCount()}
 	 * @throws NullPointerException thrown if, and only if, {@code fieldInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean setFieldInfo(final FieldInfo fieldInfo, final int index) {
+		doRequireMutable();
+		
 		this.fieldInfos.set(index, Objects.requireNonNull(fieldInfo, "fieldInfo == null"));
 		
 		return true;
@@ -1324,14 +1547,19 @@ public final class ClassFile implements Documentable, Node {
 	 * If {@code methodInfo} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getMethodInfoCount()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param methodInfo the {@code MethodInfo} to set
 	 * @param index the index of the {@code MethodInfo}
 	 * @return {@code true} if, and only if, {@code methodInfo} was set, {@code false} otherwise
 	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getMethodInfoCount()}
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public boolean setMethodInfo(final MethodInfo methodInfo, final int index) {
+		doRequireMutable();
+		
 		this.methodInfos.set(index, Objects.requireNonNull(methodInfo, "methodInfo == null"));
 		
 		return true;
@@ -1341,18 +1569,19 @@ public final class ClassFile implements Documentable, Node {
 	 * Returns a {@code byte} array representation of this {@code ClassFile} instance.
 	 * <p>
 	 * If an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ClassFileWriter().write(classFile);
+	 * }
+	 * </pre>
 	 * 
 	 * @return a {@code byte} array representation of this {@code ClassFile} instance
 	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
 	 */
 	public byte[] toByteArray() {
-		try(final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(); final DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
-			write(dataOutputStream);
-			
-			return byteArrayOutputStream.toByteArray();
-		} catch(final IOException e) {
-			throw new UncheckedIOException(e);
-		}
+		return new ClassFileWriter().write(this);
 	}
 	
 	/**
@@ -1462,7 +1691,7 @@ public final class ClassFile implements Documentable, Node {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(Integer.valueOf(this.minorVersion), Integer.valueOf(this.majorVersion), this.cPInfos, Integer.valueOf(this.accessFlags), Integer.valueOf(this.thisClass), Integer.valueOf(this.superClass), this.interfaces, this.fieldInfos, this.methodInfos, this.attributeInfos);
+		return Objects.hash(Integer.valueOf(this.minorVersion), Integer.valueOf(this.majorVersion), this.cPInfos, Integer.valueOf(this.accessFlags), Integer.valueOf(this.thisClass), Integer.valueOf(this.superClass), this.interfaces, this.fieldInfos, this.methodInfos, LazyAttribute.unwrap(this.attributeInfos));
 	}
 	
 	/**
@@ -1475,25 +1704,7 @@ public final class ClassFile implements Documentable, Node {
 	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
 	 */
 	public int indexOf(final CPInfo cPInfo) {
-		Objects.requireNonNull(cPInfo, "cPInfo == null");
-		
-		if(cPInfo instanceof ConstantUnreachableInfo) {
-			return -1;
-		}
-		
-		final List<CPInfo> cPInfos = getCPInfos();
-		
-		for(int index = 1; index < cPInfos.size();) {
-			final CPInfo currentCPInfo = cPInfos.get(index);
-			
-			if(currentCPInfo.equals(cPInfo)) {
-				return index;
-			}
-			
-			index += currentCPInfo.getConstantPoolEntryCount();
-		}
-		
-		return -1;
+		return this.constantPool.indexOf(cPInfo);
 	}
 	
 	/**
@@ -1510,10 +1721,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <li>{@code ACC_ANNOTATION}</li>
 	 * <li>{@code ACC_INTERFACE}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isAbstract {@code true} if, and only if, the access flag {@code ACC_ABSTRACT} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setAbstract(final boolean isAbstract) {
+		doRequireMutable();
+		
 		if(isAbstract) {
 			this.accessFlags |= ACC_ABSTRACT;
 			this.accessFlags &= ~ACC_FINAL;
@@ -1541,10 +1757,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <li>{@code ACC_ABSTRACT}</li>
 	 * <li>{@code ACC_INTERFACE}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isAnnotation {@code true} if, and only if, the access flag {@code ACC_ANNOTATION} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setAnnotation(final boolean isAnnotation) {
+		doRequireMutable();
+		
 		if(isAnnotation) {
 			this.accessFlags |= ACC_ABSTRACT;
 			this.accessFlags |= ACC_ANNOTATION;
@@ -1567,10 +1788,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <li>{@code ACC_INTERFACE}</li>
 	 * <li>{@code ACC_MODULE}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isEnum {@code true} if, and only if, the access flag {@code ACC_ENUM} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setEnum(final boolean isEnum) {
+		doRequireMutable();
+		
 		if(isEnum) {
 			this.accessFlags &= ~ACC_ANNOTATION;
 			this.accessFlags |= ACC_ENUM;
@@ -1591,10 +1817,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <li>{@code ACC_INTERFACE}</li>
 	 * <li>{@code ACC_MODULE}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isFinal {@code true} if, and only if, the access flag {@code ACC_FINAL} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setFinal(final boolean isFinal) {
+		doRequireMutable();
+		
 		if(isFinal) {
 			this.accessFlags &= ~ACC_ABSTRACT;
 			this.accessFlags &= ~ACC_ANNOTATION;
@@ -1626,10 +1857,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_ANNOTATION}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isInterface {@code true} if, and only if, the access flag {@code ACC_INTERFACE} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setInterface(final boolean isInterface) {
+		doRequireMutable();
+		
 		if(isInterface) {
 			this.accessFlags |= ACC_ABSTRACT;
 			this.accessFlags &= ~ACC_ENUM;
@@ -1647,11 +1883,16 @@ public final class ClassFile implements Documentable, Node {
 	 * Sets {@code majorVersion} as the value for the {@code major_version} item associated with this {@code ClassFile} instance.
 	 * <p>
 	 * If {@code majorVersion} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param majorVersion the value for the {@code major_version} item associated with this {@code ClassFile} instance
 	 * @throws IllegalArgumentException thrown if, and only if, {@code majorVersion} is less than {@code 0}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setMajorVersion(final int majorVersion) {
+		doRequireMutable();
+		
 		this.majorVersion = ParameterArguments.requireRange(majorVersion, 0, Integer.MAX_VALUE);
 	}
 	
@@ -1659,12 +1900,17 @@ public final class ClassFile implements Documentable, Node {
 	 * Sets {@code minorVersion} as the value for the {@code minor_version} item associated with this {@code ClassFile} instance.
 	 * <p>
 	 * If {@code minorVersion} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param minorVersion the value for the {@code minor_version} item associated with this {@code ClassFile} instance
 	 * @throws IllegalArgumentException thrown if, and only if, {@code minorVersion} is less than {@code 0}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setMinorVersion(final int minorVersion) {
-		this.majorVersion = ParameterArguments.requireRange(minorVersion, 0, Integer.MAX_VALUE);
+		doRequireMutable();
+		
+		this.minorVersion = ParameterArguments.requireRange(minorVersion, 0, Integer.MAX_VALUE);
 	}
 	
 	/**
@@ -1681,10 +1927,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <li>{@code ACC_SUPER}</li>
 	 * <li>{@code ACC_SYNTHETIC}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isModule {@code true} if, and only if, the access flag {@code ACC_MODULE} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setModule(final boolean isModule) {
+		doRequireMutable();
+		
 		if(isModule) {
 			this.accessFlags &= ~ACC_ABSTRACT;
 			this.accessFlags &= ~ACC_ANNOTATION;
@@ -1707,10 +1958,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_MODULE}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isPublic {@code true} if, and only if, the access flag {@code ACC_PUBLIC} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setPublic(final boolean isPublic) {
+		doRequireMutable();
+		
 		if(isPublic) {
 			this.accessFlags &= ~ACC_MODULE;
 			this.accessFlags |= ACC_PUBLIC;
@@ -1728,10 +1984,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <li>{@code ACC_INTERFACE}</li>
 	 * <li>{@code ACC_MODULE}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isSuper {@code true} if, and only if, the access flag {@code ACC_SUPER} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setSuper(final boolean isSuper) {
+		doRequireMutable();
+		
 		if(isSuper) {
 			this.accessFlags &= ~ACC_ANNOTATION;
 			this.accessFlags &= ~ACC_INTERFACE;
@@ -1746,11 +2007,16 @@ public final class ClassFile implements Documentable, Node {
 	 * Sets {@code superClass} as the value for the {@code super_class} item associated with this {@code ClassFile} instance.
 	 * <p>
 	 * If {@code superClass} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param superClass the value for the {@code super_class} item associated with this {@code ClassFile} instance
 	 * @throws IllegalArgumentException thrown if, and only if, {@code superClass} is less than {@code 0}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setSuperClass(final int superClass) {
+		doRequireMutable();
+		
 		this.superClass = ParameterArguments.requireRange(superClass, 0, Integer.MAX_VALUE);
 	}
 	
@@ -1761,10 +2027,15 @@ public final class ClassFile implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_MODULE}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isSynthetic {@code true} if, and only if, the access flag {@code ACC_SYNTHETIC} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setSynthetic(final boolean isSynthetic) {
+		doRequireMutable();
+		
 		if(isSynthetic) {
 			this.accessFlags &= ~ACC_MODULE;
 			this.accessFlags |= ACC_SYNTHETIC;
@@ -1777,11 +2048,304 @@ public final class ClassFile implements Documentable, Node {
 	 * Sets {@code thisClass} as the value for the {@code this_class} item associated with this {@code ClassFile} instance.
 	 * <p>
 	 * If {@code thisClass} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param thisClass the value for the {@code this_class} item associated with this {@code ClassFile} instance
 	 * @throws IllegalArgumentException thrown if, and only if, {@code thisClass} is less than {@code 1}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code ClassFile} instance is frozen
 	 */
 	public void setThisClass(final int thisClass) {
+		doRequireMutable();
+		
 		this.thisClass = ParameterArguments.requireRange(thisClass, 1, Integer.MAX_VALUE);
 	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private int doIndexOf(final CPInfo cPInfo) {
+		if(Objects.requireNonNull(cPInfo, "cPInfo == null") instanceof ConstantUnreachableInfo) {
+			return this.cPInfos.indexOf(cPInfo);
+		}
+		
+		return this.constantPool.indexOf(cPInfo);
+	}
+	
+	private void doRequireMutable() {
+		if(this.isFrozen) {
+			throw new UnsupportedOperationException("This ClassFile is frozen. Call toMutable() to get a mutable copy.");
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static <T> boolean doAddIfAbsent(final List<T> list, final T element) {
+		return !list.contains(element) && list.add(element);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * This {@code Builder} class is used for building frozen {@link ClassFile} instances.
+	 * <p>
+	 * This class is not thread-safe.
+	 * <p>
+	 * The elements are appended to growable arrays without checking whether they are already present. This makes building a {@code ClassFile} instance linear in the number of elements, which is what
+	 * {@link org.macroing.cel4j.java.binary.reader.ClassFileReader ClassFileReader} needs.
+	 * 
+	 * @since 1.0.0
+	 * @author J&#246;rgen Lundgren
+	 */
+	public static final class Builder {
+		final List<AttributeInfo> attributeInfos = new ArrayList<>();
+		final List<CPInfo> cPInfos = new ArrayList<>();
+		final List<FieldInfo> fieldInfos = new ArrayList<>();
+		final List<Integer> interfaces = new ArrayList<>();
+		final List<MethodInfo> methodInfos = new ArrayList<>();
+		int accessFlags;
+		int majorVersion;
+		int minorVersion;
+		int superClass;
+		int thisClass;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private Builder() {
+			this.cPInfos.add(new ConstantUnreachableInfo());
+			this.accessFlags = ACC_PUBLIC;
+			this.majorVersion = MAJOR_VERSION_8_0;
+			this.minorVersion = MINOR_VERSION_8_0;
+			this.superClass = 3;
+			this.thisClass = 1;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		/**
+		 * Adds {@code attributeInfo} to this {@code Builder} instance.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+		 * 
+		 * @param attributeInfo the {@link AttributeInfo} instance to add
+		 * @return the {@code Builder} instance itself
+		 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+		 */
+		public Builder addAttributeInfo(final AttributeInfo attributeInfo) {
+			this.attributeInfos.add(Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
+			
+			return this;
+		}
+		
+		/**
+		 * Adds {@code cPInfo} to this {@code Builder} instance.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code cPInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+		 * <p>
+		 * If {@code cPInfo} occupies more than one entry in the constant pool, a {@link ConstantUnreachableInfo} instance is added for each additional entry.
+		 * 
+		 * @param cPInfo the {@link CPInfo} instance to add
+		 * @return the {@code Builder} instance itself
+		 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
+		 */
+		public Builder addCPInfo(final CPInfo cPInfo) {
+			this.cPInfos.add(Objects.requireNonNull(cPInfo, "cPInfo == null"));
+			
+			for(int i = 1; i < cPInfo.getConstantPoolEntryCount(); i++) {
+				this.cPInfos.add(new ConstantUnreachableInfo());
+			}
+			
+			return this;
+		}
+		
+		/**
+		 * Adds {@code fieldInfo} to this {@code Builder} instance.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code fieldInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+		 * 
+		 * @param fieldInfo the {@link FieldInfo} instance to add
+		 * @return the {@code Builder} instance itself
+		 * @throws NullPointerException thrown if, and only if, {@code fieldInfo} is {@code null}
+		 */
+		public Builder addFieldInfo(final FieldInfo fieldInfo) {
+			this.fieldInfos.add(Objects.requireNonNull(fieldInfo, "fieldInfo == null"));
+			
+			return this;
+		}
+		
+		/**
+		 * Adds an interface index to this {@code Builder} instance.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code index} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+		 * 
+		 * @param index the interface index to add
+		 * @return the {@code Builder} instance itself
+		 * @throws IllegalArgumentException thrown if, and only if, {@code index} is less than {@code 1}
+		 */
+		public Builder addInterface(final int index) {
+			this.interfaces.add(Integer.valueOf(ParameterArguments.requireRange(index, 1, Integer.MAX_VALUE)));
+			
+			return this;
+		}
+		
+		/**
+		 * Adds {@code methodInfo} to this {@code Builder} instance.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code methodInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+		 * 
+		 * @param methodInfo the {@link MethodInfo} instance to add
+		 * @return the {@code Builder} instance itself
+		 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
+		 */
+		public Builder addMethodInfo(final MethodInfo methodInfo) {
+			this.methodInfos.add(Objects.requireNonNull(methodInfo, "methodInfo == null"));
+			
+			return this;
+		}
+		
+		/**
+		 * Sets the value of the {@code access_flags} item.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code accessFlags} is less than {@code 0} or greater than {@code 65535}, an {@code IllegalArgumentException} will be thrown.
+		 * 
+		 * @param accessFlags the value of the {@code access_flags} item
+		 * @return the {@code Builder} instance itself
+		 * @throws IllegalArgumentException thrown if, and only if, {@code accessFlags} is less than {@code 0} or greater than {@code 65535}
+		 */
+		public Builder setAccessFlags(final int accessFlags) {
+			this.accessFlags = ParameterArguments.requireRange(accessFlags, 0, 0xFFFF);
+			
+			return this;
+		}
+		
+		/**
+		 * Sets the value of the {@code major_version} item.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code majorVersion} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+		 * 
+		 * @param majorVersion the value of the {@code major_version} item
+		 * @return the {@code Builder} instance itself
+		 * @throws IllegalArgumentException thrown if, and only if, {@code majorVersion} is less than {@code 0}
+		 */
+		public Builder setMajorVersion(final int majorVersion) {
+			this.majorVersion = ParameterArguments.requireRange(majorVersion, 0, Integer.MAX_VALUE);
+			
+			return this;
+		}
+		
+		/**
+		 * Sets the value of the {@code minor_version} item.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code minorVersion} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+		 * 
+		 * @param minorVersion the value of the {@code minor_version} item
+		 * @return the {@code Builder} instance itself
+		 * @throws IllegalArgumentException thrown if, and only if, {@code minorVersion} is less than {@code 0}
+		 */
+		public Builder setMinorVersion(final int minorVersion) {
+			this.minorVersion = ParameterArguments.requireRange(minorVersion, 0, Integer.MAX_VALUE);
+			
+			return this;
+		}
+		
+		/**
+		 * Sets the value of the {@code super_class} item.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code superClass} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+		 * 
+		 * @param superClass the value of the {@code super_class} item
+		 * @return the {@code Builder} instance itself
+		 * @throws IllegalArgumentException thrown if, and only if, {@code superClass} is less than {@code 0}
+		 */
+		public Builder setSuperClass(final int superClass) {
+			this.superClass = ParameterArguments.requireRange(superClass, 0, Integer.MAX_VALUE);
+			
+			return this;
+		}
+		
+		/**
+		 * Sets the value of the {@code this_class} item.
+		 * <p>
+		 * Returns the {@code Builder} instance itself.
+		 * <p>
+		 * If {@code thisClass} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+		 * 
+		 * @param thisClass the value of the {@code this_class} item
+		 * @return the {@code Builder} instance itself
+		 * @throws IllegalArgumentException thrown if, and only if, {@code thisClass} is less than {@code 1}
+		 */
+		public Builder setThisClass(final int thisClass) {
+			this.thisClass = ParameterArguments.requireRange(thisClass, 1, Integer.MAX_VALUE);
+			
+			return this;
+		}
+		
+		/**
+		 * Builds a frozen {@link ClassFile} instance.
+		 * <p>
+		 * Returns a frozen {@code ClassFile} instance.
+		 * <p>
+		 * The {@link FieldInfo} and {@link MethodInfo} instances that were added are frozen as well.
+		 * 
+		 * @return a frozen {@code ClassFile} instance
+		 */
+		public ClassFile build() {
+			return new ClassFile(this, true);
+		}
+		
+		/**
+		 * Builds a mutable {@link ClassFile} instance.
+		 * <p>
+		 * Returns a mutable {@code ClassFile} instance.
+		 * <p>
+		 * This is cheaper than {@code build().toMutable()}, because nothing is copied deeply. The {@link CPInfo}, {@link FieldInfo}, {@link MethodInfo} and {@link AttributeInfo} instances that were added are shared with the returned
+		 * {@code ClassFile} instance, so this {@code Builder} should not be used to build another {@code ClassFile} instance afterwards.
+		 * 
+		 * @return a mutable {@code ClassFile} instance
+		 */
+		public ClassFile buildMutable() {
+			return new ClassFile(this, false);
+		}
+		
+		/**
+		 * Returns an unmodifiable view of the {@link CPInfo} instances that have been added so far.
+		 * <p>
+		 * The returned {@code List} is not copied. It reflects later calls to {@link #addCPInfo(CPInfo)}.
+		 * 
+		 * @return an unmodifiable view of the {@code CPInfo} instances that have been added so far
+		 */
+		public List<CPInfo> getCPInfos() {
+			return Collections.unmodifiableList(this.cPInfos);
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		/**
+		 * Returns a new {@code Builder} instance.
+		 * <p>
+		 * The initial values are the same as for a {@link ClassFile} instance that is constructed using {@link ClassFile#ClassFile()}.
+		 * 
+		 * @return a new {@code Builder} instance
+		 */
+		public static Builder newInstance() {
+			return new Builder();
+		}
+	}
 }
\ No newline at end of file
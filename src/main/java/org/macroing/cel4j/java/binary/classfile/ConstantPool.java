@@ -0,0 +1,366 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFieldRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInterfaceMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantNameAndTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantStringInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+
+/**
+ * A {@code ConstantPool} is a view of the {@code constant_pool} table item of a {@link ClassFile} instance with a reverse index from {@link CPInfo} instances to their indices.
+ * <p>
+ * A {@code ConstantPool} instance can be retrieved by calling {@link ClassFile#getConstantPool()}. The {@code CPInfo} instances are stored by the {@code ClassFile} instance itself, so any change made through one of them is visible through the other.
+ * <p>
+ * This class is thread-safe as long as the {@code ClassFile} instance is not modified concurrently.
+ * <p>
+ * The reverse index is a hash map that is built lazily. {@code CPInfo} instances that are added to the {@code ClassFile} instance are indexed incrementally. Removing or replacing a {@code CPInfo} instance discards the index, so it will be rebuilt
+ * the next time it is needed. The index maps each distinct {@code CPInfo} instance to its lowest index, which is the index that {@link ClassFile#indexOf(CPInfo)} has always returned.
+ * <p>
+ * The {@code find-or-add} methods, such as {@link #utf8(String)}, {@link #classRef(String)} and {@link #methodRef(String, String, String)}, return the index of an existing {@code CPInfo} instance that is equal to the requested one, or add a new
+ * one. Adding many entries is therefore linear in the number of entries, rather than quadratic.
+ * <p>
+ * The {@code CPInfo} instances are mutable, but a {@code ConstantPool} instance is not notified when one of them is modified. A {@code CPInfo} instance does not refer back to the {@code ConstantPool} instances that contain it, so it can be
+ * shared by several {@code ClassFile} instances. After a {@code CPInfo} instance in this {@code ConstantPool} instance has been modified directly, call {@link #reindex()}. Until then, {@link #indexOf(CPInfo)} will not return the index of an
+ * entry for its old value, but it may not find the entry for its new value either.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ConstantPool constantPool = classFile.getConstantPool();
+ * 
+ * int methodRefIndex = constantPool.methodRef("java/io/PrintStream", "println", "(Ljava/lang/String;)V");
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ConstantPool {
+	private final ClassFile classFile;
+	private final List<CPInfo> cPInfos;
+	private final Map<CPInfo, Integer> indices;
+	private int indexedCount;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	ConstantPool(final ClassFile classFile, final List<CPInfo> cPInfos) {
+		this.classFile = Objects.requireNonNull(classFile, "classFile == null");
+		this.cPInfos = Objects.requireNonNull(cPInfos, "cPInfos == null");
+		this.indices = new HashMap<>();
+		this.indexedCount = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the {@link CPInfo} instance on the index {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #size()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the {@code CPInfo}
+	 * @return the {@code CPInfo} instance on the index {@code index}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code size()}
+	 */
+	public CPInfo getCPInfo(final int index) {
+		return this.cPInfos.get(index);
+	}
+	
+	/**
+	 * Returns the {@link ClassFile} instance associated with this {@code ConstantPool} instance.
+	 * 
+	 * @return the {@code ClassFile} instance associated with this {@code ConstantPool} instance
+	 */
+	public ClassFile getClassFile() {
+		return this.classFile;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, {@code cPInfo} is present in this {@code ConstantPool} instance, {@code false} otherwise.
+	 * <p>
+	 * If {@code cPInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param cPInfo a {@link CPInfo} instance
+	 * @return {@code true} if, and only if, {@code cPInfo} is present in this {@code ConstantPool} instance, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
+	 */
+	public boolean contains(final CPInfo cPInfo) {
+		return indexOf(cPInfo) != -1;
+	}
+	
+	/**
+	 * Returns the index of the {@code CONSTANT_Class_info} structure with the name {@code name}.
+	 * <p>
+	 * If no such structure exists, it will be added, together with the {@code CONSTANT_Utf8_info} structure for {@code name}, if absent.
+	 * <p>
+	 * If {@code name} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a structure has to be added and the {@link ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param name the internal name of the class, such as {@code "java/lang/Object"}
+	 * @return the index of the {@code CONSTANT_Class_info} structure with the name {@code name}
+	 * @throws NullPointerException thrown if, and only if, {@code name} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, a structure has to be added and the {@code ClassFile} instance is frozen
+	 */
+	public int classRef(final String name) {
+		return findOrAdd(new ConstantClassInfo(utf8(name)));
+	}
+	
+	/**
+	 * Returns the index of the {@code CONSTANT_Fieldref_info} structure with the owner {@code owner}, the name {@code name} and the descriptor {@code descriptor}.
+	 * <p>
+	 * If no such structure exists, it will be added, together with any of the structures it refers to that are absent.
+	 * <p>
+	 * If either {@code owner}, {@code name} or {@code descriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a structure has to be added and the {@link ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param owner the internal name of the class that declares the field
+	 * @param name the name of the field
+	 * @param descriptor the descriptor of the field
+	 * @return the index of the {@code CONSTANT_Fieldref_info} structure with the owner {@code owner}, the name {@code name} and the descriptor {@code descriptor}
+	 * @throws NullPointerException thrown if, and only if, either {@code owner}, {@code name} or {@code descriptor} are {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, a structure has to be added and the {@code ClassFile} instance is frozen
+	 */
+	public int fieldRef(final String owner, final String name, final String descriptor) {
+		return findOrAdd(new ConstantFieldRefInfo(classRef(owner), nameAndType(name, descriptor)));
+	}
+	
+	/**
+	 * Returns the index of a {@link CPInfo} instance that is equal to {@code cPInfo}.
+	 * <p>
+	 * If no such {@code CPInfo} instance exists, {@code cPInfo} will be added and its index returned. Any indices that {@code cPInfo} refers to must already be valid.
+	 * <p>
+	 * If {@code cPInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code cPInfo} is an instance of {@link ConstantUnreachableInfo}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code cPInfo} has to be added and the {@link ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param cPInfo a {@code CPInfo} instance
+	 * @return the index of a {@code CPInfo} instance that is equal to {@code cPInfo}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code cPInfo} is an instance of {@code ConstantUnreachableInfo}
+	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, {@code cPInfo} has to be added and the {@code ClassFile} instance is frozen
+	 */
+	public int findOrAdd(final CPInfo cPInfo) {
+		if(cPInfo instanceof ConstantUnreachableInfo) {
+			throw new IllegalArgumentException("A ConstantUnreachableInfo cannot be added explicitly.");
+		}
+		
+		synchronized(this) {
+			final int index = indexOf(cPInfo);
+			
+			if(index != -1) {
+				return index;
+			}
+			
+			final int newIndex = this.cPInfos.size();
+			
+			this.classFile.addCPInfo(cPInfo);
+			
+			return newIndex;
+		}
+	}
+	
+	/**
+	 * Returns the index of {@code cPInfo} in this {@code ConstantPool} instance, or {@code -1} if it is an instance of {@link ConstantUnreachableInfo} or it does not exist.
+	 * <p>
+	 * If {@code cPInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param cPInfo the {@link CPInfo} to get the index of
+	 * @return the index of {@code cPInfo} in this {@code ConstantPool} instance, or {@code -1} if it is an instance of {@code ConstantUnreachableInfo} or it does not exist
+	 * @throws NullPointerException thrown if, and only if, {@code cPInfo} is {@code null}
+	 */
+	public int indexOf(final CPInfo cPInfo) {
+		Objects.requireNonNull(cPInfo, "cPInfo == null");
+		
+		if(cPInfo instanceof ConstantUnreachableInfo) {
+			return -1;
+		}
+		
+		synchronized(this) {
+			doUpdate();
+			
+			final Integer index = this.indices.get(cPInfo);
+			
+			if(index == null) {
+				return -1;
+			}
+			
+			if(this.cPInfos.get(index.intValue()).equals(cPInfo)) {
+				return index.intValue();
+			}
+			
+			reindex();
+			doUpdate();
+			
+			final Integer newIndex = this.indices.get(cPInfo);
+			
+			return newIndex != null ? newIndex.intValue() : -1;
+		}
+	}
+	
+	/**
+	 * Returns the index of the {@code CONSTANT_InterfaceMethodref_info} structure with the owner {@code owner}, the name {@code name} and the descriptor {@code descriptor}.
+	 * <p>
+	 * If no such structure exists, it will be added, together with any of the structures it refers to that are absent.
+	 * <p>
+	 * If either {@code owner}, {@code name} or {@code descriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a structure has to be added and the {@link ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param owner the internal name of the interface that declares the method
+	 * @param name the name of the method
+	 * @param descriptor the descriptor of the method
+	 * @return the index of the {@code CONSTANT_InterfaceMethodref_info} structure with the owner {@code owner}, the name {@code name} and the descriptor {@code descriptor}
+	 * @throws NullPointerException thrown if, and only if, either {@code owner}, {@code name} or {@code descriptor} are {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, a structure has to be added and the {@code ClassFile} instance is frozen
+	 */
+	public int interfaceMethodRef(final String owner, final String name, final String descriptor) {
+		return findOrAdd(new ConstantInterfaceMethodRefInfo(classRef(owner), nameAndType(name, descriptor)));
+	}
+	
+	/**
+	 * Returns the index of the {@code CONSTANT_Methodref_info} structure with the owner {@code owner}, the name {@code name} and the descriptor {@code descriptor}.
+	 * <p>
+	 * If no such structure exists, it will be added, together with any of the structures it refers to that are absent.
+	 * <p>
+	 * If either {@code owner}, {@code name} or {@code descriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a structure has to be added and the {@link ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param owner the internal name of the class that declares the method
+	 * @param name the name of the method
+	 * @param descriptor the descriptor of the method
+	 * @return the index of the {@code CONSTANT_Methodref_info} structure with the owner {@code owner}, the name {@code name} and the descriptor {@code descriptor}
+	 * @throws NullPointerException thrown if, and only if, either {@code owner}, {@code name} or {@code descriptor} are {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, a structure has to be added and the {@code ClassFile} instance is frozen
+	 */
+	public int methodRef(final String owner, final String name, final String descriptor) {
+		return findOrAdd(new ConstantMethodRefInfo(classRef(owner), nameAndType(name, descriptor)));
+	}
+	
+	/**
+	 * Returns the index of the {@code CONSTANT_NameAndType_info} structure with the name {@code name} and the descriptor {@code descriptor}.
+	 * <p>
+	 * If no such structure exists, it will be added, together with the {@code CONSTANT_Utf8_info} structures for {@code name} and {@code descriptor}, if absent.
+	 * <p>
+	 * If either {@code name} or {@code descriptor} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a structure has to be added and the {@link ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param name the name
+	 * @param descriptor the descriptor
+	 * @return the index of the {@code CONSTANT_NameAndType_info} structure with the name {@code name} and the descriptor {@code descriptor}
+	 * @throws NullPointerException thrown if, and only if, either {@code name} or {@code descriptor} are {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, a structure has to be added and the {@code ClassFile} instance is frozen
+	 */
+	public int nameAndType(final String name, final String descriptor) {
+		return findOrAdd(new ConstantNameAndTypeInfo(utf8(name), utf8(descriptor)));
+	}
+	
+	/**
+	 * Returns the number of entries in this {@code ConstantPool} instance.
+	 * <p>
+	 * This is the value of the {@code constant_pool_count} item. It includes the entry at index {@code 0} and the second entry occupied by {@code CONSTANT_Long_info} and {@code CONSTANT_Double_info} structures.
+	 * 
+	 * @return the number of entries in this {@code ConstantPool} instance
+	 */
+	public int size() {
+		return this.cPInfos.size();
+	}
+	
+	/**
+	 * Returns the index of the {@code CONSTANT_String_info} structure with the value {@code string}.
+	 * <p>
+	 * If no such structure exists, it will be added, together with the {@code CONSTANT_Utf8_info} structure for {@code string}, if absent.
+	 * <p>
+	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a structure has to be added and the {@link ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param string the value of the string
+	 * @return the index of the {@code CONSTANT_String_info} structure with the value {@code string}
+	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, a structure has to be added and the {@code ClassFile} instance is frozen
+	 */
+	public int string(final String string) {
+		return findOrAdd(new ConstantStringInfo(utf8(string)));
+	}
+	
+	/**
+	 * Returns the index of the {@code CONSTANT_Utf8_info} structure with the value {@code string}.
+	 * <p>
+	 * If no such structure exists, it will be added.
+	 * <p>
+	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a structure has to be added and the {@link ClassFile} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
+	 * 
+	 * @param string the value of the string
+	 * @return the index of the {@code CONSTANT_Utf8_info} structure with the value {@code string}
+	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, a structure has to be added and the {@code ClassFile} instance is frozen
+	 */
+	public int utf8(final String string) {
+		return findOrAdd(new ConstantUTF8Info(Objects.requireNonNull(string, "string == null")));
+	}
+	
+	/**
+	 * Discards the reverse index of this {@code ConstantPool} instance.
+	 * <p>
+	 * The reverse index will be rebuilt the next time it is needed. This method must be called if a {@link CPInfo} instance in this {@code ConstantPool} instance has been modified directly, for instance by
+	 * calling one of its setters.
+	 */
+	public void reindex() {
+		synchronized(this) {
+			this.indices.clear();
+			this.indexedCount = 0;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doUpdate() {
+		final List<CPInfo> cPInfos = this.cPInfos;
+		
+		if(this.indexedCount > cPInfos.size()) {
+			reindex();
+		}
+		
+		for(int index = Math.max(this.indexedCount, 1); index < cPInfos.size(); index++) {
+			final CPInfo cPInfo = cPInfos.get(index);
+			
+			if(!(cPInfo instanceof ConstantUnreachableInfo)) {
+				this.indices.putIfAbsent(cPInfo, Integer.valueOf(index));
+			}
+		}
+		
+		this.indexedCount = cPInfos.size();
+	}
+}
\ No newline at end of file
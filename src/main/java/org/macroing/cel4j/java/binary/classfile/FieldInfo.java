@@ -22,10 +22,11 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LazyAttribute;
 import org.macroing.cel4j.node.Node;
 import org.macroing.cel4j.node.NodeFilter;
 import org.macroing.cel4j.node.NodeHierarchicalVisitor;
@@ -37,7 +38,10 @@ import org.macroing.cel4j.util.ParameterArguments;
 /**
  * A {@code FieldInfo} represents a {@code field_info} structure as defined by the Java Virtual Machine Specifications.
  * <p>
- * This class is mutable and not thread-safe.
+ * This class is either mutable and not thread-safe, or frozen.
+ * <p>
+ * A {@code FieldInfo} instance that is constructed using one of its constructors is mutable. A {@code FieldInfo} instance that belongs to a frozen {@link ClassFile} instance is frozen and cannot be modified. To modify a frozen
+ * {@code FieldInfo} instance, call {@link #toMutable()} and modify the returned copy.
  * <p>
  * The {@code field_info} structure has the following format:
  * <pre>
@@ -103,7 +107,9 @@ public final class FieldInfo implements Documentable, Node {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	private final CopyOnWriteArrayList<AttributeInfo> attributeInfos;
+	private final List<AttributeInfo> attributeInfos;
+	private final List<AttributeInfo> attributeInfosView;
+	private final boolean isFrozen;
 	private int accessFlags;
 	private int descriptorIndex;
 	private int nameIndex;
@@ -114,7 +120,9 @@ public final class FieldInfo implements Documentable, Node {
 	 * Constructs a new {@code FieldInfo} instance.
 	 */
 	public FieldInfo() {
-		this.attributeInfos = new CopyOnWriteArrayList<>();
+		this.attributeInfos = new ArrayList<>();
+		this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
+		this.isFrozen = false;
 		this.accessFlags = 0;
 		this.descriptorIndex = 2;
 		this.nameIndex = 1;
@@ -123,13 +131,26 @@ public final class FieldInfo implements Documentable, Node {
 	/**
 	 * Constructs a new {@code FieldInfo} instance that is a copy of {@code fieldInfo}.
 	 * <p>
+	 * The copy is always mutable, even if {@code fieldInfo} is frozen.
+	 * <p>
 	 * If {@code fieldInfo} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
 	 * @param fieldInfo the {@code FieldInfo} instance to copy
 	 * @throws NullPointerException thrown if, and only if, {@code fieldInfo} is {@code null}
 	 */
 	public FieldInfo(final FieldInfo fieldInfo) {
-		this.attributeInfos = fieldInfo.attributeInfos.stream().map(attributeInfo -> attributeInfo.copy()).collect(CopyOnWriteArrayList::new, CopyOnWriteArrayList::add, CopyOnWriteArrayList::addAll);
+		this.attributeInfos = fieldInfo.attributeInfos.stream().map(attributeInfo -> attributeInfo.copy()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
+		this.isFrozen = false;
+		this.accessFlags = fieldInfo.accessFlags;
+		this.descriptorIndex = fieldInfo.descriptorIndex;
+		this.nameIndex = fieldInfo.nameIndex;
+	}
+	
+	private FieldInfo(final FieldInfo fieldInfo, final boolean isFrozen) {
+		this.attributeInfos = Collections.unmodifiableList(new ArrayList<>(fieldInfo.attributeInfos));
+		this.attributeInfosView = this.attributeInfos;
+		this.isFrozen = isFrozen;
 		this.accessFlags = fieldInfo.accessFlags;
 		this.descriptorIndex = fieldInfo.descriptorIndex;
 		this.nameIndex = fieldInfo.nameIndex;
@@ -264,6 +285,17 @@ public final class FieldInfo implements Documentable, Node {
 		return new FieldInfo(this);
 	}
 	
+	/**
+	 * Returns a mutable {@code FieldInfo} instance with the same content as this {@code FieldInfo} instance.
+	 * <p>
+	 * If this {@code FieldInfo} instance is mutable, it will be returned. Otherwise a mutable copy will be returned.
+	 * 
+	 * @return a mutable {@code FieldInfo} instance with the same content as this {@code FieldInfo} instance
+	 */
+	public FieldInfo toMutable() {
+		return this.isFrozen ? new FieldInfo(this) : this;
+	}
+	
 	/**
 	 * Returns a {@code List} with all currently added {@link AttributeInfo} instances.
 	 * <p>
@@ -275,6 +307,19 @@ public final class FieldInfo implements Documentable, Node {
 		return new ArrayList<>(this.attributeInfos);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link AttributeInfo} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code FieldInfo} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getAttributeInfos()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code AttributeInfo} instances
+	 */
+	public List<AttributeInfo> getAttributeInfosView() {
+		return this.attributeInfosView;
+	}
+	
 	/**
 	 * Returns a {@code String} representation of this {@code FieldInfo} instance.
 	 * 
@@ -331,13 +376,18 @@ public final class FieldInfo implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code attributeInfo} was added, {@code false} otherwise.
 	 * <p>
 	 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param attributeInfo the {@link AttributeInfo} to add
 	 * @return {@code true} if, and only if, {@code attributeInfo} was added, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public boolean addAttributeInfo(final AttributeInfo attributeInfo) {
-		return this.attributeInfos.addIfAbsent(Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
+		doRequireMutable();
+		
+		return !this.attributeInfos.contains(Objects.requireNonNull(attributeInfo, "attributeInfo == null")) && this.attributeInfos.add(attributeInfo);
 	}
 	
 	/**
@@ -352,7 +402,7 @@ public final class FieldInfo implements Documentable, Node {
 	public boolean containsAttributeInfo(final AttributeInfo attributeInfo) {
 		Objects.requireNonNull(attributeInfo, "attributeInfo == null");
 		
-		for(final AttributeInfo currentAttributeInfo : getAttributeInfos()) {
+		for(final AttributeInfo currentAttributeInfo : this.attributeInfos) {
 			if(currentAttributeInfo.equals(attributeInfo)) {
 				return true;
 			}
@@ -381,7 +431,7 @@ public final class FieldInfo implements Documentable, Node {
 			return false;
 		} else if(getDescriptorIndex() != FieldInfo.class.cast(object).getDescriptorIndex()) {
 			return false;
-		} else if(!Objects.equals(this.attributeInfos, FieldInfo.class.cast(object).attributeInfos)) {
+		} else if(!Objects.equals(LazyAttribute.unwrap(this.attributeInfos), LazyAttribute.unwrap(FieldInfo.class.cast(object).attributeInfos))) {
 			return false;
 		} else {
 			return true;
@@ -419,6 +469,17 @@ public final class FieldInfo implements Documentable, Node {
 		return (this.accessFlags & ACC_FINAL) != 0;
 	}
 	
+	/**
+	 * Returns {@code true} if, and only if, this {@code FieldInfo} instance is frozen, {@code false} otherwise.
+	 * <p>
+	 * A frozen {@code FieldInfo} instance cannot be modified. Call {@link #toMutable()} to get a mutable copy.
+	 * 
+	 * @return {@code true} if, and only if, this {@code FieldInfo} instance is frozen, {@code false} otherwise
+	 */
+	public boolean isFrozen() {
+		return this.isFrozen;
+	}
+	
 	/**
 	 * Returns {@code true} if, and only if, this {@code FieldInfo} instance may be used in an interface, {@code false} otherwise.
 	 * <p>
@@ -512,12 +573,17 @@ public final class FieldInfo implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code attributeInfo} was removed, {@code false} otherwise.
 	 * <p>
 	 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param attributeInfo the {@link AttributeInfo} to remove
 	 * @return {@code true} if, and only if, {@code attributeInfo} was removed, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public boolean removeAttributeInfo(final AttributeInfo attributeInfo) {
+		doRequireMutable();
+		
 		return this.attributeInfos.remove(Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
 	}
 	
@@ -564,27 +630,37 @@ public final class FieldInfo implements Documentable, Node {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(Integer.valueOf(getAccessFlags()), Integer.valueOf(getNameIndex()), Integer.valueOf(getDescriptorIndex()), this.attributeInfos);
+		return Objects.hash(Integer.valueOf(getAccessFlags()), Integer.valueOf(getNameIndex()), Integer.valueOf(getDescriptorIndex()), LazyAttribute.unwrap(this.attributeInfos));
 	}
 	
 	/**
 	 * Sets {@code descriptorIndex} as the value for the {@code descriptor_index} item associated with this {@code FieldInfo} instance.
 	 * <p>
 	 * If {@code descriptorIndex} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param descriptorIndex the value for the {@code descriptor_index} item associated with this {@code FieldInfo} instance
 	 * @throws IllegalArgumentException thrown if, and only if, {@code descriptorIndex} is less than {@code 1}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setDescriptorIndex(final int descriptorIndex) {
+		doRequireMutable();
+		
 		this.descriptorIndex = ParameterArguments.requireRange(descriptorIndex, 1, Integer.MAX_VALUE);
 	}
 	
 	/**
 	 * Adds or removes the access flag {@code ACC_ENUM}.
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isEnum {@code true} if, and only if, the access flag {@code ACC_ENUM} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setEnum(final boolean isEnum) {
+		doRequireMutable();
+		
 		if(isEnum) {
 			this.accessFlags |= ACC_ENUM;
 		} else {
@@ -599,10 +675,15 @@ public final class FieldInfo implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_VOLATILE}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isFinal {@code true} if, and only if, the access flag {@code ACC_FINAL} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setFinal(final boolean isFinal) {
+		doRequireMutable();
+		
 		if(isFinal) {
 			this.accessFlags |= ACC_FINAL;
 			this.accessFlags &= ~ACC_VOLATILE;
@@ -615,11 +696,16 @@ public final class FieldInfo implements Documentable, Node {
 	 * Sets {@code nameIndex} as the value for the {@code name_index} item associated with this {@code FieldInfo} instance.
 	 * <p>
 	 * If {@code nameIndex} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param nameIndex the value for the {@code name_index} item associated with this {@code FieldInfo} instance
 	 * @throws IllegalArgumentException thrown if, and only if, {@code nameIndex} is less than {@code 1}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setNameIndex(final int nameIndex) {
+		doRequireMutable();
+		
 		this.nameIndex = ParameterArguments.requireRange(nameIndex, 1, Integer.MAX_VALUE);
 	}
 	
@@ -631,10 +717,15 @@ public final class FieldInfo implements Documentable, Node {
 	 * <li>{@code ACC_PROTECTED}</li>
 	 * <li>{@code ACC_PUBLIC}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isPrivate {@code true} if, and only if, the access flag {@code ACC_PRIVATE} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setPrivate(final boolean isPrivate) {
+		doRequireMutable();
+		
 		if(isPrivate) {
 			this.accessFlags |= ACC_PRIVATE;
 			this.accessFlags &= ~ACC_PROTECTED;
@@ -652,10 +743,15 @@ public final class FieldInfo implements Documentable, Node {
 	 * <li>{@code ACC_PRIVATE}</li>
 	 * <li>{@code ACC_PUBLIC}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isProtected {@code true} if, and only if, the access flag {@code ACC_PROTECTED} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setProtected(final boolean isProtected) {
+		doRequireMutable();
+		
 		if(isProtected) {
 			this.accessFlags &= ~ACC_PRIVATE;
 			this.accessFlags |= ACC_PROTECTED;
@@ -673,10 +769,15 @@ public final class FieldInfo implements Documentable, Node {
 	 * <li>{@code ACC_PRIVATE}</li>
 	 * <li>{@code ACC_PROTECTED}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isPublic {@code true} if, and only if, the access flag {@code ACC_PUBLIC} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setPublic(final boolean isPublic) {
+		doRequireMutable();
+		
 		if(isPublic) {
 			this.accessFlags &= ~ACC_PRIVATE;
 			this.accessFlags &= ~ACC_PROTECTED;
@@ -688,10 +789,15 @@ public final class FieldInfo implements Documentable, Node {
 	
 	/**
 	 * Adds or removes the access flag {@code ACC_STATIC}.
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isStatic {@code true} if, and only if, the access flag {@code ACC_STATIC} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setStatic(final boolean isStatic) {
+		doRequireMutable();
+		
 		if(isStatic) {
 			this.accessFlags |= ACC_STATIC;
 		} else {
@@ -701,10 +807,15 @@ public final class FieldInfo implements Documentable, Node {
 	
 	/**
 	 * Adds or removes the access flag {@code ACC_SYNTHETIC}.
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isSynthetic {@code true} if, and only if, the access flag {@code ACC_SYNTHETIC} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setSynthetic(final boolean isSynthetic) {
+		doRequireMutable();
+		
 		if(isSynthetic) {
 			this.accessFlags |= ACC_SYNTHETIC;
 		} else {
@@ -714,10 +825,15 @@ public final class FieldInfo implements Documentable, Node {
 	
 	/**
 	 * Adds or removes the access flag {@code ACC_TRANSIENT}.
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isTransient {@code true} if, and only if, the access flag {@code ACC_TRANSIENT} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setTransient(final boolean isTransient) {
+		doRequireMutable();
+		
 		if(isTransient) {
 			this.accessFlags |= ACC_TRANSIENT;
 		} else {
@@ -732,10 +848,15 @@ public final class FieldInfo implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_FINAL}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code FieldInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isVolatile {@code true} if, and only if, the access flag {@code ACC_VOLATILE} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code FieldInfo} instance is frozen
 	 */
 	public void setVolatile(final boolean isVolatile) {
+		doRequireMutable();
+		
 		if(isVolatile) {
 			this.accessFlags  &= ~ACC_FINAL;
 			this.accessFlags |= ACC_VOLATILE;
@@ -746,6 +867,20 @@ public final class FieldInfo implements Documentable, Node {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	FieldInfo freeze() {
+		return this.isFrozen ? this : new FieldInfo(this, true);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doRequireMutable() {
+		if(this.isFrozen) {
+			throw new UnsupportedOperationException("This FieldInfo is frozen. Call toMutable() to get a mutable copy.");
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
 	/**
 	 * Returns a {@code List} with all {@code FieldInfo} instances in {@code node}.
 	 * <p>
@@ -22,10 +22,11 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
 
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LazyAttribute;
 import org.macroing.cel4j.node.Node;
 import org.macroing.cel4j.node.NodeFilter;
 import org.macroing.cel4j.node.NodeHierarchicalVisitor;
@@ -37,7 +38,10 @@ import org.macroing.cel4j.util.ParameterArguments;
 /**
  * A {@code MethodInfo} represents a {@code method_info} structure as defined by the Java Virtual Machine Specifications.
  * <p>
- * This class is mutable and not thread-safe.
+ * This class is either mutable and not thread-safe, or frozen.
+ * <p>
+ * A {@code MethodInfo} instance that is constructed using one of its constructors is mutable. A {@code MethodInfo} instance that belongs to a frozen {@link ClassFile} instance is frozen and cannot be modified. To modify a frozen
+ * {@code MethodInfo} instance, call {@link #toMutable()} and modify the returned copy.
  * <p>
  * The {@code method_info} structure has the following format:
  * <pre>
@@ -118,7 +122,9 @@ public final class MethodInfo implements Documentable, Node {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	private final CopyOnWriteArrayList<AttributeInfo> attributeInfos;
+	private final List<AttributeInfo> attributeInfos;
+	private final List<AttributeInfo> attributeInfosView;
+	private final boolean isFrozen;
 	private int accessFlags;
 	private int descriptorIndex;
 	private int nameIndex;
@@ -129,7 +135,9 @@ public final class MethodInfo implements Documentable, Node {
 	 * Constructs a new {@code MethodInfo} instance.
 	 */
 	public MethodInfo() {
-		this.attributeInfos = new CopyOnWriteArrayList<>();
+		this.attributeInfos = new ArrayList<>();
+		this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
+		this.isFrozen = false;
 		this.accessFlags = 0;
 		this.descriptorIndex = 2;
 		this.nameIndex = 1;
@@ -138,13 +146,26 @@ public final class MethodInfo implements Documentable, Node {
 	/**
 	 * Constructs a new {@code MethodInfo} instance that is a copy of {@code methodInfo}.
 	 * <p>
+	 * The copy is always mutable, even if {@code methodInfo} is frozen.
+	 * <p>
 	 * If {@code methodInfo} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * 
 	 * @param methodInfo the {@code MethodInfo} instance to copy
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
 	 */
 	public MethodInfo(final MethodInfo methodInfo) {
-		this.attributeInfos = methodInfo.attributeInfos.stream().map(attributeInfo -> attributeInfo.copy()).collect(CopyOnWriteArrayList::new, CopyOnWriteArrayList::add, CopyOnWriteArrayList::addAll);
+		this.attributeInfos = methodInfo.attributeInfos.stream().map(attributeInfo -> attributeInfo.copy()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
+		this.isFrozen = false;
+		this.accessFlags = methodInfo.accessFlags;
+		this.descriptorIndex = methodInfo.descriptorIndex;
+		this.nameIndex = methodInfo.nameIndex;
+	}
+	
+	private MethodInfo(final MethodInfo methodInfo, final boolean isFrozen) {
+		this.attributeInfos = Collections.unmodifiableList(new ArrayList<>(methodInfo.attributeInfos));
+		this.attributeInfosView = this.attributeInfos;
+		this.isFrozen = isFrozen;
 		this.accessFlags = methodInfo.accessFlags;
 		this.descriptorIndex = methodInfo.descriptorIndex;
 		this.nameIndex = methodInfo.nameIndex;
@@ -281,6 +302,19 @@ public final class MethodInfo implements Documentable, Node {
 		return new ArrayList<>(this.attributeInfos);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link AttributeInfo} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code MethodInfo} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getAttributeInfos()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code AttributeInfo} instances
+	 */
+	public List<AttributeInfo> getAttributeInfosView() {
+		return this.attributeInfosView;
+	}
+	
 	/**
 	 * Returns a copy of this {@code MethodInfo} instance.
 	 * 
@@ -290,6 +324,17 @@ public final class MethodInfo implements Documentable, Node {
 		return new MethodInfo(this);
 	}
 	
+	/**
+	 * Returns a mutable {@code MethodInfo} instance with the same content as this {@code MethodInfo} instance.
+	 * <p>
+	 * If this {@code MethodInfo} instance is mutable, it will be returned. Otherwise a mutable copy will be returned.
+	 * 
+	 * @return a mutable {@code MethodInfo} instance with the same content as this {@code MethodInfo} instance
+	 */
+	public MethodInfo toMutable() {
+		return this.isFrozen ? new MethodInfo(this) : this;
+	}
+	
 	/**
 	 * Returns a {@code String} representation of this {@code MethodInfo} instance.
 	 * 
@@ -346,13 +391,18 @@ public final class MethodInfo implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code attributeInfo} was added, {@code false} otherwise.
 	 * <p>
 	 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param attributeInfo the {@link AttributeInfo} to add
 	 * @return {@code true} if, and only if, {@code attributeInfo} was added, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public boolean addAttributeInfo(final AttributeInfo attributeInfo) {
-		return this.attributeInfos.addIfAbsent(Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
+		doRequireMutable();
+		
+		return !this.attributeInfos.contains(Objects.requireNonNull(attributeInfo, "attributeInfo == null")) && this.attributeInfos.add(attributeInfo);
 	}
 	
 	/**
@@ -367,7 +417,7 @@ public final class MethodInfo implements Documentable, Node {
 	public boolean containsAttributeInfo(final AttributeInfo attributeInfo) {
 		Objects.requireNonNull(attributeInfo, "attributeInfo == null");
 		
-		for(final AttributeInfo currentAttributeInfo : getAttributeInfos()) {
+		for(final AttributeInfo currentAttributeInfo : this.attributeInfos) {
 			if(currentAttributeInfo.equals(attributeInfo)) {
 				return true;
 			}
@@ -396,7 +446,7 @@ public final class MethodInfo implements Documentable, Node {
 			return false;
 		} else if(getDescriptorIndex() != MethodInfo.class.cast(object).getDescriptorIndex()) {
 			return false;
-		} else if(!Objects.equals(this.attributeInfos, MethodInfo.class.cast(object).attributeInfos)) {
+		} else if(!Objects.equals(LazyAttribute.unwrap(this.attributeInfos), LazyAttribute.unwrap(MethodInfo.class.cast(object).attributeInfos))) {
 			return false;
 		} else {
 			return true;
@@ -443,6 +493,17 @@ public final class MethodInfo implements Documentable, Node {
 		return (this.accessFlags & ACC_FINAL) != 0;
 	}
 	
+	/**
+	 * Returns {@code true} if, and only if, this {@code MethodInfo} instance is frozen, {@code false} otherwise.
+	 * <p>
+	 * A frozen {@code MethodInfo} instance cannot be modified. Call {@link #toMutable()} to get a mutable copy.
+	 * 
+	 * @return {@code true} if, and only if, this {@code MethodInfo} instance is frozen, {@code false} otherwise
+	 */
+	public boolean isFrozen() {
+		return this.isFrozen;
+	}
+	
 	/**
 	 * Returns {@code true} if, and only if, this {@code MethodInfo} instance may be used in an interface, {@code false} otherwise.
 	 * <p>
@@ -559,12 +620,17 @@ public final class MethodInfo implements Documentable, Node {
 	 * Returns {@code true} if, and only if, {@code attributeInfo} was removed, {@code false} otherwise.
 	 * <p>
 	 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param attributeInfo the {@link AttributeInfo} to remove
 	 * @return {@code true} if, and only if, {@code attributeInfo} was removed, {@code false} otherwise
 	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public boolean removeAttributeInfo(final AttributeInfo attributeInfo) {
+		doRequireMutable();
+		
 		return this.attributeInfos.remove(Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
 	}
 	
@@ -611,7 +677,7 @@ public final class MethodInfo implements Documentable, Node {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(Integer.valueOf(getAccessFlags()), Integer.valueOf(getNameIndex()), Integer.valueOf(getDescriptorIndex()), this.attributeInfos);
+		return Objects.hash(Integer.valueOf(getAccessFlags()), Integer.valueOf(getNameIndex()), Integer.valueOf(getDescriptorIndex()), LazyAttribute.unwrap(this.attributeInfos));
 	}
 	
 	/**
@@ -626,10 +692,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <li>{@code ACC_STRICT}</li>
 	 * <li>{@code ACC_SYNCHRONIZED}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isAbstract {@code true} if, and only if, the access flag {@code ACC_ABSTRACT} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setAbstract(final boolean isAbstract) {
+		doRequireMutable();
+		
 		if(isAbstract) {
 			this.accessFlags |= ACC_ABSTRACT;
 			this.accessFlags &= ~ACC_FINAL;
@@ -645,10 +716,15 @@ public final class MethodInfo implements Documentable, Node {
 	
 	/**
 	 * Adds or removes the access flag {@code ACC_BRIDGE}.
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isBridge {@code true} if, and only if, the access flag {@code ACC_BRIDGE} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setBridge(final boolean isBridge) {
+		doRequireMutable();
+		
 		if(isBridge) {
 			this.accessFlags |= ACC_BRIDGE;
 		} else {
@@ -660,11 +736,16 @@ public final class MethodInfo implements Documentable, Node {
 	 * Sets {@code descriptorIndex} as the value for the {@code descriptor_index} item associated with this {@code MethodInfo} instance.
 	 * <p>
 	 * If {@code descriptorIndex} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param descriptorIndex the value for the {@code descriptor_index} item associated with this {@code MethodInfo} instance
 	 * @throws IllegalArgumentException thrown if, and only if, {@code descriptorIndex} is less than {@code 1}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setDescriptorIndex(final int descriptorIndex) {
+		doRequireMutable();
+		
 		this.descriptorIndex = ParameterArguments.requireRange(descriptorIndex, 1, Integer.MAX_VALUE);
 	}
 	
@@ -675,10 +756,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_ABSTRACT}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isFinal {@code true} if, and only if, the access flag {@code ACC_FINAL} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setFinal(final boolean isFinal) {
+		doRequireMutable();
+		
 		if(isFinal) {
 			this.accessFlags &= ~ACC_ABSTRACT;
 			this.accessFlags |= ACC_FINAL;
@@ -691,11 +777,16 @@ public final class MethodInfo implements Documentable, Node {
 	 * Sets {@code nameIndex} as the value for the {@code name_index} item associated with this {@code MethodInfo} instance.
 	 * <p>
 	 * If {@code nameIndex} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param nameIndex the value for the {@code name_index} item associated with this {@code MethodInfo} instance
 	 * @throws IllegalArgumentException thrown if, and only if, {@code nameIndex} is less than {@code 1}
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setNameIndex(final int nameIndex) {
+		doRequireMutable();
+		
 		this.nameIndex = ParameterArguments.requireRange(nameIndex, 1, Integer.MAX_VALUE);
 	}
 	
@@ -706,10 +797,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_ABSTRACT}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isNative {@code true} if, and only if, the access flag {@code ACC_NATIVE} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setNative(final boolean isNative) {
+		doRequireMutable();
+		
 		if(isNative) {
 			this.accessFlags &= ~ACC_ABSTRACT;
 			this.accessFlags |= ACC_NATIVE;
@@ -727,10 +823,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <li>{@code ACC_PROTECTED}</li>
 	 * <li>{@code ACC_PUBLIC}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isPrivate {@code true} if, and only if, the access flag {@code ACC_PRIVATE} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setPrivate(final boolean isPrivate) {
+		doRequireMutable();
+		
 		if(isPrivate) {
 			this.accessFlags &= ~ACC_ABSTRACT;
 			this.accessFlags |= ACC_PRIVATE;
@@ -749,10 +850,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <li>{@code ACC_PRIVATE}</li>
 	 * <li>{@code ACC_PUBLIC}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isProtected {@code true} if, and only if, the access flag {@code ACC_PROTECTED} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setProtected(final boolean isProtected) {
+		doRequireMutable();
+		
 		if(isProtected) {
 			this.accessFlags &= ~ACC_PRIVATE;
 			this.accessFlags |= ACC_PROTECTED;
@@ -770,10 +876,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <li>{@code ACC_PRIVATE}</li>
 	 * <li>{@code ACC_PROTECTED}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isPublic {@code true} if, and only if, the access flag {@code ACC_PUBLIC} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setPublic(final boolean isPublic) {
+		doRequireMutable();
+		
 		if(isPublic) {
 			this.accessFlags &= ~ACC_PRIVATE;
 			this.accessFlags &= ~ACC_PROTECTED;
@@ -790,10 +901,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_ABSTRACT}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isStatic {@code true} if, and only if, the access flag {@code ACC_STATIC} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setStatic(final boolean isStatic) {
+		doRequireMutable();
+		
 		if(isStatic) {
 			this.accessFlags &= ~ACC_ABSTRACT;
 			this.accessFlags |= ACC_STATIC;
@@ -809,10 +925,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_ABSTRACT}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isStrict {@code true} if, and only if, the access flag {@code ACC_STRICT} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setStrict(final boolean isStrict) {
+		doRequireMutable();
+		
 		if(isStrict) {
 			this.accessFlags &= ~ACC_ABSTRACT;
 			this.accessFlags |= ACC_STRICT;
@@ -828,10 +949,15 @@ public final class MethodInfo implements Documentable, Node {
 	 * <ul>
 	 * <li>{@code ACC_ABSTRACT}</li>
 	 * </ul>
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isSynchronized {@code true} if, and only if, the access flag {@code ACC_SYNCHRONIZED} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setSynchronized(final boolean isSynchronized) {
+		doRequireMutable();
+		
 		if(isSynchronized) {
 			this.accessFlags &= ~ACC_ABSTRACT;
 			this.accessFlags |= ACC_SYNCHRONIZED;
@@ -842,10 +968,15 @@ public final class MethodInfo implements Documentable, Node {
 	
 	/**
 	 * Adds or removes the access flag {@code ACC_SYNTHETIC}.
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isSynthetic {@code true} if, and only if, the access flag {@code ACC_SYNTHETIC} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setSynthetic(final boolean isSynthetic) {
+		doRequireMutable();
+		
 		if(isSynthetic) {
 			this.accessFlags |= ACC_SYNTHETIC;
 		} else {
@@ -855,10 +986,15 @@ public final class MethodInfo implements Documentable, Node {
 	
 	/**
 	 * Adds or removes the access flag {@code ACC_VARARGS}.
+	 * <p>
+	 * If this {@code MethodInfo} instance is frozen, an {@code UnsupportedOperationException} will be thrown.
 	 * 
 	 * @param isVarargs {@code true} if, and only if, the access flag {@code ACC_VARARGS} should be added, {@code false} otherwise
+	 * @throws UnsupportedOperationException thrown if, and only if, this {@code MethodInfo} instance is frozen
 	 */
 	public void setVarargs(final boolean isVarargs) {
+		doRequireMutable();
+		
 		if(isVarargs) {
 			this.accessFlags |= ACC_VARARGS;
 		} else {
@@ -868,6 +1004,20 @@ public final class MethodInfo implements Documentable, Node {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	MethodInfo freeze() {
+		return this.isFrozen ? this : new MethodInfo(this, true);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doRequireMutable() {
+		if(this.isFrozen) {
+			throw new UnsupportedOperationException("This MethodInfo is frozen. Call toMutable() to get a mutable copy.");
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
 	/**
 	 * Returns a {@code List} with all {@code MethodInfo} instances in {@code node}.
 	 * <p>
@@ -18,10 +18,15 @@
  */
 package org.macroing.cel4j.java.binary.classfile.attributeinfo;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataOutput;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -56,6 +61,12 @@ import org.macroing.cel4j.util.ParameterArguments;
  * }
  * </code>
  * </pre>
+ * <p>
+ * The instructions of a {@code CodeAttribute} can be stored in two forms. When {@link #setCode(byte[])} is called, as is done when a {@code CodeAttribute} is read, the instructions are stored in a packed form. The packed form consists of the
+ * bytes of the {@code code} item and the offsets of the instructions in it. No {@link Instruction} instances are created until they are requested by {@link #getInstructions()}, {@link #getInstructionsView()}, traversal or modification, at
+ * which point the packed form is unpacked. Use {@link #getInstructionCursor()} to iterate over the instructions without unpacking them.
+ * <p>
+ * Although this class is not thread-safe, unpacking is. The instructions are decoded into a local {@code List} while holding a lock and are published once, so methods that only read may be called concurrently even if they unpack.
  * 
  * @since 1.0.0
  * @author J&#246;rgen Lundgren
@@ -69,8 +80,15 @@ public final class CodeAttribute extends AttributeInfo {
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private final List<AttributeInfo> attributeInfos;
+	private final List<AttributeInfo> attributeInfosView;
 	private final List<ExceptionHandler> exceptionHandlers;
+	private final List<ExceptionHandler> exceptionHandlersView;
 	private final List<Instruction> instructions;
+	private final List<Instruction> instructionsView;
+	private CodeOffsetIndex offsetIndex;
+	private volatile PackedCode packedCode;
+	private boolean isModified;
+	private int codeLength;
 	private int maxLocals;
 	private int maxStack;
 	
@@ -87,9 +105,18 @@ public final class CodeAttribute extends AttributeInfo {
 	public CodeAttribute(final CodeAttribute codeAttribute) {
 		super(NAME, codeAttribute.getAttributeNameIndex());
 		
+		final PackedCode packedCode = codeAttribute.packedCode;
+		
 		this.attributeInfos = codeAttribute.attributeInfos.stream().map(attributeInfo -> attributeInfo.copy()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
 		this.exceptionHandlers = codeAttribute.exceptionHandlers.stream().map(exceptionHandler -> exceptionHandler.copy()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
-		this.instructions = codeAttribute.instructions.stream().collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.exceptionHandlersView = Collections.unmodifiableList(this.exceptionHandlers);
+		this.instructions = packedCode != null ? new ArrayList<>() : codeAttribute.instructions.stream().collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.instructionsView = Collections.unmodifiableList(this.instructions);
+		this.offsetIndex = null;
+		this.packedCode = packedCode;
+		this.isModified = codeAttribute.isModified;
+		this.codeLength = codeAttribute.codeLength;
 		this.maxLocals = codeAttribute.maxLocals;
 		this.maxStack = codeAttribute.maxStack;
 	}
@@ -106,8 +133,15 @@ public final class CodeAttribute extends AttributeInfo {
 		super(NAME, attributeNameIndex);
 		
 		this.attributeInfos = new ArrayList<>();
+		this.attributeInfosView = Collections.unmodifiableList(this.attributeInfos);
 		this.exceptionHandlers = new ArrayList<>();
+		this.exceptionHandlersView = Collections.unmodifiableList(this.exceptionHandlers);
 		this.instructions = new ArrayList<>();
+		this.instructionsView = Collections.unmodifiableList(this.instructions);
+		this.offsetIndex = null;
+		this.packedCode = null;
+		this.isModified = false;
+		this.codeLength = 0;
 		this.maxLocals = 0;
 		this.maxStack = 0;
 	}
@@ -129,7 +163,7 @@ public final class CodeAttribute extends AttributeInfo {
 	public AttributeInfo getAttributeInfo(final AttributeInfo attributeInfo) {
 		Objects.requireNonNull(attributeInfo, "attributeInfo == null");
 		
-		for(final AttributeInfo currentAttributeInfo : getAttributeInfos()) {
+		for(final AttributeInfo currentAttributeInfo : this.attributeInfos) {
 			if(currentAttributeInfo.equals(attributeInfo)) {
 				return currentAttributeInfo;
 			}
@@ -161,6 +195,24 @@ public final class CodeAttribute extends AttributeInfo {
 		return new CodeAttribute(this);
 	}
 	
+	/**
+	 * Returns the {@link CodeOffsetIndex} of this {@code CodeAttribute} instance.
+	 * <p>
+	 * The {@code CodeOffsetIndex} is built the first time this method is called and cached until an {@link Instruction}, an {@link ExceptionHandler} or an {@link AttributeInfo} is added to or removed from this {@code CodeAttribute} instance,
+	 * {@link #setCode(byte[])} is called or the instructions are unpacked. If the instructions are stored in their packed form, they are not unpacked.
+	 * 
+	 * @return the {@code CodeOffsetIndex} of this {@code CodeAttribute} instance
+	 */
+	public CodeOffsetIndex getOffsetIndex() {
+		if(this.offsetIndex == null) {
+			final PackedCode packedCode = this.packedCode;
+			
+			this.offsetIndex = packedCode != null ? new CodeOffsetIndex(this, packedCode.code, packedCode.offsets) : new CodeOffsetIndex(this, null, null);
+		}
+		
+		return this.offsetIndex;
+	}
+	
 	/**
 	 * Returns a {@code List} with all currently added {@link AttributeInfo} instances.
 	 * <p>
@@ -172,6 +224,19 @@ public final class CodeAttribute extends AttributeInfo {
 		return new ArrayList<>(this.attributeInfos);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link AttributeInfo} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code CodeAttribute} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getAttributeInfos()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code AttributeInfo} instances
+	 */
+	public List<AttributeInfo> getAttributeInfosView() {
+		return this.attributeInfosView;
+	}
+	
 	/**
 	 * Returns a {@code List} with all currently added {@link ExceptionHandler} instances.
 	 * <p>
@@ -183,17 +248,70 @@ public final class CodeAttribute extends AttributeInfo {
 		return new ArrayList<>(this.exceptionHandlers);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link ExceptionHandler} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code CodeAttribute} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getExceptionHandlers()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code ExceptionHandler} instances
+	 */
+	public List<ExceptionHandler> getExceptionHandlersView() {
+		return this.exceptionHandlersView;
+	}
+	
+	/**
+	 * Returns a new {@link InstructionCursor} that iterates over the instructions of this {@code CodeAttribute} instance.
+	 * <p>
+	 * If the instructions are stored in their packed form, the returned {@code InstructionCursor} reads them directly and they are not unpacked. Otherwise they are encoded once into a new {@code code} item.
+	 * <p>
+	 * The returned {@code InstructionCursor} is not affected by later changes made to this {@code CodeAttribute} instance.
+	 * 
+	 * @return a new {@code InstructionCursor} that iterates over the instructions of this {@code CodeAttribute} instance
+	 */
+	public InstructionCursor getInstructionCursor() {
+		final PackedCode packedCode = this.packedCode;
+		
+		if(packedCode != null) {
+			return new InstructionCursor(packedCode.code, packedCode.offsets);
+		}
+		
+		final byte[] code = doEncode();
+		
+		return new InstructionCursor(code, InstructionLengths.getOffsets(ByteBuffer.wrap(code)));
+	}
+	
 	/**
 	 * Returns a {@code List} with all currently added {@link Instruction} instances.
 	 * <p>
 	 * Modifying the returned {@code List} will not affect this {@code CodeAttribute} instance.
+	 * <p>
+	 * If the instructions are stored in their packed form, they are unpacked.
 	 * 
 	 * @return a {@code List} with all currently added {@code Instruction} instances
 	 */
 	public List<Instruction> getInstructions() {
+		doUnpack();
+		
 		return new ArrayList<>(this.instructions);
 	}
 	
+	/**
+	 * Returns an unmodifiable view with all currently added {@link Instruction} instances.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code CodeAttribute} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getInstructions()} in loops that only read the {@code List}. If the instructions are stored in their packed form, they are unpacked.
+	 * 
+	 * @return an unmodifiable view with all currently added {@code Instruction} instances
+	 */
+	public List<Instruction> getInstructionsView() {
+		doUnpack();
+		
+		return this.instructionsView;
+	}
+	
 	/**
 	 * Returns a {@code String} representation of this {@code CodeAttribute} instance.
 	 * 
@@ -243,6 +361,8 @@ public final class CodeAttribute extends AttributeInfo {
 					}
 				}
 				
+				doUnpack();
+				
 				for(final Instruction instruction : this.instructions) {
 					if(!instruction.accept(nodeHierarchicalVisitor)) {
 						return nodeHierarchicalVisitor.visitLeave(this);
@@ -268,7 +388,7 @@ public final class CodeAttribute extends AttributeInfo {
 	public boolean containsAttributeInfo(final AttributeInfo attributeInfo) {
 		Objects.requireNonNull(attributeInfo, "attributeInfo == null");
 		
-		for(final AttributeInfo currentAttributeInfo : getAttributeInfos()) {
+		for(final AttributeInfo currentAttributeInfo : this.attributeInfos) {
 			if(currentAttributeInfo.equals(attributeInfo)) {
 				return true;
 			}
@@ -303,7 +423,7 @@ public final class CodeAttribute extends AttributeInfo {
 			return false;
 		} else if(CodeAttribute.class.cast(object).getCodeLength() != getCodeLength()) {
 			return false;
-		} else if(!Objects.equals(CodeAttribute.class.cast(object).instructions, this.instructions)) {
+		} else if(!Arrays.equals(CodeAttribute.class.cast(object).doGetCode(), doGetCode())) {
 			return false;
 		} else if(CodeAttribute.class.cast(object).getExceptionTableLength() != getExceptionTableLength()) {
 			return false;
@@ -311,13 +431,49 @@ public final class CodeAttribute extends AttributeInfo {
 			return false;
 		} else if(CodeAttribute.class.cast(object).getAttributeInfoCount() != getAttributeInfoCount()) {
 			return false;
-		} else if(!Objects.equals(CodeAttribute.class.cast(object).attributeInfos, this.attributeInfos)) {
+		} else if(!Objects.equals(LazyAttribute.unwrap(CodeAttribute.class.cast(object).attributeInfos), LazyAttribute.unwrap(this.attributeInfos))) {
 			return false;
 		} else {
 			return true;
 		}
 	}
 	
+	/**
+	 * Returns {@code true} if, and only if, this {@code CodeAttribute} instance has been modified, {@code false} otherwise.
+	 * <p>
+	 * A {@code CodeAttribute} instance is modified when an {@link Instruction} or an {@link ExceptionHandler} is added or removed, or when {@link #setCode(byte[])} is called. Changes made to an {@code ExceptionHandler} instance directly are
+	 * not tracked. A {@code CodeAttribute} instance that has just been read or copied from an unmodified one is not modified.
+	 * <p>
+	 * This is used by {@link org.macroing.cel4j.java.binary.analysis.FrameComputer FrameComputer} to find out which methods need their {@code max_stack}, {@code max_locals} and {@link StackMapTableAttribute} recomputed.
+	 * 
+	 * @return {@code true} if, and only if, this {@code CodeAttribute} instance has been modified, {@code false} otherwise
+	 */
+	public boolean isModified() {
+		return this.isModified;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the instructions of this {@code CodeAttribute} instance are stored in their packed form, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the instructions of this {@code CodeAttribute} instance are stored in their packed form, {@code false} otherwise
+	 */
+	public boolean isPacked() {
+		return this.packedCode != null;
+	}
+	
+	/**
+	 * Returns a copy of the values of the {@code code} item associated with this {@code CodeAttribute} instance.
+	 * <p>
+	 * If the instructions are stored in their packed form, they are not unpacked.
+	 * 
+	 * @return a copy of the values of the {@code code} item associated with this {@code CodeAttribute} instance
+	 */
+	public byte[] getCode() {
+		final PackedCode packedCode = this.packedCode;
+		
+		return packedCode != null ? packedCode.code.clone() : doEncode();
+	}
+	
 	/**
 	 * Returns the value of the {@code attributes_count} item associated with this {@code CodeAttribute} instance.
 	 * 
@@ -357,13 +513,7 @@ public final class CodeAttribute extends AttributeInfo {
 	 * @return the value of the {@code code_length} item associated with this {@code CodeAttribute} instance
 	 */
 	public int getCodeLength() {
-		int codeLength = 0;
-		
-		for(final Instruction instruction : this.instructions) {
-			codeLength += instruction.getLength();
-		}
-		
-		return codeLength;
+		return this.codeLength;
 	}
 	
 	/**
@@ -400,7 +550,7 @@ public final class CodeAttribute extends AttributeInfo {
 	 */
 	@Override
 	public int hashCode() {
-		return Objects.hash(getName(), Integer.valueOf(getAttributeNameIndex()), Integer.valueOf(getAttributeLength()), Integer.valueOf(getMaxStack()), Integer.valueOf(getMaxLocals()), Integer.valueOf(getCodeLength()), this.instructions, Integer.valueOf(getExceptionTableLength()), this.exceptionHandlers, Integer.valueOf(getAttributeInfoCount()), this.attributeInfos);
+		return Objects.hash(getName(), Integer.valueOf(getAttributeNameIndex()), Integer.valueOf(getAttributeLength()), Integer.valueOf(getMaxStack()), Integer.valueOf(getMaxLocals()), Integer.valueOf(getCodeLength()), Integer.valueOf(Arrays.hashCode(doGetCode())), Integer.valueOf(getExceptionTableLength()), this.exceptionHandlers, Integer.valueOf(getAttributeInfoCount()), LazyAttribute.unwrap(this.attributeInfos));
 	}
 	
 	/**
@@ -414,6 +564,7 @@ public final class CodeAttribute extends AttributeInfo {
 	public void addAttributeInfo(final AttributeInfo attributeInfo) {
 		if(!this.attributeInfos.contains(Objects.requireNonNull(attributeInfo, "attributeInfo == null"))) {
 			this.attributeInfos.add(attributeInfo);
+			this.offsetIndex = null;
 		}
 	}
 	
@@ -428,6 +579,8 @@ public final class CodeAttribute extends AttributeInfo {
 	public void addExceptionHandler(final ExceptionHandler exceptionHandler) {
 		if(!this.exceptionHandlers.contains(Objects.requireNonNull(exceptionHandler, "exceptionHandler == null"))) {
 			this.exceptionHandlers.add(exceptionHandler);
+			this.offsetIndex = null;
+			this.isModified = true;
 		}
 	}
 	
@@ -435,12 +588,21 @@ public final class CodeAttribute extends AttributeInfo {
 	 * Adds {@code instruction} to this {@code CodeAttribute} instance.
 	 * <p>
 	 * If {@code instruction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the instructions are stored in their packed form, they are unpacked.
 	 * 
 	 * @param instruction the {@link Instruction} to add
 	 * @throws NullPointerException thrown if, and only if, {@code instruction} is {@code null}
 	 */
 	public void addInstruction(final Instruction instruction) {
+		Objects.requireNonNull(instruction, "instruction == null");
+		
+		doUnpack();
+		
 		this.instructions.add(Objects.requireNonNull(instruction, "instruction == null"));
+		this.codeLength += instruction.getLength();
+		this.offsetIndex = null;
+		this.isModified = true;
 	}
 	
 	/**
@@ -452,7 +614,9 @@ public final class CodeAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
 	 */
 	public void removeAttributeInfo(final AttributeInfo attributeInfo) {
-		this.attributeInfos.remove(Objects.requireNonNull(attributeInfo, "attributeInfo == null"));
+		if(this.attributeInfos.remove(Objects.requireNonNull(attributeInfo, "attributeInfo == null"))) {
+			this.offsetIndex = null;
+		}
 	}
 	
 	/**
@@ -464,19 +628,55 @@ public final class CodeAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code exceptionHandler} is {@code null}
 	 */
 	public void removeExceptionHandler(final ExceptionHandler exceptionHandler) {
-		this.exceptionHandlers.remove(Objects.requireNonNull(exceptionHandler, "exceptionHandler == null"));
+		if(this.exceptionHandlers.remove(Objects.requireNonNull(exceptionHandler, "exceptionHandler == null"))) {
+			this.offsetIndex = null;
+			this.isModified = true;
+		}
 	}
 	
 	/**
 	 * Removes {@code instruction} from this {@code CodeAttribute} instance, if present.
 	 * <p>
 	 * If {@code instruction} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the instructions are stored in their packed form, they are unpacked.
 	 * 
 	 * @param instruction the {@link Instruction} to remove
 	 * @throws NullPointerException thrown if, and only if, {@code instruction} is {@code null}
 	 */
 	public void removeInstruction(final Instruction instruction) {
-		this.instructions.remove(Objects.requireNonNull(instruction, "instruction == null"));
+		Objects.requireNonNull(instruction, "instruction == null");
+		
+		doUnpack();
+		
+		if(this.instructions.remove(instruction)) {
+			this.codeLength -= instruction.getLength();
+			this.offsetIndex = null;
+			this.isModified = true;
+		}
+	}
+	
+	/**
+	 * Sets {@code code} as the values for the {@code code} item associated with this {@code CodeAttribute} instance.
+	 * <p>
+	 * If {@code code} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code code} does not consist of complete instructions with valid opcodes, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * All currently added {@link Instruction} instances are replaced. The instructions in {@code code} are stored in their packed form. The {@code byte} array {@code code} is not copied, so it should not be modified afterwards.
+	 * 
+	 * @param code the values for the {@code code} item associated with this {@code CodeAttribute} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code code} does not consist of complete instructions with valid opcodes
+	 * @throws NullPointerException thrown if, and only if, {@code code} is {@code null}
+	 */
+	public void setCode(final byte[] code) {
+		final int[] offsets = InstructionLengths.getOffsets(ByteBuffer.wrap(Objects.requireNonNull(code, "code == null")));
+		
+		this.instructions.clear();
+		this.offsetIndex = null;
+		this.packedCode = new PackedCode(code, offsets);
+		this.isModified = true;
+		this.codeLength = code.length;
 	}
 	
 	/**
@@ -503,6 +703,15 @@ public final class CodeAttribute extends AttributeInfo {
 		this.maxStack = ParameterArguments.requireRange(maxStack, 0, Integer.MAX_VALUE);
 	}
 	
+	/**
+	 * Sets whether this {@code CodeAttribute} instance is modified or not.
+	 * 
+	 * @param isModified {@code true} if, and only if, this {@code CodeAttribute} instance should be modified, {@code false} otherwise
+	 */
+	public void setModified(final boolean isModified) {
+		this.isModified = isModified;
+	}
+	
 	/**
 	 * Writes this {@code CodeAttribute} to {@code dataOutput}.
 	 * <p>
@@ -521,7 +730,6 @@ public final class CodeAttribute extends AttributeInfo {
 		try {
 			final List<AttributeInfo> attributeInfos = this.attributeInfos;
 			final List<ExceptionHandler> exceptionHandlers = this.exceptionHandlers;
-			final List<Instruction> instructions = this.instructions;
 			
 			dataOutput.writeShort(getAttributeNameIndex());
 			dataOutput.writeInt(getAttributeLength());
@@ -529,9 +737,7 @@ public final class CodeAttribute extends AttributeInfo {
 			dataOutput.writeShort(getMaxLocals());
 			dataOutput.writeInt(getCodeLength());
 			
-			for(final Instruction instruction : instructions) {
-				instruction.write(dataOutput);
-			}
+			writeCode(dataOutput);
 			
 			dataOutput.writeShort(getExceptionTableLength());
 			
@@ -549,6 +755,39 @@ public final class CodeAttribute extends AttributeInfo {
 		}
 	}
 	
+	/**
+	 * Writes the values of the {@code code} item associated with this {@code CodeAttribute} instance to {@code dataOutput}.
+	 * <p>
+	 * If the instructions are stored in their packed form, they are written as-is and are not unpacked.
+	 * <p>
+	 * If {@code dataOutput} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * This method does not close {@code dataOutput}.
+	 * 
+	 * @param dataOutput the {@code DataOutput} to write to
+	 * @throws NullPointerException thrown if, and only if, {@code dataOutput} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
+	 */
+	public void writeCode(final DataOutput dataOutput) {
+		Objects.requireNonNull(dataOutput, "dataOutput == null");
+		
+		try {
+			final PackedCode packedCode = this.packedCode;
+			
+			if(packedCode != null) {
+				dataOutput.write(packedCode.code);
+			} else {
+				for(final Instruction instruction : this.instructions) {
+					instruction.write(dataOutput);
+				}
+			}
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
@@ -578,6 +817,60 @@ public final class CodeAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
 	 */
 	public static Optional<CodeAttribute> find(final MethodInfo methodInfo) {
-		return methodInfo.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof CodeAttribute).map(attributeInfo -> CodeAttribute.class.cast(attributeInfo)).findFirst();
+		return methodInfo.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof CodeAttribute).map(attributeInfo -> CodeAttribute.class.cast(attributeInfo)).findFirst();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private byte[] doEncode() {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(this.codeLength);
+		
+		final DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream);
+		
+		for(final Instruction instruction : this.instructions) {
+			instruction.write(dataOutputStream);
+		}
+		
+		return byteArrayOutputStream.toByteArray();
+	}
+	
+	private byte[] doGetCode() {
+		final PackedCode packedCode = this.packedCode;
+		
+		return packedCode != null ? packedCode.code : doEncode();
+	}
+	
+	private void doUnpack() {
+		if(this.packedCode != null) {
+			synchronized(this.instructions) {
+				final PackedCode packedCode = this.packedCode;
+				
+				if(packedCode != null) {
+					final ByteBuffer byteBuffer = ByteBuffer.wrap(packedCode.code);
+					
+					final List<Instruction> instructions = new ArrayList<>(packedCode.offsets.length);
+					
+					for(final int offset : packedCode.offsets) {
+						instructions.add(InstructionDecoder.decode(byteBuffer, offset));
+					}
+					
+					this.instructions.addAll(instructions);
+					this.offsetIndex = null;
+					this.packedCode = null;
+				}
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class PackedCode {
+		private final byte[] code;
+		private final int[] offsets;
+		
+		public PackedCode(final byte[] code, final int[] offsets) {
+			this.code = code;
+			this.offsets = offsets;
+		}
 	}
 }
\ No newline at end of file
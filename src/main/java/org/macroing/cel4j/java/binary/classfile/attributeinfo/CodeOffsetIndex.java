@@ -0,0 +1,266 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.attributeinfo;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+
+/**
+ * A {@code CodeOffsetIndex} maps the offsets of the {@code code} item of a {@link CodeAttribute} to its instructions, source lines and exception handlers.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * An offset into the {@code code} item is often called a {@code pc}. A {@code CodeOffsetIndex} is a snapshot that is built from a {@code CodeAttribute} instance the first time {@link CodeAttribute#getOffsetIndex()} is called. The
+ * {@code CodeAttribute} instance caches it until its instructions, exception handlers or attributes are added or removed. Changes made to an {@link ExceptionHandler} or a {@link LineNumberTableAttribute} instance directly are not tracked.
+ * <p>
+ * The instruction that contains a given offset is found using binary search over the sorted start offsets of the instructions. The offset of an {@link Instruction} is found by its position in {@link CodeAttribute#getInstructionsView()},
+ * because operand-less instructions, such as {@link Instruction#A_LOAD_0}, are shared constants that may occur at several offsets.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * CodeOffsetIndex codeOffsetIndex = codeAttribute.getOffsetIndex();
+ * 
+ * for(ExceptionHandler exceptionHandler : codeAttribute.getExceptionHandlersView()) {
+ *     int index = codeOffsetIndex.getIndex(exceptionHandler.getHandlerPC());
+ * 
+ *     OptionalInt lineNumber = codeOffsetIndex.getLineNumber(exceptionHandler.getHandlerPC());
+ * }
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class CodeOffsetIndex {
+	private final ByteBuffer code;
+	private final Instruction[] instructions;
+	private final List<List<ExceptionHandler>> exceptionHandlers;
+	private final int[] lineNumberLines;
+	private final int[] lineNumberStartPCs;
+	private final int[] offsets;
+	private final int codeLength;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	CodeOffsetIndex(final CodeAttribute codeAttribute, final byte[] code, final int[] offsets) {
+		this.code = code != null ? ByteBuffer.wrap(code).asReadOnlyBuffer() : null;
+		this.instructions = code != null ? null : codeAttribute.getInstructionsView().toArray(new Instruction[codeAttribute.getInstructionsView().size()]);
+		this.offsets = offsets != null ? offsets : doCreateOffsets(this.instructions);
+		this.codeLength = codeAttribute.getCodeLength();
+		this.exceptionHandlers = doCreateExceptionHandlers(codeAttribute.getExceptionHandlersView(), this.offsets);
+		
+		final List<LineNumber> lineNumbers = doCreateLineNumbers(codeAttribute);
+		
+		this.lineNumberLines = new int[lineNumbers.size()];
+		this.lineNumberStartPCs = new int[lineNumbers.size()];
+		
+		for(int i = 0; i < lineNumbers.size(); i++) {
+			this.lineNumberLines[i] = lineNumbers.get(i).getLineNumber();
+			this.lineNumberStartPCs[i] = lineNumbers.get(i).getStartPC();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an unmodifiable {@code List} with the {@link ExceptionHandler} instances that are active at offset {@code pc}.
+	 * <p>
+	 * An {@code ExceptionHandler} is active at offset {@code pc} if {@code pc} is greater than or equal to its {@code start_pc} and less than its {@code end_pc}. The {@code ExceptionHandler} instances are returned in the order they appear
+	 * in the {@code exception_table} item, which is the order in which the Java Virtual Machine searches them.
+	 * <p>
+	 * If no instruction contains offset {@code pc}, an empty {@code List} is returned.
+	 * 
+	 * @param pc an offset into the {@code code} item
+	 * @return an unmodifiable {@code List} with the {@code ExceptionHandler} instances that are active at offset {@code pc}
+	 */
+	public List<ExceptionHandler> getExceptionHandlers(final int pc) {
+		final int index = getIndex(pc);
+		
+		return index >= 0 ? this.exceptionHandlers.get(index) : Collections.emptyList();
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link Instruction} that contains offset {@code pc}.
+	 * <p>
+	 * If the {@code CodeAttribute} was in its packed form when this {@code CodeOffsetIndex} was built, a new {@code Instruction} instance is decoded for each call.
+	 * 
+	 * @param pc an offset into the {@code code} item
+	 * @return an {@code Optional} with the {@code Instruction} that contains offset {@code pc}
+	 */
+	public Optional<Instruction> getInstruction(final int pc) {
+		final int index = getIndex(pc);
+		
+		if(index < 0) {
+			return Optional.empty();
+		}
+		
+		return Optional.of(this.code != null ? InstructionDecoder.decode(this.code, this.offsets[index]) : this.instructions[index]);
+	}
+	
+	/**
+	 * Returns an {@code OptionalInt} with the source line number of offset {@code pc}.
+	 * <p>
+	 * The source line number is given by the entry of the {@link LineNumberTableAttribute} instances with the greatest {@code start_pc} that is less than or equal to {@code pc}.
+	 * <p>
+	 * If no instruction contains offset {@code pc}, or no such entry exists, an empty {@code OptionalInt} is returned.
+	 * 
+	 * @param pc an offset into the {@code code} item
+	 * @return an {@code OptionalInt} with the source line number of offset {@code pc}
+	 */
+	public OptionalInt getLineNumber(final int pc) {
+		if(pc < 0 || pc >= this.codeLength) {
+			return OptionalInt.empty();
+		}
+		
+		final int index = doFloor(this.lineNumberStartPCs, pc);
+		
+		return index >= 0 ? OptionalInt.of(this.lineNumberLines[index]) : OptionalInt.empty();
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, an instruction starts at offset {@code pc}, {@code false} otherwise.
+	 * <p>
+	 * The targets of all branch instructions and the {@code start_pc}, {@code end_pc} and {@code handler_pc} of all exception handlers should start an instruction, with the exception that {@code end_pc} may be equal to the length of the
+	 * {@code code} item.
+	 * 
+	 * @param pc an offset into the {@code code} item
+	 * @return {@code true} if, and only if, an instruction starts at offset {@code pc}, {@code false} otherwise
+	 */
+	public boolean isInstructionStart(final int pc) {
+		return pc >= 0 && pc < this.codeLength && Arrays.binarySearch(this.offsets, pc) >= 0;
+	}
+	
+	/**
+	 * Returns the length of the {@code code} item, in bytes.
+	 * 
+	 * @return the length of the {@code code} item, in bytes
+	 */
+	public int getCodeLength() {
+		return this.codeLength;
+	}
+	
+	/**
+	 * Returns the index of the instruction that contains offset {@code pc}, or {@code -1} if no instruction contains it.
+	 * 
+	 * @param pc an offset into the {@code code} item
+	 * @return the index of the instruction that contains offset {@code pc}, or {@code -1} if no instruction contains it
+	 */
+	public int getIndex(final int pc) {
+		return pc >= 0 && pc < this.codeLength ? doFloor(this.offsets, pc) : -1;
+	}
+	
+	/**
+	 * Returns the number of instructions.
+	 * 
+	 * @return the number of instructions
+	 */
+	public int getInstructionCount() {
+		return this.offsets.length;
+	}
+	
+	/**
+	 * Returns the offset of the instruction at index {@code index}.
+	 * <p>
+	 * The index of an {@link Instruction} is its position in {@link CodeAttribute#getInstructionsView()}. Use it to look up the offset of an {@code Instruction}, because shared constants such as {@link Instruction#A_LOAD_0} may occur at
+	 * several offsets and cannot be looked up by identity.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getInstructionCount()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the instruction
+	 * @return the offset of the instruction at index {@code index}
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getInstructionCount()}
+	 */
+	public int getOffset(final int index) {
+		if(index < 0 || index >= this.offsets.length) {
+			throw new IndexOutOfBoundsException(String.format("Illegal instruction index: index = %s, instructionCount = %s", Integer.toString(index), Integer.toString(this.offsets.length)));
+		}
+		
+		return this.offsets[index];
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static List<List<ExceptionHandler>> doCreateExceptionHandlers(final List<ExceptionHandler> exceptionHandlers, final int[] offsets) {
+		final List<List<ExceptionHandler>> exceptionHandlersByIndex = new ArrayList<>(offsets.length);
+		
+		List<ExceptionHandler> previousExceptionHandlers = Collections.emptyList();
+		
+		for(int i = 0; i < offsets.length; i++) {
+			final List<ExceptionHandler> currentExceptionHandlers = new ArrayList<>();
+			
+			for(final ExceptionHandler exceptionHandler : exceptionHandlers) {
+				if(offsets[i] >= exceptionHandler.getStartPC() && offsets[i] < exceptionHandler.getEndPC()) {
+					currentExceptionHandlers.add(exceptionHandler);
+				}
+			}
+			
+			if(!currentExceptionHandlers.equals(previousExceptionHandlers)) {
+				previousExceptionHandlers = Collections.unmodifiableList(currentExceptionHandlers);
+			}
+			
+			exceptionHandlersByIndex.add(previousExceptionHandlers);
+		}
+		
+		return exceptionHandlersByIndex;
+	}
+	
+	private static List<LineNumber> doCreateLineNumbers(final CodeAttribute codeAttribute) {
+		final List<LineNumber> lineNumbers = new ArrayList<>();
+		
+		for(final AttributeInfo attributeInfo : codeAttribute.getAttributeInfosView()) {
+			if(attributeInfo.getName().equals(LineNumberTableAttribute.NAME)) {
+				final AttributeInfo unwrappedAttributeInfo = LazyAttribute.unwrap(attributeInfo);
+				
+				if(unwrappedAttributeInfo instanceof LineNumberTableAttribute) {
+					lineNumbers.addAll(LineNumberTableAttribute.class.cast(unwrappedAttributeInfo).getLineNumberTableView());
+				}
+			}
+		}
+		
+		lineNumbers.sort((a, b) -> Integer.compare(a.getStartPC(), b.getStartPC()));
+		
+		return lineNumbers;
+	}
+	
+	private static int[] doCreateOffsets(final Instruction[] instructions) {
+		final int[] offsets = new int[instructions.length];
+		
+		for(int i = 0, offset = 0; i < instructions.length; i++) {
+			offsets[i] = offset;
+			
+			offset += instructions[i].getLength();
+		}
+		
+		return offsets;
+	}
+	
+	private static int doFloor(final int[] array, final int key) {
+		final int index = Arrays.binarySearch(array, key);
+		
+		return index >= 0 ? index : -index - 2;
+	}
+}
\ No newline at end of file
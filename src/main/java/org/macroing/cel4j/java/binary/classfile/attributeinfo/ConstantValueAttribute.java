@@ -235,6 +235,6 @@ public final class ConstantValueAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code fieldInfo} is {@code null}
 	 */
 	public static Optional<ConstantValueAttribute> find(final FieldInfo fieldInfo) {
-		return fieldInfo.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof ConstantValueAttribute).map(attributeInfo -> ConstantValueAttribute.class.cast(attributeInfo)).findFirst();
+		return fieldInfo.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof ConstantValueAttribute).map(attributeInfo -> ConstantValueAttribute.class.cast(attributeInfo)).findFirst();
 	}
 }
\ No newline at end of file
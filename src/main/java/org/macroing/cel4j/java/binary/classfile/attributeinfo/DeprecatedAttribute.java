@@ -200,6 +200,6 @@ public final class DeprecatedAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
 	 */
 	public static Optional<DeprecatedAttribute> find(final MethodInfo methodInfo) {
-		return methodInfo.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof DeprecatedAttribute).map(attributeInfo -> DeprecatedAttribute.class.cast(attributeInfo)).findFirst();
+		return methodInfo.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof DeprecatedAttribute).map(attributeInfo -> DeprecatedAttribute.class.cast(attributeInfo)).findFirst();
 	}
 }
\ No newline at end of file
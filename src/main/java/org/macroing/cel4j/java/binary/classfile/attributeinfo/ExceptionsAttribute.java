@@ -22,6 +22,7 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -62,6 +63,7 @@ public final class ExceptionsAttribute extends AttributeInfo {
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private final List<Integer> exceptionIndexTable;
+	private final List<Integer> exceptionIndexTableView;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -77,6 +79,7 @@ public final class ExceptionsAttribute extends AttributeInfo {
 		super(NAME, exceptionsAttribute.getAttributeNameIndex());
 		
 		this.exceptionIndexTable = exceptionsAttribute.exceptionIndexTable.stream().collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.exceptionIndexTableView = Collections.unmodifiableList(this.exceptionIndexTable);
 	}
 	
 	/**
@@ -91,6 +94,7 @@ public final class ExceptionsAttribute extends AttributeInfo {
 		super(NAME, attributeNameIndex);
 		
 		this.exceptionIndexTable = new ArrayList<>();
+		this.exceptionIndexTableView = Collections.unmodifiableList(this.exceptionIndexTable);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -116,6 +120,19 @@ public final class ExceptionsAttribute extends AttributeInfo {
 		return new ArrayList<>(this.exceptionIndexTable);
 	}
 	
+	/**
+	 * Returns an unmodifiable view that represents the {@code exception_index_table} item associated with this {@code ExceptionsAttribute} instance.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code ExceptionsAttribute} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getExceptionIndexTable()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view that represents the {@code exception_index_table} item associated with this {@code ExceptionsAttribute} instance
+	 */
+	public List<Integer> getExceptionIndexTableView() {
+		return this.exceptionIndexTableView;
+	}
+	
 	/**
 	 * Returns a {@code String} representation of this {@code ExceptionsAttribute} instance.
 	 * 
@@ -265,6 +282,6 @@ public final class ExceptionsAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
 	 */
 	public static Optional<ExceptionsAttribute> find(final MethodInfo methodInfo) {
-		return methodInfo.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof ExceptionsAttribute).map(attributeInfo -> ExceptionsAttribute.class.cast(attributeInfo)).findFirst();
+		return methodInfo.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof ExceptionsAttribute).map(attributeInfo -> ExceptionsAttribute.class.cast(attributeInfo)).findFirst();
 	}
 }
\ No newline at end of file
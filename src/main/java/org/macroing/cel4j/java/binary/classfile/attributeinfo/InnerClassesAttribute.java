@@ -310,6 +310,6 @@ public final class InnerClassesAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
 	 */
 	public static Optional<InnerClassesAttribute> find(final ClassFile classFile) {
-		return classFile.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof InnerClassesAttribute).map(attributeInfo -> InnerClassesAttribute.class.cast(attributeInfo)).findFirst();
+		return classFile.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof InnerClassesAttribute).map(attributeInfo -> InnerClassesAttribute.class.cast(attributeInfo)).findFirst();
 	}
 }
\ No newline at end of file
@@ -0,0 +1,317 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.attributeinfo;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * An {@code InstructionCursor} is used for iterating over the instructions of a {@link CodeAttribute} without creating an {@link Instruction} instance for each of them.
+ * <p>
+ * This class is mutable and not thread-safe.
+ * <p>
+ * An {@code InstructionCursor} is positioned on one instruction at a time. The opcode, the operands and the length of that instruction are read directly from the bytes of the {@code code} item, so moving the cursor does not allocate. An
+ * {@code Instruction} instance is only created when {@link #getInstruction()} is called.
+ * <p>
+ * The operands of an instruction are the bytes that follow its opcode. This includes the padding of the {@code lookupswitch} and {@code tableswitch} instructions and the modified opcode of the {@code wide} instruction.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * InstructionCursor instructionCursor = codeAttribute.getInstructionCursor();
+ * 
+ * while(instructionCursor.next()) {
+ *     if(instructionCursor.getOpcode() == Instruction.OPCODE_INVOKE_VIRTUAL) {
+ *         int index = instructionCursor.getOperandU2(0);
+ *     }
+ * }
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class InstructionCursor {
+	private final ByteBuffer code;
+	private final int[] offsets;
+	private int index;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	InstructionCursor(final byte[] code, final int[] offsets) {
+		this.code = ByteBuffer.wrap(code);
+		this.offsets = offsets;
+		this.index = -1;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a new {@link Instruction} instance for the current instruction.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * <p>
+	 * If the current instruction cannot be decoded, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @return a new {@code Instruction} instance for the current instruction
+	 * @throws IllegalArgumentException thrown if, and only if, the current instruction cannot be decoded
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 */
+	public Instruction getInstruction() {
+		return InstructionDecoder.decode(this.code, getOffset());
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, there is an instruction after the current one, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, there is an instruction after the current one, {@code false} otherwise
+	 */
+	public boolean hasNext() {
+		return this.index + 1 < this.offsets.length;
+	}
+	
+	/**
+	 * Moves this {@code InstructionCursor} to the next instruction.
+	 * <p>
+	 * Returns {@code true} if, and only if, this {@code InstructionCursor} is positioned on an instruction after the move, {@code false} otherwise.
+	 * <p>
+	 * A new {@code InstructionCursor} is positioned before the first instruction, so this method has to be called once before the first instruction can be read.
+	 * 
+	 * @return {@code true} if, and only if, this {@code InstructionCursor} is positioned on an instruction after the move, {@code false} otherwise
+	 */
+	public boolean next() {
+		if(hasNext()) {
+			this.index++;
+			
+			return true;
+		}
+		
+		this.index = this.offsets.length;
+		
+		return false;
+	}
+	
+	/**
+	 * Returns the index of the current instruction.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return the index of the current instruction
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 */
+	public int getIndex() {
+		doRequirePositioned();
+		
+		return this.index;
+	}
+	
+	/**
+	 * Returns the number of instructions that this {@code InstructionCursor} iterates over.
+	 * 
+	 * @return the number of instructions that this {@code InstructionCursor} iterates over
+	 */
+	public int getInstructionCount() {
+		return this.offsets.length;
+	}
+	
+	/**
+	 * Returns the length of the current instruction, in bytes.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return the length of the current instruction, in bytes
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 */
+	public int getLength() {
+		doRequirePositioned();
+		
+		return (this.index + 1 < this.offsets.length ? this.offsets[this.index + 1] : this.code.limit()) - this.offsets[this.index];
+	}
+	
+	/**
+	 * Returns the offset of the current instruction in the {@code code} item.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return the offset of the current instruction in the {@code code} item
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 */
+	public int getOffset() {
+		doRequirePositioned();
+		
+		return this.offsets[this.index];
+	}
+	
+	/**
+	 * Returns the opcode of the current instruction.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return the opcode of the current instruction
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 */
+	public int getOpcode() {
+		return this.code.get(getOffset()) & 0xFF;
+	}
+	
+	/**
+	 * Returns the operand at index {@code index} of the current instruction, as an unsigned byte.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getOperandCount()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the operand
+	 * @return the operand at index {@code index} of the current instruction, as an unsigned byte
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getOperandCount()}
+	 */
+	public int getOperand(final int index) {
+		return this.code.get(doGetOperandOffset(index, 1)) & 0xFF;
+	}
+	
+	/**
+	 * Returns the number of operands of the current instruction.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * 
+	 * @return the number of operands of the current instruction
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 */
+	public int getOperandCount() {
+		return getLength() - 1;
+	}
+	
+	/**
+	 * Returns the two operands starting at index {@code index} of the current instruction, as a signed short.
+	 * <p>
+	 * This method is useful for branch offsets and for the immediate value of {@code sipush}.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than {@code getOperandCount() - 2}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the first operand
+	 * @return the two operands starting at index {@code index} of the current instruction, as a signed short
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than {@code getOperandCount() - 2}
+	 */
+	public int getOperandS2(final int index) {
+		return this.code.getShort(doGetOperandOffset(index, 2));
+	}
+	
+	/**
+	 * Returns the four operands starting at index {@code index} of the current instruction, as a signed int.
+	 * <p>
+	 * This method is useful for the values of the {@code lookupswitch} and {@code tableswitch} instructions and for the branch offsets of {@code goto_w} and {@code jsr_w}.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than {@code getOperandCount() - 4}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the first operand
+	 * @return the four operands starting at index {@code index} of the current instruction, as a signed int
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than {@code getOperandCount() - 4}
+	 */
+	public int getOperandS4(final int index) {
+		return this.code.getInt(doGetOperandOffset(index, 4));
+	}
+	
+	/**
+	 * Returns the two operands starting at index {@code index} of the current instruction, as an unsigned short.
+	 * <p>
+	 * This method is useful for constant pool indices.
+	 * <p>
+	 * If this {@code InstructionCursor} is not positioned on an instruction, an {@code IllegalStateException} will be thrown.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than {@code getOperandCount() - 2}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the first operand
+	 * @return the two operands starting at index {@code index} of the current instruction, as an unsigned short
+	 * @throws IllegalStateException thrown if, and only if, this {@code InstructionCursor} is not positioned on an instruction
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than {@code getOperandCount() - 2}
+	 */
+	public int getOperandU2(final int index) {
+		return this.code.getShort(doGetOperandOffset(index, 2)) & 0xFFFF;
+	}
+	
+	/**
+	 * Moves this {@code InstructionCursor} before the first instruction.
+	 */
+	public void reset() {
+		this.index = -1;
+	}
+	
+	/**
+	 * Moves this {@code InstructionCursor} to the instruction at index {@code index}.
+	 * <p>
+	 * If {@code index} is less than {@code 0}, or greater than or equal to {@link #getInstructionCount()}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param index the index of the instruction
+	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code index} is less than {@code 0}, or greater than or equal to {@code getInstructionCount()}
+	 */
+	public void setIndex(final int index) {
+		if(index < 0 || index >= this.offsets.length) {
+			throw new IndexOutOfBoundsException(String.format("Illegal instruction index: index = %s, instructionCount = %s", Integer.toString(index), Integer.toString(this.offsets.length)));
+		}
+		
+		this.index = index;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the length of the instruction that starts at offset {@code offset} in {@code code}, in bytes.
+	 * <p>
+	 * The offset {@code offset} is relative to the start of the {@code code} item, which is assumed to be at index {@code 0} in {@code code}. This is required for computing the padding of the {@code lookupswitch} and {@code tableswitch}
+	 * instructions.
+	 * <p>
+	 * If {@code code} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the opcode at offset {@code offset} is not valid, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param code a {@code ByteBuffer} with the {@code code} item
+	 * @param offset the offset of the instruction
+	 * @return the length of the instruction that starts at offset {@code offset} in {@code code}, in bytes
+	 * @throws IllegalArgumentException thrown if, and only if, the opcode at offset {@code offset} is not valid
+	 * @throws NullPointerException thrown if, and only if, {@code code} is {@code null}
+	 */
+	public static int getLength(final ByteBuffer code, final int offset) {
+		return InstructionLengths.getLength(Objects.requireNonNull(code, "code == null"), offset);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private int doGetOperandOffset(final int index, final int length) {
+		final int operandCount = getOperandCount();
+		
+		if(index < 0 || index + length > operandCount) {
+			throw new IndexOutOfBoundsException(String.format("Illegal operand index: index = %s, operandCount = %s", Integer.toString(index), Integer.toString(operandCount)));
+		}
+		
+		return this.offsets[this.index] + 1 + index;
+	}
+	
+	private void doRequirePositioned() {
+		if(this.index < 0 || this.index >= this.offsets.length) {
+			throw new IllegalStateException("This InstructionCursor is not positioned on an instruction.");
+		}
+	}
+}
\ No newline at end of file
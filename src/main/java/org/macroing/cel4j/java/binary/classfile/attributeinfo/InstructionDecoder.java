@@ -0,0 +1,556 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.attributeinfo;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+final class InstructionDecoder {
+	private InstructionDecoder() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static Instruction decode(final ByteBuffer code, final int offset) {
+		int i = offset;
+		
+		int opcode = code.get(i++) & 0xFF;
+		
+		switch(opcode) {
+			case Instruction.OPCODE_NOP:
+				return Instruction.NOP;
+			case Instruction.OPCODE_A_CONST_NULL:
+				return Instruction.A_CONST_NULL;
+			case Instruction.OPCODE_I_CONST_M1:
+				return Instruction.I_CONST_M1;
+			case Instruction.OPCODE_I_CONST_0:
+				return Instruction.I_CONST_0;
+			case Instruction.OPCODE_I_CONST_1:
+				return Instruction.I_CONST_1;
+			case Instruction.OPCODE_I_CONST_2:
+				return Instruction.I_CONST_2;
+			case Instruction.OPCODE_I_CONST_3:
+				return Instruction.I_CONST_3;
+			case Instruction.OPCODE_I_CONST_4:
+				return Instruction.I_CONST_4;
+			case Instruction.OPCODE_I_CONST_5:
+				return Instruction.I_CONST_5;
+			case Instruction.OPCODE_L_CONST_0:
+				return Instruction.L_CONST_0;
+			case Instruction.OPCODE_L_CONST_1:
+				return Instruction.L_CONST_1;
+			case Instruction.OPCODE_F_CONST_0:
+				return Instruction.F_CONST_0;
+			case Instruction.OPCODE_F_CONST_1:
+				return Instruction.F_CONST_1;
+			case Instruction.OPCODE_F_CONST_2:
+				return Instruction.F_CONST_2;
+			case Instruction.OPCODE_D_CONST_0:
+				return Instruction.D_CONST_0;
+			case Instruction.OPCODE_D_CONST_1:
+				return Instruction.D_CONST_1;
+			case Instruction.OPCODE_B_I_PUSH:
+				return Instruction.getBIPush(code.get(i++));
+			case Instruction.OPCODE_S_I_PUSH:
+				return Instruction.getSIPush(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_L_D_C:
+				return Instruction.getLDC(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_L_D_C_W:
+				return Instruction.getLDCW(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_L_D_C_2_W:
+				return Instruction.getLDC2W(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_I_LOAD:
+				return Instruction.getILoad(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_L_LOAD:
+				return Instruction.getLLoad(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_F_LOAD:
+				return Instruction.getFLoad(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_D_LOAD:
+				return Instruction.getDLoad(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_A_LOAD:
+				return Instruction.getALoad(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_I_LOAD_0:
+				return Instruction.I_LOAD_0;
+			case Instruction.OPCODE_I_LOAD_1:
+				return Instruction.I_LOAD_1;
+			case Instruction.OPCODE_I_LOAD_2:
+				return Instruction.I_LOAD_2;
+			case Instruction.OPCODE_I_LOAD_3:
+				return Instruction.I_LOAD_3;
+			case Instruction.OPCODE_L_LOAD_0:
+				return Instruction.L_LOAD_0;
+			case Instruction.OPCODE_L_LOAD_1:
+				return Instruction.L_LOAD_1;
+			case Instruction.OPCODE_L_LOAD_2:
+				return Instruction.L_LOAD_2;
+			case Instruction.OPCODE_L_LOAD_3:
+				return Instruction.L_LOAD_3;
+			case Instruction.OPCODE_F_LOAD_0:
+				return Instruction.F_LOAD_0;
+			case Instruction.OPCODE_F_LOAD_1:
+				return Instruction.F_LOAD_1;
+			case Instruction.OPCODE_F_LOAD_2:
+				return Instruction.F_LOAD_2;
+			case Instruction.OPCODE_F_LOAD_3:
+				return Instruction.F_LOAD_3;
+			case Instruction.OPCODE_D_LOAD_0:
+				return Instruction.D_LOAD_0;
+			case Instruction.OPCODE_D_LOAD_1:
+				return Instruction.D_LOAD_1;
+			case Instruction.OPCODE_D_LOAD_2:
+				return Instruction.D_LOAD_2;
+			case Instruction.OPCODE_D_LOAD_3:
+				return Instruction.D_LOAD_3;
+			case Instruction.OPCODE_A_LOAD_0:
+				return Instruction.A_LOAD_0;
+			case Instruction.OPCODE_A_LOAD_1:
+				return Instruction.A_LOAD_1;
+			case Instruction.OPCODE_A_LOAD_2:
+				return Instruction.A_LOAD_2;
+			case Instruction.OPCODE_A_LOAD_3:
+				return Instruction.A_LOAD_3;
+			case Instruction.OPCODE_I_A_LOAD:
+				return Instruction.I_A_LOAD;
+			case Instruction.OPCODE_L_A_LOAD:
+				return Instruction.L_A_LOAD;
+			case Instruction.OPCODE_F_A_LOAD:
+				return Instruction.F_A_LOAD;
+			case Instruction.OPCODE_D_A_LOAD:
+				return Instruction.D_A_LOAD;
+			case Instruction.OPCODE_A_A_LOAD:
+				return Instruction.A_A_LOAD;
+			case Instruction.OPCODE_B_A_LOAD:
+				return Instruction.B_A_LOAD;
+			case Instruction.OPCODE_C_A_LOAD:
+				return Instruction.C_A_LOAD;
+			case Instruction.OPCODE_S_A_LOAD:
+				return Instruction.S_A_LOAD;
+			case Instruction.OPCODE_I_STORE:
+				return Instruction.getIStore(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_L_STORE:
+				return Instruction.getLStore(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_F_STORE:
+				return Instruction.getFStore(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_D_STORE:
+				return Instruction.getDStore(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_A_STORE:
+				return Instruction.getAStore(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_I_STORE_0:
+				return Instruction.I_STORE_0;
+			case Instruction.OPCODE_I_STORE_1:
+				return Instruction.I_STORE_1;
+			case Instruction.OPCODE_I_STORE_2:
+				return Instruction.I_STORE_2;
+			case Instruction.OPCODE_I_STORE_3:
+				return Instruction.I_STORE_3;
+			case Instruction.OPCODE_L_STORE_0:
+				return Instruction.L_STORE_0;
+			case Instruction.OPCODE_L_STORE_1:
+				return Instruction.L_STORE_1;
+			case Instruction.OPCODE_L_STORE_2:
+				return Instruction.L_STORE_2;
+			case Instruction.OPCODE_L_STORE_3:
+				return Instruction.L_STORE_3;
+			case Instruction.OPCODE_F_STORE_0:
+				return Instruction.F_STORE_0;
+			case Instruction.OPCODE_F_STORE_1:
+				return Instruction.F_STORE_1;
+			case Instruction.OPCODE_F_STORE_2:
+				return Instruction.F_STORE_2;
+			case Instruction.OPCODE_F_STORE_3:
+				return Instruction.F_STORE_3;
+			case Instruction.OPCODE_D_STORE_0:
+				return Instruction.D_STORE_0;
+			case Instruction.OPCODE_D_STORE_1:
+				return Instruction.D_STORE_1;
+			case Instruction.OPCODE_D_STORE_2:
+				return Instruction.D_STORE_2;
+			case Instruction.OPCODE_D_STORE_3:
+				return Instruction.D_STORE_3;
+			case Instruction.OPCODE_A_STORE_0:
+				return Instruction.A_STORE_0;
+			case Instruction.OPCODE_A_STORE_1:
+				return Instruction.A_STORE_1;
+			case Instruction.OPCODE_A_STORE_2:
+				return Instruction.A_STORE_2;
+			case Instruction.OPCODE_A_STORE_3:
+				return Instruction.A_STORE_3;
+			case Instruction.OPCODE_I_A_STORE:
+				return Instruction.I_A_STORE;
+			case Instruction.OPCODE_L_A_STORE:
+				return Instruction.L_A_STORE;
+			case Instruction.OPCODE_F_A_STORE:
+				return Instruction.F_A_STORE;
+			case Instruction.OPCODE_D_A_STORE:
+				return Instruction.D_A_STORE;
+			case Instruction.OPCODE_A_A_STORE:
+				return Instruction.A_A_STORE;
+			case Instruction.OPCODE_B_A_STORE:
+				return Instruction.B_A_STORE;
+			case Instruction.OPCODE_C_A_STORE:
+				return Instruction.C_A_STORE;
+			case Instruction.OPCODE_S_A_STORE:
+				return Instruction.S_A_STORE;
+			case Instruction.OPCODE_POP:
+				return Instruction.POP;
+			case Instruction.OPCODE_POP_2:
+				return Instruction.POP_2;
+			case Instruction.OPCODE_DUP:
+				return Instruction.DUP;
+			case Instruction.OPCODE_DUP_X_1:
+				return Instruction.DUP_X_1;
+			case Instruction.OPCODE_DUP_X_2:
+				return Instruction.DUP_X_2;
+			case Instruction.OPCODE_DUP_2:
+				return Instruction.DUP_2;
+			case Instruction.OPCODE_DUP_2_X_1:
+				return Instruction.DUP_2_X_1;
+			case Instruction.OPCODE_DUP_2_X_2:
+				return Instruction.DUP_2_X_2;
+			case Instruction.OPCODE_SWAP:
+				return Instruction.SWAP;
+			case Instruction.OPCODE_I_ADD:
+				return Instruction.I_ADD;
+			case Instruction.OPCODE_L_ADD:
+				return Instruction.L_ADD;
+			case Instruction.OPCODE_F_ADD:
+				return Instruction.F_ADD;
+			case Instruction.OPCODE_D_ADD:
+				return Instruction.D_ADD;
+			case Instruction.OPCODE_I_SUB:
+				return Instruction.I_SUB;
+			case Instruction.OPCODE_L_SUB:
+				return Instruction.L_SUB;
+			case Instruction.OPCODE_F_SUB:
+				return Instruction.F_SUB;
+			case Instruction.OPCODE_D_SUB:
+				return Instruction.D_SUB;
+			case Instruction.OPCODE_I_MUL:
+				return Instruction.I_MUL;
+			case Instruction.OPCODE_L_MUL:
+				return Instruction.L_MUL;
+			case Instruction.OPCODE_F_MUL:
+				return Instruction.F_MUL;
+			case Instruction.OPCODE_D_MUL:
+				return Instruction.D_MUL;
+			case Instruction.OPCODE_I_DIV:
+				return Instruction.I_DIV;
+			case Instruction.OPCODE_L_DIV:
+				return Instruction.L_DIV;
+			case Instruction.OPCODE_F_DIV:
+				return Instruction.F_DIV;
+			case Instruction.OPCODE_D_DIV:
+				return Instruction.D_DIV;
+			case Instruction.OPCODE_I_REM:
+				return Instruction.I_REM;
+			case Instruction.OPCODE_L_REM:
+				return Instruction.L_REM;
+			case Instruction.OPCODE_F_REM:
+				return Instruction.F_REM;
+			case Instruction.OPCODE_D_REM:
+				return Instruction.D_REM;
+			case Instruction.OPCODE_I_NEG:
+				return Instruction.I_NEG;
+			case Instruction.OPCODE_L_NEG:
+				return Instruction.L_NEG;
+			case Instruction.OPCODE_F_NEG:
+				return Instruction.F_NEG;
+			case Instruction.OPCODE_D_NEG:
+				return Instruction.D_NEG;
+			case Instruction.OPCODE_I_SH_L:
+				return Instruction.I_SH_L;
+			case Instruction.OPCODE_L_SH_L:
+				return Instruction.L_SH_L;
+			case Instruction.OPCODE_I_SH_R:
+				return Instruction.I_SH_R;
+			case Instruction.OPCODE_L_SH_R:
+				return Instruction.L_SH_R;
+			case Instruction.OPCODE_I_U_SH_R:
+				return Instruction.I_U_SH_R;
+			case Instruction.OPCODE_L_U_SH_R:
+				return Instruction.L_U_SH_R;
+			case Instruction.OPCODE_I_AND:
+				return Instruction.I_AND;
+			case Instruction.OPCODE_L_AND:
+				return Instruction.L_AND;
+			case Instruction.OPCODE_I_OR:
+				return Instruction.I_OR;
+			case Instruction.OPCODE_L_OR:
+				return Instruction.L_OR;
+			case Instruction.OPCODE_I_XOR:
+				return Instruction.I_XOR;
+			case Instruction.OPCODE_L_XOR:
+				return Instruction.L_XOR;
+			case Instruction.OPCODE_I_INC:
+				return Instruction.getIInc(code.get(i++) & 0xFF, code.get(i++));
+			case Instruction.OPCODE_I_2_L:
+				return Instruction.I_2_L;
+			case Instruction.OPCODE_I_2_F:
+				return Instruction.I_2_F;
+			case Instruction.OPCODE_I_2_D:
+				return Instruction.I_2_D;
+			case Instruction.OPCODE_L_2_I:
+				return Instruction.L_2_I;
+			case Instruction.OPCODE_L_2_F:
+				return Instruction.L_2_F;
+			case Instruction.OPCODE_L_2_D:
+				return Instruction.L_2_D;
+			case Instruction.OPCODE_F_2_I:
+				return Instruction.F_2_I;
+			case Instruction.OPCODE_F_2_L:
+				return Instruction.F_2_L;
+			case Instruction.OPCODE_F_2_D:
+				return Instruction.F_2_D;
+			case Instruction.OPCODE_D_2_I:
+				return Instruction.D_2_I;
+			case Instruction.OPCODE_D_2_L:
+				return Instruction.D_2_L;
+			case Instruction.OPCODE_D_2_F:
+				return Instruction.D_2_F;
+			case Instruction.OPCODE_I_2_B:
+				return Instruction.I_2_B;
+			case Instruction.OPCODE_I_2_C:
+				return Instruction.I_2_C;
+			case Instruction.OPCODE_I_2_S:
+				return Instruction.I_2_S;
+			case Instruction.OPCODE_L_CMP:
+				return Instruction.L_CMP;
+			case Instruction.OPCODE_F_CMP_L:
+				return Instruction.F_CMP_L;
+			case Instruction.OPCODE_F_CMP_G:
+				return Instruction.F_CMP_G;
+			case Instruction.OPCODE_D_CMP_L:
+				return Instruction.D_CMP_L;
+			case Instruction.OPCODE_D_CMP_G:
+				return Instruction.D_CMP_G;
+			case Instruction.OPCODE_IF_EQ:
+				return Instruction.getIfEq(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_N_E:
+				return Instruction.getIfNE(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_L_T:
+				return Instruction.getIfLT(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_G_E:
+				return Instruction.getIfGE(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_G_T:
+				return Instruction.getIfGT(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_L_E:
+				return Instruction.getIfLE(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_I_CMP_EQ:
+				return Instruction.getIfICmpEq(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_I_CMP_N_E:
+				return Instruction.getIfICmpNE(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_I_CMP_L_T:
+				return Instruction.getIfICmpLT(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_I_CMP_G_E:
+				return Instruction.getIfICmpGE(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_I_CMP_G_T:
+				return Instruction.getIfICmpGT(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_I_CMP_L_E:
+				return Instruction.getIfICmpLE(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_A_CMP_EQ:
+				return Instruction.getIfACmpEq(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_A_CMP_N_E:
+				return Instruction.getIfACmpNE(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_GO_TO:
+				return Instruction.getGoTo(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_J_S_R:
+				return Instruction.getJSR(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_RET:
+				return Instruction.getRet(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_TABLE_SWITCH: {
+				final int padding = (4 - (i % 4)) % 4;
+				
+				final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+				
+				for(int j = 0; j < padding; j++) {
+					byteArrayOutputStream.write(code.get(i++));
+				}
+				
+				for(int j = 0; j < 4; j++) {
+					byteArrayOutputStream.write(code.get(i++));
+				}
+				
+				final int lowByte1 = code.get(i + 0);
+				final int lowByte2 = code.get(i + 1);
+				final int lowByte3 = code.get(i + 2);
+				final int lowByte4 = code.get(i + 3);
+				
+				final int highByte1 = code.get(i + 4);
+				final int highByte2 = code.get(i + 5);
+				final int highByte3 = code.get(i + 6);
+				final int highByte4 = code.get(i + 7);
+				
+				for(int j = 0; j < 8; j++) {
+					byteArrayOutputStream.write(code.get(i++));
+				}
+				
+				final int low = ((lowByte1 & 0xFF) << 24) | ((lowByte2 & 0xFF) << 16) | ((lowByte3 & 0xFF) << 8) | (lowByte4 & 0xFF);
+				final int high = ((highByte1 & 0xFF) << 24) | ((highByte2 & 0xFF) << 16) | ((highByte3 & 0xFF) << 8) | (highByte4 & 0xFF);
+				
+				final int jumpOffsets = high - low + 1;
+				
+				for(int j = 0; j < jumpOffsets * 4; j++) {
+					byteArrayOutputStream.write(code.get(i++));
+				}
+				
+				final byte[] bytes = byteArrayOutputStream.toByteArray();
+				
+				final int[] operands = new int[bytes.length];
+				
+				for(int j = 0; j < operands.length; j++) {
+					operands[j] = bytes[j];
+				}
+				
+				return Instruction.getTableSwitch(padding, operands);
+			}
+			case Instruction.OPCODE_LOOKUP_SWITCH: {
+				final int padding = (4 - (i % 4)) % 4;
+				
+				final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+				
+				for(int j = 0; j < padding; j++) {
+					byteArrayOutputStream.write(code.get(i++));
+				}
+				
+				for(int j = 0; j < 4; j++) {
+					byteArrayOutputStream.write(code.get(i++));
+				}
+				
+				final int nPairs1 = code.get(i + 0);
+				final int nPairs2 = code.get(i + 1);
+				final int nPairs3 = code.get(i + 2);
+				final int nPairs4 = code.get(i + 3);
+				
+				for(int j = 0; j < 4; j++) {
+					byteArrayOutputStream.write(code.get(i++));
+				}
+				
+				final int nPairs = ((nPairs1 & 0xFF) << 24) | ((nPairs2 & 0xFF) << 16) | ((nPairs3 & 0xFF) << 8) | (nPairs4 & 0xFF);
+				
+				for(int j = 0; j < nPairs * 8; j++) {
+					byteArrayOutputStream.write(code.get(i++));
+				}
+				
+				final byte[] bytes = byteArrayOutputStream.toByteArray();
+				
+				final int[] operands = new int[bytes.length];
+				
+				for(int j = 0; j < operands.length; j++) {
+					operands[j] = bytes[j];
+				}
+				
+				return Instruction.getLookupSwitch(padding, operands);
+			}
+			case Instruction.OPCODE_I_RETURN:
+				return Instruction.I_RETURN;
+			case Instruction.OPCODE_L_RETURN:
+				return Instruction.L_RETURN;
+			case Instruction.OPCODE_F_RETURN:
+				return Instruction.F_RETURN;
+			case Instruction.OPCODE_D_RETURN:
+				return Instruction.D_RETURN;
+			case Instruction.OPCODE_A_RETURN:
+				return Instruction.A_RETURN;
+			case Instruction.OPCODE_RETURN:
+				return Instruction.RETURN;
+			case Instruction.OPCODE_GET_STATIC:
+				return Instruction.getGetStatic(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_PUT_STATIC:
+				return Instruction.getPutStatic(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_GET_FIELD:
+				return Instruction.getGetField(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_PUT_FIELD:
+				return Instruction.getPutField(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_INVOKE_VIRTUAL:
+				return Instruction.getInvokeVirtual(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_INVOKE_SPECIAL:
+				return Instruction.getInvokeSpecial(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_INVOKE_STATIC:
+				return Instruction.getInvokeStatic(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_INVOKE_INTERFACE:
+				return Instruction.getInvokeInterface(code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_INVOKE_DYNAMIC:
+				return Instruction.getInvokeDynamic(code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_NEW:
+				return Instruction.getNew(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_NEW_ARRAY:
+				return Instruction.getNewArray(code.get(i++) & 0xFF);
+			case Instruction.OPCODE_A_NEW_ARRAY:
+				return Instruction.getANewArray(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_ARRAY_LENGTH:
+				return Instruction.ARRAY_LENGTH;
+			case Instruction.OPCODE_A_THROW:
+				return Instruction.A_THROW;
+			case Instruction.OPCODE_CHECK_CAST:
+				return Instruction.getCheckCast(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_INSTANCE_OF:
+				return Instruction.getInstanceOf(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_MONITOR_ENTER:
+				return Instruction.MONITOR_ENTER;
+			case Instruction.OPCODE_MONITOR_EXIT:
+				return Instruction.MONITOR_EXIT;
+			case Instruction.OPCODE_WIDE:
+				opcode = code.get(i++) & 0xFF;
+				
+				switch(opcode) {
+					case Instruction.OPCODE_A_LOAD:
+					case Instruction.OPCODE_A_STORE:
+					case Instruction.OPCODE_D_LOAD:
+					case Instruction.OPCODE_D_STORE:
+					case Instruction.OPCODE_F_LOAD:
+					case Instruction.OPCODE_F_STORE:
+					case Instruction.OPCODE_I_LOAD:
+					case Instruction.OPCODE_I_STORE:
+					case Instruction.OPCODE_L_LOAD:
+					case Instruction.OPCODE_L_STORE:
+					case Instruction.OPCODE_RET: {
+						return Instruction.getWide(opcode, code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+					}
+					case Instruction.OPCODE_I_INC: {
+						return Instruction.getWide(opcode, code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+					}
+					default:
+						throw new IllegalArgumentException(String.format("Illegal opcode for wide: %s", Integer.toString(opcode)));
+				}
+			case Instruction.OPCODE_MULTI_A_NEW_ARRAY:
+				return Instruction.getMultiANewArray(code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			case Instruction.OPCODE_IF_NULL: {
+				return Instruction.getIfNull(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			}
+			case Instruction.OPCODE_IF_NON_NULL: {
+				return Instruction.getIfNonNull(code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			}
+			case Instruction.OPCODE_GO_TO_W: {
+				return Instruction.getGoToW(code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			}
+			case Instruction.OPCODE_J_S_R_W: {
+				return Instruction.getJSRW(code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF, code.get(i++) & 0xFF);
+			}
+			case Instruction.OPCODE_BREAK_POINT:
+				return Instruction.BREAK_POINT;
+			case Instruction.OPCODE_IMP_DEP_1:
+				return Instruction.IMP_DEP_1;
+			case Instruction.OPCODE_IMP_DEP_2:
+				return Instruction.IMP_DEP_2;
+			default:
+				throw new IllegalArgumentException(String.format("Illegal opcode: %s", Integer.toString(opcode)));
+		}
+	}
+}
\ No newline at end of file
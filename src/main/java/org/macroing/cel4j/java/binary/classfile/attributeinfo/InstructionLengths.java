@@ -0,0 +1,164 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.attributeinfo;
+
+import java.nio.ByteBuffer;
+
+final class InstructionLengths {
+	private static final int[] OPERAND_LENGTHS = doCreateOperandLengths();
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private InstructionLengths() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static int getLength(final ByteBuffer code, final int offset) {
+		final int opcode = code.get(offset) & 0xFF;
+		
+		switch(opcode) {
+			case Instruction.OPCODE_LOOKUP_SWITCH: {
+				final int index = offset + 1 + doGetPadding(offset + 1);
+				
+				final int nPairs = code.getInt(index + 4);
+				
+				if(nPairs < 0) {
+					throw new IllegalArgumentException(String.format("Illegal npairs for lookupswitch: %s", Integer.toString(nPairs)));
+				}
+				
+				return index + 8 + nPairs * 8 - offset;
+			}
+			case Instruction.OPCODE_TABLE_SWITCH: {
+				final int index = offset + 1 + doGetPadding(offset + 1);
+				
+				final int low = code.getInt(index + 4);
+				final int high = code.getInt(index + 8);
+				
+				if(low > high) {
+					throw new IllegalArgumentException(String.format("Illegal low and high for tableswitch: low = %s, high = %s", Integer.toString(low), Integer.toString(high)));
+				}
+				
+				return index + 12 + (high - low + 1) * 4 - offset;
+			}
+			case Instruction.OPCODE_WIDE:
+				return (code.get(offset + 1) & 0xFF) == Instruction.OPCODE_I_INC ? 6 : 4;
+			default:
+				if(OPERAND_LENGTHS[opcode] < 0) {
+					throw new IllegalArgumentException(String.format("Illegal opcode: %s", Integer.toString(opcode)));
+				}
+				
+				return 1 + OPERAND_LENGTHS[opcode];
+		}
+	}
+	
+	public static int[] getOffsets(final ByteBuffer code) {
+		final int codeLength = code.limit();
+		
+		int instructionCount = 0;
+		
+		for(int offset = 0; offset < codeLength; instructionCount++) {
+			offset += doGetLength(code, offset, codeLength);
+		}
+		
+		final int[] offsets = new int[instructionCount];
+		
+		for(int i = 0, offset = 0; i < instructionCount; i++) {
+			offsets[i] = offset;
+			
+			offset += getLength(code, offset);
+		}
+		
+		return offsets;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doGetLength(final ByteBuffer code, final int offset, final int codeLength) {
+		final int length = getLength(code, offset);
+		
+		if(offset + length > codeLength) {
+			throw new IllegalArgumentException(String.format("Instruction exceeds code_length: offset = %s", Integer.toString(offset)));
+		}
+		
+		return length;
+	}
+	
+	private static int doGetPadding(final int index) {
+		return (4 - (index % 4)) % 4;
+	}
+	
+	private static int[] doCreateOperandLengths() {
+		final int[] operandLengths = new int[256];
+		
+		for(int opcode = 0xCB; opcode <= 0xFD; opcode++) {
+			operandLengths[opcode] = -1;
+		}
+		
+		operandLengths[Instruction.OPCODE_A_LOAD] = 1;
+		operandLengths[Instruction.OPCODE_A_STORE] = 1;
+		operandLengths[Instruction.OPCODE_B_I_PUSH] = 1;
+		operandLengths[Instruction.OPCODE_D_LOAD] = 1;
+		operandLengths[Instruction.OPCODE_D_STORE] = 1;
+		operandLengths[Instruction.OPCODE_F_LOAD] = 1;
+		operandLengths[Instruction.OPCODE_F_STORE] = 1;
+		operandLengths[Instruction.OPCODE_I_LOAD] = 1;
+		operandLengths[Instruction.OPCODE_I_STORE] = 1;
+		operandLengths[Instruction.OPCODE_L_D_C] = 1;
+		operandLengths[Instruction.OPCODE_L_LOAD] = 1;
+		operandLengths[Instruction.OPCODE_L_STORE] = 1;
+		operandLengths[Instruction.OPCODE_NEW_ARRAY] = 1;
+		operandLengths[Instruction.OPCODE_RET] = 1;
+		
+		operandLengths[Instruction.OPCODE_A_NEW_ARRAY] = 2;
+		operandLengths[Instruction.OPCODE_CHECK_CAST] = 2;
+		operandLengths[Instruction.OPCODE_GET_FIELD] = 2;
+		operandLengths[Instruction.OPCODE_GET_STATIC] = 2;
+		operandLengths[Instruction.OPCODE_GO_TO] = 2;
+		operandLengths[Instruction.OPCODE_INSTANCE_OF] = 2;
+		operandLengths[Instruction.OPCODE_INVOKE_SPECIAL] = 2;
+		operandLengths[Instruction.OPCODE_INVOKE_STATIC] = 2;
+		operandLengths[Instruction.OPCODE_INVOKE_VIRTUAL] = 2;
+		operandLengths[Instruction.OPCODE_I_INC] = 2;
+		operandLengths[Instruction.OPCODE_J_S_R] = 2;
+		operandLengths[Instruction.OPCODE_L_D_C_2_W] = 2;
+		operandLengths[Instruction.OPCODE_L_D_C_W] = 2;
+		operandLengths[Instruction.OPCODE_NEW] = 2;
+		operandLengths[Instruction.OPCODE_PUT_FIELD] = 2;
+		operandLengths[Instruction.OPCODE_PUT_STATIC] = 2;
+		operandLengths[Instruction.OPCODE_S_I_PUSH] = 2;
+		
+		for(int opcode = Instruction.OPCODE_IF_EQ; opcode <= Instruction.OPCODE_IF_A_CMP_N_E; opcode++) {
+			operandLengths[opcode] = 2;
+		}
+		
+		operandLengths[Instruction.OPCODE_IF_NON_NULL] = 2;
+		operandLengths[Instruction.OPCODE_IF_NULL] = 2;
+		
+		operandLengths[Instruction.OPCODE_MULTI_A_NEW_ARRAY] = 3;
+		
+		operandLengths[Instruction.OPCODE_GO_TO_W] = 4;
+		operandLengths[Instruction.OPCODE_INVOKE_DYNAMIC] = 4;
+		operandLengths[Instruction.OPCODE_INVOKE_INTERFACE] = 4;
+		operandLengths[Instruction.OPCODE_J_S_R_W] = 4;
+		
+		return operandLengths;
+	}
+}
\ No newline at end of file
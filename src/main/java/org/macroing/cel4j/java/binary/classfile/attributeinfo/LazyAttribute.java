@@ -0,0 +1,329 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.attributeinfo;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+import org.macroing.cel4j.node.NodeHierarchicalVisitor;
+import org.macroing.cel4j.node.NodeTraversalException;
+
+/**
+ * A {@code LazyAttribute} represents an {@code attribute_info} structure whose {@code info} item has not necessarily been decoded yet.
+ * <p>
+ * This class is mutable and not thread-safe. However, decoding is thread-safe. If several threads call {@link #getAttributeInfo()} on a {@code LazyAttribute} that has not been decoded, each of them may decode it, but only the first
+ * decoded {@link AttributeInfo} instance is kept and returned to all of them. It is fully constructed before it is published.
+ * <p>
+ * A {@code LazyAttribute} keeps the original bytes of the {@code info} item together with a {@code Supplier} that decodes them into the actual {@link AttributeInfo} instance. The decoding is performed the first time
+ * {@link #getAttributeInfo()} is called, which includes traversal using a {@link NodeHierarchicalVisitor}. Until then, {@link #write(DataOutput)} writes the original bytes verbatim.
+ * <p>
+ * Instances of this class are created by the {@code ClassFileReader} class when it reads in lazy mode.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class LazyAttribute extends AttributeInfo {
+	private final AtomicReference<AttributeInfo> attributeInfo;
+	private final ByteBuffer info;
+	private final Supplier<AttributeInfo> decoder;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code LazyAttribute} instance.
+	 * <p>
+	 * If either {@code name}, {@code info} or {@code decoder} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code attributeNameIndex} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The bytes between the current position and the limit of {@code info} are used as the {@code info} item. They are not copied, so {@code info} should not be modified afterwards.
+	 * <p>
+	 * The {@code Supplier} {@code decoder} must return the decoded {@link AttributeInfo} instance. It is called once, unless several threads decode this {@code LazyAttribute} at the same time.
+	 * 
+	 * @param name the name associated with this {@code LazyAttribute} instance
+	 * @param attributeNameIndex the value for the {@code attribute_name_index} item associated with this {@code LazyAttribute} instance
+	 * @param info a {@code ByteBuffer} with the values for the {@code info} item associated with this {@code LazyAttribute} instance
+	 * @param decoder a {@code Supplier} that decodes the {@code info} item into an {@code AttributeInfo} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code attributeNameIndex} is less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, either {@code name}, {@code info} or {@code decoder} are {@code null}
+	 */
+	public LazyAttribute(final String name, final int attributeNameIndex, final ByteBuffer info, final Supplier<AttributeInfo> decoder) {
+		super(name, attributeNameIndex);
+		
+		this.info = Objects.requireNonNull(info, "info == null").slice().asReadOnlyBuffer();
+		this.decoder = Objects.requireNonNull(decoder, "decoder == null");
+		this.attributeInfo = new AtomicReference<>();
+	}
+	
+	/**
+	 * Constructs a new {@code LazyAttribute} instance that is a copy of {@code lazyAttribute}.
+	 * <p>
+	 * If {@code lazyAttribute} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code lazyAttribute} has been decoded, the decoded {@link AttributeInfo} instance is copied as well.
+	 * 
+	 * @param lazyAttribute the {@code LazyAttribute} instance to copy
+	 * @throws NullPointerException thrown if, and only if, {@code lazyAttribute} is {@code null}
+	 */
+	public LazyAttribute(final LazyAttribute lazyAttribute) {
+		super(lazyAttribute.getName(), lazyAttribute.getAttributeNameIndex());
+		
+		final AttributeInfo attributeInfo = lazyAttribute.attributeInfo.get();
+		
+		this.attributeInfo = new AtomicReference<>(attributeInfo != null ? attributeInfo.copy() : null);
+		this.info = lazyAttribute.info;
+		this.decoder = lazyAttribute.decoder;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the decoded {@link AttributeInfo} instance.
+	 * <p>
+	 * The first time this method is called, the {@code info} item is decoded. Subsequent calls return the same instance, even if they are made by other threads.
+	 * 
+	 * @return the decoded {@code AttributeInfo} instance
+	 */
+	public AttributeInfo getAttributeInfo() {
+		final AttributeInfo oldAttributeInfo = this.attributeInfo.get();
+		
+		if(oldAttributeInfo != null) {
+			return oldAttributeInfo;
+		}
+		
+		final AttributeInfo newAttributeInfo = Objects.requireNonNull(this.decoder.get(), "decoder.get() == null");
+		
+		return this.attributeInfo.compareAndSet(null, newAttributeInfo) ? newAttributeInfo : this.attributeInfo.get();
+	}
+	
+	/**
+	 * Returns a copy of this {@code LazyAttribute} instance.
+	 * 
+	 * @return a copy of this {@code LazyAttribute} instance
+	 */
+	@Override
+	public LazyAttribute copy() {
+		return new LazyAttribute(this);
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code LazyAttribute} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code LazyAttribute} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("new LazyAttribute(\"%s\", %s, ByteBuffer.wrap(new byte[] {}), decoder)", getName(), Integer.toString(getAttributeNameIndex()));
+	}
+	
+	/**
+	 * Accepts a {@link NodeHierarchicalVisitor}.
+	 * <p>
+	 * Returns the result of {@code nodeHierarchicalVisitor.visitLeave(this)}.
+	 * <p>
+	 * If {@code nodeHierarchicalVisitor} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If a {@code RuntimeException} is thrown by the current {@code NodeHierarchicalVisitor}, a {@code NodeTraversalException} will be thrown with the {@code RuntimeException} wrapped.
+	 * <p>
+	 * Visiting a {@code LazyAttribute} decodes it, so that the decoded {@link AttributeInfo} instance can be visited as its child.
+	 * 
+	 * @param nodeHierarchicalVisitor the {@code NodeHierarchicalVisitor} to accept
+	 * @return the result of {@code nodeHierarchicalVisitor.visitLeave(this)}
+	 * @throws NodeTraversalException thrown if, and only if, a {@code RuntimeException} is thrown by the current {@code NodeHierarchicalVisitor}
+	 * @throws NullPointerException thrown if, and only if, {@code nodeHierarchicalVisitor} is {@code null}
+	 */
+	@Override
+	public boolean accept(final NodeHierarchicalVisitor nodeHierarchicalVisitor) {
+		Objects.requireNonNull(nodeHierarchicalVisitor, "nodeHierarchicalVisitor == null");
+		
+		try {
+			if(nodeHierarchicalVisitor.visitEnter(this)) {
+				if(!getAttributeInfo().accept(nodeHierarchicalVisitor)) {
+					return nodeHierarchicalVisitor.visitLeave(this);
+				}
+			}
+			
+			return nodeHierarchicalVisitor.visitLeave(this);
+		} catch(final RuntimeException e) {
+			throw new NodeTraversalException(e);
+		}
+	}
+	
+	/**
+	 * Compares {@code object} to this {@code LazyAttribute} instance for equality.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code object} is an instance of {@code LazyAttribute}, and their respective values are equal, {@code false} otherwise.
+	 * <p>
+	 * If neither {@code LazyAttribute} has been decoded and their original bytes are equal, they are equal without being decoded. Otherwise their decoded {@link AttributeInfo} instances are compared.
+	 * <p>
+	 * A {@code LazyAttribute} is never equal to an {@code AttributeInfo} instance that is not a {@code LazyAttribute}, not even the one it decodes to. To compare {@code attributes} tables that may contain both, compare the {@code List}s
+	 * returned by {@link #unwrap(List)}.
+	 * 
+	 * @param object the {@code Object} to compare to this {@code LazyAttribute} instance for equality
+	 * @return {@code true} if, and only if, {@code object} is an instance of {@code LazyAttribute}, and their respective values are equal, {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		} else if(!(object instanceof LazyAttribute)) {
+			return false;
+		} else if(!Objects.equals(getName(), LazyAttribute.class.cast(object).getName())) {
+			return false;
+		} else if(getAttributeNameIndex() != LazyAttribute.class.cast(object).getAttributeNameIndex()) {
+			return false;
+		} else if(!isDecoded() && !LazyAttribute.class.cast(object).isDecoded() && this.info.equals(LazyAttribute.class.cast(object).info)) {
+			return true;
+		} else {
+			return Objects.equals(getAttributeInfo(), LazyAttribute.class.cast(object).getAttributeInfo());
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code LazyAttribute} instance has been decoded, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code LazyAttribute} instance has been decoded, {@code false} otherwise
+	 */
+	public boolean isDecoded() {
+		return this.attributeInfo.get() != null;
+	}
+	
+	/**
+	 * Returns the original values of the {@code info} item associated with this {@code LazyAttribute} instance.
+	 * 
+	 * @return the original values of the {@code info} item associated with this {@code LazyAttribute} instance
+	 */
+	public byte[] getInfo() {
+		final byte[] info = new byte[this.info.remaining()];
+		
+		this.info.duplicate().get(info);
+		
+		return info;
+	}
+	
+	/**
+	 * Returns the value of the {@code attribute_length} item associated with this {@code LazyAttribute} instance.
+	 * <p>
+	 * If this {@code LazyAttribute} instance has been decoded, the {@code attribute_length} of the decoded {@link AttributeInfo} instance is returned.
+	 * 
+	 * @return the value of the {@code attribute_length} item associated with this {@code LazyAttribute} instance
+	 */
+	@Override
+	public int getAttributeLength() {
+		final AttributeInfo attributeInfo = this.attributeInfo.get();
+		
+		return attributeInfo != null ? attributeInfo.getAttributeLength() : this.info.remaining();
+	}
+	
+	/**
+	 * Returns a hash code for this {@code LazyAttribute} instance.
+	 * <p>
+	 * The hash code only depends on the name and the {@code attribute_name_index} item, so this method does not decode this {@code LazyAttribute} instance. {@code LazyAttribute} instances with the same name and {@code attribute_name_index}
+	 * item therefore have the same hash code.
+	 * 
+	 * @return a hash code for this {@code LazyAttribute} instance
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(getName(), Integer.valueOf(getAttributeNameIndex()));
+	}
+	
+	/**
+	 * Writes this {@code LazyAttribute} to {@code dataOutput}.
+	 * <p>
+	 * If {@code dataOutput} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * This method does not close {@code dataOutput}.
+	 * <p>
+	 * If this {@code LazyAttribute} instance has not been decoded, the original bytes of the {@code info} item are written verbatim. Otherwise the decoded {@link AttributeInfo} instance is written.
+	 * 
+	 * @param dataOutput the {@code DataOutput} to write to
+	 * @throws NullPointerException thrown if, and only if, {@code dataOutput} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
+	 */
+	@Override
+	public void write(final DataOutput dataOutput) {
+		Objects.requireNonNull(dataOutput, "dataOutput == null");
+		
+		final AttributeInfo attributeInfo = this.attributeInfo.get();
+		
+		if(attributeInfo != null) {
+			attributeInfo.write(dataOutput);
+			
+			return;
+		}
+		
+		try {
+			dataOutput.writeShort(getAttributeNameIndex());
+			dataOutput.writeInt(this.info.remaining());
+			dataOutput.write(getInfo());
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns {@code attributeInfo} or, if it is a {@code LazyAttribute}, its decoded {@link AttributeInfo} instance.
+	 * <p>
+	 * If {@code attributeInfo} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param attributeInfo an {@code AttributeInfo} instance
+	 * @return {@code attributeInfo} or, if it is a {@code LazyAttribute}, its decoded {@code AttributeInfo} instance
+	 * @throws NullPointerException thrown if, and only if, {@code attributeInfo} is {@code null}
+	 */
+	public static AttributeInfo unwrap(final AttributeInfo attributeInfo) {
+		return Objects.requireNonNull(attributeInfo, "attributeInfo == null") instanceof LazyAttribute ? LazyAttribute.class.cast(attributeInfo).getAttributeInfo() : attributeInfo;
+	}
+	
+	/**
+	 * Returns a {@code List} with the {@link AttributeInfo} instances in {@code attributeInfos}, where each {@code LazyAttribute} has been replaced by its decoded {@code AttributeInfo} instance.
+	 * <p>
+	 * If either {@code attributeInfos} or any of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * This method is used for comparing and hashing {@code attributes} tables, so that an {@code attributes} table that was read in lazy mode is equal to the same {@code attributes} table read in eager mode. It decodes every
+	 * {@code LazyAttribute} in {@code attributeInfos}.
+	 * <p>
+	 * Modifying the returned {@code List} will not affect {@code attributeInfos}.
+	 * 
+	 * @param attributeInfos a {@code List} of {@code AttributeInfo} instances
+	 * @return a {@code List} with the {@code AttributeInfo} instances in {@code attributeInfos}, where each {@code LazyAttribute} has been replaced by its decoded {@code AttributeInfo} instance
+	 * @throws NullPointerException thrown if, and only if, either {@code attributeInfos} or any of its elements are {@code null}
+	 */
+	public static List<AttributeInfo> unwrap(final List<AttributeInfo> attributeInfos) {
+		final List<AttributeInfo> unwrappedAttributeInfos = new ArrayList<>(attributeInfos.size());
+		
+		for(final AttributeInfo attributeInfo : attributeInfos) {
+			unwrappedAttributeInfos.add(unwrap(attributeInfo));
+		}
+		
+		return unwrappedAttributeInfos;
+	}
+}
\ No newline at end of file
@@ -22,6 +22,7 @@ import java.io.DataOutput;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -60,6 +61,7 @@ public final class LineNumberTableAttribute extends AttributeInfo {
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private final List<LineNumber> lineNumberTable;
+	private final List<LineNumber> lineNumberTableView;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
@@ -75,6 +77,7 @@ public final class LineNumberTableAttribute extends AttributeInfo {
 		super(NAME, lineNumberTableAttribute.getAttributeNameIndex());
 		
 		this.lineNumberTable = lineNumberTableAttribute.lineNumberTable.stream().map(lineNumber -> lineNumber.copy()).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		this.lineNumberTableView = Collections.unmodifiableList(this.lineNumberTable);
 	}
 	
 	/**
@@ -89,6 +92,7 @@ public final class LineNumberTableAttribute extends AttributeInfo {
 		super(NAME, attributeNameIndex);
 		
 		this.lineNumberTable = new ArrayList<>();
+		this.lineNumberTableView = Collections.unmodifiableList(this.lineNumberTable);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -114,6 +118,19 @@ public final class LineNumberTableAttribute extends AttributeInfo {
 		return new ArrayList<>(this.lineNumberTable);
 	}
 	
+	/**
+	 * Returns an unmodifiable view that represents the {@code line_number_table} item associated with this {@code LineNumberTableAttribute} instance.
+	 * <p>
+	 * The returned {@code List} is not a copy. It reflects later changes made to this {@code LineNumberTableAttribute} instance and attempting to modify it will result in an {@code UnsupportedOperationException}.
+	 * <p>
+	 * This method does not allocate and is preferable to {@link #getLineNumberTable()} in loops that only read the {@code List}.
+	 * 
+	 * @return an unmodifiable view that represents the {@code line_number_table} item associated with this {@code LineNumberTableAttribute} instance
+	 */
+	public List<LineNumber> getLineNumberTableView() {
+		return this.lineNumberTableView;
+	}
+	
 	/**
 	 * Returns a {@code String} representation of this {@code LineNumberTableAttribute} instance.
 	 * 
@@ -246,7 +246,7 @@ public final class MethodParametersAttribute extends AttributeInfo {
 	 */
 	@Override
 	public int getAttributeLength() {
-		return 1 + this.parameters.size() * 2;
+		return 1 + this.parameters.size() * 4;
 	}
 	
 	/**
@@ -349,6 +349,6 @@ public final class MethodParametersAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
 	 */
 	public static Optional<MethodParametersAttribute> find(final MethodInfo methodInfo) {
-		return methodInfo.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof MethodParametersAttribute).map(attributeInfo -> MethodParametersAttribute.class.cast(attributeInfo)).findFirst();
+		return methodInfo.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof MethodParametersAttribute).map(attributeInfo -> MethodParametersAttribute.class.cast(attributeInfo)).findFirst();
 	}
 }
\ No newline at end of file
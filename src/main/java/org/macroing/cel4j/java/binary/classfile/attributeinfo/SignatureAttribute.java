@@ -237,7 +237,7 @@ public final class SignatureAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
 	 */
 	public static Optional<SignatureAttribute> find(final ClassFile classFile) {
-		return classFile.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof SignatureAttribute).map(attributeInfo -> SignatureAttribute.class.cast(attributeInfo)).findFirst();
+		return classFile.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof SignatureAttribute).map(attributeInfo -> SignatureAttribute.class.cast(attributeInfo)).findFirst();
 	}
 	
 	/**
@@ -252,7 +252,7 @@ public final class SignatureAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code fieldInfo} is {@code null}
 	 */
 	public static Optional<SignatureAttribute> find(final FieldInfo fieldInfo) {
-		return fieldInfo.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof SignatureAttribute).map(attributeInfo -> SignatureAttribute.class.cast(attributeInfo)).findFirst();
+		return fieldInfo.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof SignatureAttribute).map(attributeInfo -> SignatureAttribute.class.cast(attributeInfo)).findFirst();
 	}
 	
 	/**
@@ -267,6 +267,6 @@ public final class SignatureAttribute extends AttributeInfo {
 	 * @throws NullPointerException thrown if, and only if, {@code methodInfo} is {@code null}
 	 */
 	public static Optional<SignatureAttribute> find(final MethodInfo methodInfo) {
-		return methodInfo.getAttributeInfos().stream().filter(attributeInfo -> attributeInfo instanceof SignatureAttribute).map(attributeInfo -> SignatureAttribute.class.cast(attributeInfo)).findFirst();
+		return methodInfo.getAttributeInfosView().stream().filter(attributeInfo -> attributeInfo.getName().equals(NAME)).map(LazyAttribute::unwrap).filter(attributeInfo -> attributeInfo instanceof SignatureAttribute).map(attributeInfo -> SignatureAttribute.class.cast(attributeInfo)).findFirst();
 	}
 }
\ No newline at end of file
@@ -217,6 +217,8 @@ public final class ConstantClassInfo extends CPInfo {
 	 */
 	public void setNameIndex(final int nameIndex) {
 		this.nameIndex = ParameterArguments.requireRange(nameIndex, 1, Integer.MAX_VALUE, "nameIndex");
+		
+		notifyModified();
 	}
 	
 	/**
@@ -210,6 +210,8 @@ public final class ConstantDoubleInfo extends CPInfo {
 	 */
 	public void setDoubleValue(final double doubleValue) {
 		this.doubleValue = doubleValue;
+		
+		notifyModified();
 	}
 	
 	/**
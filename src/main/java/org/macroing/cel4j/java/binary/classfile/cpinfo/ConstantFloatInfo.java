@@ -209,6 +209,8 @@ public final class ConstantFloatInfo extends CPInfo {
 	 */
 	public void setFloatValue(final float floatValue) {
 		this.floatValue = floatValue;
+		
+		notifyModified();
 	}
 	
 	/**
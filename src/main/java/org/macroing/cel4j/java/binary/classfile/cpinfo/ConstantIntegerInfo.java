@@ -209,6 +209,8 @@ public final class ConstantIntegerInfo extends CPInfo {
 	 */
 	public void setIntValue(final int intValue) {
 		this.intValue = intValue;
+		
+		notifyModified();
 	}
 	
 	/**
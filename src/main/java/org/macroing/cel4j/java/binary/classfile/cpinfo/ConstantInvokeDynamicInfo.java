@@ -233,6 +233,8 @@ public final class ConstantInvokeDynamicInfo extends CPInfo {
 	 */
 	public void setBootstrapMethodAttrIndex(final int bootstrapMethodAttrIndex) {
 		this.bootstrapMethodAttrIndex = ParameterArguments.requireRange(bootstrapMethodAttrIndex, 0, Integer.MAX_VALUE, "bootstrapMethodAttrIndex");
+		
+		notifyModified();
 	}
 	
 	/**
@@ -245,6 +247,8 @@ public final class ConstantInvokeDynamicInfo extends CPInfo {
 	 */
 	public void setNameAndTypeIndex(final int nameAndTypeIndex) {
 		this.nameAndTypeIndex = ParameterArguments.requireRange(nameAndTypeIndex, 1, Integer.MAX_VALUE, "nameAndTypeIndex");
+		
+		notifyModified();
 	}
 	
 	/**
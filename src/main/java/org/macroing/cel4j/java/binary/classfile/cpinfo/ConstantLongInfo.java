@@ -210,6 +210,8 @@ public final class ConstantLongInfo extends CPInfo {
 	 */
 	public void setLongValue(final long longValue) {
 		this.longValue = longValue;
+		
+		notifyModified();
 	}
 	
 	/**
@@ -278,6 +278,8 @@ public final class ConstantMethodHandleInfo extends CPInfo {
 	 */
 	public void setReferenceIndex(final int referenceIndex) {
 		this.referenceIndex = ParameterArguments.requireRange(referenceIndex, 1, Integer.MAX_VALUE, "referenceIndex");
+		
+		notifyModified();
 	}
 	
 	/**
@@ -290,6 +292,8 @@ public final class ConstantMethodHandleInfo extends CPInfo {
 	 */
 	public void setReferenceKind(final int referenceKind) {
 		this.referenceKind = ParameterArguments.requireRange(referenceKind, 0, Integer.MAX_VALUE, "referenceKind");
+		
+		notifyModified();
 	}
 	
 	/**
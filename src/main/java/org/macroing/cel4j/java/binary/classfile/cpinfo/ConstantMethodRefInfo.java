@@ -233,6 +233,8 @@ public final class ConstantMethodRefInfo extends CPInfo {
 	 */
 	public void setClassIndex(final int classIndex) {
 		this.classIndex = ParameterArguments.requireRange(classIndex, 1, Integer.MAX_VALUE, "classIndex");
+		
+		notifyModified();
 	}
 	
 	/**
@@ -245,6 +247,8 @@ public final class ConstantMethodRefInfo extends CPInfo {
 	 */
 	public void setNameAndTypeIndex(final int nameAndTypeIndex) {
 		this.nameAndTypeIndex = ParameterArguments.requireRange(nameAndTypeIndex, 1, Integer.MAX_VALUE, "nameAndTypeIndex");
+		
+		notifyModified();
 	}
 	
 	/**
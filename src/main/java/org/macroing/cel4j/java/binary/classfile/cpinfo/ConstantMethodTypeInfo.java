@@ -216,6 +216,8 @@ public final class ConstantMethodTypeInfo extends CPInfo {
 	 */
 	public void setDescriptorIndex(final int descriptorIndex) {
 		this.descriptorIndex = ParameterArguments.requireRange(descriptorIndex, 1, Integer.MAX_VALUE, "descriptorIndex");
+		
+		notifyModified();
 	}
 	
 	/**
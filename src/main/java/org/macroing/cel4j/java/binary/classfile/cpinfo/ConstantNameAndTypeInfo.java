@@ -234,6 +234,8 @@ public final class ConstantNameAndTypeInfo extends CPInfo {
 	 */
 	public void setDescriptorIndex(final int descriptorIndex) {
 		this.descriptorIndex = ParameterArguments.requireRange(descriptorIndex, 1, Integer.MAX_VALUE, "descriptorIndex");
+		
+		notifyModified();
 	}
 	
 	/**
@@ -246,6 +248,8 @@ public final class ConstantNameAndTypeInfo extends CPInfo {
 	 */
 	public void setNameIndex(final int nameIndex) {
 		this.nameIndex = ParameterArguments.requireRange(nameIndex, 1, Integer.MAX_VALUE, "nameIndex");
+		
+		notifyModified();
 	}
 	
 	/**
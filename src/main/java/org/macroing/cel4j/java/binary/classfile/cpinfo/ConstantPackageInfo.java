@@ -216,6 +216,8 @@ public final class ConstantPackageInfo extends CPInfo {
 	 */
 	public void setNameIndex(final int nameIndex) {
 		this.nameIndex = ParameterArguments.requireRange(nameIndex, 1, Integer.MAX_VALUE, "nameIndex");
+		
+		notifyModified();
 	}
 	
 	/**
@@ -216,6 +216,8 @@ public final class ConstantStringInfo extends CPInfo {
 	 */
 	public void setStringIndex(final int stringIndex) {
 		this.stringIndex = ParameterArguments.requireRange(stringIndex, 1, Integer.MAX_VALUE, "stringIndex");
+		
+		notifyModified();
 	}
 	
 	/**
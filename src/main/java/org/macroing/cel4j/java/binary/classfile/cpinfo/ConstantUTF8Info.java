@@ -20,7 +20,9 @@ package org.macroing.cel4j.java.binary.classfile.cpinfo;
 
 import java.io.DataOutput;
 import java.io.IOException;
+import java.io.UTFDataFormatException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Objects;
 
@@ -220,6 +222,8 @@ public final class ConstantUTF8Info extends CPInfo {
 	 */
 	public void setStringValue(final String stringValue) {
 		this.stringValue = Objects.requireNonNull(stringValue, "stringValue == null");
+		
+		notifyModified();
 	}
 	
 	/**
@@ -759,4 +763,77 @@ public final class ConstantUTF8Info extends CPInfo {
 			return false;
 		};
 	}
+	
+	/**
+	 * Decodes {@code length} bytes of modified UTF-8, starting at offset {@code offset} in {@code byteBuffer}, into a {@code String}.
+	 * <p>
+	 * Returns a {@code String} with the decoded characters.
+	 * <p>
+	 * Modified UTF-8 is the format of the {@code bytes} item of the {@code CONSTANT_Utf8_info} structure and of {@link java.io.DataInput#readUTF()}. The bytes are read using absolute get methods, so the position of {@code byteBuffer} is not
+	 * changed and nothing is copied.
+	 * <p>
+	 * If {@code byteBuffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the bytes are not valid modified UTF-8, a {@code UTFDataFormatException} will be thrown.
+	 * <p>
+	 * If the range of bytes is not within {@code byteBuffer}, an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param byteBuffer the {@code ByteBuffer} to decode from
+	 * @param offset the offset of the first byte to decode
+	 * @param length the number of bytes to decode
+	 * @return a {@code String} with the decoded characters
+	 * @throws IndexOutOfBoundsException thrown if, and only if, the range of bytes is not within {@code byteBuffer}
+	 * @throws NullPointerException thrown if, and only if, {@code byteBuffer} is {@code null}
+	 * @throws UTFDataFormatException thrown if, and only if, the bytes are not valid modified UTF-8
+	 */
+	public static String decode(final ByteBuffer byteBuffer, final int offset, final int length) throws UTFDataFormatException {
+		Objects.requireNonNull(byteBuffer, "byteBuffer == null");
+		
+		final char[] characters = new char[length];
+		
+		int characterCount = 0;
+		
+		for(int i = 0; i < length;) {
+			final int a = byteBuffer.get(offset + i) & 0xFF;
+			
+			if(a < 0x80) {
+				characters[characterCount++] = (char)(a);
+				
+				i++;
+			} else if((a & 0xE0) == 0xC0) {
+				if(i + 2 > length) {
+					throw new UTFDataFormatException("Malformed input: partial character at end");
+				}
+				
+				final int b = byteBuffer.get(offset + i + 1) & 0xFF;
+				
+				if((b & 0xC0) != 0x80) {
+					throw new UTFDataFormatException(String.format("Malformed input around byte %s", Integer.toString(i + 1)));
+				}
+				
+				characters[characterCount++] = (char)(((a & 0x1F) << 6) | (b & 0x3F));
+				
+				i += 2;
+			} else if((a & 0xF0) == 0xE0) {
+				if(i + 3 > length) {
+					throw new UTFDataFormatException("Malformed input: partial character at end");
+				}
+				
+				final int b = byteBuffer.get(offset + i + 1) & 0xFF;
+				final int c = byteBuffer.get(offset + i + 2) & 0xFF;
+				
+				if((b & 0xC0) != 0x80 || (c & 0xC0) != 0x80) {
+					throw new UTFDataFormatException(String.format("Malformed input around byte %s", Integer.toString(i + 2)));
+				}
+				
+				characters[characterCount++] = (char)(((a & 0x0F) << 12) | ((b & 0x3F) << 6) | (c & 0x3F));
+				
+				i += 3;
+			} else {
+				throw new UTFDataFormatException(String.format("Malformed input around byte %s", Integer.toString(i)));
+			}
+		}
+		
+		return new String(characters, 0, characterCount);
+	}
 }
\ No newline at end of file
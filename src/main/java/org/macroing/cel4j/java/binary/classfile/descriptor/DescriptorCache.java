@@ -0,0 +1,246 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.descriptor;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.macroing.cel4j.util.MemoCache;
+
+/**
+ * A {@code DescriptorCache} is used for sharing the {@link FieldDescriptor} and {@link MethodDescriptor} instances that are parsed from the same descriptor {@code String}s.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * Descriptors such as {@code "Ljava/lang/String;"} and {@code "(Ljava/lang/String;)V"} occur in almost every class file. A {@code DescriptorCache} parses each of them once and returns the same immutable instance on every later request, until
+ * it is evicted. The number of cached instances is bounded.
+ * <p>
+ * The cache is opt-in. It can be used directly, or installed by calling {@link #install(DescriptorCache)}, in which case {@link FieldDescriptor#parseFieldDescriptor(String)} and {@link MethodDescriptor#parseMethodDescriptor(String)}, and
+ * every method that delegates to them, will use it.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * DescriptorCache descriptorCache = new DescriptorCache();
+ * 
+ * DescriptorCache.install(descriptorCache);
+ * 
+ * List<MethodDescriptor> methodDescriptors = MethodDescriptor.parseMethodDescriptors(classFile);
+ * 
+ * System.out.println(descriptorCache.getHitRate());
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class DescriptorCache {
+	private static final AtomicReference<DescriptorCache> INSTALLED = new AtomicReference<>();
+	private static final int MAXIMUM_SIZE_DEFAULT = 4096;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final MemoCache<String, FieldDescriptor> fieldDescriptors;
+	private final MemoCache<String, MethodDescriptor> methodDescriptors;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code DescriptorCache} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new DescriptorCache(4096);
+	 * }
+	 * </pre>
+	 */
+	public DescriptorCache() {
+		this(MAXIMUM_SIZE_DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new {@code DescriptorCache} instance.
+	 * <p>
+	 * At most {@code maximumSize} {@code FieldDescriptor} instances and {@code maximumSize} {@code MethodDescriptor} instances will be cached.
+	 * <p>
+	 * If {@code maximumSize} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param maximumSize the maximum number of cached instances of each kind
+	 * @throws IllegalArgumentException thrown if, and only if, {@code maximumSize} is less than {@code 1}
+	 */
+	public DescriptorCache(final int maximumSize) {
+		this.fieldDescriptors = new MemoCache<>(maximumSize);
+		this.methodDescriptors = new MemoCache<>(maximumSize);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Parses {@code string} into a {@link FieldDescriptor} instance, or returns the cached instance for {@code string}.
+	 * <p>
+	 * Returns a {@code FieldDescriptor} instance.
+	 * <p>
+	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param string the {@code String} to parse
+	 * @return a {@code FieldDescriptor} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code string} is malformed
+	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
+	 */
+	public FieldDescriptor parseFieldDescriptor(final String string) {
+		return this.fieldDescriptors.computeIfAbsent(Objects.requireNonNull(string, "string == null"), DescriptorParser::parseFieldDescriptor);
+	}
+	
+	/**
+	 * Parses {@code string} into a {@link MethodDescriptor} instance, or returns the cached instance for {@code string}.
+	 * <p>
+	 * Returns a {@code MethodDescriptor} instance.
+	 * <p>
+	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param string the {@code String} to parse
+	 * @return a {@code MethodDescriptor} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code string} is malformed
+	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
+	 */
+	public MethodDescriptor parseMethodDescriptor(final String string) {
+		return this.methodDescriptors.computeIfAbsent(Objects.requireNonNull(string, "string == null"), DescriptorParser::parseMethodDescriptor);
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code DescriptorCache} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code DescriptorCache} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("DescriptorCache: [Size=%s], [HitCount=%s], [MissCount=%s], [EvictionCount=%s]", Integer.toString(getSize()), Long.toString(getHitCount()), Long.toString(getMissCount()), Long.toString(getEvictionCount()));
+	}
+	
+	/**
+	 * Returns the ratio of lookups that found a cached instance, or {@code 0.0D} if no lookups have been made.
+	 * 
+	 * @return the ratio of lookups that found a cached instance, or {@code 0.0D} if no lookups have been made
+	 */
+	public double getHitRate() {
+		final long hitCount = getHitCount();
+		final long missCount = getMissCount();
+		final long lookupCount = hitCount + missCount;
+		
+		return lookupCount > 0L ? (double)(hitCount) / (double)(lookupCount) : 0.0D;
+	}
+	
+	/**
+	 * Returns the number of cached instances.
+	 * 
+	 * @return the number of cached instances
+	 */
+	public int getSize() {
+		return this.fieldDescriptors.getSize() + this.methodDescriptors.getSize();
+	}
+	
+	/**
+	 * Returns the number of cached instances that have been evicted.
+	 * 
+	 * @return the number of cached instances that have been evicted
+	 */
+	public long getEvictionCount() {
+		return this.fieldDescriptors.getEvictionCount() + this.methodDescriptors.getEvictionCount();
+	}
+	
+	/**
+	 * Returns the number of lookups that found a cached instance.
+	 * 
+	 * @return the number of lookups that found a cached instance
+	 */
+	public long getHitCount() {
+		return this.fieldDescriptors.getHitCount() + this.methodDescriptors.getHitCount();
+	}
+	
+	/**
+	 * Returns the number of lookups that had to parse the descriptor.
+	 * 
+	 * @return the number of lookups that had to parse the descriptor
+	 */
+	public long getMissCount() {
+		return this.fieldDescriptors.getMissCount() + this.methodDescriptors.getMissCount();
+	}
+	
+	/**
+	 * Removes all cached instances from this {@code DescriptorCache} instance.
+	 * <p>
+	 * The hit, miss and eviction counters are not reset.
+	 */
+	public void clear() {
+		this.fieldDescriptors.clear();
+		this.methodDescriptors.clear();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the installed {@code DescriptorCache}, if present.
+	 * 
+	 * @return the installed {@code DescriptorCache}, if present
+	 */
+	public static Optional<DescriptorCache> getInstalled() {
+		return Optional.ofNullable(INSTALLED.get());
+	}
+	
+	/**
+	 * Installs {@code descriptorCache}, so that it will be used by {@link FieldDescriptor#parseFieldDescriptor(String)} and {@link MethodDescriptor#parseMethodDescriptor(String)}.
+	 * <p>
+	 * Any previously installed {@code DescriptorCache} is replaced.
+	 * <p>
+	 * If {@code descriptorCache} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param descriptorCache the {@code DescriptorCache} to install
+	 * @throws NullPointerException thrown if, and only if, {@code descriptorCache} is {@code null}
+	 */
+	public static void install(final DescriptorCache descriptorCache) {
+		INSTALLED.set(Objects.requireNonNull(descriptorCache, "descriptorCache == null"));
+	}
+	
+	/**
+	 * Uninstalls the installed {@code DescriptorCache}, if present.
+	 */
+	public static void uninstall() {
+		INSTALLED.set(null);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static FieldDescriptor parseFieldDescriptorCached(final String string) {
+		final DescriptorCache descriptorCache = INSTALLED.get();
+		
+		return descriptorCache != null ? descriptorCache.parseFieldDescriptor(string) : DescriptorParser.parseFieldDescriptor(string);
+	}
+	
+	static MethodDescriptor parseMethodDescriptorCached(final String string) {
+		final DescriptorCache descriptorCache = INSTALLED.get();
+		
+		return descriptorCache != null ? descriptorCache.parseMethodDescriptor(string) : DescriptorParser.parseMethodDescriptor(string);
+	}
+}
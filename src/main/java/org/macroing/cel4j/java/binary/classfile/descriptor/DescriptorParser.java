@@ -0,0 +1,231 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.descriptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@code DescriptorParser} is a hand-written recursive-descent parser for descriptors.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * The parser works directly on a {@code String} and an {@code int} cursor. It does not use any regular expressions, and the only {@code String}s it creates are those of the {@link ClassName} instances. It produces the same
+ * {@link FieldDescriptor} and {@link MethodDescriptor} instances as the {@code TextScanner}-based parsers for valid input.
+ * <p>
+ * The recursive-descent parser is stricter than the {@code TextScanner}-based parsers. It throws an {@code IllegalArgumentException} for malformed input, such as {@code (V[BI)[B}, or for a valid descriptor that is followed by
+ * trailing characters, such as {@code (I)V^}. The {@code TextScanner}-based parsers silently accepted such input. This is an intentional change in behavior.
+ * <p>
+ * The recursive-descent parser is used by {@link FieldDescriptor#parseFieldDescriptor(String)}, {@link MethodDescriptor#parseMethodDescriptor(String)} and {@link DescriptorCache}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+final class DescriptorParser {
+	private final String string;
+	private int index;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private DescriptorParser(final String string) {
+		this.string = string;
+		this.index = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static FieldDescriptor parseFieldDescriptor(final String string) {
+		final DescriptorParser descriptorParser = new DescriptorParser(string);
+		
+		final FieldDescriptor fieldDescriptor = descriptorParser.doParseFieldDescriptor();
+		
+		descriptorParser.doConsumeEnd("FieldDescriptor");
+		
+		return fieldDescriptor;
+	}
+	
+	static MethodDescriptor parseMethodDescriptor(final String string) {
+		final DescriptorParser descriptorParser = new DescriptorParser(string);
+		
+		final MethodDescriptor methodDescriptor = descriptorParser.doParseMethodDescriptor();
+		
+		descriptorParser.doConsumeEnd("MethodDescriptor");
+		
+		return methodDescriptor;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ArrayType doParseArrayType() {
+		doConsume('[', "ArrayType");
+		
+		final char character = doPeek();
+		
+		if(character == '[') {
+			return ArrayType.valueOf(doParseArrayType());
+		} else if(character == 'L') {
+			return ArrayType.valueOf(doParseObjectType());
+		}
+		
+		final BaseType baseType = doGetBaseType(character);
+		
+		if(baseType == null) {
+			throw doCreateIllegalArgumentException("ArrayType");
+		}
+		
+		this.index++;
+		
+		return ArrayType.valueOf(baseType);
+	}
+	
+	private ClassName doParseClassName() {
+		final int beginIndex = this.index;
+		
+		doSkipIdentifier();
+		
+		while(doPeek() == '/') {
+			this.index++;
+			
+			doSkipIdentifier();
+		}
+		
+		return new ClassName(this.string.substring(beginIndex, this.index));
+	}
+	
+	private FieldDescriptor doParseFieldDescriptor() {
+		for(final BaseType baseType : BaseType.values()) {
+			if(this.string.startsWith(baseType.getType(), this.index)) {
+				this.index += baseType.getType().length();
+				
+				return baseType;
+			}
+		}
+		
+		return doParseFieldType();
+	}
+	
+	private FieldType doParseFieldType() {
+		final char character = doPeek();
+		
+		if(character == 'L') {
+			return doParseObjectType();
+		} else if(character == '[') {
+			return doParseArrayType();
+		}
+		
+		final BaseType baseType = doGetBaseType(character);
+		
+		if(baseType == null) {
+			throw doCreateIllegalArgumentException("FieldType");
+		}
+		
+		this.index++;
+		
+		return baseType;
+	}
+	
+	private IllegalArgumentException doCreateIllegalArgumentException(final String name) {
+		return new IllegalArgumentException(String.format("Illegal %s: %s", name, this.string.substring(Math.min(this.index, this.string.length()))));
+	}
+	
+	private MethodDescriptor doParseMethodDescriptor() {
+		doConsume('(', "MethodDescriptor");
+		
+		final List<ParameterDescriptor> parameterDescriptors = new ArrayList<>();
+		
+		while(doPeek() != ')') {
+			parameterDescriptors.add(doParseFieldType());
+		}
+		
+		this.index++;
+		
+		if(doPeek() == 'V') {
+			this.index++;
+			
+			return new MethodDescriptor(VoidDescriptor.VOID, parameterDescriptors);
+		}
+		
+		return new MethodDescriptor(doParseFieldType(), parameterDescriptors);
+	}
+	
+	private ObjectType doParseObjectType() {
+		doConsume('L', "ObjectType");
+		
+		final ClassName className = doParseClassName();
+		
+		doConsume(';', "ObjectType");
+		
+		return new ObjectType(className);
+	}
+	
+	private char doPeek() {
+		return this.index < this.string.length() ? this.string.charAt(this.index) : '\0';
+	}
+	
+	private void doConsume(final char character, final String name) {
+		if(doPeek() != character) {
+			throw doCreateIllegalArgumentException(name);
+		}
+		
+		this.index++;
+	}
+	
+	private void doConsumeEnd(final String name) {
+		if(this.index != this.string.length()) {
+			throw doCreateIllegalArgumentException(name);
+		}
+	}
+	
+	private void doSkipIdentifier() {
+		if(this.index >= this.string.length() || !Character.isJavaIdentifierStart(this.string.codePointAt(this.index))) {
+			throw doCreateIllegalArgumentException("ClassName");
+		}
+		
+		this.index += Character.charCount(this.string.codePointAt(this.index));
+		
+		while(this.index < this.string.length() && Character.isJavaIdentifierPart(this.string.codePointAt(this.index))) {
+			this.index += Character.charCount(this.string.codePointAt(this.index));
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static BaseType doGetBaseType(final char character) {
+		switch(character) {
+			case 'B':
+				return BaseType.BYTE;
+			case 'C':
+				return BaseType.CHAR;
+			case 'D':
+				return BaseType.DOUBLE;
+			case 'F':
+				return BaseType.FLOAT;
+			case 'I':
+				return BaseType.INT;
+			case 'J':
+				return BaseType.LONG;
+			case 'S':
+				return BaseType.SHORT;
+			case 'Z':
+				return BaseType.BOOLEAN;
+			default:
+				return null;
+		}
+	}
+}
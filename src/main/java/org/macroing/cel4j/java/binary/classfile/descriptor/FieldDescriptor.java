@@ -28,7 +28,6 @@ import org.macroing.cel4j.java.binary.classfile.FieldInfo;
 import org.macroing.cel4j.java.binary.classfile.attributeinfo.LocalVariable;
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 import org.macroing.cel4j.node.Node;
-import org.macroing.cel4j.scanner.TextScanner;
 
 /**
  * A {@code FieldDescriptor} denotes a FieldDescriptor as defined by the Java Virtual Machine Specifications.
@@ -149,6 +148,8 @@ public interface FieldDescriptor extends Node {
 	 * <p>
 	 * Returns a {@code FieldDescriptor} instance.
 	 * <p>
+	 * If a {@link DescriptorCache} has been installed, it will be used.
+	 * <p>
 	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
@@ -159,7 +160,7 @@ public interface FieldDescriptor extends Node {
 	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
 	 */
 	static FieldDescriptor parseFieldDescriptor(final String string) {
-		return Parsers.parseFieldDescriptor(new TextScanner(string));
+		return DescriptorCache.parseFieldDescriptorCached(string);
 	}
 	
 	/**
@@ -180,6 +181,6 @@ public interface FieldDescriptor extends Node {
 	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
 	 */
 	static List<FieldDescriptor> parseFieldDescriptors(final ClassFile classFile) {
-		return classFile.getFieldInfos().stream().map(fieldInfo -> parseFieldDescriptor(classFile, fieldInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		return classFile.getFieldInfosView().stream().map(fieldInfo -> parseFieldDescriptor(classFile, fieldInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
 	}
 }
\ No newline at end of file
@@ -31,7 +31,6 @@ import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 import org.macroing.cel4j.node.Node;
 import org.macroing.cel4j.node.NodeHierarchicalVisitor;
 import org.macroing.cel4j.node.NodeTraversalException;
-import org.macroing.cel4j.scanner.TextScanner;
 import org.macroing.cel4j.util.ParameterArguments;
 
 /**
@@ -202,7 +201,7 @@ public final class MethodDescriptor implements Node {
 	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
 	 */
 	public static List<MethodDescriptor> parseMethodDescriptors(final ClassFile classFile) {
-		return classFile.getMethodInfos().stream().map(methodInfo -> parseMethodDescriptor(classFile, methodInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		return classFile.getMethodInfosView().stream().map(methodInfo -> parseMethodDescriptor(classFile, methodInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
 	}
 	
 	/**
@@ -269,6 +268,8 @@ public final class MethodDescriptor implements Node {
 	 * <p>
 	 * Returns a {@code MethodDescriptor} instance.
 	 * <p>
+	 * If a {@link DescriptorCache} has been installed, it will be used.
+	 * <p>
 	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
@@ -279,7 +280,7 @@ public final class MethodDescriptor implements Node {
 	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
 	 */
 	public static MethodDescriptor parseMethodDescriptor(final String string) {
-		return Parsers.parseMethodDescriptor(new TextScanner(string));
+		return DescriptorCache.parseMethodDescriptorCached(string);
 	}
 	
 	/**
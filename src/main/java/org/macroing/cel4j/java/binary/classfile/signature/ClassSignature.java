@@ -30,7 +30,6 @@ import org.macroing.cel4j.java.binary.classfile.attributeinfo.SignatureAttribute
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 import org.macroing.cel4j.node.NodeHierarchicalVisitor;
 import org.macroing.cel4j.node.NodeTraversalException;
-import org.macroing.cel4j.scanner.TextScanner;
 import org.macroing.cel4j.util.ParameterArguments;
 
 /**
@@ -234,6 +233,8 @@ public final class ClassSignature implements Signature {
 	 * <p>
 	 * Returns a {@code ClassSignature} instance.
 	 * <p>
+	 * If a {@link SignatureCache} has been installed, it will be used.
+	 * <p>
 	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
@@ -244,7 +245,7 @@ public final class ClassSignature implements Signature {
 	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
 	 */
 	public static ClassSignature parseClassSignature(final String string) {
-		return Parsers.parseClassSignature(new TextScanner(string));
+		return SignatureCache.parseClassSignatureCached(string);
 	}
 	
 	/**
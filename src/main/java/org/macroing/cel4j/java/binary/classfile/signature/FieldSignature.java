@@ -26,7 +26,6 @@ import org.macroing.cel4j.java.binary.classfile.ClassFile;
 import org.macroing.cel4j.java.binary.classfile.FieldInfo;
 import org.macroing.cel4j.java.binary.classfile.attributeinfo.SignatureAttribute;
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
-import org.macroing.cel4j.scanner.TextScanner;
 
 /**
  * A {@code FieldSignature} denotes a FieldSignature as defined by the Java Virtual Machine Specifications.
@@ -99,6 +98,8 @@ public interface FieldSignature extends Signature {
 	 * <p>
 	 * Returns a {@code FieldSignature} instance.
 	 * <p>
+	 * If a {@link SignatureCache} has been installed, it will be used.
+	 * <p>
 	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
@@ -109,7 +110,7 @@ public interface FieldSignature extends Signature {
 	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
 	 */
 	static FieldSignature parseFieldSignature(final String string) {
-		return Parsers.parseFieldSignature(new TextScanner(string));
+		return SignatureCache.parseFieldSignatureCached(string);
 	}
 	
 	/**
@@ -31,7 +31,6 @@ import org.macroing.cel4j.java.binary.classfile.attributeinfo.SignatureAttribute
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 import org.macroing.cel4j.node.NodeHierarchicalVisitor;
 import org.macroing.cel4j.node.NodeTraversalException;
-import org.macroing.cel4j.scanner.TextScanner;
 
 /**
  * A {@code MethodSignature} denotes a MethodSignature as defined by the Java Virtual Machine Specifications.
@@ -305,6 +304,8 @@ public final class MethodSignature implements Signature {
 	 * <p>
 	 * Returns a {@code MethodSignature} instance.
 	 * <p>
+	 * If a {@link SignatureCache} has been installed, it will be used.
+	 * <p>
 	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
@@ -315,7 +316,7 @@ public final class MethodSignature implements Signature {
 	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
 	 */
 	public static MethodSignature parseMethodSignature(final String string) {
-		return Parsers.parseMethodSignature(new TextScanner(string));
+		return SignatureCache.parseMethodSignatureCached(string);
 	}
 	
 	/**
@@ -28,7 +28,6 @@ import org.macroing.cel4j.java.binary.classfile.attributeinfo.SignatureAttribute
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 import org.macroing.cel4j.node.Node;
 import org.macroing.cel4j.node.NodeFilter;
-import org.macroing.cel4j.scanner.TextScanner;
 
 /**
  * A {@code Signature} denotes a Signature as defined by the Java Virtual Machine Specifications.
@@ -138,6 +137,8 @@ public interface Signature extends Node {
 	 * <p>
 	 * Returns a {@code Signature} instance.
 	 * <p>
+	 * If a {@link SignatureCache} has been installed, it will be used.
+	 * <p>
 	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
@@ -148,6 +149,6 @@ public interface Signature extends Node {
 	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
 	 */
 	static Signature parseSignature(final String string) {
-		return Parsers.parseSignature(new TextScanner(string));
+		return SignatureCache.parseSignatureCached(string);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,301 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.signature;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.macroing.cel4j.util.MemoCache;
+
+/**
+ * A {@code SignatureCache} is used for sharing the {@link Signature} instances that are parsed from the same signature {@code String}s.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * Signatures such as {@code "Ljava/util/List<TT;>;"} tend to occur many times across the classes of a library. A {@code SignatureCache} parses each of them once and returns the same immutable instance on every later request, until it is
+ * evicted. The number of cached instances is bounded.
+ * <p>
+ * The cache is opt-in. It can be used directly, or installed by calling {@link #install(SignatureCache)}, in which case {@link ClassSignature#parseClassSignature(String)}, {@link FieldSignature#parseFieldSignature(String)},
+ * {@link MethodSignature#parseMethodSignature(String)} and {@link Signature#parseSignature(String)}, and every method that delegates to them, will use it.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * SignatureCache signatureCache = new SignatureCache();
+ * 
+ * SignatureCache.install(signatureCache);
+ * 
+ * Optional<ClassSignature> optionalClassSignature = ClassSignature.parseClassSignatureOptionally(classFile);
+ * 
+ * System.out.println(signatureCache.getHitRate());
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class SignatureCache {
+	private static final AtomicReference<SignatureCache> INSTALLED = new AtomicReference<>();
+	private static final int MAXIMUM_SIZE_DEFAULT = 4096;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final MemoCache<String, ClassSignature> classSignatures;
+	private final MemoCache<String, FieldSignature> fieldSignatures;
+	private final MemoCache<String, MethodSignature> methodSignatures;
+	private final MemoCache<String, Signature> signatures;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code SignatureCache} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new SignatureCache(4096);
+	 * }
+	 * </pre>
+	 */
+	public SignatureCache() {
+		this(MAXIMUM_SIZE_DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new {@code SignatureCache} instance.
+	 * <p>
+	 * At most {@code maximumSize} instances will be cached for each of the parse methods.
+	 * <p>
+	 * If {@code maximumSize} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param maximumSize the maximum number of cached instances for each of the parse methods
+	 * @throws IllegalArgumentException thrown if, and only if, {@code maximumSize} is less than {@code 1}
+	 */
+	public SignatureCache(final int maximumSize) {
+		this.classSignatures = new MemoCache<>(maximumSize);
+		this.fieldSignatures = new MemoCache<>(maximumSize);
+		this.methodSignatures = new MemoCache<>(maximumSize);
+		this.signatures = new MemoCache<>(maximumSize);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Parses {@code string} into a {@link ClassSignature} instance, or returns the cached instance for {@code string}.
+	 * <p>
+	 * Returns a {@code ClassSignature} instance.
+	 * <p>
+	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param string the {@code String} to parse
+	 * @return a {@code ClassSignature} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code string} is malformed
+	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
+	 */
+	public ClassSignature parseClassSignature(final String string) {
+		return this.classSignatures.computeIfAbsent(Objects.requireNonNull(string, "string == null"), SignatureParser::parseClassSignature);
+	}
+	
+	/**
+	 * Parses {@code string} into a {@link FieldSignature} instance, or returns the cached instance for {@code string}.
+	 * <p>
+	 * Returns a {@code FieldSignature} instance.
+	 * <p>
+	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param string the {@code String} to parse
+	 * @return a {@code FieldSignature} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code string} is malformed
+	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
+	 */
+	public FieldSignature parseFieldSignature(final String string) {
+		return this.fieldSignatures.computeIfAbsent(Objects.requireNonNull(string, "string == null"), SignatureParser::parseFieldSignature);
+	}
+	
+	/**
+	 * Parses {@code string} into a {@link MethodSignature} instance, or returns the cached instance for {@code string}.
+	 * <p>
+	 * Returns a {@code MethodSignature} instance.
+	 * <p>
+	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param string the {@code String} to parse
+	 * @return a {@code MethodSignature} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code string} is malformed
+	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
+	 */
+	public MethodSignature parseMethodSignature(final String string) {
+		return this.methodSignatures.computeIfAbsent(Objects.requireNonNull(string, "string == null"), SignatureParser::parseMethodSignature);
+	}
+	
+	/**
+	 * Parses {@code string} into a {@link Signature} instance, or returns the cached instance for {@code string}.
+	 * <p>
+	 * Returns a {@code Signature} instance.
+	 * <p>
+	 * If {@code string} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code string} is malformed, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param string the {@code String} to parse
+	 * @return a {@code Signature} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code string} is malformed
+	 * @throws NullPointerException thrown if, and only if, {@code string} is {@code null}
+	 */
+	public Signature parseSignature(final String string) {
+		return this.signatures.computeIfAbsent(Objects.requireNonNull(string, "string == null"), SignatureParser::parseSignature);
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code SignatureCache} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code SignatureCache} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("SignatureCache: [Size=%s], [HitCount=%s], [MissCount=%s], [EvictionCount=%s]", Integer.toString(getSize()), Long.toString(getHitCount()), Long.toString(getMissCount()), Long.toString(getEvictionCount()));
+	}
+	
+	/**
+	 * Returns the ratio of lookups that found a cached instance, or {@code 0.0D} if no lookups have been made.
+	 * 
+	 * @return the ratio of lookups that found a cached instance, or {@code 0.0D} if no lookups have been made
+	 */
+	public double getHitRate() {
+		final long hitCount = getHitCount();
+		final long missCount = getMissCount();
+		final long lookupCount = hitCount + missCount;
+		
+		return lookupCount > 0L ? (double)(hitCount) / (double)(lookupCount) : 0.0D;
+	}
+	
+	/**
+	 * Returns the number of cached instances.
+	 * 
+	 * @return the number of cached instances
+	 */
+	public int getSize() {
+		return this.classSignatures.getSize() + this.fieldSignatures.getSize() + this.methodSignatures.getSize() + this.signatures.getSize();
+	}
+	
+	/**
+	 * Returns the number of cached instances that have been evicted.
+	 * 
+	 * @return the number of cached instances that have been evicted
+	 */
+	public long getEvictionCount() {
+		return this.classSignatures.getEvictionCount() + this.fieldSignatures.getEvictionCount() + this.methodSignatures.getEvictionCount() + this.signatures.getEvictionCount();
+	}
+	
+	/**
+	 * Returns the number of lookups that found a cached instance.
+	 * 
+	 * @return the number of lookups that found a cached instance
+	 */
+	public long getHitCount() {
+		return this.classSignatures.getHitCount() + this.fieldSignatures.getHitCount() + this.methodSignatures.getHitCount() + this.signatures.getHitCount();
+	}
+	
+	/**
+	 * Returns the number of lookups that had to parse the signature.
+	 * 
+	 * @return the number of lookups that had to parse the signature
+	 */
+	public long getMissCount() {
+		return this.classSignatures.getMissCount() + this.fieldSignatures.getMissCount() + this.methodSignatures.getMissCount() + this.signatures.getMissCount();
+	}
+	
+	/**
+	 * Removes all cached instances from this {@code SignatureCache} instance.
+	 * <p>
+	 * The hit, miss and eviction counters are not reset.
+	 */
+	public void clear() {
+		this.classSignatures.clear();
+		this.fieldSignatures.clear();
+		this.methodSignatures.clear();
+		this.signatures.clear();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the installed {@code SignatureCache}, if present.
+	 * 
+	 * @return the installed {@code SignatureCache}, if present
+	 */
+	public static Optional<SignatureCache> getInstalled() {
+		return Optional.ofNullable(INSTALLED.get());
+	}
+	
+	/**
+	 * Installs {@code signatureCache}, so that it will be used by {@link ClassSignature#parseClassSignature(String)}, {@link FieldSignature#parseFieldSignature(String)}, {@link MethodSignature#parseMethodSignature(String)} and
+	 * {@link Signature#parseSignature(String)}.
+	 * <p>
+	 * Any previously installed {@code SignatureCache} is replaced.
+	 * <p>
+	 * If {@code signatureCache} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param signatureCache the {@code SignatureCache} to install
+	 * @throws NullPointerException thrown if, and only if, {@code signatureCache} is {@code null}
+	 */
+	public static void install(final SignatureCache signatureCache) {
+		INSTALLED.set(Objects.requireNonNull(signatureCache, "signatureCache == null"));
+	}
+	
+	/**
+	 * Uninstalls the installed {@code SignatureCache}, if present.
+	 */
+	public static void uninstall() {
+		INSTALLED.set(null);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static ClassSignature parseClassSignatureCached(final String string) {
+		final SignatureCache signatureCache = INSTALLED.get();
+		
+		return signatureCache != null ? signatureCache.parseClassSignature(string) : SignatureParser.parseClassSignature(string);
+	}
+	
+	static FieldSignature parseFieldSignatureCached(final String string) {
+		final SignatureCache signatureCache = INSTALLED.get();
+		
+		return signatureCache != null ? signatureCache.parseFieldSignature(string) : SignatureParser.parseFieldSignature(string);
+	}
+	
+	static MethodSignature parseMethodSignatureCached(final String string) {
+		final SignatureCache signatureCache = INSTALLED.get();
+		
+		return signatureCache != null ? signatureCache.parseMethodSignature(string) : SignatureParser.parseMethodSignature(string);
+	}
+	
+	static Signature parseSignatureCached(final String string) {
+		final SignatureCache signatureCache = INSTALLED.get();
+		
+		return signatureCache != null ? signatureCache.parseSignature(string) : SignatureParser.parseSignature(string);
+	}
+}
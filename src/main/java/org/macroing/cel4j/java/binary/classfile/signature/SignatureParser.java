@@ -0,0 +1,438 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.signature;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.macroing.cel4j.java.binary.classfile.signature.MethodSignature.Builder;
+
+/**
+ * A {@code SignatureParser} is a hand-written recursive-descent parser for signatures.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * The parser works directly on a {@code String} and an {@code int} cursor. It does not use any regular expressions, and the only {@code String}s it creates are those of the {@link Identifier} instances. It produces the same
+ * {@link ClassSignature}, {@link FieldSignature}, {@link MethodSignature} and {@link Signature} instances as the {@code TextScanner}-based parsers for valid input.
+ * <p>
+ * The recursive-descent parser is stricter than the {@code TextScanner}-based parsers. It throws an {@code IllegalArgumentException} for malformed input, such as {@code (V[BI)[B}, or for a valid signature that is followed by
+ * trailing characters, such as {@code (I)V^}. The {@code TextScanner}-based parsers silently accepted such input. This is an intentional change in behavior.
+ * <p>
+ * The recursive-descent parser is used by {@link ClassSignature#parseClassSignature(String)}, {@link FieldSignature#parseFieldSignature(String)}, {@link MethodSignature#parseMethodSignature(String)},
+ * {@link Signature#parseSignature(String)} and {@link SignatureCache}.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+final class SignatureParser {
+	private final String string;
+	private int index;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private SignatureParser(final String string) {
+		this.string = string;
+		this.index = 0;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static ClassSignature parseClassSignature(final String string) {
+		final SignatureParser signatureParser = new SignatureParser(string);
+		
+		final ClassSignature classSignature = signatureParser.doParseClassSignature();
+		
+		signatureParser.doConsumeEnd("ClassSignature");
+		
+		return classSignature;
+	}
+	
+	static FieldSignature parseFieldSignature(final String string) {
+		final SignatureParser signatureParser = new SignatureParser(string);
+		
+		final FieldSignature fieldSignature = signatureParser.doParseReferenceTypeSignature();
+		
+		signatureParser.doConsumeEnd("FieldSignature");
+		
+		return fieldSignature;
+	}
+	
+	static MethodSignature parseMethodSignature(final String string) {
+		final SignatureParser signatureParser = new SignatureParser(string);
+		
+		final MethodSignature methodSignature = signatureParser.doParseMethodSignature();
+		
+		signatureParser.doConsumeEnd("MethodSignature");
+		
+		return methodSignature;
+	}
+	
+	static Signature parseSignature(final String string) {
+		final SignatureParser signatureParser = new SignatureParser(string);
+		
+		final Signature signature = signatureParser.doParseSignature();
+		
+		signatureParser.doConsumeEnd("Signature");
+		
+		return signature;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ArrayTypeSignature doParseArrayTypeSignature() {
+		doConsume('[', "ArrayTypeSignature");
+		
+		return ArrayTypeSignature.valueOf(doParseJavaTypeSignature());
+	}
+	
+	private BaseType doParseBaseType() {
+		final BaseType baseType = doPeekBaseType();
+		
+		if(baseType == null) {
+			throw doCreateIllegalArgumentException("BaseType");
+		}
+		
+		this.index += doIsBaseTypeTerm() ? 1 : baseType.getType().length();
+		
+		return baseType;
+	}
+	
+	private ClassBound doParseClassBound() {
+		doConsume(':', "ClassBound");
+		
+		return doIsReferenceTypeSignature() ? ClassBound.valueOf(doParseReferenceTypeSignature()) : ClassBound.EMPTY;
+	}
+	
+	private ClassSignature doParseClassSignature() {
+		final TypeParameters typeParameters = doPeek() == '<' ? doParseTypeParameters() : null;
+		
+		final SuperClassSignature superClassSignature = doParseClassTypeSignature();
+		
+		final List<SuperInterfaceSignature> superInterfaceSignatures = new ArrayList<>();
+		
+		while(doPeek() == 'L') {
+			superInterfaceSignatures.add(doParseClassTypeSignature());
+		}
+		
+		return new ClassSignature(superClassSignature, superInterfaceSignatures, Optional.ofNullable(typeParameters));
+	}
+	
+	private ClassTypeSignature doParseClassTypeSignature() {
+		doConsume('L', "ClassTypeSignature");
+		
+		final List<Identifier> packageIdentifiers = new ArrayList<>();
+		
+		Identifier identifier = doParseIdentifier();
+		
+		while(doPeek() == '/') {
+			this.index++;
+			
+			packageIdentifiers.add(identifier);
+			
+			identifier = doParseIdentifier();
+		}
+		
+		final SimpleClassTypeSignature simpleClassTypeSignature = doParseSimpleClassTypeSignature(identifier);
+		
+		final List<ClassTypeSignatureSuffix> classTypeSignatureSuffixes = new ArrayList<>();
+		
+		while(doPeek() == '.') {
+			this.index++;
+			
+			classTypeSignatureSuffixes.add(ClassTypeSignatureSuffix.valueOf(doParseSimpleClassTypeSignature(doParseIdentifier())));
+		}
+		
+		doConsume(';', "ClassTypeSignature");
+		
+		return new ClassTypeSignature(simpleClassTypeSignature, classTypeSignatureSuffixes, packageIdentifiers.isEmpty() ? Optional.empty() : Optional.of(new PackageSpecifier(packageIdentifiers)));
+	}
+	
+	private IllegalArgumentException doCreateIllegalArgumentException(final String name) {
+		return new IllegalArgumentException(String.format("Illegal %s: %s", name, this.string.substring(Math.min(this.index, this.string.length()))));
+	}
+	
+	private Identifier doParseIdentifier() {
+		final int beginIndex = this.index;
+		
+		while(this.index < this.string.length() && doIsIdentifierCharacter(this.string.charAt(this.index))) {
+			this.index++;
+		}
+		
+		if(this.index == beginIndex) {
+			throw doCreateIllegalArgumentException("Identifier");
+		}
+		
+		return new Identifier(this.string.substring(beginIndex, this.index));
+	}
+	
+	private JavaTypeSignature doParseJavaTypeSignature() {
+		return doIsReferenceTypeSignature() ? doParseReferenceTypeSignature() : doParseBaseType();
+	}
+	
+	private MethodSignature doParseMethodSignature() {
+		final TypeParameters typeParameters = doPeek() == '<' ? doParseTypeParameters() : null;
+		
+		doConsume('(', "MethodSignature");
+		
+		final List<JavaTypeSignature> javaTypeSignatures = new ArrayList<>();
+		
+		while(doPeek() != ')') {
+			javaTypeSignatures.add(doParseJavaTypeSignature());
+		}
+		
+		this.index++;
+		
+		final Result result = doParseResult();
+		
+		final Builder builder = typeParameters != null ? Builder.newInstance(result, typeParameters) : Builder.newInstance(result);
+		
+		for(final JavaTypeSignature javaTypeSignature : javaTypeSignatures) {
+			builder.addJavaTypeSignature(javaTypeSignature);
+		}
+		
+		while(doPeek() == '^') {
+			this.index++;
+			
+			builder.addThrowsSignature(doPeek() == 'L' ? ThrowsSignature.valueOf(doParseClassTypeSignature()) : ThrowsSignature.valueOf(doParseTypeVariableSignature()));
+		}
+		
+		return builder.build();
+	}
+	
+	private ReferenceTypeSignature doParseReferenceTypeSignature() {
+		switch(doPeek()) {
+			case 'L':
+				return doParseClassTypeSignature();
+			case 'T':
+				return doParseTypeVariableSignature();
+			case '[':
+				return doParseArrayTypeSignature();
+			default:
+				throw doCreateIllegalArgumentException("ReferenceTypeSignature");
+		}
+	}
+	
+	private Result doParseResult() {
+		if(doIsReferenceTypeSignature() || doPeekBaseType() != null) {
+			return doParseJavaTypeSignature();
+		}
+		
+		if(this.string.startsWith(Constants.VOID_TERM, this.index)) {
+			this.index += Constants.VOID_TERM.length();
+			
+			return VoidDescriptor.VOID;
+		}
+		
+		if(this.string.startsWith(Constants.VOID_TYPE, this.index)) {
+			this.index += Constants.VOID_TYPE.length();
+			
+			return VoidDescriptor.VOID;
+		}
+		
+		throw doCreateIllegalArgumentException("Result");
+	}
+	
+	private Signature doParseSignature() {
+		final char character = doPeek();
+		
+		if(character == 'L') {
+			return doParseClassSignature();
+		} else if(character == 'T' || character == '[') {
+			return doParseReferenceTypeSignature();
+		} else if(character == '(') {
+			return doParseMethodSignature();
+		} else if(character == '<') {
+			final int beginIndex = this.index;
+			
+			doParseTypeParameters();
+			
+			final boolean isClassSignature = doPeek() == 'L';
+			
+			this.index = beginIndex;
+			
+			return isClassSignature ? doParseClassSignature() : doParseMethodSignature();
+		}
+		
+		throw doCreateIllegalArgumentException("Signature");
+	}
+	
+	private SimpleClassTypeSignature doParseSimpleClassTypeSignature(final Identifier identifier) {
+		return doPeek() == '<' ? SimpleClassTypeSignature.valueOf(identifier, doParseTypeArguments()) : SimpleClassTypeSignature.valueOf(identifier);
+	}
+	
+	private TypeArgument doParseTypeArgument() {
+		switch(doPeek()) {
+			case '*':
+				this.index++;
+				
+				return TypeArgument.UNKNOWN;
+			case '+':
+				this.index++;
+				
+				return TypeArgument.valueOf(doParseReferenceTypeSignature(), WildcardIndicator.UPPER_BOUND);
+			case '-':
+				this.index++;
+				
+				return TypeArgument.valueOf(doParseReferenceTypeSignature(), WildcardIndicator.LOWER_BOUND);
+			default:
+				return TypeArgument.valueOf(doParseReferenceTypeSignature());
+		}
+	}
+	
+	private TypeArguments doParseTypeArguments() {
+		doConsume('<', "TypeArguments");
+		
+		final List<TypeArgument> typeArguments = new ArrayList<>();
+		
+		do {
+			typeArguments.add(doParseTypeArgument());
+		} while(doPeek() != '>');
+		
+		this.index++;
+		
+		return new TypeArguments(typeArguments);
+	}
+	
+	private TypeParameter doParseTypeParameter() {
+		final Identifier identifier = doParseIdentifier();
+		
+		final ClassBound classBound = doParseClassBound();
+		
+		final List<InterfaceBound> interfaceBounds = new ArrayList<>();
+		
+		while(doPeek() == ':') {
+			this.index++;
+			
+			interfaceBounds.add(InterfaceBound.valueOf(doParseReferenceTypeSignature()));
+		}
+		
+		return new TypeParameter(identifier, classBound, interfaceBounds);
+	}
+	
+	private TypeParameters doParseTypeParameters() {
+		doConsume('<', "TypeParameters");
+		
+		final List<TypeParameter> typeParameters = new ArrayList<>();
+		
+		do {
+			typeParameters.add(doParseTypeParameter());
+		} while(doPeek() != '>');
+		
+		this.index++;
+		
+		return new TypeParameters(typeParameters);
+	}
+	
+	private TypeVariableSignature doParseTypeVariableSignature() {
+		doConsume('T', "TypeVariableSignature");
+		
+		final Identifier identifier = doParseIdentifier();
+		
+		doConsume(';', "TypeVariableSignature");
+		
+		return new TypeVariableSignature(identifier);
+	}
+	
+	private BaseType doPeekBaseType() {
+		switch(doPeek()) {
+			case 'B':
+				return BaseType.BYTE;
+			case 'C':
+				return BaseType.CHAR;
+			case 'D':
+				return BaseType.DOUBLE;
+			case 'F':
+				return BaseType.FLOAT;
+			case 'I':
+				return BaseType.INT;
+			case 'J':
+				return BaseType.LONG;
+			case 'S':
+				return BaseType.SHORT;
+			case 'Z':
+				return BaseType.BOOLEAN;
+			default:
+				for(final BaseType baseType : BaseType.values()) {
+					if(this.string.startsWith(baseType.getType(), this.index)) {
+						return baseType;
+					}
+				}
+				
+				return null;
+		}
+	}
+	
+	private boolean doIsBaseTypeTerm() {
+		switch(doPeek()) {
+			case 'B':
+			case 'C':
+			case 'D':
+			case 'F':
+			case 'I':
+			case 'J':
+			case 'S':
+			case 'Z':
+				return true;
+			default:
+				return false;
+		}
+	}
+	
+	private boolean doIsReferenceTypeSignature() {
+		final char character = doPeek();
+		
+		return character == 'L' || character == 'T' || character == '[';
+	}
+	
+	private char doPeek() {
+		return this.index < this.string.length() ? this.string.charAt(this.index) : '\0';
+	}
+	
+	private void doConsume(final char character, final String name) {
+		if(doPeek() != character) {
+			throw doCreateIllegalArgumentException(name);
+		}
+		
+		this.index++;
+	}
+	
+	private void doConsumeEnd(final String name) {
+		if(this.index != this.string.length()) {
+			throw doCreateIllegalArgumentException(name);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static boolean doIsIdentifierCharacter(final char character) {
+		switch(character) {
+			case '.':
+			case '/':
+			case ':':
+			case ';':
+			case '<':
+			case '>':
+			case '[':
+				return false;
+			default:
+				return true;
+		}
+	}
+}
@@ -49,7 +49,7 @@ public final class MethodInfos {
 	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code ConstantUTF8Info.findByNameIndex(ClassFile, MethodInfo)} throws it
 	 */
 	public static List<MethodInfo> findConstructors(final ClassFile classFile) {
-		return classFile.getMethodInfos().stream().filter(methodInfo -> doFilterConstructor(classFile, methodInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		return classFile.getMethodInfosView().stream().filter(methodInfo -> doFilterConstructor(classFile, methodInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
 	}
 	
 	/**
@@ -63,7 +63,7 @@ public final class MethodInfos {
 	 * @throws IndexOutOfBoundsException thrown if, and only if, {@code ConstantUTF8Info.findByNameIndex(ClassFile, MethodInfo)} throws it
 	 */
 	public static List<MethodInfo> findMethods(final ClassFile classFile) {
-		return classFile.getMethodInfos().stream().filter(methodInfo -> doFilterMethod(classFile, methodInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+		return classFile.getMethodInfosView().stream().filter(methodInfo -> doFilterMethod(classFile, methodInfo)).collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
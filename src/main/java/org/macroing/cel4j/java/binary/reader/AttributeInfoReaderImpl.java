@@ -19,10 +19,13 @@
 package org.macroing.cel4j.java.binary.reader;
 
 import java.io.DataInput;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
 import org.macroing.cel4j.java.binary.classfile.CPInfo;
@@ -59,11 +62,11 @@ final class AttributeInfoReaderImpl implements AttributeInfoReader {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	public AttributeInfoReaderImpl() {
+	public AttributeInfoReaderImpl(final ReaderRegistry readerRegistry) {
 		this.attributeInfoReaders = new HashMap<>();
 		this.attributeInfoReaders.put(AnnotationDefaultAttribute.NAME, new AnnotationDefaultAttributeReader());
 		this.attributeInfoReaders.put(BootstrapMethodsAttribute.NAME, new BootstrapMethodsAttributeReader());
-		this.attributeInfoReaders.put(CodeAttribute.NAME, new CodeAttributeReader());
+		this.attributeInfoReaders.put(CodeAttribute.NAME, new CodeAttributeReader(readerRegistry));
 		this.attributeInfoReaders.put(ConstantValueAttribute.NAME, new ConstantValueAttributeReader());
 		this.attributeInfoReaders.put(DeprecatedAttribute.NAME, new DeprecatedAttributeReader());
 		this.attributeInfoReaders.put(EnclosingMethodAttribute.NAME, new EnclosingMethodAttributeReader());
@@ -108,6 +111,14 @@ final class AttributeInfoReaderImpl implements AttributeInfoReader {
 		return this.attributeInfoReaders.containsKey(Objects.requireNonNull(name, "name == null"));
 	}
 	
+	public Optional<AttributeInfoReader> getAttributeInfoReader(final String name) {
+		return Optional.ofNullable(this.attributeInfoReaders.get(Objects.requireNonNull(name, "name == null")));
+	}
+	
+	public Set<String> getNames() {
+		return Collections.unmodifiableSet(this.attributeInfoReaders.keySet());
+	}
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private static String doGetName(final int attributeNameIndex, final List<CPInfo> constantPool) {
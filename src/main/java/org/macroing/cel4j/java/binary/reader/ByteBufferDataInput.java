@@ -0,0 +1,246 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.io.DataInput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+
+final class ByteBufferDataInput implements DataInput {
+	private final ByteBuffer byteBuffer;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public ByteBufferDataInput(final ByteBuffer byteBuffer) {
+		this.byteBuffer = Objects.requireNonNull(byteBuffer, "byteBuffer == null").order(ByteOrder.BIG_ENDIAN);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public ByteBuffer getByteBuffer() {
+		return this.byteBuffer;
+	}
+	
+	public ByteBuffer slice(final int length) throws EOFException {
+		doRequireRemaining(length);
+		
+		final ByteBuffer slice = this.byteBuffer.slice();
+		
+		slice.limit(length);
+		
+		this.byteBuffer.position(this.byteBuffer.position() + length);
+		
+		return slice;
+	}
+	
+	public int skip(final int length) throws EOFException {
+		doRequireRemaining(length);
+		
+		final int offset = this.byteBuffer.position();
+		
+		this.byteBuffer.position(offset + length);
+		
+		return offset;
+	}
+	
+	@Override
+	public String readLine() {
+		final ByteBuffer byteBuffer = this.byteBuffer;
+		
+		if(!byteBuffer.hasRemaining()) {
+			return null;
+		}
+		
+		final StringBuilder stringBuilder = new StringBuilder();
+		
+		while(byteBuffer.hasRemaining()) {
+			final int c = byteBuffer.get() & 0xFF;
+			
+			if(c == '\n') {
+				break;
+			}
+			
+			if(c == '\r') {
+				if(byteBuffer.hasRemaining() && byteBuffer.get(byteBuffer.position()) == '\n') {
+					byteBuffer.get();
+				}
+				
+				break;
+			}
+			
+			stringBuilder.append((char)(c));
+		}
+		
+		return stringBuilder.toString();
+	}
+	
+	@Override
+	public String readUTF() throws EOFException, UTFDataFormatException {
+		final int utfLength = readUnsignedShort();
+		
+		doRequireRemaining(utfLength);
+		
+		final ByteBuffer byteBuffer = this.byteBuffer;
+		
+		final int offset = byteBuffer.position();
+		
+		final String string = ConstantUTF8Info.decode(byteBuffer, offset, utfLength);
+		
+		byteBuffer.position(offset + utfLength);
+		
+		return string;
+	}
+	
+	@Override
+	public boolean readBoolean() throws EOFException {
+		return readByte() != 0;
+	}
+	
+	@Override
+	public byte readByte() throws EOFException {
+		doRequireRemaining(1);
+		
+		return this.byteBuffer.get();
+	}
+	
+	@Override
+	public char readChar() throws EOFException {
+		doRequireRemaining(2);
+		
+		return this.byteBuffer.getChar();
+	}
+	
+	@Override
+	public double readDouble() throws EOFException {
+		doRequireRemaining(8);
+		
+		return this.byteBuffer.getDouble();
+	}
+	
+	@Override
+	public float readFloat() throws EOFException {
+		doRequireRemaining(4);
+		
+		return this.byteBuffer.getFloat();
+	}
+	
+	@Override
+	public int readInt() throws EOFException {
+		doRequireRemaining(4);
+		
+		return this.byteBuffer.getInt();
+	}
+	
+	@Override
+	public int readUnsignedByte() throws EOFException {
+		doRequireRemaining(1);
+		
+		return this.byteBuffer.get() & 0xFF;
+	}
+	
+	@Override
+	public int readUnsignedShort() throws EOFException {
+		doRequireRemaining(2);
+		
+		return this.byteBuffer.getShort() & 0xFFFF;
+	}
+	
+	@Override
+	public int skipBytes(final int n) {
+		final int skipped = Math.max(Math.min(n, this.byteBuffer.remaining()), 0);
+		
+		this.byteBuffer.position(this.byteBuffer.position() + skipped);
+		
+		return skipped;
+	}
+	
+	@Override
+	public long readLong() throws EOFException {
+		doRequireRemaining(8);
+		
+		return this.byteBuffer.getLong();
+	}
+	
+	@Override
+	public short readShort() throws EOFException {
+		doRequireRemaining(2);
+		
+		return this.byteBuffer.getShort();
+	}
+	
+	@Override
+	public void readFully(final byte[] b) throws EOFException {
+		readFully(b, 0, b.length);
+	}
+	
+	@Override
+	public void readFully(final byte[] b, final int off, final int len) throws EOFException {
+		doRequireRemaining(len);
+		
+		this.byteBuffer.get(b, off, len);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static ByteBuffer readByteBuffer(final DataInput dataInput, final int length) throws IOException {
+		if(dataInput instanceof ByteBufferDataInput) {
+			return ByteBufferDataInput.class.cast(dataInput).slice(length);
+		}
+		
+		final byte[] bytes = new byte[length];
+		
+		dataInput.readFully(bytes);
+		
+		return ByteBuffer.wrap(bytes);
+	}
+	
+	public static void skipFully(final DataInput dataInput, final int length) throws IOException {
+		if(length < 0) {
+			throw new EOFException(String.format("Unable to skip %s byte(s)", Integer.toString(length)));
+		}
+		
+		int remaining = length;
+		
+		while(remaining > 0) {
+			final int skipped = dataInput.skipBytes(remaining);
+			
+			if(skipped > 0) {
+				remaining -= skipped;
+			} else {
+				dataInput.readByte();
+				
+				remaining--;
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doRequireRemaining(final int length) throws EOFException {
+		if(length < 0 || this.byteBuffer.remaining() < length) {
+			throw new EOFException(String.format("Unable to read %s byte(s): remaining = %s", Integer.toString(length), Integer.toString(this.byteBuffer.remaining())));
+		}
+	}
+}
\ No newline at end of file
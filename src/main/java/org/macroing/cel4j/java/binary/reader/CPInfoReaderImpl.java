@@ -22,6 +22,7 @@ import java.io.DataInput;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import org.macroing.cel4j.java.binary.classfile.CPInfo;
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
@@ -88,4 +89,8 @@ final class CPInfoReaderImpl implements CPInfoReader {
 	public boolean isSupported(final int tag) {
 		return this.cPInfoReaders.get(Integer.valueOf(ParameterArguments.requireRange(tag, 0, Integer.MAX_VALUE))) != null;
 	}
+	
+	public Optional<CPInfoReader> getCPInfoReader(final int tag) {
+		return Optional.ofNullable(this.cPInfoReaders.get(Integer.valueOf(ParameterArguments.requireRange(tag, 0, Integer.MAX_VALUE))));
+	}
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.nio.ByteBuffer;
+
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+
+/**
+ * A {@code ClassFileEventHandler} receives the events that are produced by a {@link ClassFileEventReader} while it reads a sequence of bytes that matches the ClassFile format.
+ * <p>
+ * No {@link org.macroing.cel4j.java.binary.classfile.ClassFile ClassFile} is built. All methods have a default implementation that does nothing, so an implementation only has to override the methods for the events it is interested in.
+ * <p>
+ * The events are produced in the following order:
+ * <pre>
+ * {@code
+ * start
+ * constant*
+ * header
+ * (field attribute* endField)*
+ * (method (attribute | code instruction* exceptionHandler* attribute* endCode)* endMethod)*
+ * attribute*
+ * end
+ * }
+ * </pre>
+ * The {@code ByteBuffer} instances that are passed to the events are read-only views into the byte sequence that is read. They are only valid during the call and should be copied if they have to be retained.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public interface ClassFileEventHandler {
+	/**
+	 * Called when a {@code field_info} has been read.
+	 * <p>
+	 * Returns {@code true} if, and only if, the attributes of the field should be reported, {@code false} otherwise. If {@code false} is returned, the attributes are skipped without being read. The default implementation returns {@code true}.
+	 * 
+	 * @param accessFlags the access_flags of the field
+	 * @param nameIndex the name_index of the field
+	 * @param descriptorIndex the descriptor_index of the field
+	 * @return {@code true} if, and only if, the attributes of the field should be reported, {@code false} otherwise
+	 */
+	default boolean field(final int accessFlags, final int nameIndex, final int descriptorIndex) {
+		return true;
+	}
+	
+	/**
+	 * Called when a {@code method_info} has been read.
+	 * <p>
+	 * Returns {@code true} if, and only if, the attributes of the method should be reported, {@code false} otherwise. If {@code false} is returned, the attributes are skipped without being read. The default implementation returns {@code true}.
+	 * 
+	 * @param accessFlags the access_flags of the method
+	 * @param nameIndex the name_index of the method
+	 * @param descriptorIndex the descriptor_index of the method
+	 * @return {@code true} if, and only if, the attributes of the method should be reported, {@code false} otherwise
+	 */
+	default boolean method(final int accessFlags, final int nameIndex, final int descriptorIndex) {
+		return true;
+	}
+	
+	/**
+	 * Called when an attribute has been read.
+	 * <p>
+	 * The {@code Code} attribute of a method is not reported by this method. It is reported by {@link #code(int, int, int)} and the events that follow it.
+	 * 
+	 * @param name the name of the attribute
+	 * @param info a read-only {@code ByteBuffer} with the info of the attribute
+	 */
+	default void attribute(final String name, final ByteBuffer info) {
+		
+	}
+	
+	/**
+	 * Called when the {@code Code} attribute of a method has been entered.
+	 * 
+	 * @param maxStack the max_stack of the {@code Code} attribute
+	 * @param maxLocals the max_locals of the {@code Code} attribute
+	 * @param codeLength the code_length of the {@code Code} attribute
+	 */
+	default void code(final int maxStack, final int maxLocals, final int codeLength) {
+		
+	}
+	
+	/**
+	 * Called when a constant pool entry has been read.
+	 * <p>
+	 * The constant pool entries are reported in the order they appear in the constant pool, before any other event except {@link #start(int, int)}.
+	 * 
+	 * @param index the index of the constant pool entry
+	 * @param cPInfo the {@link CPInfo} that was read
+	 */
+	default void constant(final int index, final CPInfo cPInfo) {
+		
+	}
+	
+	/**
+	 * Called when the end of the byte sequence has been reached.
+	 */
+	default void end() {
+		
+	}
+	
+	/**
+	 * Called when the {@code Code} attribute of a method has been left.
+	 */
+	default void endCode() {
+		
+	}
+	
+	/**
+	 * Called when a {@code field_info} and its attributes have been read.
+	 */
+	default void endField() {
+		
+	}
+	
+	/**
+	 * Called when a {@code method_info} and its attributes have been read.
+	 */
+	default void endMethod() {
+		
+	}
+	
+	/**
+	 * Called when an entry in the exception_table of a {@code Code} attribute has been read.
+	 * 
+	 * @param startPC the start_pc of the exception handler
+	 * @param endPC the end_pc of the exception handler
+	 * @param handlerPC the handler_pc of the exception handler
+	 * @param catchType the catch_type of the exception handler
+	 */
+	default void exceptionHandler(final int startPC, final int endPC, final int handlerPC, final int catchType) {
+		
+	}
+	
+	/**
+	 * Called when the access_flags, this_class, super_class and interfaces have been read.
+	 * 
+	 * @param accessFlags the access_flags of the class
+	 * @param thisClass the this_class of the class
+	 * @param superClass the super_class of the class
+	 * @param interfaces the interfaces of the class
+	 */
+	default void header(final int accessFlags, final int thisClass, final int superClass, final int[] interfaces) {
+		
+	}
+	
+	/**
+	 * Called when an instruction in a {@code Code} attribute has been read.
+	 * <p>
+	 * The operands of {@code tableswitch} and {@code lookupswitch} include their padding. The operands of {@code wide} include the opcode it modifies.
+	 * <p>
+	 * The {@code ByteBuffer} {@code operands} is a read-only view of the whole code array. Its position is set to the first operand and its limit to the end of the instruction, so the operands are the bytes between its position and its limit.
+	 * The same {@code ByteBuffer} is reused for all instructions of a {@code Code} attribute, so it is only valid during this call. To keep the operands, copy them.
+	 * 
+	 * @param offset the offset of the instruction in the code array
+	 * @param opcode the opcode of the instruction
+	 * @param operands a read-only {@code ByteBuffer} whose remaining bytes are the operands of the instruction
+	 */
+	default void instruction(final int offset, final int opcode, final ByteBuffer operands) {
+		
+	}
+	
+	/**
+	 * Called when the magic number and the version have been read.
+	 * 
+	 * @param minorVersion the minor_version of the class
+	 * @param majorVersion the major_version of the class
+	 */
+	default void start(final int minorVersion, final int majorVersion) {
+		
+	}
+}
\ No newline at end of file
@@ -0,0 +1,304 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InstructionCursor;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+
+/**
+ * A {@code ClassFileEventReader} is used for reading sequences of bytes and reporting their contents to a {@link ClassFileEventHandler}, without building a {@link org.macroing.cel4j.java.binary.classfile.ClassFile ClassFile}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * The byte sequence is read in a single pass. Apart from the {@link CPInfo} instances that are reported for the constant pool, the only state that is retained while reading is a table with the {@code CONSTANT_Utf8_info} strings, which is used
+ * for resolving the names of the attributes.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ClassFileEventReader classFileEventReader = new ClassFileEventReader();
+ * classFileEventReader.read(Paths.get("Integer.class"), new ClassFileEventHandler() {
+ *     public void instruction(int offset, int opcode, ByteBuffer operands) {
+ *         System.out.println(offset + ": " + opcode);
+ *     }
+ * });
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ClassFileEventReader {
+	private final ReaderRegistry readerRegistry;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code ClassFileEventReader} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ClassFileEventReader(ReaderRegistry.getDefault());
+	 * }
+	 * </pre>
+	 */
+	public ClassFileEventReader() {
+		this(ReaderRegistry.getDefault());
+	}
+	
+	/**
+	 * Constructs a new {@code ClassFileEventReader} instance.
+	 * <p>
+	 * If {@code readerRegistry} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param readerRegistry the {@link ReaderRegistry} that is used to look up {@link CPInfoReader} instances
+	 * @throws NullPointerException thrown if, and only if, {@code readerRegistry} is {@code null}
+	 */
+	public ClassFileEventReader(final ReaderRegistry readerRegistry) {
+		this.readerRegistry = Objects.requireNonNull(readerRegistry, "readerRegistry == null");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Reads the byte sequence provided by {@code byteBuffer} and reports its contents to {@code classFileEventHandler}.
+	 * <p>
+	 * If either {@code byteBuffer} or {@code classFileEventHandler} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the byte sequence cannot be read, a {@code ClassFileReaderException} will be thrown.
+	 * <p>
+	 * The bytes between the current position and the limit of {@code byteBuffer} are read. Neither the position, the limit nor the byte order of {@code byteBuffer} is modified by this method.
+	 * 
+	 * @param byteBuffer the {@code ByteBuffer} to read from
+	 * @param classFileEventHandler the {@link ClassFileEventHandler} to report to
+	 * @throws ClassFileReaderException thrown if, and only if, the byte sequence cannot be read
+	 * @throws NullPointerException thrown if, and only if, either {@code byteBuffer} or {@code classFileEventHandler} are {@code null}
+	 */
+	public void read(final ByteBuffer byteBuffer, final ClassFileEventHandler classFileEventHandler) {
+		doRead(new ByteBufferDataInput(Objects.requireNonNull(byteBuffer, "byteBuffer == null").duplicate()), Objects.requireNonNull(classFileEventHandler, "classFileEventHandler == null"), "ByteBuffer");
+	}
+	
+	/**
+	 * Reads the byte sequence provided by {@code path} and reports its contents to {@code classFileEventHandler}.
+	 * <p>
+	 * If either {@code path} or {@code classFileEventHandler} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the byte sequence cannot be read, a {@code ClassFileReaderException} will be thrown.
+	 * <p>
+	 * The file denoted by {@code path} is memory-mapped and read directly from the mapped buffer.
+	 * 
+	 * @param path the {@code Path} to read from
+	 * @param classFileEventHandler the {@link ClassFileEventHandler} to report to
+	 * @throws ClassFileReaderException thrown if, and only if, the byte sequence cannot be read
+	 * @throws NullPointerException thrown if, and only if, either {@code path} or {@code classFileEventHandler} are {@code null}
+	 */
+	public void read(final Path path, final ClassFileEventHandler classFileEventHandler) {
+		Objects.requireNonNull(path, "path == null");
+		Objects.requireNonNull(classFileEventHandler, "classFileEventHandler == null");
+		
+		try(final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			doRead(new ByteBufferDataInput(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, fileChannel.size())), classFileEventHandler, path.toString());
+		} catch(final IOException e) {
+			throw new ClassFileReaderException(String.format("Unable to read ClassFile: %s", path), e);
+		}
+	}
+	
+	/**
+	 * Reads the byte sequence provided by {@code bytes} and reports its contents to {@code classFileEventHandler}.
+	 * <p>
+	 * If either {@code bytes} or {@code classFileEventHandler} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the byte sequence cannot be read, a {@code ClassFileReaderException} will be thrown.
+	 * 
+	 * @param bytes the byte sequence to read from
+	 * @param classFileEventHandler the {@link ClassFileEventHandler} to report to
+	 * @throws ClassFileReaderException thrown if, and only if, the byte sequence cannot be read
+	 * @throws NullPointerException thrown if, and only if, either {@code bytes} or {@code classFileEventHandler} are {@code null}
+	 */
+	public void read(final byte[] bytes, final ClassFileEventHandler classFileEventHandler) {
+		doRead(new ByteBufferDataInput(ByteBuffer.wrap(Objects.requireNonNull(bytes, "bytes == null"))), Objects.requireNonNull(classFileEventHandler, "classFileEventHandler == null"), "new byte[] {...}");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private String[] doReadConstantPool(final ByteBufferDataInput dataInput, final ClassFileEventHandler classFileEventHandler) throws IOException {
+		final int constantPoolCount = dataInput.readUnsignedShort();
+		
+		final String[] strings = new String[constantPoolCount];
+		
+		for(int i = 1; i < constantPoolCount; i++) {
+			final int tag = dataInput.readUnsignedByte();
+			
+			final Optional<CPInfoReader> optionalCPInfoReader = this.readerRegistry.getCPInfoReader(tag);
+			
+			if(!optionalCPInfoReader.isPresent()) {
+				throw new ClassFileReaderException(String.format("Unable to read cp_info: tag = %s", Integer.toString(tag)));
+			}
+			
+			final CPInfo cPInfo = optionalCPInfoReader.get().read(dataInput, tag);
+			
+			if(cPInfo instanceof ConstantUTF8Info) {
+				strings[i] = ConstantUTF8Info.class.cast(cPInfo).getStringValue();
+			}
+			
+			classFileEventHandler.constant(i, cPInfo);
+			
+			i += cPInfo.getConstantPoolEntryCount() - 1;
+		}
+		
+		return strings;
+	}
+	
+	private void doRead(final ByteBufferDataInput dataInput, final ClassFileEventHandler classFileEventHandler, final String string) {
+		try {
+			final int magic = dataInput.readInt();
+			
+			if(magic != 0xCAFEBABE) {
+				throw new ClassFileReaderException(String.format("Invalid magic: %s", Integer.toHexString(magic)));
+			}
+			
+			final int minorVersion = dataInput.readUnsignedShort();
+			final int majorVersion = dataInput.readUnsignedShort();
+			
+			classFileEventHandler.start(minorVersion, majorVersion);
+			
+			final String[] strings = doReadConstantPool(dataInput, classFileEventHandler);
+			
+			final int accessFlags = dataInput.readUnsignedShort();
+			final int thisClass = dataInput.readUnsignedShort();
+			final int superClass = dataInput.readUnsignedShort();
+			
+			final int[] interfaces = new int[dataInput.readUnsignedShort()];
+			
+			for(int i = 0; i < interfaces.length; i++) {
+				interfaces[i] = dataInput.readUnsignedShort();
+			}
+			
+			classFileEventHandler.header(accessFlags, thisClass, superClass, interfaces);
+			
+			final int fieldsCount = dataInput.readUnsignedShort();
+			
+			for(int i = 0; i < fieldsCount; i++) {
+				final boolean isReportingAttributes = classFileEventHandler.field(dataInput.readUnsignedShort(), dataInput.readUnsignedShort(), dataInput.readUnsignedShort());
+				
+				doReadAttributes(dataInput, classFileEventHandler, strings, isReportingAttributes, false);
+				
+				classFileEventHandler.endField();
+			}
+			
+			final int methodsCount = dataInput.readUnsignedShort();
+			
+			for(int i = 0; i < methodsCount; i++) {
+				final boolean isReportingAttributes = classFileEventHandler.method(dataInput.readUnsignedShort(), dataInput.readUnsignedShort(), dataInput.readUnsignedShort());
+				
+				doReadAttributes(dataInput, classFileEventHandler, strings, isReportingAttributes, true);
+				
+				classFileEventHandler.endMethod();
+			}
+			
+			doReadAttributes(dataInput, classFileEventHandler, strings, true, false);
+			
+			classFileEventHandler.end();
+		} catch(final CPInfoReaderException | IOException | IllegalArgumentException | IndexOutOfBoundsException e) {
+			throw new ClassFileReaderException(String.format("Unable to read ClassFile: %s", string), e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static String doGetName(final int attributeNameIndex, final String[] strings) {
+		if(attributeNameIndex > 0 && attributeNameIndex < strings.length && strings[attributeNameIndex] != null) {
+			return strings[attributeNameIndex];
+		}
+		
+		throw new IllegalArgumentException(String.format("Illegal attribute_name_index: %s", Integer.toString(attributeNameIndex)));
+	}
+	
+	private static void doReadAttributes(final ByteBufferDataInput dataInput, final ClassFileEventHandler classFileEventHandler, final String[] strings, final boolean isReportingAttributes, final boolean isReadingCode) throws IOException {
+		final int attributesCount = dataInput.readUnsignedShort();
+		
+		for(int i = 0; i < attributesCount; i++) {
+			final int attributeNameIndex = dataInput.readUnsignedShort();
+			final int attributeLength = dataInput.readInt();
+			
+			if(!isReportingAttributes) {
+				ByteBufferDataInput.skipFully(dataInput, attributeLength);
+				
+				continue;
+			}
+			
+			final String name = doGetName(attributeNameIndex, strings);
+			
+			final ByteBuffer info = dataInput.slice(attributeLength).asReadOnlyBuffer();
+			
+			if(isReadingCode && name.equals(CodeAttribute.NAME)) {
+				doReadCode(new ByteBufferDataInput(info), classFileEventHandler, strings);
+			} else {
+				classFileEventHandler.attribute(name, info);
+			}
+		}
+	}
+	
+	private static void doReadCode(final ByteBufferDataInput dataInput, final ClassFileEventHandler classFileEventHandler, final String[] strings) throws IOException {
+		final int maxStack = dataInput.readUnsignedShort();
+		final int maxLocals = dataInput.readUnsignedShort();
+		final int codeLength = dataInput.readInt();
+		
+		classFileEventHandler.code(maxStack, maxLocals, codeLength);
+		
+		final ByteBuffer code = dataInput.slice(codeLength);
+		final ByteBuffer operands = code.asReadOnlyBuffer();
+		
+		for(int offset = 0; offset < codeLength;) {
+			final int length = InstructionCursor.getLength(code, offset);
+			
+			if(offset + length > codeLength) {
+				throw new IllegalArgumentException(String.format("Instruction exceeds code_length: offset = %s", Integer.toString(offset)));
+			}
+			
+			operands.limit(offset + length);
+			operands.position(offset + 1);
+			
+			classFileEventHandler.instruction(offset, code.get(offset) & 0xFF, operands);
+			
+			offset += length;
+		}
+		
+		final int exceptionTableLength = dataInput.readUnsignedShort();
+		
+		for(int i = 0; i < exceptionTableLength; i++) {
+			classFileEventHandler.exceptionHandler(dataInput.readUnsignedShort(), dataInput.readUnsignedShort(), dataInput.readUnsignedShort(), dataInput.readUnsignedShort());
+		}
+		
+		doReadAttributes(dataInput, classFileEventHandler, strings, true, false);
+		
+		classFileEventHandler.endCode();
+	}
+}
\ No newline at end of file
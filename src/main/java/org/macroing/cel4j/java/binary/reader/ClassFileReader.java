@@ -18,21 +18,36 @@
  */
 package org.macroing.cel4j.java.binary.reader;
 
-import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.ServiceLoader;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
 import org.macroing.cel4j.java.binary.classfile.CPInfo;
 import org.macroing.cel4j.java.binary.classfile.ClassFile;
 import org.macroing.cel4j.java.binary.classfile.FieldInfo;
 import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LazyAttribute;
 import org.macroing.cel4j.java.binary.classfile.attributeinfo.UnimplementedAttribute;
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 
@@ -56,23 +71,130 @@ import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 public final class ClassFileReader {
 	private final FieldInfoReader fieldInfoReader;
 	private final MethodInfoReader methodInfoReader;
-	private final ServiceLoader<AttributeInfoReader> attributeInfoReaders;
-	private final ServiceLoader<CPInfoReader> cPInfoReaders;
+	private final Optional<SymbolTable> optionalSymbolTable;
+	private final ReadOptions readOptions;
+	private final ReaderRegistry readerRegistry;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	/**
 	 * Constructs a new {@code ClassFileReader} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ClassFileReader(ReaderRegistry.getDefault(), ReadOptions.DEFAULT);
+	 * }
+	 * </pre>
 	 */
 	public ClassFileReader() {
-		this.fieldInfoReader = new FieldInfoReader();
-		this.methodInfoReader = new MethodInfoReader();
-		this.attributeInfoReaders = ServiceLoader.load(AttributeInfoReader.class);
-		this.cPInfoReaders = ServiceLoader.load(CPInfoReader.class);
+		this(ReaderRegistry.getDefault(), ReadOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new {@code ClassFileReader} instance.
+	 * <p>
+	 * If {@code readOptions} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ClassFileReader(ReaderRegistry.getDefault(), readOptions);
+	 * }
+	 * </pre>
+	 * 
+	 * @param readOptions the {@link ReadOptions} that denotes how to read
+	 * @throws NullPointerException thrown if, and only if, {@code readOptions} is {@code null}
+	 */
+	public ClassFileReader(final ReadOptions readOptions) {
+		this(ReaderRegistry.getDefault(), readOptions);
+	}
+	
+	/**
+	 * Constructs a new {@code ClassFileReader} instance.
+	 * <p>
+	 * If {@code readerRegistry} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ClassFileReader(readerRegistry, ReadOptions.DEFAULT);
+	 * }
+	 * </pre>
+	 * 
+	 * @param readerRegistry the {@link ReaderRegistry} that is used to look up {@link AttributeInfoReader} and {@link CPInfoReader} instances
+	 * @throws NullPointerException thrown if, and only if, {@code readerRegistry} is {@code null}
+	 */
+	public ClassFileReader(final ReaderRegistry readerRegistry) {
+		this(readerRegistry, ReadOptions.DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new {@code ClassFileReader} instance.
+	 * <p>
+	 * If either {@code readerRegistry} or {@code readOptions} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param readerRegistry the {@link ReaderRegistry} that is used to look up {@link AttributeInfoReader} and {@link CPInfoReader} instances
+	 * @param readOptions the {@link ReadOptions} that denotes how to read
+	 * @throws NullPointerException thrown if, and only if, either {@code readerRegistry} or {@code readOptions} are {@code null}
+	 */
+	public ClassFileReader(final ReaderRegistry readerRegistry, final ReadOptions readOptions) {
+		this(readerRegistry, readOptions, Optional.empty());
+	}
+	
+	/**
+	 * Constructs a new {@code ClassFileReader} instance.
+	 * <p>
+	 * If either {@code readerRegistry}, {@code readOptions} or {@code symbolTable} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The {@code CONSTANT_Utf8_info} structures are resolved through {@code symbolTable}, so that equal strings in different class files share the same {@code String} instance. The {@link SymbolTable} is only used if the {@link CPInfoReader}
+	 * for {@code CONSTANT_Utf8_info} structures is the one provided by this library.
+	 * <p>
+	 * The same {@code SymbolTable} can be shared by any number of {@code ClassFileReader} instances, including across threads.
+	 * 
+	 * @param readerRegistry the {@link ReaderRegistry} that is used to look up {@link AttributeInfoReader} and {@code CPInfoReader} instances
+	 * @param readOptions the {@link ReadOptions} that denotes how to read
+	 * @param symbolTable the {@code SymbolTable} that is used to deduplicate the {@code CONSTANT_Utf8_info} structures
+	 * @throws NullPointerException thrown if, and only if, either {@code readerRegistry}, {@code readOptions} or {@code symbolTable} are {@code null}
+	 */
+	public ClassFileReader(final ReaderRegistry readerRegistry, final ReadOptions readOptions, final SymbolTable symbolTable) {
+		this(readerRegistry, readOptions, Optional.of(Objects.requireNonNull(symbolTable, "symbolTable == null")));
+	}
+	
+	private ClassFileReader(final ReaderRegistry readerRegistry, final ReadOptions readOptions, final Optional<SymbolTable> optionalSymbolTable) {
+		this.readerRegistry = Objects.requireNonNull(readerRegistry, "readerRegistry == null");
+		this.readOptions = Objects.requireNonNull(readOptions, "readOptions == null");
+		this.optionalSymbolTable = optionalSymbolTable;
+		this.fieldInfoReader = new FieldInfoReader(readerRegistry, readOptions);
+		this.methodInfoReader = new MethodInfoReader(readerRegistry, readOptions);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
+	/**
+	 * Reads the byte sequence provided by {@code byteBuffer} into a {@link ClassFile} instance.
+	 * <p>
+	 * Returns a {@code ClassFile} instance.
+	 * <p>
+	 * If {@code byteBuffer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@code ClassFile} cannot be read, a {@code ClassFileReaderException} will be thrown.
+	 * <p>
+	 * The bytes between the current position and the limit of {@code byteBuffer} are decoded in big-endian order directly from {@code byteBuffer}, without first being copied. Neither the position, the limit nor the byte order of {@code byteBuffer}
+	 * is modified by this method.
+	 * <p>
+	 * The {@code code} item of each {@code Code_attribute} is copied once into its {@link CodeAttribute}, which stores it as a {@code byte} array that it owns. In lazy mode, the {@link LazyAttribute} instances refer to {@code byteBuffer} until
+	 * they are decoded, so its content should not be modified before then.
+	 * 
+	 * @param byteBuffer the {@code ByteBuffer} to read a {@code ClassFile} instance from
+	 * @return a {@code ClassFile} instance
+	 * @throws ClassFileReaderException thrown if, and only if, the {@code ClassFile} cannot be read
+	 * @throws NullPointerException thrown if, and only if, {@code byteBuffer} is {@code null}
+	 */
+	public ClassFile read(final ByteBuffer byteBuffer) {
+		return doReadClassFile(Objects.requireNonNull(byteBuffer, "byteBuffer == null"));
+	}
+	
 	/**
 	 * Reads the byte sequence provided by {@code clazz} into a {@link ClassFile} instance.
 	 * <p>
@@ -88,9 +210,6 @@ public final class ClassFileReader {
 	 * @throws NullPointerException thrown if, and only if, {@code clazz} is {@code null}
 	 */
 	public ClassFile read(final Class<?> clazz) {
-		doReloadAttributeInfoReaders();
-		doReloadCPInfoReaders();
-		
 		return doReadClassFile(Objects.requireNonNull(clazz, "clazz == null"));
 	}
 	
@@ -109,9 +228,6 @@ public final class ClassFileReader {
 	 * @throws NullPointerException thrown if, and only if, {@code dataInput} is {@code null}
 	 */
 	public ClassFile read(final DataInput dataInput) {
-		doReloadAttributeInfoReaders();
-		doReloadCPInfoReaders();
-		
 		return doReadClassFile(Objects.requireNonNull(dataInput, "dataInput == null"), "?");
 	}
 	
@@ -130,12 +246,29 @@ public final class ClassFileReader {
 	 * @throws NullPointerException thrown if, and only if, {@code file} is {@code null}
 	 */
 	public ClassFile read(final File file) {
-		doReloadAttributeInfoReaders();
-		doReloadCPInfoReaders();
-		
 		return doReadClassFile(Objects.requireNonNull(file, "file == null"));
 	}
 	
+	/**
+	 * Reads the byte sequence provided by {@code path} into a {@link ClassFile} instance.
+	 * <p>
+	 * Returns a {@code ClassFile} instance.
+	 * <p>
+	 * If {@code path} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@code ClassFile} cannot be read, a {@code ClassFileReaderException} will be thrown.
+	 * <p>
+	 * The file denoted by {@code path} is memory-mapped using {@code FileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, size)} and decoded directly from the mapped buffer.
+	 * 
+	 * @param path the {@code Path} to read a {@code ClassFile} instance from
+	 * @return a {@code ClassFile} instance
+	 * @throws ClassFileReaderException thrown if, and only if, the {@code ClassFile} cannot be read
+	 * @throws NullPointerException thrown if, and only if, {@code path} is {@code null}
+	 */
+	public ClassFile read(final Path path) {
+		return doReadClassFile(Objects.requireNonNull(path, "path == null"));
+	}
+	
 	/**
 	 * Reads the byte sequence provided by {@code Class.forName(className)} into a {@link ClassFile} instance.
 	 * <p>
@@ -151,9 +284,6 @@ public final class ClassFileReader {
 	 * @throws NullPointerException thrown if, and only if, {@code className} is {@code null}
 	 */
 	public ClassFile read(final String className) {
-		doReloadAttributeInfoReaders();
-		doReloadCPInfoReaders();
-		
 		return doReadClassFile(Objects.requireNonNull(className, "className == null"));
 	}
 	
@@ -172,32 +302,97 @@ public final class ClassFileReader {
 	 * @throws NullPointerException thrown if, and only if, {@code bytes} is {@code null}
 	 */
 	public ClassFile read(final byte[] bytes) {
-		doReloadAttributeInfoReaders();
-		doReloadCPInfoReaders();
-		
 		return doReadClassFile(Objects.requireNonNull(bytes, "bytes == null"));
 	}
 	
+	/**
+	 * Reads all class files in the JAR file, ZIP file or directory denoted by {@code path} in parallel and returns a {@code Stream} of {@link ReadResult} instances, one for each class file.
+	 * <p>
+	 * Returns a {@code Stream} of {@code ReadResult} instances.
+	 * <p>
+	 * If {@code path} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the JAR file, ZIP file or directory cannot be opened, a {@code ClassFileReaderException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * classFileReader.readAll(path, true);
+	 * }
+	 * </pre>
+	 * 
+	 * @param path the {@code Path} to a JAR file, a ZIP file, a directory or a single class file
+	 * @return a {@code Stream} of {@code ReadResult} instances
+	 * @throws ClassFileReaderException thrown if, and only if, the JAR file, ZIP file or directory cannot be opened
+	 * @throws NullPointerException thrown if, and only if, {@code path} is {@code null}
+	 */
+	public Stream<ReadResult> readAll(final Path path) {
+		return readAll(path, true);
+	}
+	
+	/**
+	 * Reads all class files in the JAR file, ZIP file or directory denoted by {@code path} in parallel and returns a {@code Stream} of {@link ReadResult} instances, one for each class file.
+	 * <p>
+	 * Returns a {@code Stream} of {@code ReadResult} instances.
+	 * <p>
+	 * If {@code path} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the JAR file, ZIP file or directory cannot be opened, a {@code ClassFileReaderException} will be thrown.
+	 * <p>
+	 * If {@code path} denotes a directory, all files ending with {@code ".class"} in it and its subdirectories are read. If {@code path} denotes a file ending with {@code ".class"}, only that file is read. Otherwise {@code path} is read as a JAR
+	 * or ZIP file, whose central directory is read once when it is opened.
+	 * <p>
+	 * The returned {@code Stream} is parallel. The class files are read by the terminal operation of the returned {@code Stream}, on the common {@code ForkJoinPool} or on the {@code ForkJoinPool} the terminal operation is invoked from. Each
+	 * class file is read by its own {@code ClassFileReader} instance with the same {@link ReaderRegistry} and {@link ReadOptions} as this {@code ClassFileReader} instance.
+	 * <p>
+	 * A class file that cannot be read does not fail the {@code Stream}. Instead, the {@code ClassFileReaderException} that was thrown is available in its {@code ReadResult} instance.
+	 * <p>
+	 * If {@code isOrdered} is {@code true}, the returned {@code Stream} has an encounter order, which is the order of the entries in the JAR or ZIP file, or the lexicographical order of the paths in the directory. If {@code isOrdered} is
+	 * {@code false}, the returned {@code Stream} is unordered, which lets operations such as {@code forEach(Consumer)} and {@code findAny()} deliver the {@code ReadResult} instances as soon as they are available.
+	 * <p>
+	 * The returned {@code Stream} may hold an open JAR or ZIP file and should be closed after use, preferably using a try-with-resources statement:
+	 * <pre>
+	 * {@code
+	 * try(Stream<ReadResult> stream = classFileReader.readAll(Paths.get("library.jar"), false)) {
+	 *     stream.forEach(readResult -> System.out.println(readResult));
+	 * }
+	 * }
+	 * </pre>
+	 * 
+	 * @param path the {@code Path} to a JAR file, a ZIP file, a directory or a single class file
+	 * @param isOrdered {@code true} if, and only if, the returned {@code Stream} should have an encounter order, {@code false} otherwise
+	 * @return a {@code Stream} of {@code ReadResult} instances
+	 * @throws ClassFileReaderException thrown if, and only if, the JAR file, ZIP file or directory cannot be opened
+	 * @throws NullPointerException thrown if, and only if, {@code path} is {@code null}
+	 */
+	public Stream<ReadResult> readAll(final Path path, final boolean isOrdered) {
+		final Stream<ReadResult> stream = doReadAll(Objects.requireNonNull(path, "path == null"));
+		
+		return isOrdered ? stream : stream.unordered();
+	}
+	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	private AttributeInfo doReadAttributeInfo(final DataInput dataInput, final ClassFile classFile) {
+	private Optional<AttributeInfo> doReadAttributeInfo(final DataInput dataInput, final List<CPInfo> constantPool) {
 		final int attributeNameIndex = doReadU2(dataInput);
 		final int attributeLength = doReadU4(dataInput);
 		
-		final List<CPInfo> constantPool = classFile.getCPInfos();
-		
 		final String name = doGetName(attributeNameIndex, constantPool);
 		
-		for(final AttributeInfoReader attributeInfoReader : this.attributeInfoReaders) {
-			if(attributeInfoReader.isSupported(name)) {
-				return attributeInfoReader.read(dataInput, attributeNameIndex, classFile.getCPInfos());
-			}
+		if(this.readOptions.isSkipping(name)) {
+			doSkipAttributeInfo(dataInput, attributeLength, name);
+			
+			return Optional.empty();
 		}
 		
-		final AttributeInfoReader attributeInfoReader = new AttributeInfoReaderImpl();
+		final Optional<AttributeInfoReader> optionalAttributeInfoReader = this.readerRegistry.getAttributeInfoReader(name);
 		
-		if(attributeInfoReader.isSupported(name)) {
-			return attributeInfoReader.read(dataInput, attributeNameIndex, classFile.getCPInfos());
+		if(optionalAttributeInfoReader.isPresent()) {
+			if(this.readOptions.isLazy()) {
+				return Optional.of(LazyAttributeReader.read(dataInput, name, attributeNameIndex, attributeLength, optionalAttributeInfoReader.get(), constantPool));
+			}
+			
+			return Optional.of(Objects.requireNonNull(optionalAttributeInfoReader.get().read(dataInput, attributeNameIndex, constantPool), "attributeInfo == null"));
 		}
 		
 		try {
@@ -205,7 +400,7 @@ public final class ClassFileReader {
 			
 			dataInput.readFully(info);
 			
-			return new UnimplementedAttribute(name, attributeNameIndex, info);
+			return Optional.of(new UnimplementedAttribute(name, attributeNameIndex, info));
 		} catch(final IOException e) {
 			throw new ClassFileReaderException("Unable to read attribute_info: name = " + name);
 		}
@@ -214,42 +409,51 @@ public final class ClassFileReader {
 	private CPInfo doReadCPInfo(final DataInput dataInput) {
 		final int tag = doReadU1(dataInput);
 		
-		for(final CPInfoReader cPInfoReader : this.cPInfoReaders) {
-			if(cPInfoReader.isSupported(tag)) {
-				return cPInfoReader.read(dataInput, tag);
-			}
-		}
-		
-		final CPInfoReader cPInfoReader = new CPInfoReaderImpl();
+		final Optional<CPInfoReader> optionalCPInfoReader = this.readerRegistry.getCPInfoReader(tag);
 		
-		if(cPInfoReader.isSupported(tag)) {
+		if(optionalCPInfoReader.isPresent()) {
+			final CPInfoReader cPInfoReader = optionalCPInfoReader.get();
+			
+			if(this.optionalSymbolTable.isPresent() && cPInfoReader instanceof ConstantUTF8InfoReader) {
+				return ConstantUTF8InfoReader.read(dataInput, this.optionalSymbolTable.get());
+			}
+			
 			return cPInfoReader.read(dataInput, tag);
 		}
 		
 		throw new ClassFileReaderException(String.format("Unable to read cp_info: tag = %s", Integer.toString(tag)));
 	}
 	
+	private ClassFile doReadClassFile(final ByteBuffer byteBuffer) {
+		return doReadClassFile(new ByteBufferDataInput(byteBuffer.duplicate()), "ByteBuffer");
+	}
+	
 	private ClassFile doReadClassFile(final Class<?> clazz) {
 		return doReadClassFile(new DataInputStream(clazz.getResourceAsStream(doGetSimpleNameOf(clazz) + ".class")), clazz.getName() + " (" + doGetSimpleNameOf(clazz) + ".class)");
 	}
 	
 	private ClassFile doReadClassFile(final DataInput dataInput, final String string) {
 		try {
-			final ClassFile classFile = new ClassFile();
+			final ClassFile.Builder builder = ClassFile.Builder.newInstance();
 			
 			doReadMagic(dataInput);
-			doReadMinorVersion(dataInput, classFile);
-			doReadMajorVersion(dataInput, classFile);
-			doReadConstantPool(dataInput, classFile);
-			doReadAccessFlags(dataInput, classFile);
-			doReadThisClass(dataInput, classFile);
-			doReadSuperClass(dataInput, classFile);
-			doReadInterfaces(dataInput, classFile);
-			doReadFields(dataInput, classFile);
-			doReadMethods(dataInput, classFile);
-			doReadAttributes(dataInput, classFile);
+			doReadMinorVersion(dataInput, builder);
+			doReadMajorVersion(dataInput, builder);
+			doReadConstantPool(dataInput, builder);
+			doReadAccessFlags(dataInput, builder);
+			doReadThisClass(dataInput, builder);
+			doReadSuperClass(dataInput, builder);
+			doReadInterfaces(dataInput, builder);
+			
+			if(this.readOptions.isHeaderOnly()) {
+				return this.readOptions.isMutable() ? builder.buildMutable() : builder.build();
+			}
+			
+			doReadFields(dataInput, builder);
+			doReadMethods(dataInput, builder);
+			doReadAttributes(dataInput, builder);
 			
-			return classFile;
+			return this.readOptions.isMutable() ? builder.buildMutable() : builder.build();
 		} catch(final AttributeInfoReaderException | CPInfoReaderException | IllegalArgumentException | NullPointerException e) {
 			throw new ClassFileReaderException(String.format("Unable to read ClassFile: %s", string), e);
 		}
@@ -263,6 +467,16 @@ public final class ClassFileReader {
 		}
 	}
 	
+	private ClassFile doReadClassFile(final Path path) {
+		try(final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+			final MappedByteBuffer mappedByteBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0L, fileChannel.size());
+			
+			return doReadClassFile(new ByteBufferDataInput(mappedByteBuffer), path.toString());
+		} catch(final IOException e) {
+			throw new ClassFileReaderException(String.format("Unable to read ClassFile: %s", path), e);
+		}
+	}
+	
 	private ClassFile doReadClassFile(final String className) {
 		try {
 			return doReadClassFile(Class.forName(className));
@@ -272,28 +486,88 @@ public final class ClassFileReader {
 	}
 	
 	private ClassFile doReadClassFile(final byte[] bytes) {
-		try(final DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(bytes))) {
-			return doReadClassFile(dataInputStream, "new byte[] {...}");
+		return doReadClassFile(new ByteBufferDataInput(ByteBuffer.wrap(bytes)), "new byte[] {...}");
+	}
+	
+	private ReadResult doReadResult(final Path directory, final Path path) {
+		final String name = directory.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+		
+		try {
+			return ReadResult.success(name, new ClassFileReader(this.readerRegistry, this.readOptions, this.optionalSymbolTable).read(Files.readAllBytes(path)));
 		} catch(final IOException e) {
-			throw new ClassFileReaderException("Unable to read ClassFile: new byte[] {...}", e);
+			return ReadResult.failure(name, new ClassFileReaderException(String.format("Unable to read ClassFile: %s", path), e));
+		} catch(final ClassFileReaderException e) {
+			return ReadResult.failure(name, e);
+		} catch(final RuntimeException e) {
+			return ReadResult.failure(name, new ClassFileReaderException(String.format("Unable to read ClassFile: %s", path), e));
+		}
+	}
+	
+	private ReadResult doReadResult(final ZipFile zipFile, final ZipEntry zipEntry) {
+		final String name = zipEntry.getName();
+		
+		try {
+			return ReadResult.success(name, new ClassFileReader(this.readerRegistry, this.readOptions, this.optionalSymbolTable).read(doReadAllBytes(zipFile, zipEntry)));
+		} catch(final IOException e) {
+			return ReadResult.failure(name, new ClassFileReaderException(String.format("Unable to read ClassFile: %s!/%s", zipFile.getName(), name), e));
+		} catch(final ClassFileReaderException e) {
+			return ReadResult.failure(name, e);
+		} catch(final RuntimeException e) {
+			return ReadResult.failure(name, new ClassFileReaderException(String.format("Unable to read ClassFile: %s!/%s", zipFile.getName(), name), e));
+		}
+	}
+	
+	private Stream<ReadResult> doReadAll(final Path path) {
+		if(Files.isDirectory(path)) {
+			return doReadAllFromDirectory(path);
+		}
+		
+		if(doIsClassFileName(path.toString())) {
+			final Path parent = path.toAbsolutePath().getParent();
+			
+			return Stream.of(path).parallel().map(currentPath -> doReadResult(parent, currentPath.toAbsolutePath()));
+		}
+		
+		return doReadAllFromZipFile(path);
+	}
+	
+	private Stream<ReadResult> doReadAllFromDirectory(final Path directory) {
+		try(final Stream<Path> stream = Files.walk(directory)) {
+			final List<Path> paths = stream.filter(path -> doIsClassFileName(path.toString()) && Files.isRegularFile(path)).sorted().collect(Collectors.toList());
+			
+			return paths.parallelStream().map(path -> doReadResult(directory, path));
+		} catch(final IOException | UncheckedIOException e) {
+			throw new ClassFileReaderException(String.format("Unable to read directory: %s", directory), e);
 		}
 	}
 	
-	private void doReadAttributes(final DataInput dataInput, final ClassFile classFile) {
+	private Stream<ReadResult> doReadAllFromZipFile(final Path path) {
+		final ZipFile zipFile = doOpenZipFile(path);
+		
+		try {
+			final List<ZipEntry> zipEntries = Collections.list(zipFile.entries()).stream().filter(zipEntry -> !zipEntry.isDirectory() && doIsClassFileName(zipEntry.getName())).collect(Collectors.toList());
+			
+			return zipEntries.parallelStream().map(zipEntry -> doReadResult(zipFile, zipEntry)).onClose(() -> doCloseZipFile(zipFile));
+		} catch(final RuntimeException e) {
+			doCloseZipFile(zipFile);
+			
+			throw e;
+		}
+	}
+	
+	private void doReadAttributes(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int attributesCount = doReadU2(dataInput);
 		
 		for(int i = 0; i < attributesCount; i++) {
-			final AttributeInfo attributeInfo = doReadAttributeInfo(dataInput, classFile);
+			final Optional<AttributeInfo> optionalAttributeInfo = doReadAttributeInfo(dataInput, builder.getCPInfos());
 			
-			if(attributeInfo == null) {
-				throw new NullPointerException("attributes[" + i + "] == null");
+			if(optionalAttributeInfo.isPresent()) {
+				builder.addAttributeInfo(optionalAttributeInfo.get());
 			}
-			
-			classFile.addAttributeInfo(attributeInfo);
 		}
 	}
 	
-	private void doReadConstantPool(final DataInput dataInput, final ClassFile classFile) {
+	private void doReadConstantPool(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int constantPoolCount = doReadU2(dataInput);
 		
 		for(int i = 1; i < constantPoolCount; i++) {
@@ -307,38 +581,30 @@ public final class ClassFileReader {
 			
 			i += constantPoolEntryCount - 1;
 			
-			classFile.addCPInfo(cPInfo);
+			builder.addCPInfo(cPInfo);
 		}
 	}
 	
-	private void doReadFields(final DataInput dataInput, final ClassFile classFile) {
+	private void doReadFields(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int fieldsCount = doReadU2(dataInput);
 		
 		for(int i = 0; i < fieldsCount; i++) {
-			final FieldInfo fieldInfo = this.fieldInfoReader.read(dataInput, classFile);
+			final FieldInfo fieldInfo = this.fieldInfoReader.read(dataInput, builder.getCPInfos());
 			
-			classFile.addFieldInfo(fieldInfo);
+			builder.addFieldInfo(fieldInfo);
 		}
 	}
 	
-	private void doReadMethods(final DataInput dataInput, final ClassFile classFile) {
+	private void doReadMethods(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int methodsCount = doReadU2(dataInput);
 		
 		for(int i = 0; i < methodsCount; i++) {
-			final MethodInfo methodInfo = this.methodInfoReader.read(dataInput, classFile);
+			final MethodInfo methodInfo = this.methodInfoReader.read(dataInput, builder.getCPInfos());
 			
-			classFile.addMethodInfo(methodInfo);
+			builder.addMethodInfo(methodInfo);
 		}
 	}
 	
-	private void doReloadAttributeInfoReaders() {
-		this.attributeInfoReaders.reload();
-	}
-	
-	private void doReloadCPInfoReaders() {
-		this.cPInfoReaders.reload();
-	}
-	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private static String doGetName(final int attributeNameIndex, final List<CPInfo> constantPool) {
@@ -373,6 +639,34 @@ public final class ClassFileReader {
 		return stringBuilder.toString();
 	}
 	
+	private static ZipFile doOpenZipFile(final Path path) {
+		try {
+			return new ZipFile(path.toFile());
+		} catch(final IOException e) {
+			throw new ClassFileReaderException(String.format("Unable to read JAR or ZIP file: %s", path), e);
+		}
+	}
+	
+	private static boolean doIsClassFileName(final String name) {
+		return name.endsWith(".class");
+	}
+	
+	private static byte[] doReadAllBytes(final ZipFile zipFile, final ZipEntry zipEntry) throws IOException {
+		try(final InputStream inputStream = zipFile.getInputStream(zipEntry)) {
+			final long size = zipEntry.getSize();
+			
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(size > 0L && size < Integer.MAX_VALUE ? (int)(size) : 8192);
+			
+			final byte[] buffer = new byte[8192];
+			
+			for(int count = inputStream.read(buffer); count >= 0; count = inputStream.read(buffer)) {
+				byteArrayOutputStream.write(buffer, 0, count);
+			}
+			
+			return byteArrayOutputStream.toByteArray();
+		}
+	}
+	
 	private static int doReadU1(final DataInput dataInput) {
 		try {
 			return dataInput.readUnsignedByte();
@@ -397,30 +691,39 @@ public final class ClassFileReader {
 		}
 	}
 	
+	private static void doSkipAttributeInfo(final DataInput dataInput, final int attributeLength, final String name) {
+		try {
+			ByteBufferDataInput.skipFully(dataInput, attributeLength);
+		} catch(final IOException e) {
+			throw new ClassFileReaderException(String.format("Unable to skip attribute_info: name = %s", name), e);
+		}
+	}
+	
 	private static void doAssertU4IsValidMagic(final int u4) {
 		if(u4 != 0xCAFEBABE) {
 			throw new IllegalArgumentException("u4 != 0xCAFEBABE (" + 0xCAFEBABE + "): u4 = " + u4);
 		}
 	}
 	
-	private static void doReadAccessFlags(final DataInput dataInput, final ClassFile classFile) {
+	private static void doCloseZipFile(final ZipFile zipFile) {
+		try {
+			zipFile.close();
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static void doReadAccessFlags(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int accessFlags = doReadU2(dataInput);
 		
-		classFile.setAbstract((accessFlags & ClassFile.ACC_ABSTRACT) != 0);
-		classFile.setAnnotation((accessFlags & ClassFile.ACC_ANNOTATION) != 0);
-		classFile.setEnum((accessFlags & ClassFile.ACC_ENUM) != 0);
-		classFile.setFinal((accessFlags & ClassFile.ACC_FINAL) != 0);
-		classFile.setInterface((accessFlags & ClassFile.ACC_INTERFACE) != 0);
-		classFile.setPublic((accessFlags & ClassFile.ACC_PUBLIC) != 0);
-		classFile.setSuper((accessFlags & ClassFile.ACC_SUPER) != 0);
-		classFile.setSynthetic((accessFlags & ClassFile.ACC_SYNTHETIC) != 0);
+		builder.setAccessFlags(accessFlags);
 	}
 	
-	private static void doReadInterfaces(final DataInput dataInput, final ClassFile classFile) {
+	private static void doReadInterfaces(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int interfacesCount = doReadU2(dataInput);
 		
 		for(int i = 0; i < interfacesCount; i++) {
-			classFile.addInterface(doReadU2(dataInput));
+			builder.addInterface(doReadU2(dataInput));
 		}
 	}
 	
@@ -428,27 +731,27 @@ public final class ClassFileReader {
 		doAssertU4IsValidMagic(doReadU4(dataInput));
 	}
 	
-	private static void doReadMajorVersion(final DataInput dataInput, final ClassFile classFile) {
+	private static void doReadMajorVersion(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int majorVersion = doReadU2(dataInput);
 		
-		classFile.setMajorVersion(majorVersion);
+		builder.setMajorVersion(majorVersion);
 	}
 	
-	private static void doReadMinorVersion(final DataInput dataInput, final ClassFile classFile) {
+	private static void doReadMinorVersion(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int minorVersion = doReadU2(dataInput);
 		
-		classFile.setMinorVersion(minorVersion);
+		builder.setMinorVersion(minorVersion);
 	}
 	
-	private static void doReadSuperClass(final DataInput dataInput, final ClassFile classFile) {
+	private static void doReadSuperClass(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int superClass = doReadU2(dataInput);
 		
-		classFile.setSuperClass(superClass);
+		builder.setSuperClass(superClass);
 	}
 	
-	private static void doReadThisClass(final DataInput dataInput, final ClassFile classFile) {
+	private static void doReadThisClass(final DataInput dataInput, final ClassFile.Builder builder) {
 		final int thisClass = doReadU2(dataInput);
 		
-		classFile.setThisClass(thisClass);
+		builder.setThisClass(thisClass);
 	}
 }
\ No newline at end of file
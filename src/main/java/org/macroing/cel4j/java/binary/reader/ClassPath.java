@@ -0,0 +1,446 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.macroing.cel4j.util.ParameterArguments;
+
+/**
+ * A {@code ClassPath} is used to find the bytes of class files by their class names, without loading any classes.
+ * <p>
+ * A {@code ClassPath} may be backed by a directory, a JAR or ZIP file, the {@code jrt:} image of the running Java Runtime Environment or a list of other {@code ClassPath} instances.
+ * <p>
+ * All {@code ClassPath} instances returned by the static factory methods of this class are thread-safe. A {@code ClassPath} that is backed by a JAR or ZIP file keeps it open until {@link #close()} is called.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * try(ClassPath classPath = ClassPath.of(ClassPath.ofJRT(), ClassPath.of(Paths.get("library.jar")))) {
+ *     Optional<byte[]> optionalBytes = classPath.find("com.example.Library");
+ * }
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public abstract class ClassPath implements AutoCloseable {
+	private static final AtomicReference<ClassPath> SYSTEM = new AtomicReference<>();
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code ClassPath} instance.
+	 */
+	protected ClassPath() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an {@code Optional} with the bytes of the class file denoted by {@code resourceName}, or an empty {@code Optional} if it cannot be found.
+	 * <p>
+	 * The resource name is the class name in internal form followed by {@code ".class"}, such as {@code "java/util/Map$Entry.class"}.
+	 * <p>
+	 * If {@code resourceName} is {@code null}, a {@code NullPointerException} may be thrown.
+	 * <p>
+	 * If the class file cannot be read, an {@code UncheckedIOException} may be thrown.
+	 * 
+	 * @param resourceName the resource name of the class file
+	 * @return an {@code Optional} with the bytes of the class file denoted by {@code resourceName}, or an empty {@code Optional} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code resourceName} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, the class file cannot be read
+	 */
+	protected abstract Optional<byte[]> findResource(final String resourceName);
+	
+	/**
+	 * Returns an {@code Optional} with the bytes of the class file for the class denoted by {@code className}, or an empty {@code Optional} if it cannot be found.
+	 * <p>
+	 * The class name may be given in external form, such as {@code "java.util.Map$Entry"}, or in internal form, such as {@code "java/util/Map$Entry"}.
+	 * <p>
+	 * If {@code className} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the class file cannot be read, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @param className the name of the class in external or internal form
+	 * @return an {@code Optional} with the bytes of the class file for the class denoted by {@code className}, or an empty {@code Optional} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code className} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, the class file cannot be read
+	 */
+	public final Optional<byte[]> find(final String className) {
+		return findResource(Objects.requireNonNull(className, "className == null").replace('.', '/') + ".class");
+	}
+	
+	/**
+	 * Closes this {@code ClassPath} instance and releases all JAR and ZIP files that it holds open.
+	 * <p>
+	 * The default implementation does nothing.
+	 * <p>
+	 * If an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @throws UncheckedIOException thrown if, and only if, an {@code IOException} is caught
+	 */
+	@Override
+	public void close() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code ClassPath} instance that searches {@code classPaths} in order.
+	 * <p>
+	 * If either {@code classPaths} or any of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The returned {@code ClassPath} remembers which of the {@code ClassPath} instances a class was found in, so that the next lookup of the same class goes straight to it.
+	 * 
+	 * @param classPaths the {@code ClassPath} instances to search
+	 * @return a {@code ClassPath} instance that searches {@code classPaths} in order
+	 * @throws NullPointerException thrown if, and only if, either {@code classPaths} or any of its elements are {@code null}
+	 */
+	public static ClassPath of(final ClassPath... classPaths) {
+		return of(Arrays.asList(ParameterArguments.requireNonNullArray(classPaths, "classPaths")));
+	}
+	
+	/**
+	 * Returns a {@code ClassPath} instance that searches {@code classPaths} in order.
+	 * <p>
+	 * If either {@code classPaths} or any of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The returned {@code ClassPath} remembers which of the {@code ClassPath} instances a class was found in, so that the next lookup of the same class goes straight to it.
+	 * 
+	 * @param classPaths the {@code ClassPath} instances to search
+	 * @return a {@code ClassPath} instance that searches {@code classPaths} in order
+	 * @throws NullPointerException thrown if, and only if, either {@code classPaths} or any of its elements are {@code null}
+	 */
+	public static ClassPath of(final List<ClassPath> classPaths) {
+		return new CompositeClassPath(new ArrayList<>(ParameterArguments.requireNonNullList(classPaths, "classPaths")));
+	}
+	
+	/**
+	 * Returns a {@code ClassPath} instance that is backed by the directory or the JAR or ZIP file denoted by {@code path}.
+	 * <p>
+	 * If {@code path} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code path} denotes a JAR or ZIP file that cannot be opened, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @param path the {@code Path} to a directory or a JAR or ZIP file
+	 * @return a {@code ClassPath} instance that is backed by the directory or the JAR or ZIP file denoted by {@code path}
+	 * @throws NullPointerException thrown if, and only if, {@code path} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, {@code path} denotes a JAR or ZIP file that cannot be opened
+	 */
+	public static ClassPath of(final Path path) {
+		return Files.isDirectory(Objects.requireNonNull(path, "path == null")) ? ofDirectory(path) : ofJAR(path);
+	}
+	
+	/**
+	 * Returns a {@code ClassPath} instance that is backed by the directory denoted by {@code directory}.
+	 * <p>
+	 * If {@code directory} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param directory the {@code Path} to a directory
+	 * @return a {@code ClassPath} instance that is backed by the directory denoted by {@code directory}
+	 * @throws NullPointerException thrown if, and only if, {@code directory} is {@code null}
+	 */
+	public static ClassPath ofDirectory(final Path directory) {
+		return new DirectoryClassPath(Objects.requireNonNull(directory, "directory == null"));
+	}
+	
+	/**
+	 * Returns a {@code ClassPath} instance that is backed by the JAR or ZIP file denoted by {@code file}.
+	 * <p>
+	 * The JAR or ZIP file is opened, and its central directory read, once. It is kept open until {@link #close()} is called.
+	 * <p>
+	 * If {@code file} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the JAR or ZIP file cannot be opened, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @param file the {@code Path} to a JAR or ZIP file
+	 * @return a {@code ClassPath} instance that is backed by the JAR or ZIP file denoted by {@code file}
+	 * @throws NullPointerException thrown if, and only if, {@code file} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, the JAR or ZIP file cannot be opened
+	 */
+	public static ClassPath ofJAR(final Path file) {
+		try {
+			return new JARClassPath(new ZipFile(Objects.requireNonNull(file, "file == null").toFile()));
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Returns a {@code ClassPath} instance that is backed by the {@code jrt:} image of the running Java Runtime Environment.
+	 * <p>
+	 * If the {@code jrt:} file system is not available, as on Java 8, a {@code ClassPath} instance that is backed by the boot class path is returned instead.
+	 * 
+	 * @return a {@code ClassPath} instance that is backed by the {@code jrt:} image of the running Java Runtime Environment
+	 */
+	public static ClassPath ofJRT() {
+		try {
+			return new JRTClassPath(FileSystems.getFileSystem(URI.create("jrt:/")));
+		} catch(final RuntimeException e) {
+			return doOfPathList(System.getProperty("sun.boot.class.path", ""));
+		}
+	}
+	
+	/**
+	 * Returns the {@code ClassPath} instance that is backed by the {@code jrt:} image of the running Java Runtime Environment and all entries of the system property {@code java.class.path}.
+	 * <p>
+	 * The returned {@code ClassPath} is created once and shared. Do not close it.
+	 * 
+	 * @return the {@code ClassPath} instance that is backed by the {@code jrt:} image of the running Java Runtime Environment and all entries of the system property {@code java.class.path}
+	 */
+	public static ClassPath ofSystem() {
+		final ClassPath classPath = SYSTEM.get();
+		
+		if(classPath != null) {
+			return classPath;
+		}
+		
+		synchronized(SYSTEM) {
+			if(SYSTEM.get() == null) {
+				SYSTEM.set(of(ofJRT(), doOfPathList(System.getProperty("java.class.path", ""))));
+			}
+			
+			return SYSTEM.get();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static ClassPath doOfPathList(final String pathList) {
+		final List<ClassPath> classPaths = new ArrayList<>();
+		
+		for(final String entry : pathList.split(File.pathSeparator)) {
+			if(!entry.isEmpty()) {
+				final Path path = Paths.get(entry);
+				
+				if(Files.isDirectory(path)) {
+					classPaths.add(ofDirectory(path));
+				} else if(Files.isRegularFile(path)) {
+					try {
+						classPaths.add(ofJAR(path));
+					} catch(final UncheckedIOException e) {
+						// Entries that are not JAR or ZIP files are ignored, just like the JVM ignores them.
+					}
+				}
+			}
+		}
+		
+		return of(classPaths);
+	}
+	
+	private static byte[] doReadAllBytes(final InputStream inputStream, final long size) throws IOException {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(size > 0L && size <= Integer.MAX_VALUE ? (int)(size) : 8192);
+		
+		final byte[] buffer = new byte[8192];
+		
+		for(int length = inputStream.read(buffer); length >= 0; length = inputStream.read(buffer)) {
+			byteArrayOutputStream.write(buffer, 0, length);
+		}
+		
+		return byteArrayOutputStream.toByteArray();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class CompositeClassPath extends ClassPath {
+		private final List<ClassPath> classPaths;
+		private final Map<String, ClassPath> locations;
+		
+		public CompositeClassPath(final List<ClassPath> classPaths) {
+			this.classPaths = classPaths;
+			this.locations = new ConcurrentHashMap<>();
+		}
+		
+		@Override
+		protected Optional<byte[]> findResource(final String resourceName) {
+			final ClassPath location = this.locations.get(Objects.requireNonNull(resourceName, "resourceName == null"));
+			
+			if(location != null) {
+				final Optional<byte[]> optionalBytes = location.findResource(resourceName);
+				
+				if(optionalBytes.isPresent()) {
+					return optionalBytes;
+				}
+			}
+			
+			for(final ClassPath classPath : this.classPaths) {
+				final Optional<byte[]> optionalBytes = classPath.findResource(resourceName);
+				
+				if(optionalBytes.isPresent()) {
+					this.locations.put(resourceName, classPath);
+					
+					return optionalBytes;
+				}
+			}
+			
+			return Optional.empty();
+		}
+		
+		@Override
+		public void close() {
+			for(final ClassPath classPath : this.classPaths) {
+				classPath.close();
+			}
+			
+			this.locations.clear();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class DirectoryClassPath extends ClassPath {
+		private final Path directory;
+		
+		public DirectoryClassPath(final Path directory) {
+			this.directory = directory;
+		}
+		
+		@Override
+		protected Optional<byte[]> findResource(final String resourceName) {
+			final Path path = this.directory.resolve(resourceName);
+			
+			if(!Files.isRegularFile(path)) {
+				return Optional.empty();
+			}
+			
+			try {
+				return Optional.of(Files.readAllBytes(path));
+			} catch(final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class JARClassPath extends ClassPath {
+		private final ZipFile zipFile;
+		
+		public JARClassPath(final ZipFile zipFile) {
+			this.zipFile = zipFile;
+		}
+		
+		@Override
+		protected Optional<byte[]> findResource(final String resourceName) {
+			try {
+				final ZipEntry zipEntry = this.zipFile.getEntry(Objects.requireNonNull(resourceName, "resourceName == null"));
+				
+				if(zipEntry == null || zipEntry.isDirectory()) {
+					return Optional.empty();
+				}
+				
+				try(final InputStream inputStream = this.zipFile.getInputStream(zipEntry)) {
+					return Optional.of(doReadAllBytes(inputStream, zipEntry.getSize()));
+				}
+			} catch(final IllegalStateException e) {
+				return Optional.empty();
+			} catch(final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		
+		@Override
+		public void close() {
+			try {
+				this.zipFile.close();
+			} catch(final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class JRTClassPath extends ClassPath {
+		private final FileSystem fileSystem;
+		private final Map<String, List<String>> modules;
+		
+		public JRTClassPath(final FileSystem fileSystem) {
+			this.fileSystem = fileSystem;
+			this.modules = new ConcurrentHashMap<>();
+		}
+		
+		@Override
+		protected Optional<byte[]> findResource(final String resourceName) {
+			final int lastIndexOfSlash = resourceName.lastIndexOf('/');
+			
+			final String packageName = lastIndexOfSlash >= 0 ? resourceName.substring(0, lastIndexOfSlash).replace('/', '.') : "";
+			
+			for(final String module : this.modules.computeIfAbsent(packageName, this::doFindModules)) {
+				final Path path = this.fileSystem.getPath("/modules", module, resourceName);
+				
+				if(Files.isRegularFile(path)) {
+					try {
+						return Optional.of(Files.readAllBytes(path));
+					} catch(final IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+			}
+			
+			return Optional.empty();
+		}
+		
+		private List<String> doFindModules(final String packageName) {
+			final Path directory = this.fileSystem.getPath("/packages", packageName);
+			
+			if(packageName.isEmpty() || !Files.isDirectory(directory)) {
+				return Collections.emptyList();
+			}
+			
+			final List<String> modules = new ArrayList<>();
+			
+			try(final DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+				for(final Path path : directoryStream) {
+					modules.add(path.getFileName().toString());
+				}
+			} catch(final IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			
+			return modules;
+		}
+	}
+}
@@ -20,12 +20,17 @@ package org.macroing.cel4j.java.binary.reader;
 
 import java.io.DataInput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import org.macroing.cel4j.java.binary.classfile.CPInfo;
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 import org.macroing.cel4j.util.ParameterArguments;
 
 final class ConstantUTF8InfoReader implements CPInfoReader {
+	private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocate(256));
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
 	public ConstantUTF8InfoReader() {
 		
 	}
@@ -45,4 +50,46 @@ final class ConstantUTF8InfoReader implements CPInfoReader {
 	public boolean isSupported(final int tag) {
 		return ParameterArguments.requireRange(tag, 0, Integer.MAX_VALUE) == ConstantUTF8Info.TAG;
 	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static CPInfo read(final DataInput dataInput, final SymbolTable symbolTable) {
+		try {
+			final int length = dataInput.readUnsignedShort();
+			
+			if(dataInput instanceof ByteBufferDataInput) {
+				final ByteBufferDataInput byteBufferDataInput = ByteBufferDataInput.class.cast(dataInput);
+				
+				final ByteBuffer byteBuffer = byteBufferDataInput.getByteBuffer();
+				
+				final int offset = byteBufferDataInput.skip(length);
+				
+				return new ConstantUTF8Info(symbolTable.intern(byteBuffer, offset, length));
+			}
+			
+			final ByteBuffer byteBuffer = doGetBuffer(length);
+			
+			dataInput.readFully(byteBuffer.array(), 0, length);
+			
+			return new ConstantUTF8Info(symbolTable.intern(byteBuffer, 0, length));
+		} catch(final IOException | IllegalArgumentException e) {
+			throw new CPInfoReaderException("Unable to read CONSTANT_Utf8_info", e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static ByteBuffer doGetBuffer(final int length) {
+		final ByteBuffer byteBuffer = BUFFER.get();
+		
+		if(byteBuffer.capacity() >= length) {
+			return byteBuffer;
+		}
+		
+		final ByteBuffer newByteBuffer = ByteBuffer.allocate(Integer.highestOneBit(length) << 1);
+		
+		BUFFER.set(newByteBuffer);
+		
+		return newByteBuffer;
+	}
 }
\ No newline at end of file
@@ -20,52 +20,57 @@ package org.macroing.cel4j.java.binary.reader;
 
 import java.io.DataInput;
 import java.io.IOException;
+import java.util.List;
 import java.util.Objects;
-import java.util.ServiceLoader;
+import java.util.Optional;
 
 import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
-import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
 import org.macroing.cel4j.java.binary.classfile.FieldInfo;
 import org.macroing.cel4j.java.binary.classfile.attributeinfo.UnimplementedAttribute;
 import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
 
 final class FieldInfoReader {
-	private final ServiceLoader<AttributeInfoReader> attributeInfoReaders;
+	private final ReadOptions readOptions;
+	private final ReaderRegistry readerRegistry;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	public FieldInfoReader() {
-		this.attributeInfoReaders = ServiceLoader.load(AttributeInfoReader.class);
+	public FieldInfoReader(final ReaderRegistry readerRegistry, final ReadOptions readOptions) {
+		this.readerRegistry = Objects.requireNonNull(readerRegistry, "readerRegistry == null");
+		this.readOptions = Objects.requireNonNull(readOptions, "readOptions == null");
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	public FieldInfo read(final DataInput dataInput, final ClassFile classFile) {
-		doReloadAttributeInfoReaders();
-		
-		return doReadFieldInfo(Objects.requireNonNull(dataInput, "dataInput == null"), Objects.requireNonNull(classFile, "classFile == null"));
+	public FieldInfo read(final DataInput dataInput, final List<CPInfo> constantPool) {
+		return doReadFieldInfo(Objects.requireNonNull(dataInput, "dataInput == null"), Objects.requireNonNull(constantPool, "constantPool == null"));
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	private AttributeInfo doReadAttributeInfo(final DataInput dataInput, final ClassFile classFile) {
+	private Optional<AttributeInfo> doReadAttributeInfo(final DataInput dataInput, final List<CPInfo> constantPool) {
 		final int attributeNameIndex = doReadU2(dataInput);
 		final int attributeLength = doReadU4(dataInput);
 		
-		final ConstantUTF8Info constantUTF8Info = ConstantUTF8Info.class.cast(classFile.getCPInfos().get(attributeNameIndex));
+		final ConstantUTF8Info constantUTF8Info = ConstantUTF8Info.class.cast(constantPool.get(attributeNameIndex));
 		
 		final String name = constantUTF8Info.getStringValue();
 		
-		for(final AttributeInfoReader attributeInfoReader : this.attributeInfoReaders) {
-			if(attributeInfoReader.isSupported(name)) {
-				return attributeInfoReader.read(dataInput, attributeNameIndex, classFile.getCPInfos());
-			}
+		if(this.readOptions.isSkipping(name)) {
+			doSkipAttributeInfo(dataInput, attributeLength, name);
+			
+			return Optional.empty();
 		}
 		
-		final AttributeInfoReader attributeInfoReader = new AttributeInfoReaderImpl();
+		final Optional<AttributeInfoReader> optionalAttributeInfoReader = this.readerRegistry.getAttributeInfoReader(name);
 		
-		if(attributeInfoReader.isSupported(name)) {
-			return attributeInfoReader.read(dataInput, attributeNameIndex, classFile.getCPInfos());
+		if(optionalAttributeInfoReader.isPresent()) {
+			if(this.readOptions.isLazy()) {
+				return Optional.of(LazyAttributeReader.read(dataInput, name, attributeNameIndex, attributeLength, optionalAttributeInfoReader.get(), constantPool));
+			}
+			
+			return Optional.of(Objects.requireNonNull(optionalAttributeInfoReader.get().read(dataInput, attributeNameIndex, constantPool), "attributeInfo == null"));
 		}
 		
 		try {
@@ -73,20 +78,20 @@ final class FieldInfoReader {
 			
 			dataInput.readFully(info);
 			
-			return new UnimplementedAttribute(name, attributeNameIndex, info);
+			return Optional.of(new UnimplementedAttribute(name, attributeNameIndex, info));
 		} catch(final IOException e) {
 			throw new ClassFileReaderException("Unable to read attribute_info: name = " + name);
 		}
 	}
 	
-	private FieldInfo doReadFieldInfo(final DataInput dataInput, final ClassFile classFile) {
+	private FieldInfo doReadFieldInfo(final DataInput dataInput, final List<CPInfo> constantPool) {
 		try {
 			final FieldInfo fieldInfo = new FieldInfo();
 			
 			doReadAccessFlags(dataInput, fieldInfo);
 			doReadNameIndex(dataInput, fieldInfo);
 			doReadDescriptorIndex(dataInput, fieldInfo);
-			doReadAttributes(dataInput, fieldInfo, classFile);
+			doReadAttributes(dataInput, fieldInfo, constantPool);
 			
 			return fieldInfo;
 		} catch(final IllegalArgumentException e) {
@@ -94,24 +99,18 @@ final class FieldInfoReader {
 		}
 	}
 	
-	private void doReadAttributes(final DataInput dataInput, final FieldInfo fieldInfo, final ClassFile classFile) {
+	private void doReadAttributes(final DataInput dataInput, final FieldInfo fieldInfo, final List<CPInfo> constantPool) {
 		final int attributesCount = doReadU2(dataInput);
 		
 		for(int i = 0; i < attributesCount; i++) {
-			final AttributeInfo attributeInfo = doReadAttributeInfo(dataInput, classFile);
+			final Optional<AttributeInfo> optionalAttributeInfo = doReadAttributeInfo(dataInput, constantPool);
 			
-			if(attributeInfo == null) {
-				throw new NullPointerException("attributes[" + i + "] == null");
+			if(optionalAttributeInfo.isPresent()) {
+				fieldInfo.addAttributeInfo(optionalAttributeInfo.get());
 			}
-			
-			fieldInfo.addAttributeInfo(attributeInfo);
 		}
 	}
 	
-	private void doReloadAttributeInfoReaders() {
-		this.attributeInfoReaders.reload();
-	}
-	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
 	private static int doReadU2(final DataInput dataInput) {
@@ -130,6 +129,14 @@ final class FieldInfoReader {
 		}
 	}
 	
+	private static void doSkipAttributeInfo(final DataInput dataInput, final int attributeLength, final String name) {
+		try {
+			ByteBufferDataInput.skipFully(dataInput, attributeLength);
+		} catch(final IOException e) {
+			throw new ClassFileReaderException(String.format("Unable to skip attribute_info: name = %s", name), e);
+		}
+	}
+	
 	private static void doReadAccessFlags(final DataInput dataInput, final FieldInfo fieldInfo) {
 		final int accessFlags = doReadU2(dataInput);
 		
@@ -0,0 +1,46 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LazyAttribute;
+
+final class LazyAttributeReader {
+	private LazyAttributeReader() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static AttributeInfo read(final DataInput dataInput, final String name, final int attributeNameIndex, final int attributeLength, final AttributeInfoReader attributeInfoReader, final List<CPInfo> constantPool) {
+		try {
+			final ByteBuffer info = ByteBufferDataInput.readByteBuffer(dataInput, attributeLength);
+			
+			return new LazyAttribute(name, attributeNameIndex, info, () -> attributeInfoReader.read(new ByteBufferDataInput(info.duplicate()), attributeNameIndex, constantPool));
+		} catch(final IOException e) {
+			throw new AttributeInfoReaderException(String.format("Unable to read attribute_info: name = %s", name), e);
+		}
+	}
+}
\ No newline at end of file
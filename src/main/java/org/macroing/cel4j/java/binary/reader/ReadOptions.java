@@ -0,0 +1,315 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.AnnotationDefaultAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LazyAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LineNumberTableAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LocalVariableTableAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LocalVariableTypeTableAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeInvisibleAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeInvisibleParameterAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeVisibleAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeVisibleParameterAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SourceDebugExtensionAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SourceFileAttribute;
+
+/**
+ * A {@code ReadOptions} denotes how a {@link ClassFileReader} reads a {@link org.macroing.cel4j.java.binary.classfile.ClassFile ClassFile}.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * <p>
+ * The sections and attributes that are skipped are never decoded. Their bytes are skipped using {@code DataInput.skipBytes(int)}, based on their declared lengths. A {@code ClassFile} that is read with any of the skip options enabled will not
+ * contain the skipped parts. Writing it will therefore not reproduce the original byte sequence.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ClassFileReader classFileReader = new ClassFileReader(ReadOptions.HEADER_ONLY);
+ * 
+ * ClassFile classFile = classFileReader.read(Integer.class);
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ReadOptions {
+	/**
+	 * A {@code ReadOptions} instance that reads and decodes everything eagerly.
+	 */
+	public static final ReadOptions DEFAULT = new ReadOptions(false, false, false, false, false, false);
+	
+	/**
+	 * A {@code ReadOptions} instance that only reads the magic number, the version, the constant pool, the access flags, {@code this_class}, {@code super_class} and the interfaces.
+	 * <p>
+	 * The fields, the methods and the attributes of the {@code ClassFile} are not read at all.
+	 */
+	public static final ReadOptions HEADER_ONLY = new ReadOptions(true, false, false, false, false, false);
+	
+	/**
+	 * A {@code ReadOptions} instance that reads the attributes of the {@code ClassFile}, its fields and its methods into {@link LazyAttribute} instances.
+	 */
+	public static final ReadOptions LAZY = new ReadOptions(false, true, false, false, false, false);
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final boolean isHeaderOnly;
+	private final boolean isLazy;
+	private final boolean isMutable;
+	private final boolean isSkippingAnnotations;
+	private final boolean isSkippingCode;
+	private final boolean isSkippingDebugInfo;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ReadOptions(final boolean isHeaderOnly, final boolean isLazy, final boolean isMutable, final boolean isSkippingAnnotations, final boolean isSkippingCode, final boolean isSkippingDebugInfo) {
+		this.isHeaderOnly = isHeaderOnly;
+		this.isLazy = isLazy;
+		this.isMutable = isMutable;
+		this.isSkippingAnnotations = isSkippingAnnotations;
+		this.isSkippingCode = isSkippingCode;
+		this.isSkippingDebugInfo = isSkippingDebugInfo;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for its header only mode.
+	 * 
+	 * @param isHeaderOnly {@code true} if, and only if, the returned {@code ReadOptions} instance should be in header only mode, {@code false} otherwise
+	 * @return a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for its header only mode
+	 */
+	public ReadOptions withHeaderOnly(final boolean isHeaderOnly) {
+		return new ReadOptions(isHeaderOnly, this.isLazy, this.isMutable, this.isSkippingAnnotations, this.isSkippingCode, this.isSkippingDebugInfo);
+	}
+	
+	/**
+	 * Returns a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for its lazy mode.
+	 * 
+	 * @param isLazy {@code true} if, and only if, the returned {@code ReadOptions} instance should be in lazy mode, {@code false} otherwise
+	 * @return a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for its lazy mode
+	 */
+	public ReadOptions withLazy(final boolean isLazy) {
+		return new ReadOptions(this.isHeaderOnly, isLazy, this.isMutable, this.isSkippingAnnotations, this.isSkippingCode, this.isSkippingDebugInfo);
+	}
+	
+	/**
+	 * Returns a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for its mutable mode.
+	 * 
+	 * @param isMutable {@code true} if, and only if, the returned {@code ReadOptions} instance should be in mutable mode, {@code false} otherwise
+	 * @return a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for its mutable mode
+	 */
+	public ReadOptions withMutable(final boolean isMutable) {
+		return new ReadOptions(this.isHeaderOnly, this.isLazy, isMutable, this.isSkippingAnnotations, this.isSkippingCode, this.isSkippingDebugInfo);
+	}
+	
+	/**
+	 * Returns a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for whether annotations are skipped.
+	 * 
+	 * @param isSkippingAnnotations {@code true} if, and only if, the returned {@code ReadOptions} instance should skip annotations, {@code false} otherwise
+	 * @return a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for whether annotations are skipped
+	 */
+	public ReadOptions withSkippingAnnotations(final boolean isSkippingAnnotations) {
+		return new ReadOptions(this.isHeaderOnly, this.isLazy, this.isMutable, isSkippingAnnotations, this.isSkippingCode, this.isSkippingDebugInfo);
+	}
+	
+	/**
+	 * Returns a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for whether code is skipped.
+	 * 
+	 * @param isSkippingCode {@code true} if, and only if, the returned {@code ReadOptions} instance should skip code, {@code false} otherwise
+	 * @return a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for whether code is skipped
+	 */
+	public ReadOptions withSkippingCode(final boolean isSkippingCode) {
+		return new ReadOptions(this.isHeaderOnly, this.isLazy, this.isMutable, this.isSkippingAnnotations, isSkippingCode, this.isSkippingDebugInfo);
+	}
+	
+	/**
+	 * Returns a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for whether debug information is skipped.
+	 * 
+	 * @param isSkippingDebugInfo {@code true} if, and only if, the returned {@code ReadOptions} instance should skip debug information, {@code false} otherwise
+	 * @return a {@code ReadOptions} instance that is equal to this {@code ReadOptions} instance, except for whether debug information is skipped
+	 */
+	public ReadOptions withSkippingDebugInfo(final boolean isSkippingDebugInfo) {
+		return new ReadOptions(this.isHeaderOnly, this.isLazy, this.isMutable, this.isSkippingAnnotations, this.isSkippingCode, isSkippingDebugInfo);
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code ReadOptions} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code ReadOptions} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("ReadOptions.DEFAULT.withHeaderOnly(%s).withLazy(%s).withMutable(%s).withSkippingAnnotations(%s).withSkippingCode(%s).withSkippingDebugInfo(%s)", Boolean.toString(this.isHeaderOnly), Boolean.toString(this.isLazy), Boolean.toString(this.isMutable), Boolean.toString(this.isSkippingAnnotations), Boolean.toString(this.isSkippingCode), Boolean.toString(this.isSkippingDebugInfo));
+	}
+	
+	/**
+	 * Compares {@code object} to this {@code ReadOptions} instance for equality.
+	 * <p>
+	 * Returns {@code true} if, and only if, {@code object} is an instance of {@code ReadOptions}, and their respective values are equal, {@code false} otherwise.
+	 * 
+	 * @param object the {@code Object} to compare to this {@code ReadOptions} instance for equality
+	 * @return {@code true} if, and only if, {@code object} is an instance of {@code ReadOptions}, and their respective values are equal, {@code false} otherwise
+	 */
+	@Override
+	public boolean equals(final Object object) {
+		if(object == this) {
+			return true;
+		} else if(!(object instanceof ReadOptions)) {
+			return false;
+		} else if(this.isHeaderOnly != ReadOptions.class.cast(object).isHeaderOnly) {
+			return false;
+		} else if(this.isLazy != ReadOptions.class.cast(object).isLazy) {
+			return false;
+		} else if(this.isMutable != ReadOptions.class.cast(object).isMutable) {
+			return false;
+		} else if(this.isSkippingAnnotations != ReadOptions.class.cast(object).isSkippingAnnotations) {
+			return false;
+		} else if(this.isSkippingCode != ReadOptions.class.cast(object).isSkippingCode) {
+			return false;
+		} else if(this.isSkippingDebugInfo != ReadOptions.class.cast(object).isSkippingDebugInfo) {
+			return false;
+		} else {
+			return true;
+		}
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, only the header of the {@code ClassFile} is read, {@code false} otherwise.
+	 * <p>
+	 * The header consists of the magic number, the version, the constant pool, the access flags, {@code this_class}, {@code super_class} and the interfaces. The fields, the methods and the attributes are not read at all.
+	 * 
+	 * @return {@code true} if, and only if, only the header of the {@code ClassFile} is read, {@code false} otherwise
+	 */
+	public boolean isHeaderOnly() {
+		return this.isHeaderOnly;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the attributes of the {@code ClassFile}, its fields and its methods are read into {@link LazyAttribute} instances, {@code false} otherwise.
+	 * <p>
+	 * A {@code LazyAttribute} keeps the original bytes and decodes them the first time its contents are accessed. An attribute that is never accessed is written back verbatim.
+	 * 
+	 * @return {@code true} if, and only if, the attributes of the {@code ClassFile}, its fields and its methods are read into {@code LazyAttribute} instances, {@code false} otherwise
+	 */
+	public boolean isLazy() {
+		return this.isLazy;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the {@code ClassFile} is read into a mutable instance, {@code false} otherwise.
+	 * <p>
+	 * A {@code ClassFile} is frozen by default. Reading it in mutable mode is cheaper than calling {@code toMutable()} on a frozen {@code ClassFile}, because nothing has to be copied.
+	 * 
+	 * @return {@code true} if, and only if, the {@code ClassFile} is read into a mutable instance, {@code false} otherwise
+	 */
+	public boolean isMutable() {
+		return this.isMutable;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, annotations are skipped, {@code false} otherwise.
+	 * <p>
+	 * The attributes that are skipped are {@code AnnotationDefault}, {@code RuntimeInvisibleAnnotations}, {@code RuntimeInvisibleParameterAnnotations}, {@code RuntimeInvisibleTypeAnnotations}, {@code RuntimeVisibleAnnotations},
+	 * {@code RuntimeVisibleParameterAnnotations} and {@code RuntimeVisibleTypeAnnotations}.
+	 * 
+	 * @return {@code true} if, and only if, annotations are skipped, {@code false} otherwise
+	 */
+	public boolean isSkippingAnnotations() {
+		return this.isSkippingAnnotations;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, code is skipped, {@code false} otherwise.
+	 * <p>
+	 * The attribute that is skipped is {@code Code}.
+	 * 
+	 * @return {@code true} if, and only if, code is skipped, {@code false} otherwise
+	 */
+	public boolean isSkippingCode() {
+		return this.isSkippingCode;
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, debug information is skipped, {@code false} otherwise.
+	 * <p>
+	 * The attributes that are skipped are {@code LineNumberTable}, {@code LocalVariableTable}, {@code LocalVariableTypeTable}, {@code SourceDebugExtension} and {@code SourceFile}.
+	 * <p>
+	 * The {@code MethodParameters} attribute is not debug information, because it provides the parameter names returned by {@code java.lang.reflect.Parameter.getName()} at run time. It is never skipped.
+	 * 
+	 * @return {@code true} if, and only if, debug information is skipped, {@code false} otherwise
+	 */
+	public boolean isSkippingDebugInfo() {
+		return this.isSkippingDebugInfo;
+	}
+	
+	/**
+	 * Returns a hash code for this {@code ReadOptions} instance.
+	 * 
+	 * @return a hash code for this {@code ReadOptions} instance
+	 */
+	@Override
+	public int hashCode() {
+		return Objects.hash(Boolean.valueOf(this.isHeaderOnly), Boolean.valueOf(this.isLazy), Boolean.valueOf(this.isMutable), Boolean.valueOf(this.isSkippingAnnotations), Boolean.valueOf(this.isSkippingCode), Boolean.valueOf(this.isSkippingDebugInfo));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	boolean isSkipping(final String name) {
+		return this.isSkippingAnnotations && doIsAnnotations(name) || this.isSkippingCode && doIsCode(name) || this.isSkippingDebugInfo && doIsDebugInfo(name);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static boolean doIsAnnotations(final String name) {
+		switch(name) {
+			case AnnotationDefaultAttribute.NAME:
+			case RuntimeInvisibleAnnotationsAttribute.NAME:
+			case RuntimeInvisibleParameterAnnotationsAttribute.NAME:
+			case "RuntimeInvisibleTypeAnnotations":
+			case RuntimeVisibleAnnotationsAttribute.NAME:
+			case RuntimeVisibleParameterAnnotationsAttribute.NAME:
+			case "RuntimeVisibleTypeAnnotations":
+				return true;
+			default:
+				return false;
+		}
+	}
+	
+	private static boolean doIsCode(final String name) {
+		return name.equals(CodeAttribute.NAME);
+	}
+	
+	private static boolean doIsDebugInfo(final String name) {
+		switch(name) {
+			case LineNumberTableAttribute.NAME:
+			case LocalVariableTableAttribute.NAME:
+			case LocalVariableTypeTableAttribute.NAME:
+			case SourceDebugExtensionAttribute.NAME:
+			case SourceFileAttribute.NAME:
+				return true;
+			default:
+				return false;
+		}
+	}
+}
\ No newline at end of file
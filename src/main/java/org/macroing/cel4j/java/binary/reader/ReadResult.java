@@ -0,0 +1,112 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+
+/**
+ * A {@code ReadResult} is the result of reading a single entry with {@link ClassFileReader#readAll(java.nio.file.Path)}.
+ * <p>
+ * A {@code ReadResult} either contains a {@link ClassFile} or the {@link ClassFileReaderException} that was thrown while reading it. This means that an entry that cannot be read does not prevent the remaining entries from being read.
+ * <p>
+ * This class is immutable and therefore thread-safe.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ReadResult {
+	private final ClassFile classFile;
+	private final ClassFileReaderException classFileReaderException;
+	private final String name;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ReadResult(final String name, final ClassFile classFile, final ClassFileReaderException classFileReaderException) {
+		this.name = name;
+		this.classFile = classFile;
+		this.classFileReaderException = classFileReaderException;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an {@code Optional} with the {@link ClassFile} that was read.
+	 * <p>
+	 * If the entry could not be read, an empty {@code Optional} will be returned.
+	 * 
+	 * @return an {@code Optional} with the {@code ClassFile} that was read
+	 */
+	public Optional<ClassFile> getClassFile() {
+		return Optional.ofNullable(this.classFile);
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link ClassFileReaderException} that was thrown while reading the entry.
+	 * <p>
+	 * If the entry was read successfully, an empty {@code Optional} will be returned.
+	 * 
+	 * @return an {@code Optional} with the {@code ClassFileReaderException} that was thrown while reading the entry
+	 */
+	public Optional<ClassFileReaderException> getClassFileReaderException() {
+		return Optional.ofNullable(this.classFileReaderException);
+	}
+	
+	/**
+	 * Returns the name of the entry that was read.
+	 * <p>
+	 * For an entry in a JAR or ZIP file, this is the name of the entry, such as {@code "java/lang/Integer.class"}. For a file in a directory, this is the path of the file relative to the directory, using {@code '/'} as separator.
+	 * 
+	 * @return the name of the entry that was read
+	 */
+	public String getName() {
+		return this.name;
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code ReadResult} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code ReadResult} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("ReadResult: [Name=%s], [IsSuccessful=%s]", this.name, Boolean.toString(isSuccessful()));
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, the entry was read successfully, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, the entry was read successfully, {@code false} otherwise
+	 */
+	public boolean isSuccessful() {
+		return this.classFile != null;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static ReadResult failure(final String name, final ClassFileReaderException classFileReaderException) {
+		return new ReadResult(Objects.requireNonNull(name, "name == null"), null, Objects.requireNonNull(classFileReaderException, "classFileReaderException == null"));
+	}
+	
+	static ReadResult success(final String name, final ClassFile classFile) {
+		return new ReadResult(Objects.requireNonNull(name, "name == null"), Objects.requireNonNull(classFile, "classFile == null"), null);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,241 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+
+/**
+ * A {@code ReaderRegistry} is used for looking up the {@link AttributeInfoReader} and {@link CPInfoReader} instances that are used when reading a {@link org.macroing.cel4j.java.binary.classfile.ClassFile ClassFile}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * The {@code AttributeInfoReader} and {@code CPInfoReader} instances registered as services, using {@code ServiceLoader}, are discovered once when a {@code ReaderRegistry} is constructed and whenever {@link #refresh()} is called. Readers
+ * registered as services take precedence over the readers provided by this library.
+ * <p>
+ * Each discovery produces a snapshot of the registered readers that caches lookups. The set of readers in a snapshot never changes, but its cache does. The snapshot stores the {@code CPInfoReader} instances in an array indexed by tag
+ * and caches the {@code AttributeInfoReader} instances in a concurrent hash map keyed by attribute name. The cache starts out with the attribute names known by this library. Any other attribute name is resolved the first time it is looked
+ * up and added to the cache only if a reader supports it, so reading attributes with arbitrary names, as obfuscated or hostile class files may have, does not make the cache grow.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ReaderRegistry readerRegistry = new ReaderRegistry();
+ * 
+ * ClassFileReader classFileReader = new ClassFileReader(readerRegistry);
+ * 
+ * ClassFile classFile = classFileReader.read(Integer.class);
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ReaderRegistry {
+	private static final int TAG_COUNT = 256;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final ReaderRegistry DEFAULT = new ReaderRegistry();
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final ServiceLoader<AttributeInfoReader> attributeInfoReaders;
+	private final ServiceLoader<CPInfoReader> cPInfoReaders;
+	private volatile Snapshot snapshot;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code ReaderRegistry} instance.
+	 * <p>
+	 * The services are discovered using the context class loader of the current thread.
+	 */
+	public ReaderRegistry() {
+		this(Thread.currentThread().getContextClassLoader());
+	}
+	
+	/**
+	 * Constructs a new {@code ReaderRegistry} instance.
+	 * <p>
+	 * The services are discovered using {@code classLoader}. If {@code classLoader} is {@code null}, the system class loader will be used.
+	 * 
+	 * @param classLoader the {@code ClassLoader} to discover the services with
+	 */
+	public ReaderRegistry(final ClassLoader classLoader) {
+		this.attributeInfoReaders = ServiceLoader.load(AttributeInfoReader.class, classLoader);
+		this.cPInfoReaders = ServiceLoader.load(CPInfoReader.class, classLoader);
+		this.snapshot = new Snapshot(this);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns an {@code Optional} with the {@link AttributeInfoReader} that supports reading {@link AttributeInfo} instances with a name of {@code name}.
+	 * <p>
+	 * If {@code name} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param name the name of the {@code AttributeInfo} instance to read
+	 * @return an {@code Optional} with the {@code AttributeInfoReader} that supports reading {@code AttributeInfo} instances with a name of {@code name}
+	 * @throws NullPointerException thrown if, and only if, {@code name} is {@code null}
+	 */
+	public Optional<AttributeInfoReader> getAttributeInfoReader(final String name) {
+		return this.snapshot.getAttributeInfoReader(Objects.requireNonNull(name, "name == null"));
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link CPInfoReader} that supports reading {@link CPInfo} instances with a tag of {@code tag}.
+	 * <p>
+	 * If {@code tag} is less than {@code 0}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param tag the tag of the {@code CPInfo} instance to read
+	 * @return an {@code Optional} with the {@code CPInfoReader} that supports reading {@code CPInfo} instances with a tag of {@code tag}
+	 * @throws IllegalArgumentException thrown if, and only if, {@code tag} is less than {@code 0}
+	 */
+	public Optional<CPInfoReader> getCPInfoReader(final int tag) {
+		if(tag < 0) {
+			throw new IllegalArgumentException(String.format("tag < 0: tag = %s", Integer.toString(tag)));
+		}
+		
+		return tag < TAG_COUNT ? Optional.ofNullable(this.snapshot.cPInfoReaders[tag]) : Optional.empty();
+	}
+	
+	/**
+	 * Discovers the {@link AttributeInfoReader} and {@link CPInfoReader} instances registered as services again and replaces the current snapshot.
+	 * <p>
+	 * This method rescans the class path. It should only be called when the available services are known to have changed.
+	 */
+	public void refresh() {
+		synchronized(this) {
+			this.attributeInfoReaders.reload();
+			this.cPInfoReaders.reload();
+			this.snapshot = new Snapshot(this);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the default {@code ReaderRegistry} instance.
+	 * <p>
+	 * The default {@code ReaderRegistry} instance is used by {@link ClassFileReader#ClassFileReader()}.
+	 * 
+	 * @return the default {@code ReaderRegistry} instance
+	 */
+	public static ReaderRegistry getDefault() {
+		return DEFAULT;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Snapshot {
+		private final AttributeInfoReaderImpl attributeInfoReaderImpl;
+		private final CPInfoReader[] cPInfoReaders;
+		private final ConcurrentMap<String, Optional<AttributeInfoReader>> attributeInfoReaders;
+		private final List<AttributeInfoReader> serviceAttributeInfoReaders;
+		
+		public Snapshot(final ReaderRegistry readerRegistry) {
+			this.attributeInfoReaderImpl = new AttributeInfoReaderImpl(readerRegistry);
+			this.cPInfoReaders = doCreateCPInfoReaders(readerRegistry.cPInfoReaders);
+			this.attributeInfoReaders = new ConcurrentHashMap<>();
+			this.serviceAttributeInfoReaders = doCreateServiceAttributeInfoReaders(readerRegistry.attributeInfoReaders);
+			
+			for(final String name : this.attributeInfoReaderImpl.getNames()) {
+				final Optional<AttributeInfoReader> optionalAttributeInfoReader = doFindAttributeInfoReader(name);
+				
+				if(optionalAttributeInfoReader.isPresent()) {
+					this.attributeInfoReaders.put(name, optionalAttributeInfoReader);
+				}
+			}
+		}
+		
+		public Optional<AttributeInfoReader> getAttributeInfoReader(final String name) {
+			final Optional<AttributeInfoReader> cachedAttributeInfoReader = this.attributeInfoReaders.get(name);
+			
+			if(cachedAttributeInfoReader != null) {
+				return cachedAttributeInfoReader;
+			}
+			
+			final Optional<AttributeInfoReader> optionalAttributeInfoReader = doFindAttributeInfoReader(name);
+			
+			if(optionalAttributeInfoReader.isPresent()) {
+				this.attributeInfoReaders.putIfAbsent(name, optionalAttributeInfoReader);
+			}
+			
+			return optionalAttributeInfoReader;
+		}
+		
+		private Optional<AttributeInfoReader> doFindAttributeInfoReader(final String name) {
+			for(final AttributeInfoReader attributeInfoReader : this.serviceAttributeInfoReaders) {
+				if(attributeInfoReader.isSupported(name)) {
+					return Optional.of(attributeInfoReader);
+				}
+			}
+			
+			return this.attributeInfoReaderImpl.getAttributeInfoReader(name);
+		}
+		
+		private static CPInfoReader[] doCreateCPInfoReaders(final ServiceLoader<CPInfoReader> serviceLoader) {
+			final List<CPInfoReader> serviceCPInfoReaders = new ArrayList<>();
+			
+			for(final CPInfoReader cPInfoReader : serviceLoader) {
+				serviceCPInfoReaders.add(cPInfoReader);
+			}
+			
+			final CPInfoReaderImpl cPInfoReaderImpl = new CPInfoReaderImpl();
+			
+			final CPInfoReader[] cPInfoReaders = new CPInfoReader[TAG_COUNT];
+			
+			for(int tag = 0; tag < TAG_COUNT; tag++) {
+				for(final CPInfoReader cPInfoReader : serviceCPInfoReaders) {
+					if(cPInfoReader.isSupported(tag)) {
+						cPInfoReaders[tag] = cPInfoReader;
+						
+						break;
+					}
+				}
+				
+				if(cPInfoReaders[tag] == null) {
+					cPInfoReaders[tag] = cPInfoReaderImpl.getCPInfoReader(tag).orElse(null);
+				}
+			}
+			
+			return cPInfoReaders;
+		}
+		
+		private static List<AttributeInfoReader> doCreateServiceAttributeInfoReaders(final ServiceLoader<AttributeInfoReader> serviceLoader) {
+			final List<AttributeInfoReader> serviceAttributeInfoReaders = new ArrayList<>();
+			
+			for(final AttributeInfoReader attributeInfoReader : serviceLoader) {
+				serviceAttributeInfoReaders.add(attributeInfoReader);
+			}
+			
+			return Collections.unmodifiableList(serviceAttributeInfoReaders);
+		}
+	}
+}
\ No newline at end of file
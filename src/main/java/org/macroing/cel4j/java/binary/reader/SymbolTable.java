@@ -0,0 +1,350 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.reader;
+
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+import org.macroing.cel4j.util.ParameterArguments;
+
+/**
+ * A {@code SymbolTable} is used for sharing canonical {@code String} instances for the {@code CONSTANT_Utf8_info} structures read by one or more {@link ClassFileReader} instances.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * Names such as {@code "java/lang/Object"}, {@code "Code"} and {@code "()V"} occur in almost every class file. When a {@code SymbolTable} is shared, each distinct name is decoded and stored once, rather than once per class file.
+ * <p>
+ * The table is an array of hash buckets, each holding a lock-free linked list. A lookup hashes the raw modified UTF-8 bytes and compares them to the stored {@code String} by encoding it on the fly, so a hit allocates nothing and each entry
+ * retains nothing but its {@code String}. Only a miss decodes the bytes and inserts a new entry.
+ * <p>
+ * When the number of symbols exceeds three quarters of the number of buckets, the number of buckets is doubled, so the average length of the linked lists stays constant as the table grows. The entries are moved to the new buckets while the
+ * table is in use. Lookups are not blocked while this happens.
+ * <p>
+ * The entries are never evicted. A {@code SymbolTable} should therefore be scoped to the batch of class files it is used for.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * SymbolTable symbolTable = new SymbolTable();
+ * 
+ * ClassFileReader classFileReader = new ClassFileReader(ReaderRegistry.getDefault(), ReadOptions.DEFAULT, symbolTable);
+ * 
+ * ClassFile classFile = classFileReader.read(Integer.class);
+ * 
+ * System.out.println(symbolTable.getHitRate());
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class SymbolTable {
+	private static final int BUCKET_COUNT_DEFAULT = 1 << 16;
+	private static final int BUCKET_COUNT_MAXIMUM = 1 << 30;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final AtomicBoolean isResizing;
+	private final AtomicReference<AtomicReferenceArray<Entry>> buckets;
+	private final LongAdder hitCount;
+	private final LongAdder missCount;
+	private final LongAdder size;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code SymbolTable} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new SymbolTable(65536);
+	 * }
+	 * </pre>
+	 */
+	public SymbolTable() {
+		this(BUCKET_COUNT_DEFAULT);
+	}
+	
+	/**
+	 * Constructs a new {@code SymbolTable} instance.
+	 * <p>
+	 * The initial number of buckets is {@code bucketCount} rounded up to the next power of two. The number of buckets is doubled whenever the number of symbols exceeds three quarters of it, up to a maximum of {@code 1073741824}.
+	 * <p>
+	 * If {@code bucketCount} is less than {@code 1} or greater than {@code 1073741824}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param bucketCount the initial number of hash buckets to use
+	 * @throws IllegalArgumentException thrown if, and only if, {@code bucketCount} is less than {@code 1} or greater than {@code 1073741824}
+	 */
+	public SymbolTable(final int bucketCount) {
+		this.isResizing = new AtomicBoolean();
+		this.buckets = new AtomicReference<>(new AtomicReferenceArray<>(doRoundUpToPowerOfTwo(ParameterArguments.requireRange(bucketCount, 1, BUCKET_COUNT_MAXIMUM, "bucketCount"))));
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.size = new LongAdder();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code String} representation of this {@code SymbolTable} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code SymbolTable} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("SymbolTable: [Size=%s], [HitCount=%s], [MissCount=%s], [HitRate=%s]", Long.toString(getSize()), Long.toString(getHitCount()), Long.toString(getMissCount()), Double.toString(getHitRate()));
+	}
+	
+	/**
+	 * Returns the ratio of lookups that found an existing symbol, or {@code 0.0D} if no lookups have been made.
+	 * 
+	 * @return the ratio of lookups that found an existing symbol, or {@code 0.0D} if no lookups have been made
+	 */
+	public double getHitRate() {
+		final long hitCount = getHitCount();
+		final long missCount = getMissCount();
+		final long lookupCount = hitCount + missCount;
+		
+		return lookupCount > 0L ? (double)(hitCount) / (double)(lookupCount) : 0.0D;
+	}
+	
+	/**
+	 * Returns the current number of hash buckets.
+	 * 
+	 * @return the current number of hash buckets
+	 */
+	public int getBucketCount() {
+		return this.buckets.get().length();
+	}
+	
+	/**
+	 * Returns the number of lookups that found an existing symbol.
+	 * 
+	 * @return the number of lookups that found an existing symbol
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+	
+	/**
+	 * Returns the number of lookups that added a new symbol.
+	 * 
+	 * @return the number of lookups that added a new symbol
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+	
+	/**
+	 * Returns the number of symbols in this {@code SymbolTable} instance.
+	 * 
+	 * @return the number of symbols in this {@code SymbolTable} instance
+	 */
+	public long getSize() {
+		return this.size.sum();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	String intern(final ByteBuffer byteBuffer, final int offset, final int length) throws UTFDataFormatException {
+		final int hash = doHash(byteBuffer, offset, length);
+		
+		AtomicReferenceArray<Entry> buckets = this.buckets.get();
+		
+		String string = null;
+		
+		while(true) {
+			final int index = hash & (buckets.length() - 1);
+			
+			final Entry head = buckets.get(index);
+			
+			if(head != null && head.isForwarding()) {
+				buckets = head.forwardingBuckets;
+				
+				continue;
+			}
+			
+			for(Entry entry = head; entry != null; entry = entry.next) {
+				if(entry.hash == hash && entry.isEqualTo(byteBuffer, offset, length)) {
+					this.hitCount.increment();
+					
+					return entry.string;
+				}
+			}
+			
+			if(string == null) {
+				string = ConstantUTF8Info.decode(byteBuffer, offset, length);
+			}
+			
+			if(buckets.compareAndSet(index, head, new Entry(hash, head, string))) {
+				this.missCount.increment();
+				this.size.increment();
+				
+				doResizeIfNecessary(buckets);
+				
+				return string;
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doResizeIfNecessary(final AtomicReferenceArray<Entry> buckets) {
+		final int bucketCount = buckets.length();
+		
+		if(bucketCount >= BUCKET_COUNT_MAXIMUM || this.size.sum() <= bucketCount / 4L * 3L || this.buckets.get() != buckets) {
+			return;
+		}
+		
+		if(this.isResizing.compareAndSet(false, true)) {
+			try {
+				if(this.buckets.get() == buckets) {
+					this.buckets.set(doResize(buckets));
+				}
+			} finally {
+				this.isResizing.set(false);
+			}
+		}
+	}
+	
+	private static AtomicReferenceArray<Entry> doResize(final AtomicReferenceArray<Entry> oldBuckets) {
+		final AtomicReferenceArray<Entry> newBuckets = new AtomicReferenceArray<>(oldBuckets.length() * 2);
+		
+		final Entry forwardingEntry = new Entry(newBuckets);
+		
+		for(int index = 0; index < oldBuckets.length(); index++) {
+			Entry movedHead = null;
+			
+			while(true) {
+				final Entry head = oldBuckets.get(index);
+				
+//				The entries are moved before the bucket is forwarded, so a lookup that is forwarded to the new buckets will find them. The linked lists only grow at the head, so if an entry is inserted in the meantime, only the entries
+//				in front of the ones that have already been moved have to be moved.
+				for(Entry entry = head; entry != movedHead; entry = entry.next) {
+					doInsert(newBuckets, entry);
+				}
+				
+				if(oldBuckets.compareAndSet(index, head, forwardingEntry)) {
+					break;
+				}
+				
+				movedHead = head;
+			}
+		}
+		
+		return newBuckets;
+	}
+	
+	private static int doHash(final ByteBuffer byteBuffer, final int offset, final int length) {
+		int hash = length;
+		
+		for(int i = 0; i < length; i++) {
+			hash = 31 * hash + byteBuffer.get(offset + i);
+		}
+		
+		return hash ^ (hash >>> 16);
+	}
+	
+	private static int doRoundUpToPowerOfTwo(final int value) {
+		return value > 1 ? Integer.highestOneBit(value - 1) << 1 : 1;
+	}
+	
+	private static void doInsert(final AtomicReferenceArray<Entry> buckets, final Entry entry) {
+		final int index = entry.hash & (buckets.length() - 1);
+		
+		while(true) {
+			final Entry head = buckets.get(index);
+			
+			if(buckets.compareAndSet(index, head, new Entry(entry.hash, head, entry.string))) {
+				return;
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Entry {
+		private final AtomicReferenceArray<Entry> forwardingBuckets;
+		private final Entry next;
+		private final String string;
+		private final int hash;
+		
+		public Entry(final AtomicReferenceArray<Entry> forwardingBuckets) {
+			this.forwardingBuckets = forwardingBuckets;
+			this.next = null;
+			this.string = null;
+			this.hash = 0;
+		}
+		
+		public Entry(final int hash, final Entry next, final String string) {
+			this.forwardingBuckets = null;
+			this.next = next;
+			this.string = string;
+			this.hash = hash;
+		}
+		
+		public boolean isEqualTo(final ByteBuffer byteBuffer, final int offset, final int length) {
+			final String string = this.string;
+			
+			final int characterCount = string.length();
+			
+			if(characterCount > length || characterCount * 3 < length) {
+				return false;
+			}
+			
+			int i = 0;
+			
+			for(int j = 0; j < characterCount; j++) {
+				final char character = string.charAt(j);
+				
+				if(character >= 0x0001 && character <= 0x007F) {
+					if(i + 1 > length || byteBuffer.get(offset + i) != (byte)(character)) {
+						return false;
+					}
+					
+					i += 1;
+				} else if(character <= 0x07FF) {
+					if(i + 2 > length || byteBuffer.get(offset + i) != (byte)(0xC0 | character >> 6) || byteBuffer.get(offset + i + 1) != (byte)(0x80 | character & 0x3F)) {
+						return false;
+					}
+					
+					i += 2;
+				} else {
+					if(i + 3 > length || byteBuffer.get(offset + i) != (byte)(0xE0 | character >> 12) || byteBuffer.get(offset + i + 1) != (byte)(0x80 | character >> 6 & 0x3F) || byteBuffer.get(offset + i + 2) != (byte)(0x80 | character & 0x3F)) {
+						return false;
+					}
+					
+					i += 3;
+				}
+			}
+			
+			return i == length;
+		}
+		
+		public boolean isForwarding() {
+			return this.forwardingBuckets != null;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,185 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.writer;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+final class ByteBufferDataOutput implements DataOutput {
+	private final ByteBuffer byteBuffer;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public ByteBufferDataOutput(final ByteBuffer byteBuffer) {
+		this.byteBuffer = Objects.requireNonNull(byteBuffer, "byteBuffer == null").order(ByteOrder.BIG_ENDIAN);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	@Override
+	public void write(final byte[] b) throws IOException {
+		write(b, 0, b.length);
+	}
+	
+	@Override
+	public void write(final byte[] b, final int off, final int len) throws IOException {
+		doRequireRemaining(len);
+		
+		this.byteBuffer.put(b, off, len);
+	}
+	
+	@Override
+	public void write(final int b) throws IOException {
+		writeByte(b);
+	}
+	
+	@Override
+	public void writeBoolean(final boolean v) throws IOException {
+		writeByte(v ? 1 : 0);
+	}
+	
+	@Override
+	public void writeByte(final int v) throws IOException {
+		doRequireRemaining(1);
+		
+		this.byteBuffer.put((byte)(v));
+	}
+	
+	@Override
+	public void writeBytes(final String s) throws IOException {
+		doRequireRemaining(s.length());
+		
+		for(int i = 0; i < s.length(); i++) {
+			this.byteBuffer.put((byte)(s.charAt(i)));
+		}
+	}
+	
+	@Override
+	public void writeChar(final int v) throws IOException {
+		doRequireRemaining(2);
+		
+		this.byteBuffer.putChar((char)(v));
+	}
+	
+	@Override
+	public void writeChars(final String s) throws IOException {
+		doRequireRemaining(s.length() * 2);
+		
+		for(int i = 0; i < s.length(); i++) {
+			this.byteBuffer.putChar(s.charAt(i));
+		}
+	}
+	
+	@Override
+	public void writeDouble(final double v) throws IOException {
+		doRequireRemaining(8);
+		
+		this.byteBuffer.putDouble(v);
+	}
+	
+	@Override
+	public void writeFloat(final float v) throws IOException {
+		doRequireRemaining(4);
+		
+		this.byteBuffer.putFloat(v);
+	}
+	
+	@Override
+	public void writeInt(final int v) throws IOException {
+		doRequireRemaining(4);
+		
+		this.byteBuffer.putInt(v);
+	}
+	
+	@Override
+	public void writeLong(final long v) throws IOException {
+		doRequireRemaining(8);
+		
+		this.byteBuffer.putLong(v);
+	}
+	
+	@Override
+	public void writeShort(final int v) throws IOException {
+		doRequireRemaining(2);
+		
+		this.byteBuffer.putShort((short)(v));
+	}
+	
+	@Override
+	public void writeUTF(final String s) throws IOException {
+		final int utfLength = getUTFLength(s);
+		
+		if(utfLength > 0xFFFF) {
+			throw new UTFDataFormatException(String.format("Encoded string too long: %s bytes", Integer.toString(utfLength)));
+		}
+		
+		doRequireRemaining(2 + utfLength);
+		
+		final ByteBuffer byteBuffer = this.byteBuffer;
+		
+		byteBuffer.putShort((short)(utfLength));
+		
+		for(int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			
+			if(c >= 0x0001 && c <= 0x007F) {
+				byteBuffer.put((byte)(c));
+			} else if(c <= 0x07FF) {
+				byteBuffer.put((byte)(0xC0 | ((c >> 6) & 0x1F)));
+				byteBuffer.put((byte)(0x80 | (c & 0x3F)));
+			} else {
+				byteBuffer.put((byte)(0xE0 | ((c >> 12) & 0x0F)));
+				byteBuffer.put((byte)(0x80 | ((c >> 6) & 0x3F)));
+				byteBuffer.put((byte)(0x80 | (c & 0x3F)));
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static int getUTFLength(final String s) {
+		int utfLength = 0;
+		
+		for(int i = 0; i < s.length(); i++) {
+			final char c = s.charAt(i);
+			
+			if(c >= 0x0001 && c <= 0x007F) {
+				utfLength += 1;
+			} else if(c <= 0x07FF) {
+				utfLength += 2;
+			} else {
+				utfLength += 3;
+			}
+		}
+		
+		return utfLength;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private void doRequireRemaining(final int length) throws IOException {
+		if(this.byteBuffer.remaining() < length) {
+			throw new IOException(String.format("Unable to write %s byte(s): remaining = %s", Integer.toString(length), Integer.toString(this.byteBuffer.remaining())));
+		}
+	}
+}
\ No newline at end of file
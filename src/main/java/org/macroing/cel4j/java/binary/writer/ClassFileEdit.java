@@ -0,0 +1,44 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.writer;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+
+/**
+ * A {@code ClassFileEdit} modifies a {@link ClassFile} instance that is transformed by a {@link ClassFileTransformer}.
+ * <p>
+ * The {@code ClassFile} instance that is passed to {@link #edit(ClassFile)} is mutable and its attributes have not been decoded. An implementation should only touch the parts it wants to change. Every
+ * {@link org.macroing.cel4j.java.binary.classfile.FieldInfo FieldInfo}, {@link org.macroing.cel4j.java.binary.classfile.MethodInfo MethodInfo} and {@link org.macroing.cel4j.java.binary.classfile.AttributeInfo AttributeInfo} instance that is
+ * left untouched is written by copying its original bytes.
+ * <p>
+ * The constant pool should only be appended to, for instance by using {@link ClassFile#getConstantPool()}. If an existing {@link org.macroing.cel4j.java.binary.classfile.CPInfo CPInfo} instance is modified, removed or replaced, the whole
+ * {@code ClassFile} instance is written again.
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+@FunctionalInterface
+public interface ClassFileEdit {
+	/**
+	 * Modifies {@code classFile}.
+	 * 
+	 * @param classFile the {@link ClassFile} instance to modify
+	 */
+	void edit(final ClassFile classFile);
+}
\ No newline at end of file
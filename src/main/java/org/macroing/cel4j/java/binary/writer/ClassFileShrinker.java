@@ -0,0 +1,1017 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.writer;
+
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.AnnotationDefaultAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.BootstrapMethodsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ConstantValueAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.DeprecatedAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.EnclosingMethodAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ExceptionsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InnerClassesAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InstructionCursor;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LineNumberTableAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LocalVariableTableAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LocalVariableTypeTableAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.MethodParametersAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ModuleMainClassAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ModulePackagesAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.NestHostAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.NestMembersAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeInvisibleAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeInvisibleParameterAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeVisibleAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.RuntimeVisibleParameterAnnotationsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SignatureAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SourceDebugExtensionAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SourceFileAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.StackMapTableAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.SyntheticAttribute;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantDoubleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantDynamicInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFieldRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFloatInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantIntegerInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInterfaceMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInvokeDynamicInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantLongInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodHandleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantModuleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantNameAndTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantPackageInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantStringInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+import org.macroing.cel4j.java.binary.reader.ReaderRegistry;
+
+/**
+ * A {@code ClassFileShrinker} is used for removing the unused entries of the {@code constant_pool} of a class and, optionally, its debug attributes.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * A class is shrunk in two linear passes over its sequence of bytes. The first pass marks every entry of the {@code constant_pool} that is referenced by the class, its fields, methods, instructions and attributes, including the
+ * {@code BootstrapMethods} attribute, and then every entry that is referenced by a marked entry. The second pass writes the marked entries in their original order and every other structure with its indices remapped.
+ * <p>
+ * Because the indices are remapped in the sequence of bytes, this is safe to do even if entries have been removed from or added to a {@link ClassFile} instance many times. Note that {@link ClassFile#removeCPInfo(org.macroing.cel4j.java.binary.classfile.CPInfo)}
+ * does not update any index.
+ * <p>
+ * The debug attributes {@code LineNumberTable}, {@code LocalVariableTable}, {@code LocalVariableTypeTable} and {@code SourceDebugExtension} can be stripped in the same pass. The entries of the {@code constant_pool} that were only
+ * referenced by them are then removed as well.
+ * <p>
+ * The indices can only be remapped in attributes whose format is known. If a class contains any other attribute, its {@code constant_pool} is left as it is. Its debug attributes are still stripped, if requested.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ClassFileShrinker classFileShrinker = new ClassFileShrinker(true);
+ * 
+ * byte[] bytes = classFileShrinker.shrink(oldBytes);
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ClassFileShrinker {
+	private final ReaderRegistry readerRegistry;
+	private final boolean isStrippingDebugAttributes;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code ClassFileShrinker} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ClassFileShrinker(false);
+	 * }
+	 * </pre>
+	 */
+	public ClassFileShrinker() {
+		this(false);
+	}
+	
+	/**
+	 * Constructs a new {@code ClassFileShrinker} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ClassFileShrinker(ReaderRegistry.getDefault(), isStrippingDebugAttributes);
+	 * }
+	 * </pre>
+	 * 
+	 * @param isStrippingDebugAttributes {@code true} if, and only if, the debug attributes should be stripped, {@code false} otherwise
+	 */
+	public ClassFileShrinker(final boolean isStrippingDebugAttributes) {
+		this(ReaderRegistry.getDefault(), isStrippingDebugAttributes);
+	}
+	
+	/**
+	 * Constructs a new {@code ClassFileShrinker} instance.
+	 * <p>
+	 * If {@code readerRegistry} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param readerRegistry the {@link ReaderRegistry} to use when reading the shrunk class in {@link #shrink(ClassFile)}
+	 * @param isStrippingDebugAttributes {@code true} if, and only if, the debug attributes should be stripped, {@code false} otherwise
+	 * @throws NullPointerException thrown if, and only if, {@code readerRegistry} is {@code null}
+	 */
+	public ClassFileShrinker(final ReaderRegistry readerRegistry, final boolean isStrippingDebugAttributes) {
+		this.readerRegistry = Objects.requireNonNull(readerRegistry, "readerRegistry == null");
+		this.isStrippingDebugAttributes = isStrippingDebugAttributes;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Shrinks {@code classFile}.
+	 * <p>
+	 * Returns a new {@link ClassFile} instance.
+	 * <p>
+	 * If {@code classFile} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code classFile} is not valid, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code classFile} cannot be written, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * The {@code ClassFile} instance {@code classFile} is written by a {@link ClassFileWriter}, shrunk by {@link #shrink(byte[])} and read again by a {@link ClassFileReader}. It is not modified.
+	 * 
+	 * @param classFile the {@code ClassFile} instance to shrink
+	 * @return a new {@code ClassFile} instance
+	 * @throws IllegalArgumentException thrown if, and only if, {@code classFile} is not valid
+	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, {@code classFile} cannot be written
+	 */
+	public ClassFile shrink(final ClassFile classFile) {
+		return new ClassFileReader(this.readerRegistry).read(shrink(new ClassFileWriter().write(Objects.requireNonNull(classFile, "classFile == null"))));
+	}
+	
+	/**
+	 * Returns {@code true} if, and only if, this {@code ClassFileShrinker} instance strips the debug attributes, {@code false} otherwise.
+	 * 
+	 * @return {@code true} if, and only if, this {@code ClassFileShrinker} instance strips the debug attributes, {@code false} otherwise
+	 */
+	public boolean isStrippingDebugAttributes() {
+		return this.isStrippingDebugAttributes;
+	}
+	
+	/**
+	 * Shrinks the class in {@code bytes}.
+	 * <p>
+	 * Returns a new {@code byte} array with the shrunk class.
+	 * <p>
+	 * If {@code bytes} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code bytes} does not contain a valid class, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param bytes a {@code byte} array with the class to shrink
+	 * @return a new {@code byte} array with the shrunk class
+	 * @throws IllegalArgumentException thrown if, and only if, {@code bytes} does not contain a valid class
+	 * @throws NullPointerException thrown if, and only if, {@code bytes} is {@code null}
+	 */
+	public byte[] shrink(final byte[] bytes) {
+		Objects.requireNonNull(bytes, "bytes == null");
+		
+		try {
+			final Shrinker shrinker = new Shrinker(bytes, this.isStrippingDebugAttributes);
+			
+			shrinker.mark();
+			
+			return shrinker.write();
+		} catch(final BufferUnderflowException | IndexOutOfBoundsException e) {
+			throw new IllegalArgumentException("The class is truncated.", e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Shrinker {
+		private final ByteBuffer input;
+		private final String[] names;
+		private final boolean[] isMarked;
+		private final boolean isStrippingDebugAttributes;
+		private final int[] offsets;
+		private final int[] remappedIndices;
+		private final int cPInfosEnd;
+		private boolean isCompacting;
+		private boolean isWriting;
+		private byte[] output;
+		private int outputLength;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Shrinker(final byte[] bytes, final boolean isStrippingDebugAttributes) {
+			this.input = ByteBuffer.wrap(bytes);
+			this.isStrippingDebugAttributes = isStrippingDebugAttributes;
+			
+			if(this.input.getInt() != 0xCAFEBABE) {
+				throw new IllegalArgumentException("The class does not start with 0xCAFEBABE.");
+			}
+			
+			this.input.position(8);
+			
+			final int cPInfoCount = this.input.getShort() & 0xFFFF;
+			
+			this.names = new String[cPInfoCount];
+			this.isMarked = new boolean[cPInfoCount];
+			this.offsets = new int[cPInfoCount];
+			this.remappedIndices = new int[cPInfoCount];
+			
+			for(int i = 1; i < cPInfoCount; i++) {
+				this.offsets[i] = this.input.position();
+				
+				final int tag = this.input.get() & 0xFF;
+				
+				this.input.position(this.input.position() + doGetLength(tag, this.input));
+				
+				if(tag == ConstantLongInfo.TAG || tag == ConstantDoubleInfo.TAG) {
+					i++;
+				}
+			}
+			
+			this.cPInfosEnd = this.input.position();
+			this.isCompacting = true;
+			this.isWriting = false;
+			this.output = new byte[bytes.length];
+			this.outputLength = 0;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public byte[] write() {
+			final int cPInfoCount = this.isMarked.length;
+			
+			int remappedIndex = 1;
+			
+			for(int i = 1; i < cPInfoCount; i++) {
+				if(this.offsets[i] == 0) {
+					continue;
+				}
+				
+				if(this.isMarked[i] || !this.isCompacting) {
+					final int tag = this.input.get(this.offsets[i]) & 0xFF;
+					
+					this.remappedIndices[i] = remappedIndex;
+					
+					remappedIndex += tag == ConstantLongInfo.TAG || tag == ConstantDoubleInfo.TAG ? 2 : 1;
+				}
+			}
+			
+			this.isWriting = true;
+			
+			this.input.position(0);
+			
+			doCopy(8);
+			doPutU2(remappedIndex);
+			
+			for(int i = 1; i < cPInfoCount; i++) {
+				if(this.offsets[i] != 0 && this.remappedIndices[i] != 0) {
+					doWriteCPInfo(i);
+				}
+			}
+			
+			this.input.position(this.cPInfosEnd);
+			
+			doClass();
+			
+			if(this.input.hasRemaining()) {
+				throw new IllegalArgumentException("The class has trailing bytes.");
+			}
+			
+			return Arrays.copyOf(this.output, this.outputLength);
+		}
+		
+		public void mark() {
+			this.input.position(this.cPInfosEnd);
+			
+			doClass();
+			
+			if(this.input.hasRemaining()) {
+				throw new IllegalArgumentException("The class has trailing bytes.");
+			}
+			
+			final int[] stack = new int[this.isMarked.length];
+			
+			int stackSize = 0;
+			
+			for(int i = 1; i < this.isMarked.length; i++) {
+				if(this.isMarked[i]) {
+					stack[stackSize++] = i;
+				}
+			}
+			
+			while(stackSize > 0) {
+				final int index = stack[--stackSize];
+				final int offset = this.offsets[index];
+				
+				for(final int reference : doGetReferences(this.input.get(offset) & 0xFF, offset)) {
+					if(reference <= 0 || reference >= this.isMarked.length || this.offsets[reference] == 0) {
+						throw new IllegalArgumentException(String.format("The constant_pool entry at index %s references an invalid index: %s", Integer.toString(index), Integer.toString(reference)));
+					}
+					
+					if(!this.isMarked[reference]) {
+						this.isMarked[reference] = true;
+						
+						stack[stackSize++] = reference;
+					}
+				}
+			}
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private String doGetName(final int index) {
+			if(index <= 0 || index >= this.offsets.length || this.offsets[index] == 0 || (this.input.get(this.offsets[index]) & 0xFF) != ConstantUTF8Info.TAG) {
+				throw new IllegalArgumentException(String.format("The attribute_name_index is not a CONSTANT_Utf8_info: %s", Integer.toString(index)));
+			}
+			
+			if(this.names[index] == null) {
+				final int offset = this.offsets[index] + 1;
+				
+				try {
+					this.names[index] = ConstantUTF8Info.decode(this.input, offset + 2, this.input.getShort(offset) & 0xFFFF);
+				} catch(final UTFDataFormatException e) {
+					throw new IllegalArgumentException(String.format("The attribute_name_index is not a valid CONSTANT_Utf8_info: %s", Integer.toString(index)), e);
+				}
+			}
+			
+			return this.names[index];
+		}
+		
+		private boolean doIsDebugAttribute(final String name) {
+			return this.isStrippingDebugAttributes && (name.equals(LineNumberTableAttribute.NAME) || name.equals(LocalVariableTableAttribute.NAME) || name.equals(LocalVariableTypeTableAttribute.NAME) || name.equals(SourceDebugExtensionAttribute.NAME));
+		}
+		
+		private int doCopyU1() {
+			final int value = this.input.get() & 0xFF;
+			
+			if(this.isWriting) {
+				doPutU1(value);
+			}
+			
+			return value;
+		}
+		
+		private int doCopyU2() {
+			final int value = this.input.getShort() & 0xFFFF;
+			
+			if(this.isWriting) {
+				doPutU2(value);
+			}
+			
+			return value;
+		}
+		
+		private int doIndex() {
+			final int index = this.input.getShort() & 0xFFFF;
+			
+			if(index != 0) {
+				if(index >= this.offsets.length || this.offsets[index] == 0) {
+					throw new IllegalArgumentException(String.format("Invalid constant_pool index: %s", Integer.toString(index)));
+				}
+				
+				this.isMarked[index] = true;
+			}
+			
+			if(this.isWriting) {
+				doPutU2(this.remappedIndices[index]);
+			}
+			
+			return index;
+		}
+		
+		private int[] doGetReferences(final int tag, final int offset) {
+			switch(tag) {
+				case ConstantClassInfo.TAG:
+				case ConstantMethodTypeInfo.TAG:
+				case ConstantModuleInfo.TAG:
+				case ConstantPackageInfo.TAG:
+				case ConstantStringInfo.TAG:
+					return new int[] {this.input.getShort(offset + 1) & 0xFFFF};
+				case ConstantFieldRefInfo.TAG:
+				case ConstantInterfaceMethodRefInfo.TAG:
+				case ConstantMethodRefInfo.TAG:
+				case ConstantNameAndTypeInfo.TAG:
+					return new int[] {this.input.getShort(offset + 1) & 0xFFFF, this.input.getShort(offset + 3) & 0xFFFF};
+				case ConstantDynamicInfo.TAG:
+				case ConstantInvokeDynamicInfo.TAG:
+					return new int[] {this.input.getShort(offset + 3) & 0xFFFF};
+				case ConstantMethodHandleInfo.TAG:
+					return new int[] {this.input.getShort(offset + 2) & 0xFFFF};
+				default:
+					return new int[0];
+			}
+		}
+		
+		private void doAnnotation() {
+			doIndex();
+			
+			final int numElementValuePairs = doCopyU2();
+			
+			for(int i = 0; i < numElementValuePairs; i++) {
+				doIndex();
+				doElementValue();
+			}
+		}
+		
+		private void doAnnotations() {
+			final int numAnnotations = doCopyU2();
+			
+			for(int i = 0; i < numAnnotations; i++) {
+				doAnnotation();
+			}
+		}
+		
+		private void doAttribute(final String name, final int length) {
+			switch(name) {
+				case AnnotationDefaultAttribute.NAME:
+					doElementValue();
+					
+					break;
+				case BootstrapMethodsAttribute.NAME: {
+					final int numBootstrapMethods = doCopyU2();
+					
+					for(int i = 0; i < numBootstrapMethods; i++) {
+						doIndex();
+						doIndices(doCopyU2());
+					}
+					
+					break;
+				}
+				case CodeAttribute.NAME:
+					doCode();
+					
+					break;
+				case ConstantValueAttribute.NAME:
+				case ModuleMainClassAttribute.NAME:
+				case NestHostAttribute.NAME:
+				case SignatureAttribute.NAME:
+				case SourceFileAttribute.NAME:
+					doIndex();
+					
+					break;
+				case DeprecatedAttribute.NAME:
+				case SyntheticAttribute.NAME:
+					break;
+				case EnclosingMethodAttribute.NAME:
+					doIndex();
+					doIndex();
+					
+					break;
+				case ExceptionsAttribute.NAME:
+				case ModulePackagesAttribute.NAME:
+				case NestMembersAttribute.NAME:
+				case "PermittedSubclasses":
+					doIndices(doCopyU2());
+					
+					break;
+				case InnerClassesAttribute.NAME: {
+					final int numberOfClasses = doCopyU2();
+					
+					for(int i = 0; i < numberOfClasses; i++) {
+						doIndex();
+						doIndex();
+						doIndex();
+						doCopyU2();
+					}
+					
+					break;
+				}
+				case LineNumberTableAttribute.NAME:
+				case SourceDebugExtensionAttribute.NAME:
+					doCopy(length);
+					
+					break;
+				case LocalVariableTableAttribute.NAME:
+				case LocalVariableTypeTableAttribute.NAME: {
+					final int localVariableTableLength = doCopyU2();
+					
+					for(int i = 0; i < localVariableTableLength; i++) {
+						doCopy(4);
+						doIndex();
+						doIndex();
+						doCopy(2);
+					}
+					
+					break;
+				}
+				case MethodParametersAttribute.NAME: {
+					final int parametersCount = doCopyU1();
+					
+					for(int i = 0; i < parametersCount; i++) {
+						doIndex();
+						doCopy(2);
+					}
+					
+					break;
+				}
+				case "Module":
+					doModule();
+					
+					break;
+				case "Record": {
+					final int componentsCount = doCopyU2();
+					
+					for(int i = 0; i < componentsCount; i++) {
+						doIndex();
+						doIndex();
+						doAttributes();
+					}
+					
+					break;
+				}
+				case RuntimeInvisibleAnnotationsAttribute.NAME:
+				case RuntimeVisibleAnnotationsAttribute.NAME:
+					doAnnotations();
+					
+					break;
+				case RuntimeInvisibleParameterAnnotationsAttribute.NAME:
+				case RuntimeVisibleParameterAnnotationsAttribute.NAME: {
+					final int numParameters = doCopyU1();
+					
+					for(int i = 0; i < numParameters; i++) {
+						doAnnotations();
+					}
+					
+					break;
+				}
+				case "RuntimeInvisibleTypeAnnotations":
+				case "RuntimeVisibleTypeAnnotations": {
+					final int numAnnotations = doCopyU2();
+					
+					for(int i = 0; i < numAnnotations; i++) {
+						doTypeAnnotation();
+					}
+					
+					break;
+				}
+				case StackMapTableAttribute.NAME:
+					doStackMapTable();
+					
+					break;
+				default:
+					this.isCompacting = false;
+					
+					doCopy(length);
+					
+					break;
+			}
+		}
+		
+		private void doAttributes() {
+			final int attributesCount = this.input.getShort() & 0xFFFF;
+			final int attributesCountOffset = this.outputLength;
+			
+			if(this.isWriting) {
+				doPutU2(0);
+			}
+			
+			int keptAttributesCount = 0;
+			
+			for(int i = 0; i < attributesCount; i++) {
+				final int nameIndex = this.input.getShort() & 0xFFFF;
+				final int length = this.input.getInt();
+				final int start = this.input.position();
+				
+				final String name = doGetName(nameIndex);
+				
+				if(length < 0 || length > this.input.remaining()) {
+					throw new IllegalArgumentException(String.format("The attribute %s is truncated.", name));
+				}
+				
+				if(doIsDebugAttribute(name)) {
+					this.input.position(start + length);
+					
+					continue;
+				}
+				
+				this.isMarked[nameIndex] = true;
+				
+				keptAttributesCount++;
+				
+				final int lengthOffset = this.outputLength + 2;
+				
+				if(this.isWriting) {
+					doPutU2(this.remappedIndices[nameIndex]);
+					doPutU4(0);
+				}
+				
+				doAttribute(name, length);
+				
+				if(this.input.position() != start + length) {
+					throw new IllegalArgumentException(String.format("The attribute %s has %s byte(s), but its attribute_length is %s.", name, Integer.toString(this.input.position() - start), Integer.toString(length)));
+				}
+				
+				if(this.isWriting) {
+					doSetU4(lengthOffset, this.outputLength - lengthOffset - 4);
+				}
+			}
+			
+			if(this.isWriting) {
+				doSetU2(attributesCountOffset, keptAttributesCount);
+			}
+		}
+		
+		private void doClass() {
+			doCopy(2);
+			doIndex();
+			doIndex();
+			doIndices(doCopyU2());
+			doMembers();
+			doMembers();
+			doAttributes();
+		}
+		
+		private void doCode() {
+			doCopy(4);
+			
+			final int codeLength = this.input.getInt();
+			
+			if(codeLength < 0 || codeLength > this.input.remaining()) {
+				throw new IllegalArgumentException("The code item is truncated.");
+			}
+			
+			final ByteBuffer code = ByteBuffer.wrap(this.input.array(), this.input.position(), codeLength).slice();
+			
+			final int codeOffset = this.outputLength + 4;
+			
+			if(this.isWriting) {
+				doPutU4(codeLength);
+			}
+			
+			doCopy(codeLength);
+			
+			for(int offset = 0; offset < codeLength; offset += InstructionCursor.getLength(code, offset)) {
+				final int opcode = code.get(offset) & 0xFF;
+				
+				if(opcode == 18) {
+					final int index = code.get(offset + 1) & 0xFF;
+					
+					doMark(index);
+					
+					if(this.isWriting) {
+						this.output[codeOffset + offset + 1] = (byte)(this.remappedIndices[index]);
+					}
+				} else if(opcode == 19 || opcode == 20 || opcode >= 178 && opcode <= 187 || opcode == 189 || opcode == 192 || opcode == 193 || opcode == 197) {
+					final int index = code.getShort(offset + 1) & 0xFFFF;
+					
+					doMark(index);
+					
+					if(this.isWriting) {
+						doSetU2(codeOffset + offset + 1, this.remappedIndices[index]);
+					}
+				}
+			}
+			
+			final int exceptionTableLength = doCopyU2();
+			
+			for(int i = 0; i < exceptionTableLength; i++) {
+				doCopy(6);
+				doIndex();
+			}
+			
+			doAttributes();
+		}
+		
+		private void doCopy(final int length) {
+			if(this.isWriting) {
+				doEnsureCapacity(length);
+				
+				this.input.get(this.output, this.outputLength, length);
+				
+				this.outputLength += length;
+			} else {
+				this.input.position(this.input.position() + length);
+			}
+		}
+		
+		private void doElementValue() {
+			final int tag = doCopyU1();
+			
+			switch(tag) {
+				case 'B':
+				case 'C':
+				case 'D':
+				case 'F':
+				case 'I':
+				case 'J':
+				case 'S':
+				case 'Z':
+				case 'c':
+				case 's':
+					doIndex();
+					
+					break;
+				case 'e':
+					doIndex();
+					doIndex();
+					
+					break;
+				case '@':
+					doAnnotation();
+					
+					break;
+				case '[': {
+					final int numValues = doCopyU2();
+					
+					for(int i = 0; i < numValues; i++) {
+						doElementValue();
+					}
+					
+					break;
+				}
+				default:
+					throw new IllegalArgumentException(String.format("Invalid element_value tag: %s", Integer.toString(tag)));
+			}
+		}
+		
+		private void doEnsureCapacity(final int length) {
+			if(this.outputLength + length > this.output.length) {
+				this.output = Arrays.copyOf(this.output, Math.max(this.output.length * 2, this.outputLength + length));
+			}
+		}
+		
+		private void doIndices(final int count) {
+			for(int i = 0; i < count; i++) {
+				doIndex();
+			}
+		}
+		
+		private void doMark(final int index) {
+			if(index <= 0 || index >= this.offsets.length || this.offsets[index] == 0) {
+				throw new IllegalArgumentException(String.format("Invalid constant_pool index: %s", Integer.toString(index)));
+			}
+			
+			this.isMarked[index] = true;
+		}
+		
+		private void doMembers() {
+			final int count = doCopyU2();
+			
+			for(int i = 0; i < count; i++) {
+				doCopy(2);
+				doIndex();
+				doIndex();
+				doAttributes();
+			}
+		}
+		
+		private void doModule() {
+			doIndex();
+			doCopy(2);
+			doIndex();
+			
+			final int requiresCount = doCopyU2();
+			
+			for(int i = 0; i < requiresCount; i++) {
+				doIndex();
+				doCopy(2);
+				doIndex();
+			}
+			
+			for(int j = 0; j < 2; j++) {
+				final int exportsOrOpensCount = doCopyU2();
+				
+				for(int i = 0; i < exportsOrOpensCount; i++) {
+					doIndex();
+					doCopy(2);
+					doIndices(doCopyU2());
+				}
+			}
+			
+			doIndices(doCopyU2());
+			
+			final int providesCount = doCopyU2();
+			
+			for(int i = 0; i < providesCount; i++) {
+				doIndex();
+				doIndices(doCopyU2());
+			}
+		}
+		
+		private void doPutU1(final int value) {
+			doEnsureCapacity(1);
+			
+			this.output[this.outputLength++] = (byte)(value);
+		}
+		
+		private void doPutU2(final int value) {
+			doEnsureCapacity(2);
+			doSetU2(this.outputLength, value);
+			
+			this.outputLength += 2;
+		}
+		
+		private void doPutU4(final int value) {
+			doEnsureCapacity(4);
+			doSetU4(this.outputLength, value);
+			
+			this.outputLength += 4;
+		}
+		
+		private void doSetU2(final int offset, final int value) {
+			this.output[offset + 0] = (byte)(value >>> 8);
+			this.output[offset + 1] = (byte)(value);
+		}
+		
+		private void doSetU4(final int offset, final int value) {
+			this.output[offset + 0] = (byte)(value >>> 24);
+			this.output[offset + 1] = (byte)(value >>> 16);
+			this.output[offset + 2] = (byte)(value >>> 8);
+			this.output[offset + 3] = (byte)(value);
+		}
+		
+		private void doStackMapTable() {
+			final int numberOfEntries = doCopyU2();
+			
+			for(int i = 0; i < numberOfEntries; i++) {
+				final int frameType = doCopyU1();
+				
+				if(frameType >= 64 && frameType <= 127) {
+					doVerificationTypeInfos(1);
+				} else if(frameType == 247) {
+					doCopy(2);
+					doVerificationTypeInfos(1);
+				} else if(frameType >= 248 && frameType <= 251) {
+					doCopy(2);
+				} else if(frameType >= 252 && frameType <= 254) {
+					doCopy(2);
+					doVerificationTypeInfos(frameType - 251);
+				} else if(frameType == 255) {
+					doCopy(2);
+					doVerificationTypeInfos(doCopyU2());
+					doVerificationTypeInfos(doCopyU2());
+				} else if(frameType >= 128) {
+					throw new IllegalArgumentException(String.format("Invalid frame_type: %s", Integer.toString(frameType)));
+				}
+			}
+		}
+		
+		private void doTypeAnnotation() {
+			final int targetType = doCopyU1();
+			
+			switch(targetType) {
+				case 0x00:
+				case 0x01:
+				case 0x16:
+					doCopy(1);
+					
+					break;
+				case 0x10:
+				case 0x17:
+				case 0x42:
+				case 0x43:
+				case 0x44:
+				case 0x45:
+				case 0x46:
+					doCopy(2);
+					
+					break;
+				case 0x11:
+				case 0x12:
+					doCopy(2);
+					
+					break;
+				case 0x13:
+				case 0x14:
+				case 0x15:
+					break;
+				case 0x40:
+				case 0x41:
+					doCopy(doCopyU2() * 6);
+					
+					break;
+				case 0x47:
+				case 0x48:
+				case 0x49:
+				case 0x4A:
+				case 0x4B:
+					doCopy(3);
+					
+					break;
+				default:
+					throw new IllegalArgumentException(String.format("Invalid target_type: %s", Integer.toString(targetType)));
+			}
+			
+			doCopy(doCopyU1() * 2);
+			doAnnotation();
+		}
+		
+		private void doVerificationTypeInfos(final int count) {
+			for(int i = 0; i < count; i++) {
+				final int tag = doCopyU1();
+				
+				if(tag == 7) {
+					doIndex();
+				} else if(tag == 8) {
+					doCopy(2);
+				} else if(tag > 8) {
+					throw new IllegalArgumentException(String.format("Invalid verification_type_info tag: %s", Integer.toString(tag)));
+				}
+			}
+		}
+		
+		private void doWriteCPInfo(final int index) {
+			final int offset = this.offsets[index];
+			final int tag = this.input.get(offset) & 0xFF;
+			
+			this.input.position(offset);
+			
+			doCopy(1);
+			
+			switch(tag) {
+				case ConstantClassInfo.TAG:
+				case ConstantMethodTypeInfo.TAG:
+				case ConstantModuleInfo.TAG:
+				case ConstantPackageInfo.TAG:
+				case ConstantStringInfo.TAG:
+					doIndex();
+					
+					break;
+				case ConstantFieldRefInfo.TAG:
+				case ConstantInterfaceMethodRefInfo.TAG:
+				case ConstantMethodRefInfo.TAG:
+				case ConstantNameAndTypeInfo.TAG:
+					doIndex();
+					doIndex();
+					
+					break;
+				case ConstantDynamicInfo.TAG:
+				case ConstantInvokeDynamicInfo.TAG:
+					doCopy(2);
+					doIndex();
+					
+					break;
+				case ConstantMethodHandleInfo.TAG:
+					doCopy(1);
+					doIndex();
+					
+					break;
+				default:
+					doCopy(doGetLength(tag, this.input));
+					
+					break;
+			}
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private static int doGetLength(final int tag, final ByteBuffer input) {
+			switch(tag) {
+				case ConstantUTF8Info.TAG:
+					return 2 + (input.getShort(input.position()) & 0xFFFF);
+				case ConstantClassInfo.TAG:
+				case ConstantMethodTypeInfo.TAG:
+				case ConstantModuleInfo.TAG:
+				case ConstantPackageInfo.TAG:
+				case ConstantStringInfo.TAG:
+					return 2;
+				case ConstantMethodHandleInfo.TAG:
+					return 3;
+				case ConstantDynamicInfo.TAG:
+				case ConstantFieldRefInfo.TAG:
+				case ConstantFloatInfo.TAG:
+				case ConstantIntegerInfo.TAG:
+				case ConstantInterfaceMethodRefInfo.TAG:
+				case ConstantInvokeDynamicInfo.TAG:
+				case ConstantMethodRefInfo.TAG:
+				case ConstantNameAndTypeInfo.TAG:
+					return 4;
+				case ConstantDoubleInfo.TAG:
+				case ConstantLongInfo.TAG:
+					return 8;
+				default:
+					throw new IllegalArgumentException(String.format("Invalid constant_pool tag: %s", Integer.toString(tag)));
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,383 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.writer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.FieldInfo;
+import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.LazyAttribute;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+import org.macroing.cel4j.java.binary.reader.ClassFileReaderException;
+import org.macroing.cel4j.java.binary.reader.ReadOptions;
+import org.macroing.cel4j.java.binary.reader.ReaderRegistry;
+
+/**
+ * A {@code ClassFileTransformer} is used for transforming sequences of bytes that matches the ClassFile format, by copying everything that a {@link ClassFileEdit} did not touch.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * The sequence of bytes is read in lazy and mutable mode, so no attribute is decoded until it is accessed and nothing is copied before the {@link ClassFileEdit} is called. The offset and length of every {@link FieldInfo}, {@link MethodInfo} and {@link AttributeInfo} of the class is recorded before the
+ * {@code ClassFileEdit} is called. After the call, every {@code FieldInfo} and {@code MethodInfo} instance whose {@code access_flags}, {@code name_index}, {@code descriptor_index} and attributes are unchanged, and whose attributes have not been
+ * decoded, is written by copying its original bytes. The same is true for the attributes of the class. The original constant pool is copied as a whole and only the appended {@link CPInfo} instances are written.
+ * <p>
+ * This means that the cost of writing a transformed class is proportional to the size of the change rather than to the size of the class. Reading it is still proportional to the size of its constant pool and to the number of its members.
+ * <p>
+ * If the constant pool was not only appended to, or if any of its original {@code CPInfo} instances was modified, the whole {@link ClassFile} instance is written by a {@link ClassFileWriter}. Modifications are detected using
+ * {@link CPInfo#getModificationCount()}, so the original {@code CPInfo} instances are never encoded again.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ClassFileTransformer classFileTransformer = new ClassFileTransformer();
+ * 
+ * byte[] bytes = classFileTransformer.transform(oldBytes, classFile -> {
+ *     MethodInfo methodInfo = classFile.getMethodInfos().get(0);
+ * 
+ *     methodInfo.setFinal(true);
+ * });
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ClassFileTransformer {
+	private final ClassFileReader classFileReader;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code ClassFileTransformer} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new ClassFileTransformer(ReaderRegistry.getDefault());
+	 * }
+	 * </pre>
+	 */
+	public ClassFileTransformer() {
+		this(ReaderRegistry.getDefault());
+	}
+	
+	/**
+	 * Constructs a new {@code ClassFileTransformer} instance.
+	 * <p>
+	 * If {@code readerRegistry} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param readerRegistry the {@link ReaderRegistry} to use when reading
+	 * @throws NullPointerException thrown if, and only if, {@code readerRegistry} is {@code null}
+	 */
+	public ClassFileTransformer(final ReaderRegistry readerRegistry) {
+		this.classFileReader = new ClassFileReader(Objects.requireNonNull(readerRegistry, "readerRegistry == null"), ReadOptions.LAZY.withMutable(true));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Transforms {@code bytes} using {@code classFileEdit}.
+	 * <p>
+	 * Returns a new {@code byte} array with the transformed class.
+	 * <p>
+	 * If either {@code bytes} or {@code classFileEdit} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code bytes} cannot be read, a {@code ClassFileReaderException} will be thrown.
+	 * <p>
+	 * If the transformed class cannot be written, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * The {@code byte} array {@code bytes} is not copied and should not be modified until this method returns.
+	 * 
+	 * @param bytes a {@code byte} array with the class to transform
+	 * @param classFileEdit the {@link ClassFileEdit} that modifies the class
+	 * @return a new {@code byte} array with the transformed class
+	 * @throws ClassFileReaderException thrown if, and only if, {@code bytes} cannot be read
+	 * @throws NullPointerException thrown if, and only if, either {@code bytes} or {@code classFileEdit} are {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, the transformed class cannot be written
+	 */
+	public byte[] transform(final byte[] bytes, final ClassFileEdit classFileEdit) {
+		Objects.requireNonNull(bytes, "bytes == null");
+		Objects.requireNonNull(classFileEdit, "classFileEdit == null");
+		
+		final ClassFile classFile = this.classFileReader.read(bytes);
+		
+		final Layout layout = new Layout(classFile, bytes);
+		
+		classFileEdit.edit(classFile);
+		
+		if(!layout.isCopyable(classFile)) {
+			return new ClassFileWriter().write(classFile);
+		}
+		
+		return doWrite(classFile, bytes, layout);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static byte[] doWrite(final ClassFile classFile, final byte[] bytes, final Layout layout) {
+		final List<AttributeInfo> attributeInfos = classFile.getAttributeInfosView();
+		final List<CPInfo> cPInfos = classFile.getCPInfosView();
+		final List<FieldInfo> fieldInfos = classFile.getFieldInfosView();
+		final List<MethodInfo> methodInfos = classFile.getMethodInfosView();
+		
+		final Region[] attributeInfoRegions = new Region[attributeInfos.size()];
+		final Region[] fieldInfoRegions = new Region[fieldInfos.size()];
+		final Region[] methodInfoRegions = new Region[methodInfos.size()];
+		
+		int size = 10 + layout.cPInfosLength;
+		
+		for(int i = layout.cPInfos.length; i < cPInfos.size(); i++) {
+			size += ClassFileWriter.getSize(cPInfos.get(i));
+		}
+		
+		size += 8;
+		size += classFile.getInterfaceCount() * 2;
+		size += 2;
+		
+		for(int i = 0; i < fieldInfoRegions.length; i++) {
+			final FieldInfo fieldInfo = fieldInfos.get(i);
+			
+			fieldInfoRegions[i] = layout.find(fieldInfo, new int[] {fieldInfo.getAccessFlags(), fieldInfo.getNameIndex(), fieldInfo.getDescriptorIndex()}, fieldInfo.getAttributeInfosView());
+			
+			size += fieldInfoRegions[i] != null ? fieldInfoRegions[i].length : 6 + ClassFileWriter.getSize(fieldInfo.getAttributeInfosView());
+		}
+		
+		size += 2;
+		
+		for(int i = 0; i < methodInfoRegions.length; i++) {
+			final MethodInfo methodInfo = methodInfos.get(i);
+			
+			methodInfoRegions[i] = layout.find(methodInfo, new int[] {methodInfo.getAccessFlags(), methodInfo.getNameIndex(), methodInfo.getDescriptorIndex()}, methodInfo.getAttributeInfosView());
+			
+			size += methodInfoRegions[i] != null ? methodInfoRegions[i].length : 6 + ClassFileWriter.getSize(methodInfo.getAttributeInfosView());
+		}
+		
+		size += 2;
+		
+		for(int i = 0; i < attributeInfoRegions.length; i++) {
+			final AttributeInfo attributeInfo = attributeInfos.get(i);
+			
+			attributeInfoRegions[i] = layout.find(attributeInfo, new int[0], Collections.singletonList(attributeInfo));
+			
+			size += 6 + attributeInfo.getAttributeLength();
+		}
+		
+		final ByteBuffer byteBuffer = ByteBuffer.wrap(new byte[size]);
+		
+		final ByteBufferDataOutput dataOutput = new ByteBufferDataOutput(byteBuffer);
+		
+		try {
+			dataOutput.writeInt(0xCAFEBABE);
+			dataOutput.writeShort(classFile.getMinorVersion());
+			dataOutput.writeShort(classFile.getMajorVersion());
+			dataOutput.writeShort(classFile.getCPInfoCount());
+			dataOutput.write(bytes, 10, layout.cPInfosLength);
+			
+			for(int i = layout.cPInfos.length; i < cPInfos.size(); i++) {
+				cPInfos.get(i).write(dataOutput);
+			}
+			
+			dataOutput.writeShort(classFile.getAccessFlags());
+			dataOutput.writeShort(classFile.getThisClass());
+			dataOutput.writeShort(classFile.getSuperClass());
+			dataOutput.writeShort(classFile.getInterfaceCount());
+			
+			for(final int index : classFile.getInterfacesView()) {
+				dataOutput.writeShort(index);
+			}
+			
+			dataOutput.writeShort(fieldInfoRegions.length);
+			
+			for(int i = 0; i < fieldInfoRegions.length; i++) {
+				if(fieldInfoRegions[i] != null) {
+					dataOutput.write(bytes, fieldInfoRegions[i].offset, fieldInfoRegions[i].length);
+				} else {
+					fieldInfos.get(i).write(dataOutput);
+				}
+			}
+			
+			dataOutput.writeShort(methodInfoRegions.length);
+			
+			for(int i = 0; i < methodInfoRegions.length; i++) {
+				if(methodInfoRegions[i] != null) {
+					dataOutput.write(bytes, methodInfoRegions[i].offset, methodInfoRegions[i].length);
+				} else {
+					methodInfos.get(i).write(dataOutput);
+				}
+			}
+			
+			dataOutput.writeShort(attributeInfoRegions.length);
+			
+			for(int i = 0; i < attributeInfoRegions.length; i++) {
+				if(attributeInfoRegions[i] != null) {
+					dataOutput.write(bytes, attributeInfoRegions[i].offset, attributeInfoRegions[i].length);
+				} else {
+					attributeInfos.get(i).write(dataOutput);
+				}
+			}
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		if(byteBuffer.hasRemaining()) {
+			throw new IllegalStateException(String.format("The ClassFile was %s byte(s) shorter than its computed size of %s byte(s).", Integer.toString(byteBuffer.remaining()), Integer.toString(size)));
+		}
+		
+		return byteBuffer.array();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Layout {
+		private final CPInfo[] cPInfos;
+		private final Map<Object, Region> regions;
+		private final boolean isConsistent;
+		private final int[] cPInfoModificationCounts;
+		private final int cPInfosLength;
+		
+		public Layout(final ClassFile classFile, final byte[] bytes) {
+			final List<CPInfo> cPInfos = classFile.getCPInfosView();
+			
+			this.cPInfos = cPInfos.toArray(new CPInfo[cPInfos.size()]);
+			this.regions = new IdentityHashMap<>();
+			this.cPInfoModificationCounts = new int[this.cPInfos.length];
+			
+			int offset = 10;
+			
+			for(int i = 0; i < this.cPInfos.length; i++) {
+				this.cPInfoModificationCounts[i] = this.cPInfos[i].getModificationCount();
+				
+				offset += ClassFileWriter.getSize(this.cPInfos[i]);
+			}
+			
+			this.cPInfosLength = offset - 10;
+			
+			offset += 8;
+			offset += classFile.getInterfaceCount() * 2;
+			offset += 2;
+			
+			for(final FieldInfo fieldInfo : classFile.getFieldInfosView()) {
+				offset = doAdd(fieldInfo, new int[] {fieldInfo.getAccessFlags(), fieldInfo.getNameIndex(), fieldInfo.getDescriptorIndex()}, fieldInfo.getAttributeInfosView(), offset, 6 + ClassFileWriter.getSize(fieldInfo.getAttributeInfosView()));
+			}
+			
+			offset += 2;
+			
+			for(final MethodInfo methodInfo : classFile.getMethodInfosView()) {
+				offset = doAdd(methodInfo, new int[] {methodInfo.getAccessFlags(), methodInfo.getNameIndex(), methodInfo.getDescriptorIndex()}, methodInfo.getAttributeInfosView(), offset, 6 + ClassFileWriter.getSize(methodInfo.getAttributeInfosView()));
+			}
+			
+			offset += 2;
+			
+			for(final AttributeInfo attributeInfo : classFile.getAttributeInfosView()) {
+				offset = doAdd(attributeInfo, new int[0], Collections.singletonList(attributeInfo), offset, 6 + attributeInfo.getAttributeLength());
+			}
+			
+			this.isConsistent = offset == bytes.length;
+		}
+		
+		public Region find(final Object object, final int[] values, final List<AttributeInfo> attributeInfos) {
+			final Region region = this.regions.get(object);
+			
+			return region != null && region.isUntouched(values, attributeInfos) ? region : null;
+		}
+		
+		public boolean isCopyable(final ClassFile classFile) {
+			if(!this.isConsistent) {
+				return false;
+			}
+			
+			final List<CPInfo> cPInfos = classFile.getCPInfosView();
+			
+			if(cPInfos.size() < this.cPInfos.length) {
+				return false;
+			}
+			
+			for(int i = 0; i < this.cPInfos.length; i++) {
+				if(cPInfos.get(i) != this.cPInfos[i] || this.cPInfos[i].getModificationCount() != this.cPInfoModificationCounts[i]) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+		
+		private int doAdd(final Object object, final int[] values, final List<AttributeInfo> attributeInfos, final int offset, final int length) {
+			this.regions.put(object, new Region(values, attributeInfos, offset, length));
+			
+			return offset + length;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Region {
+		private final AttributeInfo[] attributeInfos;
+		private final int[] attributeNameIndices;
+		private final int[] values;
+		private final int length;
+		private final int offset;
+		
+		public Region(final int[] values, final List<AttributeInfo> attributeInfos, final int offset, final int length) {
+			this.attributeInfos = attributeInfos.toArray(new AttributeInfo[attributeInfos.size()]);
+			this.attributeNameIndices = new int[this.attributeInfos.length];
+			this.values = values;
+			this.length = length;
+			this.offset = offset;
+			
+			for(int i = 0; i < this.attributeInfos.length; i++) {
+				this.attributeNameIndices[i] = this.attributeInfos[i].getAttributeNameIndex();
+			}
+		}
+		
+		public boolean isUntouched(final int[] values, final List<AttributeInfo> attributeInfos) {
+			if(!Arrays.equals(this.values, values)) {
+				return false;
+			}
+			
+			if(this.attributeInfos.length != attributeInfos.size()) {
+				return false;
+			}
+			
+			for(int i = 0; i < this.attributeInfos.length; i++) {
+				final AttributeInfo attributeInfo = attributeInfos.get(i);
+				
+				if(attributeInfo != this.attributeInfos[i] || attributeInfo.getAttributeNameIndex() != this.attributeNameIndices[i]) {
+					return false;
+				}
+				
+				if(!(attributeInfo instanceof LazyAttribute) || LazyAttribute.class.cast(attributeInfo).isDecoded()) {
+					return false;
+				}
+			}
+			
+			return true;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,385 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.writer;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.ConstantUnreachableInfo;
+import org.macroing.cel4j.java.binary.classfile.FieldInfo;
+import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ExceptionHandler;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantDoubleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantDynamicInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFieldRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantFloatInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantIntegerInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInterfaceMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantInvokeDynamicInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantLongInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodHandleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodRefInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantMethodTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantModuleInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantNameAndTypeInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantPackageInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantStringInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+
+/**
+ * A {@code ClassFileWriter} is used for writing {@link ClassFile} instances into sequences of bytes.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * A {@code ClassFile} instance is written in two passes. The first pass computes the size of every structure once. The second pass writes the structures into a single buffer of exactly that size, so no intermediate buffer ever has to grow or be
+ * copied.
+ * <p>
+ * The sizes of the {@link CPInfo} instances provided by this library are computed without writing them. Any other {@code CPInfo} instance is measured by writing it once to a sink that discards its bytes. The length of every
+ * {@link AttributeInfo} instance is computed once by the first pass and cached. The second pass writes the header of every {@link CodeAttribute} instance, and those of its nested {@code AttributeInfo} instances, using the cached lengths. Any
+ * other {@code AttributeInfo} instance writes its own header, which is its only call to {@link AttributeInfo#getAttributeLength()} in the second pass.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * ClassFileWriter classFileWriter = new ClassFileWriter();
+ * 
+ * byte[] bytes = classFileWriter.write(classFile);
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class ClassFileWriter {
+	/**
+	 * Constructs a new {@code ClassFileWriter} instance.
+	 */
+	public ClassFileWriter() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Writes {@code classFile} into {@code byteBuffer}, starting at its current position.
+	 * <p>
+	 * Returns {@code byteBuffer}, with its position advanced by the size of {@code classFile}.
+	 * <p>
+	 * If either {@code classFile} or {@code byteBuffer} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code byteBuffer} has fewer bytes remaining than the size of {@code classFile}, a {@code BufferOverflowException} will be thrown. Nothing is written in that case.
+	 * <p>
+	 * If {@code classFile} cannot be written, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @param classFile the {@code ClassFile} instance to write
+	 * @param byteBuffer the {@code ByteBuffer} to write to
+	 * @return {@code byteBuffer}
+	 * @throws BufferOverflowException thrown if, and only if, {@code byteBuffer} has fewer bytes remaining than the size of {@code classFile}
+	 * @throws NullPointerException thrown if, and only if, either {@code classFile} or {@code byteBuffer} are {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, {@code classFile} cannot be written
+	 */
+	public ByteBuffer write(final ClassFile classFile, final ByteBuffer byteBuffer) {
+		Objects.requireNonNull(classFile, "classFile == null");
+		Objects.requireNonNull(byteBuffer, "byteBuffer == null");
+		
+		final Map<AttributeInfo, Integer> attributeLengths = new IdentityHashMap<>();
+		
+		final int size = doGetSize(classFile, attributeLengths);
+		
+		if(byteBuffer.remaining() < size) {
+			throw new BufferOverflowException();
+		}
+		
+		doWrite(classFile, byteBuffer, size, attributeLengths);
+		
+		return byteBuffer;
+	}
+	
+	/**
+	 * Writes {@code classFile} into a {@code byte} array of exactly the right size.
+	 * <p>
+	 * Returns a {@code byte} array.
+	 * <p>
+	 * If {@code classFile} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code classFile} cannot be written, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @param classFile the {@code ClassFile} instance to write
+	 * @return a {@code byte} array
+	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, {@code classFile} cannot be written
+	 */
+	public byte[] write(final ClassFile classFile) {
+		final Map<AttributeInfo, Integer> attributeLengths = new IdentityHashMap<>();
+		
+		final int size = doGetSize(Objects.requireNonNull(classFile, "classFile == null"), attributeLengths);
+		
+		final byte[] bytes = new byte[size];
+		
+		doWrite(classFile, ByteBuffer.wrap(bytes), size, attributeLengths);
+		
+		return bytes;
+	}
+	
+	/**
+	 * Returns the number of bytes that {@code classFile} occupies when written.
+	 * <p>
+	 * If {@code classFile} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param classFile a {@link ClassFile} instance
+	 * @return the number of bytes that {@code classFile} occupies when written
+	 * @throws NullPointerException thrown if, and only if, {@code classFile} is {@code null}
+	 */
+	public int getSize(final ClassFile classFile) {
+		return doGetSize(Objects.requireNonNull(classFile, "classFile == null"), null);
+	}
+	
+	/**
+	 * Writes {@code classFile} to {@code writableByteChannel}.
+	 * <p>
+	 * Returns the number of bytes written.
+	 * <p>
+	 * If either {@code classFile} or {@code writableByteChannel} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code classFile} cannot be written, or an {@code IOException} is caught, an {@code UncheckedIOException} will be thrown.
+	 * 
+	 * @param classFile the {@code ClassFile} instance to write
+	 * @param writableByteChannel the {@code WritableByteChannel} to write to
+	 * @return the number of bytes written
+	 * @throws NullPointerException thrown if, and only if, either {@code classFile} or {@code writableByteChannel} are {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, {@code classFile} cannot be written, or an {@code IOException} is caught
+	 */
+	public int write(final ClassFile classFile, final WritableByteChannel writableByteChannel) {
+		Objects.requireNonNull(writableByteChannel, "writableByteChannel == null");
+		
+		final ByteBuffer byteBuffer = ByteBuffer.wrap(write(classFile));
+		
+		try {
+			while(byteBuffer.hasRemaining()) {
+				writableByteChannel.write(byteBuffer);
+			}
+			
+			return byteBuffer.capacity();
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static int getSize(final CPInfo cPInfo) {
+		if(cPInfo instanceof ConstantUnreachableInfo) {
+			return 0;
+		} else if(cPInfo instanceof ConstantUTF8Info) {
+			return 3 + ByteBufferDataOutput.getUTFLength(ConstantUTF8Info.class.cast(cPInfo).getStringValue());
+		} else if(cPInfo instanceof ConstantClassInfo || cPInfo instanceof ConstantMethodTypeInfo || cPInfo instanceof ConstantModuleInfo || cPInfo instanceof ConstantPackageInfo || cPInfo instanceof ConstantStringInfo) {
+			return 3;
+		} else if(cPInfo instanceof ConstantMethodHandleInfo) {
+			return 4;
+		} else if(cPInfo instanceof ConstantDynamicInfo || cPInfo instanceof ConstantFieldRefInfo || cPInfo instanceof ConstantFloatInfo || cPInfo instanceof ConstantIntegerInfo || cPInfo instanceof ConstantInterfaceMethodRefInfo || cPInfo instanceof ConstantInvokeDynamicInfo || cPInfo instanceof ConstantMethodRefInfo || cPInfo instanceof ConstantNameAndTypeInfo) {
+			return 5;
+		} else if(cPInfo instanceof ConstantDoubleInfo || cPInfo instanceof ConstantLongInfo) {
+			return 9;
+		} else {
+			return doMeasure(cPInfo);
+		}
+	}
+	
+	static int getSize(final List<AttributeInfo> attributeInfos) {
+		return doGetSize(attributeInfos, null);
+	}
+	
+	private static int doGetAttributeLength(final AttributeInfo attributeInfo, final Map<AttributeInfo, Integer> attributeLengths) {
+		if(attributeInfo instanceof CodeAttribute) {
+			final CodeAttribute codeAttribute = CodeAttribute.class.cast(attributeInfo);
+			
+			final int attributeLength = 10 + codeAttribute.getCodeLength() + codeAttribute.getExceptionTableLength() * 8 + doGetSize(codeAttribute.getAttributeInfosView(), attributeLengths);
+			
+			if(attributeLengths != null) {
+				attributeLengths.put(attributeInfo, Integer.valueOf(attributeLength));
+			}
+			
+			return attributeLength;
+		}
+		
+		return attributeInfo.getAttributeLength();
+	}
+	
+	private static int doGetSize(final ClassFile classFile, final Map<AttributeInfo, Integer> attributeLengths) {
+		int size = 10;
+		
+		for(final CPInfo cPInfo : classFile.getCPInfosView()) {
+			size += getSize(cPInfo);
+		}
+		
+		size += 8;
+		size += classFile.getInterfaceCount() * 2;
+		size += 2;
+		
+		for(final FieldInfo fieldInfo : classFile.getFieldInfosView()) {
+			size += 6 + doGetSize(fieldInfo.getAttributeInfosView(), attributeLengths);
+		}
+		
+		size += 2;
+		
+		for(final MethodInfo methodInfo : classFile.getMethodInfosView()) {
+			size += 6 + doGetSize(methodInfo.getAttributeInfosView(), attributeLengths);
+		}
+		
+		size += doGetSize(classFile.getAttributeInfosView(), attributeLengths);
+		
+		return size;
+	}
+	
+	private static int doGetSize(final List<AttributeInfo> attributeInfos, final Map<AttributeInfo, Integer> attributeLengths) {
+		int size = 2;
+		
+		for(final AttributeInfo attributeInfo : attributeInfos) {
+			size += 6 + doGetAttributeLength(attributeInfo, attributeLengths);
+		}
+		
+		return size;
+	}
+	
+	private static int doMeasure(final CPInfo cPInfo) {
+		final DataOutputStream dataOutputStream = new DataOutputStream(new OutputStream() {
+			@Override
+			public void write(final byte[] b, final int off, final int len) {
+				
+			}
+			
+			@Override
+			public void write(final int b) {
+				
+			}
+		});
+		
+		cPInfo.write(dataOutputStream);
+		
+		return dataOutputStream.size();
+	}
+	
+	private static void doWrite(final AttributeInfo attributeInfo, final ByteBufferDataOutput byteBufferDataOutput, final Map<AttributeInfo, Integer> attributeLengths) throws IOException {
+		final Integer attributeLength = attributeLengths.get(attributeInfo);
+		
+		if(attributeLength != null) {
+			final CodeAttribute codeAttribute = CodeAttribute.class.cast(attributeInfo);
+			
+			byteBufferDataOutput.writeShort(codeAttribute.getAttributeNameIndex());
+			byteBufferDataOutput.writeInt(attributeLength.intValue());
+			byteBufferDataOutput.writeShort(codeAttribute.getMaxStack());
+			byteBufferDataOutput.writeShort(codeAttribute.getMaxLocals());
+			byteBufferDataOutput.writeInt(codeAttribute.getCodeLength());
+			
+			codeAttribute.writeCode(byteBufferDataOutput);
+			
+			byteBufferDataOutput.writeShort(codeAttribute.getExceptionTableLength());
+			
+			for(final ExceptionHandler exceptionHandler : codeAttribute.getExceptionHandlersView()) {
+				exceptionHandler.write(byteBufferDataOutput);
+			}
+			
+			doWrite(codeAttribute.getAttributeInfosView(), byteBufferDataOutput, attributeLengths);
+		} else {
+			attributeInfo.write(byteBufferDataOutput);
+		}
+	}
+	
+	private static void doWrite(final ClassFile classFile, final ByteBuffer byteBuffer, final int size, final Map<AttributeInfo, Integer> attributeLengths) {
+		final int position = byteBuffer.position();
+		
+		final ByteBuffer duplicate = byteBuffer.duplicate();
+		
+		duplicate.limit(position + size);
+		
+		final ByteBufferDataOutput byteBufferDataOutput = new ByteBufferDataOutput(duplicate);
+		
+		try {
+			byteBufferDataOutput.writeInt(0xCAFEBABE);
+			byteBufferDataOutput.writeShort(classFile.getMinorVersion());
+			byteBufferDataOutput.writeShort(classFile.getMajorVersion());
+			byteBufferDataOutput.writeShort(classFile.getCPInfoCount());
+			
+			for(final CPInfo cPInfo : classFile.getCPInfosView()) {
+				cPInfo.write(byteBufferDataOutput);
+			}
+			
+			byteBufferDataOutput.writeShort(classFile.getAccessFlags());
+			byteBufferDataOutput.writeShort(classFile.getThisClass());
+			byteBufferDataOutput.writeShort(classFile.getSuperClass());
+			byteBufferDataOutput.writeShort(classFile.getInterfaceCount());
+			
+			for(final Integer index : classFile.getInterfacesView()) {
+				byteBufferDataOutput.writeShort(index.intValue());
+			}
+			
+			byteBufferDataOutput.writeShort(classFile.getFieldInfoCount());
+			
+			for(final FieldInfo fieldInfo : classFile.getFieldInfosView()) {
+				byteBufferDataOutput.writeShort(fieldInfo.getAccessFlags());
+				byteBufferDataOutput.writeShort(fieldInfo.getNameIndex());
+				byteBufferDataOutput.writeShort(fieldInfo.getDescriptorIndex());
+				
+				doWrite(fieldInfo.getAttributeInfosView(), byteBufferDataOutput, attributeLengths);
+			}
+			
+			byteBufferDataOutput.writeShort(classFile.getMethodInfoCount());
+			
+			for(final MethodInfo methodInfo : classFile.getMethodInfosView()) {
+				byteBufferDataOutput.writeShort(methodInfo.getAccessFlags());
+				byteBufferDataOutput.writeShort(methodInfo.getNameIndex());
+				byteBufferDataOutput.writeShort(methodInfo.getDescriptorIndex());
+				
+				doWrite(methodInfo.getAttributeInfosView(), byteBufferDataOutput, attributeLengths);
+			}
+			
+			doWrite(classFile.getAttributeInfosView(), byteBufferDataOutput, attributeLengths);
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		if(duplicate.hasRemaining()) {
+			throw new IllegalStateException(String.format("The ClassFile was %s byte(s) shorter than its computed size of %s byte(s).", Integer.toString(duplicate.remaining()), Integer.toString(size)));
+		}
+		
+		byteBuffer.position(position + size);
+	}
+	
+	private static void doWrite(final List<AttributeInfo> attributeInfos, final ByteBufferDataOutput byteBufferDataOutput, final Map<AttributeInfo, Integer> attributeLengths) throws IOException {
+		byteBufferDataOutput.writeShort(attributeInfos.size());
+		
+		for(final AttributeInfo attributeInfo : attributeInfos) {
+			doWrite(attributeInfo, byteBufferDataOutput, attributeLengths);
+		}
+	}
+}
\ No newline at end of file
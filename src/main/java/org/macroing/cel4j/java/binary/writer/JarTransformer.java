@@ -0,0 +1,709 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.writer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import org.macroing.cel4j.util.ParameterArguments;
+
+/**
+ * A {@code JarTransformer} is used for transforming all class files in a JAR or ZIP file and writing the result to a new JAR or ZIP file.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * A JAR file is transformed by three stages that run at the same time. The first stage reads the raw entries of the source file on a thread of its own. The second stage decompresses, transforms and compresses each class file in a
+ * {@code ForkJoinPool}, using a {@link ClassFileTransformer}. The third stage runs on the calling thread and writes the entries to the target file. The stages are connected by a bounded queue of pending entries. If the writing falls behind,
+ * the reading blocks, so no more than a fixed number of entries are held in memory at the same time.
+ * <p>
+ * The entries are written in the same order as they appear in the source file. Entries that are not class files, and class files that were not changed by the {@link ClassFileEdit}, are copied without being decompressed or compressed
+ * again. The names, timestamps, comments and extra fields of all entries are preserved.
+ * <p>
+ * Because the entries are copied as they are, signature files in the {@code META-INF} directory are copied as well, even though the signatures no longer match the transformed class files.
+ * <p>
+ * The ZIP64 format is not supported.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * JarTransformer jarTransformer = new JarTransformer();
+ * 
+ * int count = jarTransformer.transform(Paths.get("application.jar"), Paths.get("application-transformed.jar"), classFile -> {
+ *     classFile.setFinal(true);
+ * });
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class JarTransformer {
+	private static final Future<Output> END = CompletableFuture.completedFuture(null);
+	private static final int SIGNATURE_CENTRAL_DIRECTORY = 0x02014B50;
+	private static final int SIGNATURE_END_OF_CENTRAL_DIRECTORY = 0x06054B50;
+	private static final int SIGNATURE_LOCAL_FILE_HEADER = 0x04034B50;
+	private static final int METHOD_DEFLATED = 8;
+	private static final int METHOD_STORED = 0;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final ClassFileTransformer classFileTransformer;
+	private final ForkJoinPool forkJoinPool;
+	private final int capacity;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code JarTransformer} instance.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new JarTransformer(new ClassFileTransformer());
+	 * }
+	 * </pre>
+	 */
+	public JarTransformer() {
+		this(new ClassFileTransformer());
+	}
+	
+	/**
+	 * Constructs a new {@code JarTransformer} instance.
+	 * <p>
+	 * If {@code classFileTransformer} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new JarTransformer(classFileTransformer, ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors() * 4);
+	 * }
+	 * </pre>
+	 * 
+	 * @param classFileTransformer the {@link ClassFileTransformer} to transform the class files with
+	 * @throws NullPointerException thrown if, and only if, {@code classFileTransformer} is {@code null}
+	 */
+	public JarTransformer(final ClassFileTransformer classFileTransformer) {
+		this(classFileTransformer, ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors() * 4);
+	}
+	
+	/**
+	 * Constructs a new {@code JarTransformer} instance.
+	 * <p>
+	 * If either {@code classFileTransformer} or {@code forkJoinPool} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code capacity} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * The {@code capacity} is the maximum number of entries that have been read but not yet written. It bounds both the memory that is used and the number of class files that are transformed at the same time.
+	 * 
+	 * @param classFileTransformer the {@link ClassFileTransformer} to transform the class files with
+	 * @param forkJoinPool the {@code ForkJoinPool} to transform the class files in
+	 * @param capacity the maximum number of entries that have been read but not yet written
+	 * @throws IllegalArgumentException thrown if, and only if, {@code capacity} is less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, either {@code classFileTransformer} or {@code forkJoinPool} are {@code null}
+	 */
+	public JarTransformer(final ClassFileTransformer classFileTransformer, final ForkJoinPool forkJoinPool, final int capacity) {
+		this.classFileTransformer = Objects.requireNonNull(classFileTransformer, "classFileTransformer == null");
+		this.forkJoinPool = Objects.requireNonNull(forkJoinPool, "forkJoinPool == null");
+		this.capacity = ParameterArguments.requireRange(capacity, 1, Integer.MAX_VALUE, "capacity");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Transforms all class files in the JAR or ZIP file {@code source} using {@code classFileEdit} and writes the result to {@code target}.
+	 * <p>
+	 * Returns the number of entries that were written.
+	 * <p>
+	 * If either {@code source}, {@code target} or {@code classFileEdit} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code source} and {@code target} denote the same file, an {@code IllegalArgumentException} will be thrown.
+	 * <p>
+	 * If {@code source} cannot be read, {@code target} cannot be written or either of them requires the ZIP64 format, an {@code UncheckedIOException} will be thrown.
+	 * <p>
+	 * An entry is transformed if its name ends with {@code ".class"} and it is either stored or deflated, but not encrypted. If a class file cannot be read or {@code classFileEdit} throws an exception, that exception is thrown by this method.
+	 * <p>
+	 * If this method throws an exception, the file {@code target} is deleted.
+	 * <p>
+	 * The {@code classFileEdit} is called from the threads of the {@code ForkJoinPool}, possibly for many class files at the same time. So it has to be thread-safe.
+	 * 
+	 * @param source the {@code Path} to the JAR or ZIP file to read
+	 * @param target the {@code Path} to the JAR or ZIP file to write
+	 * @param classFileEdit the {@link ClassFileEdit} that modifies each class file
+	 * @return the number of entries that were written
+	 * @throws IllegalArgumentException thrown if, and only if, {@code source} and {@code target} denote the same file
+	 * @throws NullPointerException thrown if, and only if, either {@code source}, {@code target} or {@code classFileEdit} are {@code null}
+	 * @throws UncheckedIOException thrown if, and only if, {@code source} cannot be read, {@code target} cannot be written or either of them requires the ZIP64 format
+	 */
+	public int transform(final Path source, final Path target, final ClassFileEdit classFileEdit) {
+		Objects.requireNonNull(source, "source == null");
+		Objects.requireNonNull(target, "target == null");
+		Objects.requireNonNull(classFileEdit, "classFileEdit == null");
+		
+		try(final FileChannel fileChannel = FileChannel.open(source, StandardOpenOption.READ)) {
+			if(Files.exists(target) && Files.isSameFile(source, target)) {
+				throw new IllegalArgumentException(String.format("The source and target denote the same file: %s", source));
+			}
+			
+			final CentralDirectory centralDirectory = CentralDirectory.read(fileChannel);
+			
+			final BlockingQueue<Future<Output>> queue = new ArrayBlockingQueue<>(this.capacity);
+			
+			final Thread thread = new Thread(() -> doReadEntries(fileChannel, centralDirectory.getRecords(), queue, classFileEdit), "JarTransformer-Reader");
+			
+			thread.setDaemon(true);
+			thread.start();
+			
+			try {
+				return doWrite(target, centralDirectory, queue);
+			} catch(final IOException | RuntimeException | Error e) {
+				thread.interrupt();
+				
+				for(final Future<Output> future : queue) {
+					future.cancel(false);
+				}
+				
+				doJoin(thread);
+				doDelete(target);
+				
+				throw e;
+			}
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private Output doTransform(final Record record, final byte[] data, final ClassFileEdit classFileEdit) throws IOException {
+		final byte[] bytes = record.getMethod() == METHOD_STORED ? data : doInflate(data, record.getUncompressedSize());
+		final byte[] transformedBytes = this.classFileTransformer.transform(bytes, classFileEdit);
+		
+		if(Arrays.equals(bytes, transformedBytes)) {
+			return Output.copy(record, data);
+		}
+		
+		final CRC32 cRC32 = new CRC32();
+		
+		cRC32.update(transformedBytes, 0, transformedBytes.length);
+		
+		final byte[] compressedBytes = record.getMethod() == METHOD_STORED ? transformedBytes : doDeflate(transformedBytes);
+		
+		return new Output(record, compressedBytes, record.getFlags() & ~0x000E, cRC32.getValue(), transformedBytes.length);
+	}
+	
+	private Future<Output> doSubmit(final Record record, final byte[] data, final ClassFileEdit classFileEdit) {
+		final CompletableFuture<Output> completableFuture = new CompletableFuture<>();
+		
+		this.forkJoinPool.execute(() -> {
+			if(completableFuture.isDone()) {
+				return;
+			}
+			
+			try {
+				completableFuture.complete(doTransform(record, data, classFileEdit));
+			} catch(final IOException | RuntimeException | Error e) {
+				completableFuture.completeExceptionally(e);
+			}
+		});
+		
+		return completableFuture;
+	}
+	
+	private void doReadEntries(final FileChannel fileChannel, final List<Record> records, final BlockingQueue<Future<Output>> queue, final ClassFileEdit classFileEdit) {
+		try {
+			try {
+				for(final Record record : records) {
+					final byte[] data = doReadData(fileChannel, record);
+					
+					if(record.isClassFile()) {
+						queue.put(doSubmit(record, data, classFileEdit));
+					} else {
+						queue.put(CompletableFuture.completedFuture(Output.copy(record, data)));
+					}
+				}
+				
+				queue.put(END);
+			} catch(final IOException | RuntimeException e) {
+				final CompletableFuture<Output> completableFuture = new CompletableFuture<>();
+				
+				completableFuture.completeExceptionally(e);
+				
+				queue.put(completableFuture);
+			}
+		} catch(final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static Output doTake(final BlockingQueue<Future<Output>> queue) throws IOException {
+		try {
+			final Future<Output> future = queue.take();
+			
+			return future == END ? null : future.get();
+		} catch(final ExecutionException e) {
+			final Throwable cause = e.getCause();
+			
+			if(cause instanceof RuntimeException) {
+				throw RuntimeException.class.cast(cause);
+			} else if(cause instanceof Error) {
+				throw Error.class.cast(cause);
+			} else if(cause instanceof IOException) {
+				throw IOException.class.cast(cause);
+			} else {
+				throw new IOException(cause);
+			}
+		} catch(final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			
+			throw new InterruptedIOException("Interrupted while waiting for an entry.");
+		}
+	}
+	
+	private static byte[] doDeflate(final byte[] bytes) {
+		final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			
+			byte[] compressedBytes = new byte[Math.max(64, bytes.length / 2)];
+			
+			int length = 0;
+			
+			while(!deflater.finished()) {
+				if(length == compressedBytes.length) {
+					compressedBytes = Arrays.copyOf(compressedBytes, compressedBytes.length * 2);
+				}
+				
+				length += deflater.deflate(compressedBytes, length, compressedBytes.length - length);
+			}
+			
+			return Arrays.copyOf(compressedBytes, length);
+		} finally {
+			deflater.end();
+		}
+	}
+	
+	private static byte[] doInflate(final byte[] data, final long uncompressedSize) throws IOException {
+		if(uncompressedSize > Integer.MAX_VALUE - 8) {
+			throw new ZipException(String.format("The entry is too large: %s", Long.toString(uncompressedSize)));
+		}
+		
+		final Inflater inflater = new Inflater(true);
+		
+		try {
+			inflater.setInput(data);
+			
+			final byte[] bytes = new byte[(int)(uncompressedSize)];
+			
+			int length = 0;
+			
+			while(length < bytes.length && !inflater.finished()) {
+				final int count = inflater.inflate(bytes, length, bytes.length - length);
+				
+				if(count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new ZipException("The compressed data of the entry is truncated.");
+				}
+				
+				length += count;
+			}
+			
+			if(length != bytes.length) {
+				throw new ZipException(String.format("The entry has %s byte(s), but %s byte(s) were expected.", Integer.toString(length), Integer.toString(bytes.length)));
+			}
+			
+			return bytes;
+		} catch(final DataFormatException e) {
+			throw new ZipException(e.getMessage());
+		} finally {
+			inflater.end();
+		}
+	}
+	
+	private static byte[] doReadData(final FileChannel fileChannel, final Record record) throws IOException {
+		final ByteBuffer header = doRead(fileChannel, record.getLocalHeaderOffset(), 30);
+		
+		if(header.getInt(0) != SIGNATURE_LOCAL_FILE_HEADER) {
+			throw new ZipException(String.format("Invalid local file header: %s", record.getName()));
+		}
+		
+		final int nameLength = header.getShort(26) & 0xFFFF;
+		final int extraLength = header.getShort(28) & 0xFFFF;
+		
+		record.setLocalExtra(doRead(fileChannel, record.getLocalHeaderOffset() + 30L + nameLength, extraLength).array());
+		
+		return doRead(fileChannel, record.getLocalHeaderOffset() + 30L + nameLength + extraLength, (int)(record.getCompressedSize())).array();
+	}
+	
+	private static int doWrite(final Path target, final CentralDirectory centralDirectory, final BlockingQueue<Future<Output>> queue) throws IOException {
+		try(final OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(target), 65536)) {
+			final List<byte[]> centralDirectoryHeaders = new ArrayList<>(centralDirectory.getRecords().size());
+			
+			long offset = 0L;
+			
+			for(Output output = doTake(queue); output != null; output = doTake(queue)) {
+				final Record record = output.getRecord();
+				
+				doRequireZIP32(offset);
+				
+				final byte[] name = record.getName();
+				final byte[] localExtra = record.getLocalExtra();
+				
+				final ByteBuffer header = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN);
+				
+				header.putInt(SIGNATURE_LOCAL_FILE_HEADER);
+				header.putShort((short)(record.getVersionNeeded()));
+				header.putShort((short)(output.getFlags()));
+				header.putShort((short)(record.getMethod()));
+				header.putInt(record.getModificationTime());
+				header.putInt((int)(output.getCRC()));
+				header.putInt(output.getData().length);
+				header.putInt((int)(output.getUncompressedSize()));
+				header.putShort((short)(name.length));
+				header.putShort((short)(localExtra.length));
+				
+				outputStream.write(header.array());
+				outputStream.write(name);
+				outputStream.write(localExtra);
+				outputStream.write(output.getData());
+				
+				centralDirectoryHeaders.add(record.createCentralDirectoryHeader(output, offset));
+				
+				offset += 30L + name.length + localExtra.length + output.getData().length;
+			}
+			
+			doRequireZIP32(offset);
+			
+			long centralDirectorySize = 0L;
+			
+			for(final byte[] centralDirectoryHeader : centralDirectoryHeaders) {
+				outputStream.write(centralDirectoryHeader);
+				
+				centralDirectorySize += centralDirectoryHeader.length;
+			}
+			
+			doRequireZIP32(centralDirectorySize);
+			
+			final byte[] comment = centralDirectory.getComment();
+			
+			final ByteBuffer endOfCentralDirectory = ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN);
+			
+			endOfCentralDirectory.putInt(SIGNATURE_END_OF_CENTRAL_DIRECTORY);
+			endOfCentralDirectory.putShort((short)(0));
+			endOfCentralDirectory.putShort((short)(0));
+			endOfCentralDirectory.putShort((short)(centralDirectoryHeaders.size()));
+			endOfCentralDirectory.putShort((short)(centralDirectoryHeaders.size()));
+			endOfCentralDirectory.putInt((int)(centralDirectorySize));
+			endOfCentralDirectory.putInt((int)(offset));
+			endOfCentralDirectory.putShort((short)(comment.length));
+			
+			outputStream.write(endOfCentralDirectory.array());
+			outputStream.write(comment);
+			
+			return centralDirectoryHeaders.size();
+		}
+	}
+	
+	private static ByteBuffer doRead(final FileChannel fileChannel, final long position, final int length) throws IOException {
+		final ByteBuffer byteBuffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		
+		while(byteBuffer.hasRemaining()) {
+			if(fileChannel.read(byteBuffer, position + byteBuffer.position()) < 0) {
+				throw new ZipException("Unexpected end of file.");
+			}
+		}
+		
+		return byteBuffer;
+	}
+	
+	private static void doDelete(final Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch(final IOException e) {
+			
+		}
+	}
+	
+	private static void doJoin(final Thread thread) {
+		boolean isInterrupted = false;
+		
+		while(thread.isAlive()) {
+			try {
+				thread.join();
+			} catch(final InterruptedException e) {
+				isInterrupted = true;
+			}
+		}
+		
+		if(isInterrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+	
+	private static void doRequireZIP32(final long value) throws ZipException {
+		if(value > 0xFFFFFFFFL) {
+			throw new ZipException("The ZIP64 format is not supported.");
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class CentralDirectory {
+		private final List<Record> records;
+		private final byte[] comment;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public CentralDirectory(final List<Record> records, final byte[] comment) {
+			this.records = records;
+			this.comment = comment;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public List<Record> getRecords() {
+			return this.records;
+		}
+		
+		public byte[] getComment() {
+			return this.comment;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public static CentralDirectory read(final FileChannel fileChannel) throws IOException {
+			final long size = fileChannel.size();
+			
+			final int tailLength = (int)(Math.min(size, 22L + 65535L));
+			
+			final ByteBuffer tail = doRead(fileChannel, size - tailLength, tailLength);
+			
+			for(int i = tailLength - 22; i >= 0; i--) {
+				if(tail.getInt(i) == SIGNATURE_END_OF_CENTRAL_DIRECTORY && i + 22 + (tail.getShort(i + 20) & 0xFFFF) == tailLength) {
+					final int recordCount = tail.getShort(i + 10) & 0xFFFF;
+					
+					final long centralDirectorySize = tail.getInt(i + 12) & 0xFFFFFFFFL;
+					final long centralDirectoryOffset = tail.getInt(i + 16) & 0xFFFFFFFFL;
+					
+					if(recordCount == 0xFFFF || centralDirectorySize == 0xFFFFFFFFL || centralDirectoryOffset == 0xFFFFFFFFL || tail.getShort(i + 4) != 0 || tail.getShort(i + 6) != 0) {
+						throw new ZipException("The ZIP64 format and multi-disk archives are not supported.");
+					}
+					
+					final byte[] comment = new byte[tailLength - i - 22];
+					
+					tail.position(i + 22);
+					tail.get(comment);
+					
+					return new CentralDirectory(doReadRecords(fileChannel, centralDirectoryOffset, centralDirectorySize, recordCount), comment);
+				}
+			}
+			
+			throw new ZipException("The end of central directory record could not be found.");
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private static List<Record> doReadRecords(final FileChannel fileChannel, final long centralDirectoryOffset, final long centralDirectorySize, final int recordCount) throws IOException {
+			if(centralDirectorySize > Integer.MAX_VALUE) {
+				throw new ZipException("The central directory is too large.");
+			}
+			
+			final ByteBuffer byteBuffer = doRead(fileChannel, centralDirectoryOffset, (int)(centralDirectorySize));
+			
+			final List<Record> records = new ArrayList<>(recordCount);
+			
+			for(int i = 0, offset = 0; i < recordCount; i++) {
+				if(offset + 46 > byteBuffer.capacity() || byteBuffer.getInt(offset) != SIGNATURE_CENTRAL_DIRECTORY) {
+					throw new ZipException(String.format("Invalid central directory header at index %s.", Integer.toString(i)));
+				}
+				
+				final int length = 46 + (byteBuffer.getShort(offset + 28) & 0xFFFF) + (byteBuffer.getShort(offset + 30) & 0xFFFF) + (byteBuffer.getShort(offset + 32) & 0xFFFF);
+				
+				if(offset + length > byteBuffer.capacity()) {
+					throw new ZipException(String.format("Invalid central directory header at index %s.", Integer.toString(i)));
+				}
+				
+				final byte[] centralDirectoryHeader = new byte[length];
+				
+				byteBuffer.position(offset);
+				byteBuffer.get(centralDirectoryHeader);
+				
+				records.add(new Record(centralDirectoryHeader));
+				
+				offset += length;
+			}
+			
+			return records;
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Output {
+		private final Record record;
+		private final byte[] data;
+		private final int flags;
+		private final long cRC;
+		private final long uncompressedSize;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Output(final Record record, final byte[] data, final int flags, final long cRC, final long uncompressedSize) {
+			this.record = record;
+			this.data = data;
+			this.flags = flags;
+			this.cRC = cRC;
+			this.uncompressedSize = uncompressedSize;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Record getRecord() {
+			return this.record;
+		}
+		
+		public byte[] getData() {
+			return this.data;
+		}
+		
+		public int getFlags() {
+			return this.flags;
+		}
+		
+		public long getCRC() {
+			return this.cRC;
+		}
+		
+		public long getUncompressedSize() {
+			return this.uncompressedSize;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public static Output copy(final Record record, final byte[] data) {
+			return new Output(record, data, record.getFlags() & ~0x0008, record.getCRC(), record.getUncompressedSize());
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Record {
+		private final ByteBuffer centralDirectoryHeader;
+		private byte[] localExtra;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Record(final byte[] centralDirectoryHeader) {
+			this.centralDirectoryHeader = ByteBuffer.wrap(centralDirectoryHeader).order(ByteOrder.LITTLE_ENDIAN);
+			this.localExtra = new byte[0];
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public boolean isClassFile() {
+			final byte[] name = getName();
+			
+			return name.length > 6 && new String(name, name.length - 6, 6, StandardCharsets.ISO_8859_1).equals(".class") && (getFlags() & 0x0001) == 0 && (getMethod() == METHOD_STORED || getMethod() == METHOD_DEFLATED);
+		}
+		
+		public byte[] createCentralDirectoryHeader(final Output output, final long localHeaderOffset) {
+			final ByteBuffer byteBuffer = ByteBuffer.wrap(this.centralDirectoryHeader.array().clone()).order(ByteOrder.LITTLE_ENDIAN);
+			
+			byteBuffer.putShort(8, (short)(output.getFlags()));
+			byteBuffer.putInt(16, (int)(output.getCRC()));
+			byteBuffer.putInt(20, output.getData().length);
+			byteBuffer.putInt(24, (int)(output.getUncompressedSize()));
+			byteBuffer.putInt(42, (int)(localHeaderOffset));
+			
+			return byteBuffer.array();
+		}
+		
+		public byte[] getLocalExtra() {
+			return this.localExtra;
+		}
+		
+		public byte[] getName() {
+			return Arrays.copyOfRange(this.centralDirectoryHeader.array(), 46, 46 + (this.centralDirectoryHeader.getShort(28) & 0xFFFF));
+		}
+		
+		public int getFlags() {
+			return this.centralDirectoryHeader.getShort(8) & 0xFFFF;
+		}
+		
+		public int getMethod() {
+			return this.centralDirectoryHeader.getShort(10) & 0xFFFF;
+		}
+		
+		public int getModificationTime() {
+			return this.centralDirectoryHeader.getInt(12);
+		}
+		
+		public int getVersionNeeded() {
+			return this.centralDirectoryHeader.getShort(6) & 0xFFFF;
+		}
+		
+		public long getCRC() {
+			return this.centralDirectoryHeader.getInt(16) & 0xFFFFFFFFL;
+		}
+		
+		public long getCompressedSize() {
+			return this.centralDirectoryHeader.getInt(20) & 0xFFFFFFFFL;
+		}
+		
+		public long getLocalHeaderOffset() {
+			return this.centralDirectoryHeader.getInt(42) & 0xFFFFFFFFL;
+		}
+		
+		public long getUncompressedSize() {
+			return this.centralDirectoryHeader.getInt(24) & 0xFFFFFFFFL;
+		}
+		
+		public void setLocalExtra(final byte[] localExtra) {
+			this.localExtra = localExtra;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+/**
+ * Provides the Java Binary Writer API.
+ * <p>
+ * The Java Binary Writer API is used for writing instances of the {@link org.macroing.cel4j.java.binary.classfile.ClassFile ClassFile} class into sequences of bytes, that matches the ClassFile format of the Java Virtual Machine Specifications.
+ * <h3>ClassFileWriter</h3>
+ * The {@link org.macroing.cel4j.java.binary.writer.ClassFileWriter ClassFileWriter} class computes the size of a {@code ClassFile} instance first and then writes it into a single buffer of exactly that size.
+ * <h3>ClassFileTransformer</h3>
+ * The {@link org.macroing.cel4j.java.binary.writer.ClassFileTransformer ClassFileTransformer} class applies a {@link org.macroing.cel4j.java.binary.writer.ClassFileEdit ClassFileEdit} to a sequence of bytes and copies the original bytes of everything the edit did not touch.
+ * <h3>JarTransformer</h3>
+ * The {@link org.macroing.cel4j.java.binary.writer.JarTransformer JarTransformer} class applies a {@code ClassFileEdit} to every class file in a JAR file in parallel and writes a new JAR file, copying all other entries without compressing them again.
+ * <h3>ClassFileShrinker</h3>
+ * The {@link org.macroing.cel4j.java.binary.writer.ClassFileShrinker ClassFileShrinker} class removes the unused entries of the {@code constant_pool} of a class and remaps all indices in a single pass over its sequence of bytes, optionally stripping its debug attributes.
+ */
+package org.macroing.cel4j.java.binary.writer;
\ No newline at end of file
@@ -18,8 +18,6 @@
  */
 package org.macroing.cel4j.java.model;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -29,10 +27,6 @@ import java.util.Objects;
  * @author J&#246;rgen Lundgren
  */
 public final class ArrayType extends Type {
-	private static final Map<String, ArrayType> ARRAY_TYPES = new HashMap<>();
-	
-	////////////////////////////////////////////////////////////////////////////////////////////////////
-	
 	private final Type componentType;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -130,7 +124,12 @@ public final class ArrayType extends Type {
 	 * <p>
 	 * If {@code clazz.isArray() == false}, a {@code TypeException} will be thrown.
 	 * <p>
-	 * This method will cache all {@code ArrayType} instances.
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * ArrayType.valueOf(clazz, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param clazz a {@code Class} instance
 	 * @return an {@code ArrayType} instance that represents {@code clazz}
@@ -138,45 +137,98 @@ public final class ArrayType extends Type {
 	 * @throws TypeException thrown if, and only if, {@code clazz.isArray() == false}
 	 */
 	public static ArrayType valueOf(final Class<?> clazz) {
+		return valueOf(clazz, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns an {@code ArrayType} instance that represents {@code clazz} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code clazz} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code clazz.isArray() == false}, or the class file of its component type cannot be read, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The {@code ArrayType} instance is cached by {@code typeRepository}.
+	 * 
+	 * @param clazz a {@code Class} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return an {@code ArrayType} instance that represents {@code clazz} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code clazz} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, {@code clazz.isArray() == false}, or the class file of its component type cannot be read
+	 */
+	public static ArrayType valueOf(final Class<?> clazz, final TypeRepository typeRepository) {
 		Objects.requireNonNull(clazz, "clazz == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
 		
 		if(!clazz.isArray()) {
 			throw new TypeException(String.format("An ArrayType must refer to an array type: %s", clazz));
 		}
 		
-		synchronized(ARRAY_TYPES) {
-			return ARRAY_TYPES.computeIfAbsent(clazz.getName(), name -> new ArrayType(Type.valueOf(clazz.getComponentType())));
-		}
+		return ArrayType.class.cast(typeRepository.getType(clazz));
 	}
 	
 	/**
-	 * Returns an {@code ArrayType} instance that represents {@code Class.forName(className)}.
+	 * Returns an {@code ArrayType} instance that represents the array type denoted by {@code className}.
 	 * <p>
 	 * If {@code className} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code Class.forName(className)} fails or {@code Class.forName(className).isArray() == false}, a {@code TypeException} will be thrown.
+	 * If {@code className} does not denote an array type or its component type cannot be resolved, a {@code TypeException} will be thrown.
 	 * <p>
-	 * This method will cache all {@code ArrayType} instances.
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * ArrayType.valueOf(className, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
-	 * @param className the fully qualified name of the desired class
-	 * @return an {@code ArrayType} instance that represents {@code Class.forName(className)}
+	 * @param className the name of the desired array type
+	 * @return an {@code ArrayType} instance that represents the array type denoted by {@code className}
 	 * @throws NullPointerException thrown if, and only if, {@code className} is {@code null}
-	 * @throws TypeException thrown if, and only if, {@code Class.forName(className)} fails or {@code Class.forName(className).isArray() == false}
+	 * @throws TypeException thrown if, and only if, {@code className} does not denote an array type or its component type cannot be resolved
 	 */
 	public static ArrayType valueOf(final String className) {
-		try {
-			return valueOf(Class.forName(Objects.requireNonNull(className, "className == null")));
-		} catch(final ClassNotFoundException | LinkageError e) {
-			throw new TypeException(e);
+		return valueOf(className, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns an {@code ArrayType} instance that represents the array type denoted by {@code className} in the context of {@code typeRepository}.
+	 * <p>
+	 * The array type may be given as the name of its component type followed by {@code "[]"}, such as {@code "java.lang.String[]"}, or in the form returned by {@code Class.getName()}, such as {@code "[Ljava.lang.String;"}. No class is
+	 * loaded.
+	 * <p>
+	 * If either {@code className} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code className} does not denote an array type or its component type cannot be resolved, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The {@code ArrayType} instance is cached by {@code typeRepository}.
+	 * 
+	 * @param className the name of the desired array type
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return an {@code ArrayType} instance that represents the array type denoted by {@code className} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code className} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, {@code className} does not denote an array type or its component type cannot be resolved
+	 */
+	public static ArrayType valueOf(final String className, final TypeRepository typeRepository) {
+		Objects.requireNonNull(className, "className == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
+		
+		if(!className.startsWith("[") && !className.endsWith("[]")) {
+			throw new TypeException(String.format("An ArrayType must refer to an array type: %s", className));
 		}
+		
+		return ArrayType.class.cast(typeRepository.getType(className));
 	}
 	
 	/**
-	 * Clears the cache.
+	 * Clears the cache of the default {@link TypeRepository}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * TypeRepository.getDefault().clear();
+	 * }
+	 * </pre>
 	 */
 	public static void clearCache() {
-		synchronized(ARRAY_TYPES) {
-			ARRAY_TYPES.clear();
-		}
+		TypeRepository.getDefault().clear();
 	}
 }
\ No newline at end of file
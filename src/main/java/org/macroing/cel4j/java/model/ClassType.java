@@ -20,15 +20,11 @@ package org.macroing.cel4j.java.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
 import org.macroing.cel4j.java.binary.classfile.ClassFile;
@@ -42,8 +38,6 @@ import org.macroing.cel4j.java.binary.classfile.signature.SuperClassSignature;
 import org.macroing.cel4j.java.binary.classfile.signature.SuperInterfaceSignature;
 import org.macroing.cel4j.java.binary.classfile.signature.TypeParameters;
 import org.macroing.cel4j.java.binary.classfile.support.MethodInfos;
-import org.macroing.cel4j.java.binary.reader.ClassFileReader;
-import org.macroing.cel4j.node.NodeFormatException;
 
 /**
  * A {@code ClassType} is a {@link Type} implementation that represents a class type.
@@ -52,69 +46,38 @@ import org.macroing.cel4j.node.NodeFormatException;
  * @author J&#246;rgen Lundgren
  */
 public final class ClassType extends Type {
-	private static final Map<String, ClassFile> CLASS_FILES = new HashMap<>();
-	private static final Map<String, ClassType> CLASS_TYPES = new HashMap<>();
+	private final ClassFile classFile;
+	private final Lazy<List<Constructor>> constructors;
+	private final Lazy<List<Field>> fields;
+	private final Lazy<List<InnerType>> innerTypes;
+	private final Lazy<List<InterfaceType>> interfaceTypes;
+	private final Lazy<List<Method>> methods;
+	private final Lazy<List<Modifier>> modifiers;
+	private final Lazy<List<SuperInterfaceSignature>> superInterfaceSignatures;
+	private final Lazy<List<Type>> importableTypes;
+	private final Lazy<Optional<ClassSignature>> classSignature;
+	private final Lazy<Optional<SuperClassSignature>> superClassSignature;
+	private final Lazy<Optional<TypeParameters>> typeParameters;
+	private final Lazy<String> externalName;
+	private final TypeRepository typeRepository;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	private final AtomicBoolean hasInitializedClassFile;
-	private final AtomicBoolean hasInitializedClassSignature;
-	private final AtomicBoolean hasInitializedConstructors;
-	private final AtomicBoolean hasInitializedExternalName;
-	private final AtomicBoolean hasInitializedFields;
-	private final AtomicBoolean hasInitializedImportableTypes;
-	private final AtomicBoolean hasInitializedInnerTypes;
-	private final AtomicBoolean hasInitializedInterfaceTypes;
-	private final AtomicBoolean hasInitializedMethods;
-	private final AtomicBoolean hasInitializedModifiers;
-	private final AtomicBoolean hasInitializedSuperClassSignature;
-	private final AtomicBoolean hasInitializedSuperInterfaceSignatures;
-	private final AtomicBoolean hasInitializedTypeParameters;
-	private final AtomicReference<ClassFile> classFile;
-	private final AtomicReference<ClassSignature> classSignature;
-	private final AtomicReference<String> externalName;
-	private final AtomicReference<SuperClassSignature> superClassSignature;
-	private final AtomicReference<TypeParameters> typeParameters;
-	private final Class<?> clazz;
-	private final List<Constructor> constructors;
-	private final List<Field> fields;
-	private final List<InnerType> innerTypes;
-	private final List<InterfaceType> interfaceTypes;
-	private final List<Method> methods;
-	private final List<Modifier> modifiers;
-	private final List<SuperInterfaceSignature> superInterfaceSignatures;
-	private final List<Type> importableTypes;
-	
-	////////////////////////////////////////////////////////////////////////////////////////////////////
-	
-	private ClassType(final Class<?> clazz) {
-		this.hasInitializedClassFile = new AtomicBoolean();
-		this.hasInitializedClassSignature = new AtomicBoolean();
-		this.hasInitializedConstructors = new AtomicBoolean();
-		this.hasInitializedExternalName = new AtomicBoolean();
-		this.hasInitializedFields = new AtomicBoolean();
-		this.hasInitializedImportableTypes = new AtomicBoolean();
-		this.hasInitializedInnerTypes = new AtomicBoolean();
-		this.hasInitializedInterfaceTypes = new AtomicBoolean();
-		this.hasInitializedMethods = new AtomicBoolean();
-		this.hasInitializedModifiers = new AtomicBoolean();
-		this.hasInitializedSuperClassSignature = new AtomicBoolean();
-		this.hasInitializedSuperInterfaceSignatures = new AtomicBoolean();
-		this.hasInitializedTypeParameters = new AtomicBoolean();
-		this.classFile = new AtomicReference<>();
-		this.classSignature = new AtomicReference<>();
-		this.externalName = new AtomicReference<>();
-		this.superClassSignature = new AtomicReference<>();
-		this.typeParameters = new AtomicReference<>();
-		this.clazz = clazz;
-		this.constructors = new ArrayList<>();
-		this.fields = new ArrayList<>();
-		this.innerTypes = new ArrayList<>();
-		this.interfaceTypes = new ArrayList<>();
-		this.methods = new ArrayList<>();
-		this.modifiers = new ArrayList<>();
-		this.superInterfaceSignatures = new ArrayList<>();
-		this.importableTypes = new ArrayList<>();
+	ClassType(final ClassFile classFile, final TypeRepository typeRepository) {
+		this.classFile = classFile;
+		this.constructors = new Lazy<>(this::doComputeConstructors);
+		this.fields = new Lazy<>(this::doComputeFields);
+		this.innerTypes = new Lazy<>(this::doComputeInnerTypes);
+		this.interfaceTypes = new Lazy<>(this::doComputeInterfaceTypes);
+		this.methods = new Lazy<>(this::doComputeMethods);
+		this.modifiers = new Lazy<>(this::doComputeModifiers);
+		this.superInterfaceSignatures = new Lazy<>(this::doComputeSuperInterfaceSignatures);
+		this.importableTypes = new Lazy<>(this::doComputeImportableTypes);
+		this.classSignature = new Lazy<>(this::doComputeClassSignature);
+		this.superClassSignature = new Lazy<>(this::doComputeSuperClassSignature);
+		this.typeParameters = new Lazy<>(this::doComputeTypeParameters);
+		this.externalName = new Lazy<>(this::doComputeExternalName);
+		this.typeRepository = typeRepository;
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -125,9 +88,18 @@ public final class ClassType extends Type {
 	 * @return the {@code ClassFile} instance associated with this {@code ClassType} instance
 	 */
 	public ClassFile getClassFile() {
-		doInitializeClassFile();
-		
-		return this.classFile.get();
+		return this.classFile;
+	}
+	
+	/**
+	 * Returns the {@link TypeRepository} instance that created this {@code ClassType} instance.
+	 * <p>
+	 * All {@link Type} instances that are reachable from this {@code ClassType} instance are created by the same {@code TypeRepository}.
+	 * 
+	 * @return the {@code TypeRepository} instance that created this {@code ClassType} instance
+	 */
+	public TypeRepository getTypeRepository() {
+		return this.typeRepository;
 	}
 	
 	/**
@@ -149,9 +121,7 @@ public final class ClassType extends Type {
 	 * @return a {@code List} that contains all {@code Constructor} instances associated with this {@code ClassType} instance
 	 */
 	public List<Constructor> getConstructors() {
-		doInitializeConstructors();
-		
-		return new ArrayList<>(this.constructors);
+		return new ArrayList<>(this.constructors.get());
 	}
 	
 	/**
@@ -173,9 +143,7 @@ public final class ClassType extends Type {
 	 * @return a {@code List} that contains all {@code Field} instances associated with this {@code ClassType} instance
 	 */
 	public List<Field> getFields() {
-		doInitializeFields();
-		
-		return new ArrayList<>(this.fields);
+		return new ArrayList<>(this.fields.get());
 	}
 	
 	/**
@@ -197,9 +165,7 @@ public final class ClassType extends Type {
 	 * @return a {@code List} that contains all {@code InnerType} instances associated with this {@code ClassType} instance
 	 */
 	public List<InnerType> getInnerTypes() {
-		doInitializeInnerTypes();
-		
-		return new ArrayList<>(this.innerTypes);
+		return new ArrayList<>(this.innerTypes.get());
 	}
 	
 	/**
@@ -210,9 +176,7 @@ public final class ClassType extends Type {
 	 * @return a {@code List} that contains all {@code InterfaceType} instances associated with this {@code ClassType} instance
 	 */
 	public List<InterfaceType> getInterfaceTypes() {
-		doInitializeInterfaceTypes();
-		
-		return new ArrayList<>(this.interfaceTypes);
+		return new ArrayList<>(this.interfaceTypes.get());
 	}
 	
 	/**
@@ -223,9 +187,7 @@ public final class ClassType extends Type {
 	 * @return a {@code List} that contains all {@code Method} instances associated with this {@code ClassType} instance
 	 */
 	public List<Method> getMethods() {
-		doInitializeMethods();
-		
-		return new ArrayList<>(this.methods);
+		return new ArrayList<>(this.methods.get());
 	}
 	
 	/**
@@ -247,9 +209,7 @@ public final class ClassType extends Type {
 	 * @return a {@code List} that contains all {@code Modifier} instances associated with this {@code ClassType} instance
 	 */
 	public List<Modifier> getModifiers() {
-		doInitializeModifiers();
-		
-		return new ArrayList<>(this.modifiers);
+		return new ArrayList<>(this.modifiers.get());
 	}
 	
 	/**
@@ -261,9 +221,7 @@ public final class ClassType extends Type {
 	 */
 	@Override
 	public List<Type> getImportableTypes() {
-		doInitializeImportableTypes();
-		
-		return new ArrayList<>(this.importableTypes);
+		return new ArrayList<>(this.importableTypes.get());
 	}
 	
 	/**
@@ -274,9 +232,7 @@ public final class ClassType extends Type {
 	 * @return a {@code List} that contains all {@code SuperInterfaceSignature} instances associated with this {@code ClassType} instance
 	 */
 	public List<SuperInterfaceSignature> getSuperInterfaceSignatures() {
-		doInitializeSuperInterfaceSignatures();
-		
-		return new ArrayList<>(this.superInterfaceSignatures);
+		return new ArrayList<>(this.superInterfaceSignatures.get());
 	}
 	
 	/**
@@ -285,9 +241,7 @@ public final class ClassType extends Type {
 	 * @return the optional {@code ClassSignature} instance associated with this {@code ClassType} instance
 	 */
 	public Optional<ClassSignature> getOptionalClassSignature() {
-		doInitializeClassSignature();
-		
-		return Optional.ofNullable(this.classSignature.get());
+		return this.classSignature.get();
 	}
 	
 	/**
@@ -296,7 +250,7 @@ public final class ClassType extends Type {
 	 * @return the optional super {@code ClassType} instance associated with this {@code ClassType} instance
 	 */
 	public Optional<ClassType> getOptionalSuperClassType() {
-		return hasSuperClass() ? Optional.of(ClassType.valueOf(ClassName.parseClassNameSuperClass(getClassFile()).toExternalForm())) : Optional.empty();
+		return hasSuperClass() ? Optional.of(ClassType.valueOf(ClassName.parseClassNameSuperClass(getClassFile()).toExternalForm(), this.typeRepository)) : Optional.empty();
 	}
 	
 	/**
@@ -305,9 +259,7 @@ public final class ClassType extends Type {
 	 * @return the optional {@code SuperClassSignature} instance associated with this {@code ClassType} instance
 	 */
 	public Optional<SuperClassSignature> getOptionalSuperClassSignature() {
-		doInitializeSuperClassSignature();
-		
-		return Optional.ofNullable(this.superClassSignature.get());
+		return this.superClassSignature.get();
 	}
 	
 	/**
@@ -316,9 +268,7 @@ public final class ClassType extends Type {
 	 * @return the optional {@code TypeParameters} instance associated with this {@code ClassType} instance
 	 */
 	public Optional<TypeParameters> getOptionalTypeParameters() {
-		doInitializeTypeParameters();
-		
-		return Optional.ofNullable(this.typeParameters.get());
+		return this.typeParameters.get();
 	}
 	
 	/**
@@ -328,8 +278,6 @@ public final class ClassType extends Type {
 	 */
 	@Override
 	public String getExternalName() {
-		doInitializeExternalName();
-		
 		return this.externalName.get();
 	}
 	
@@ -524,17 +472,42 @@ public final class ClassType extends Type {
 	 * <p>
 	 * If {@code clazz} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If either {@code clazz.isAnnotation()}, {@code clazz.isArray()}, {@code clazz.isEnum()}, {@code clazz.isInterface()} or {@code clazz.isPrimitive()} returns {@code true}, a {@code TypeException} will be thrown.
+	 * If {@code clazz} is not referring to a class type, a {@code TypeException} will be thrown.
 	 * <p>
-	 * This method will cache all {@code ClassType} instances.
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * ClassType.valueOf(clazz, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param clazz a {@code Class} instance
 	 * @return a {@code ClassType} instance that represents {@code clazz}
 	 * @throws NullPointerException thrown if, and only if, {@code clazz} is {@code null}
-	 * @throws TypeException thrown if, and only if, either {@code clazz.isAnnotation()}, {@code clazz.isArray()}, {@code clazz.isEnum()}, {@code clazz.isInterface()} or {@code clazz.isPrimitive()} returns {@code true}
+	 * @throws TypeException thrown if, and only if, {@code clazz} is not referring to a class type
 	 */
 	public static ClassType valueOf(final Class<?> clazz) {
+		return valueOf(clazz, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns a {@code ClassType} instance that represents {@code clazz} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code clazz} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code clazz} is not referring to a class type, or its class file cannot be read, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The {@code ClassType} instance is cached by {@code typeRepository}.
+	 * 
+	 * @param clazz a {@code Class} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return a {@code ClassType} instance that represents {@code clazz} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code clazz} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, {@code clazz} is not referring to a class type, or its class file cannot be read
+	 */
+	public static ClassType valueOf(final Class<?> clazz, final TypeRepository typeRepository) {
 		Objects.requireNonNull(clazz, "clazz == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
 		
 		if(clazz.isAnnotation()) {
 			throw new TypeException(String.format("A ClassType must refer to a class type, not an annotation type: %s", clazz));
@@ -546,50 +519,82 @@ public final class ClassType extends Type {
 			throw new TypeException(String.format("A ClassType must refer to a class type, not an interface type: %s", clazz));
 		} else if(clazz.isPrimitive()) {
 			throw new TypeException(String.format("A ClassType must refer to a class type, not a primitive type: %s", clazz));
-		} else {
-			try {
-				synchronized(CLASS_TYPES) {
-					return CLASS_TYPES.computeIfAbsent(clazz.getName(), name -> new ClassType(clazz));
-				}
-			} catch(final NodeFormatException e) {
-				throw new TypeException(e);
-			}
 		}
+		
+		return ClassType.class.cast(typeRepository.getType(clazz));
 	}
 	
 	/**
-	 * Returns a {@code ClassType} instance that represents {@code Class.forName(className)}.
+	 * Returns a {@code ClassType} instance that represents the class type denoted by {@code className}.
 	 * <p>
 	 * If {@code className} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code Class.forName(className)} fails or {@code Class.forName(className)} is not referring to a class type, a {@code TypeException} will be thrown.
+	 * If the class file cannot be found or read, or it does not denote a class type, a {@code TypeException} will be thrown.
 	 * <p>
-	 * This method will cache all {@code ClassType} instances.
-	 * 
-	 * @param className the fully qualified name of the desired class
-	 * @return a {@code ClassType} instance that represents {@code Class.forName(className)}
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * ClassType.valueOf(className, TypeRepository.getDefault());
+	 * }
+	 * </pre>
+	 * 
+	 * @param className the fully qualified name of the desired class type
+	 * @return a {@code ClassType} instance that represents the class type denoted by {@code className}
 	 * @throws NullPointerException thrown if, and only if, {@code className} is {@code null}
-	 * @throws TypeException thrown if, and only if, {@code Class.forName(className)} fails or {@code Class.forName(className)} is not referring to a class type
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read, or it does not denote a class type
 	 */
 	public static ClassType valueOf(final String className) {
-		try {
-			return valueOf(Class.forName(Objects.requireNonNull(className, "className == null")));
-		} catch(final ClassNotFoundException | LinkageError e) {
-			throw new TypeException(e);
-		}
+		return valueOf(className, TypeRepository.getDefault());
 	}
 	
 	/**
-	 * Clears the cache.
+	 * Returns a {@code ClassType} instance that represents the class type denoted by {@code className} in the context of {@code typeRepository}.
+	 * <p>
+	 * The class file is found and read by the {@link TypeResolver} of {@code typeRepository}. No class is loaded.
+	 * <p>
+	 * If either {@code className} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the class file cannot be found or read, or it does not denote a class type, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The {@code ClassType} instance is cached by {@code typeRepository}.
+	 * 
+	 * @param className the fully qualified name of the desired class type
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return a {@code ClassType} instance that represents the class type denoted by {@code className} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code className} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read, or it does not denote a class type
 	 */
-	public static void clearCache() {
-		synchronized(CLASS_FILES) {
-			CLASS_FILES.clear();
-		}
+	public static ClassType valueOf(final String className, final TypeRepository typeRepository) {
+		Objects.requireNonNull(className, "className == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
 		
-		synchronized(CLASS_TYPES) {
-			CLASS_TYPES.clear();
+		final Type type = typeRepository.getType(className);
+		
+		if(type instanceof AnnotationType) {
+			throw new TypeException(String.format("A ClassType must refer to a class type, not an annotation type: %s", className));
+		} else if(type instanceof ArrayType) {
+			throw new TypeException(String.format("A ClassType must refer to a class type, not an array type: %s", className));
+		} else if(type instanceof EnumType) {
+			throw new TypeException(String.format("A ClassType must refer to a class type, not an enum type: %s", className));
+		} else if(type instanceof InterfaceType) {
+			throw new TypeException(String.format("A ClassType must refer to a class type, not an interface type: %s", className));
 		}
+		
+		return ClassType.class.cast(type);
+	}
+	
+	/**
+	 * Clears the cache of the default {@link TypeRepository}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * TypeRepository.getDefault().clear();
+	 * }
+	 * </pre>
+	 */
+	public static void clearCache() {
+		TypeRepository.getDefault().clear();
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -602,7 +607,7 @@ public final class ClassType extends Type {
 		getInnerTypes().forEach(innerType -> innerType.getType().getImportableTypes().forEach(type -> doAddImportableTypeIfNecessary(type, importableTypes)));
 		getInterfaceTypes().forEach(interfaceType -> doAddImportableTypeIfNecessary(interfaceType, importableTypes));
 		getMethods().forEach(method -> method.getImportableTypes().forEach(type -> doAddImportableTypeIfNecessary(type, importableTypes)));
-		getOptionalTypeParameters().ifPresent(typeParameters -> typeParameters.collectNames().forEach(name -> doAddImportableTypeIfNecessary(Type.valueOf(name), importableTypes)));
+		getOptionalTypeParameters().ifPresent(typeParameters -> typeParameters.collectNames().forEach(name -> doAddImportableTypeIfNecessary(Type.valueOf(name, this.typeRepository), importableTypes)));
 		
 		return new ArrayList<>(importableTypes);
 	}
@@ -644,125 +649,116 @@ public final class ClassType extends Type {
 		importableTypes.add(type);
 	}
 	
-	private void doInitializeClassFile() {
-		if(this.hasInitializedClassFile.compareAndSet(false, true)) {
-			synchronized(CLASS_FILES) {
-				this.classFile.set(CLASS_FILES.computeIfAbsent(this.clazz.getName(), key -> new ClassFileReader().read(this.clazz)));
-			}
-		}
-	}
-	
-	private void doInitializeClassSignature() {
-		if(this.hasInitializedClassSignature.compareAndSet(false, true)) {
-			this.classSignature.set(ClassSignature.parseClassSignatureOptionally(getClassFile()).orElse(null));
-		}
+	private Optional<ClassSignature> doComputeClassSignature() {
+		return ClassSignature.parseClassSignatureOptionally(getClassFile());
 	}
 	
-	private void doInitializeConstructors() {
-		if(this.hasInitializedConstructors.compareAndSet(false, true)) {
-			final ClassFile classFile = getClassFile();
-			
-			MethodInfos.findConstructors(classFile).forEach(methodInfo -> this.constructors.add(new Constructor(classFile, methodInfo, this)));
-		}
+	private List<Constructor> doComputeConstructors() {
+		final List<Constructor> constructors = new ArrayList<>();
+		
+		final ClassFile classFile = getClassFile();
+		
+		MethodInfos.findConstructors(classFile).forEach(methodInfo -> constructors.add(new Constructor(classFile, methodInfo, this, this.typeRepository)));
+		
+		return constructors;
 	}
 	
-	private void doInitializeExternalName() {
-		if(this.hasInitializedExternalName.compareAndSet(false, true)) {
-			this.externalName.set(ClassName.parseClassNameThisClass(getClassFile()).toExternalForm());
-		}
+	private String doComputeExternalName() {
+		return ClassName.parseClassNameThisClass(getClassFile()).toExternalForm();
 	}
 	
-	private void doInitializeFields() {
-		if(this.hasInitializedFields.compareAndSet(false, true)) {
-			final ClassFile classFile = getClassFile();
-			
-			classFile.getFieldInfos().stream().filter(fieldInfo -> !fieldInfo.isEnum()).forEach(fieldInfo -> this.fields.add(new Field(classFile, fieldInfo, this)));
-		}
+	private List<Field> doComputeFields() {
+		final List<Field> fields = new ArrayList<>();
+		
+		final ClassFile classFile = getClassFile();
+		
+		classFile.getFieldInfosView().stream().filter(fieldInfo -> !fieldInfo.isEnum()).forEach(fieldInfo -> fields.add(new Field(classFile, fieldInfo, this, this.typeRepository)));
+		
+		return fields;
 	}
 	
-	private void doInitializeImportableTypes() {
-		if(this.hasInitializedImportableTypes.compareAndSet(false, true)) {
-			this.importableTypes.addAll(doGetImportableTypesSorted());
-		}
+	private List<Type> doComputeImportableTypes() {
+		return doGetImportableTypesSorted();
 	}
 	
-	private void doInitializeInnerTypes() {
-		if(this.hasInitializedInnerTypes.compareAndSet(false, true)) {
-			final ClassFile classFile = getClassFile();
-			
-			final List<InnerType> innerTypes = this.innerTypes;
-			
-			InnerClassesAttribute.find(classFile).ifPresent(innerClassesAttribute -> {
-				for(final InnerClass innerClass : innerClassesAttribute.getInnerClasses()) {
-					if(innerClass.getInnerNameIndex() != 0) {
-						final InnerType innerType = new InnerType(classFile, innerClass);
-						
-						final Optional<Type> optionalEnclosingType = innerType.getOptionalEnclosingType();
-						
-						if(optionalEnclosingType.isPresent() && getExternalName().equals(optionalEnclosingType.get().getExternalName())) {
-							innerTypes.add(innerType);
-						}
+	private List<InnerType> doComputeInnerTypes() {
+		final List<InnerType> innerTypes = new ArrayList<>();
+		
+		final ClassFile classFile = getClassFile();
+		
+		InnerClassesAttribute.find(classFile).ifPresent(innerClassesAttribute -> {
+			for(final InnerClass innerClass : innerClassesAttribute.getInnerClasses()) {
+				if(innerClass.getInnerNameIndex() != 0) {
+					final InnerType innerType = new InnerType(classFile, innerClass, this.typeRepository);
+					
+					final Optional<Type> optionalEnclosingType = innerType.getOptionalEnclosingType();
+					
+					if(optionalEnclosingType.isPresent() && getExternalName().equals(optionalEnclosingType.get().getExternalName())) {
+						innerTypes.add(innerType);
 					}
 				}
-			});
-		}
+			}
+		});
+		
+		return innerTypes;
 	}
 	
-	private void doInitializeInterfaceTypes() {
-		if(this.hasInitializedInterfaceTypes.compareAndSet(false, true)) {
-			final ClassFile classFile = getClassFile();
-			
-			final List<Integer> interfaceIndices = classFile.getInterfaces();
-			final List<InterfaceType> interfaceTypes = this.interfaceTypes;
+	private List<InterfaceType> doComputeInterfaceTypes() {
+		final List<InterfaceType> interfaceTypes = new ArrayList<>();
+		
+		final ClassFile classFile = getClassFile();
+		
+		final List<Integer> interfaceIndices = classFile.getInterfacesView();
+		
+		for(final int interfaceIndex : interfaceIndices) {
+			final String interfaceNameInternalForm = ConstantUTF8Info.findByNameIndex(classFile, classFile.getCPInfo(interfaceIndex, ConstantClassInfo.class)).getStringValue();
+			final String interfaceNameExternalForm = ClassName.parseClassName(interfaceNameInternalForm).toExternalForm();
 			
-			for(final int interfaceIndex : interfaceIndices) {
-				final String interfaceNameInternalForm = ConstantUTF8Info.findByNameIndex(classFile, classFile.getCPInfo(interfaceIndex, ConstantClassInfo.class)).getStringValue();
-				final String interfaceNameExternalForm = ClassName.parseClassName(interfaceNameInternalForm).toExternalForm();
-				
-				interfaceTypes.add(InterfaceType.valueOf(interfaceNameExternalForm));
-			}
+			interfaceTypes.add(InterfaceType.valueOf(interfaceNameExternalForm, this.typeRepository));
 		}
+		
+		return interfaceTypes;
 	}
 	
-	private void doInitializeMethods() {
-		if(this.hasInitializedMethods.compareAndSet(false, true)) {
-			final ClassFile classFile = getClassFile();
-			
-			MethodInfos.findMethods(classFile).forEach(methodInfo -> this.methods.add(new Method(classFile, methodInfo, this)));
-		}
+	private List<Method> doComputeMethods() {
+		final List<Method> methods = new ArrayList<>();
+		
+		final ClassFile classFile = getClassFile();
+		
+		MethodInfos.findMethods(classFile).forEach(methodInfo -> methods.add(new Method(classFile, methodInfo, this, this.typeRepository)));
+		
+		return methods;
 	}
 	
-	private void doInitializeModifiers() {
-		if(this.hasInitializedModifiers.compareAndSet(false, true)) {
-			final List<Modifier> modifiers = this.modifiers;
-			
-			if(isPublic()) {
-				modifiers.add(Modifier.PUBLIC);
-			}
-			
-			if(isAbstract()) {
-				modifiers.add(Modifier.ABSTRACT);
-			} else if(isFinal()) {
-				modifiers.add(Modifier.FINAL);
-			}
+	private List<Modifier> doComputeModifiers() {
+		final List<Modifier> modifiers = new ArrayList<>();
+		
+		if(isPublic()) {
+			modifiers.add(Modifier.PUBLIC);
+		}
+		
+		if(isAbstract()) {
+			modifiers.add(Modifier.ABSTRACT);
+		} else if(isFinal()) {
+			modifiers.add(Modifier.FINAL);
 		}
+		
+		return modifiers;
 	}
 	
-	private void doInitializeSuperClassSignature() {
-		if(this.hasInitializedSuperClassSignature.compareAndSet(false, true)) {
-			getOptionalClassSignature().ifPresent(classSignature -> this.superClassSignature.set(classSignature.getSuperClassSignature()));
-		}
+	private Optional<SuperClassSignature> doComputeSuperClassSignature() {
+		return getOptionalClassSignature().map(classSignature -> classSignature.getSuperClassSignature());
 	}
 	
-	private void doInitializeSuperInterfaceSignatures() {
-		if(this.hasInitializedSuperInterfaceSignatures.compareAndSet(false, true)) {
-			getOptionalClassSignature().ifPresent(classSignature -> this.superInterfaceSignatures.addAll(classSignature.getSuperInterfaceSignatures()));
-		}
+	private List<SuperInterfaceSignature> doComputeSuperInterfaceSignatures() {
+		final List<SuperInterfaceSignature> superInterfaceSignatures = new ArrayList<>();
+		
+		getOptionalClassSignature().ifPresent(classSignature -> superInterfaceSignatures.addAll(classSignature.getSuperInterfaceSignatures()));
+		
+		return superInterfaceSignatures;
 	}
 	
-	private void doInitializeTypeParameters() {
-		if(this.hasInitializedTypeParameters.compareAndSet(false, true)) {
-			getOptionalClassSignature().ifPresent(classSignature -> this.typeParameters.set(classSignature.getTypeParameters().orElse(null)));
-		}
+	private Optional<TypeParameters> doComputeTypeParameters() {
+		return getOptionalClassSignature().flatMap(classSignature -> classSignature.getTypeParameters());
 	}
 }
\ No newline at end of file
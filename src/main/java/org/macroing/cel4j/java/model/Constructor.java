@@ -24,7 +24,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
 import org.macroing.cel4j.java.binary.classfile.ClassFile;
@@ -45,34 +44,30 @@ import org.macroing.cel4j.java.binary.classfile.signature.MethodSignature;
  * @author J&#246;rgen Lundgren
  */
 public final class Constructor implements Comparable<Constructor> {
-	private final AtomicBoolean hasInitializedExceptionTypes;
-	private final AtomicBoolean hasInitializedImportableTypes;
-	private final AtomicBoolean hasInitializedModifiers;
 	private final ClassFile classFile;
-	private final List<Modifier> modifiers;
-	private final List<Type> exceptionTypes;
-	private final List<Type> importableTypes;
+	private final Lazy<List<Modifier>> modifiers;
+	private final Lazy<List<Type>> exceptionTypes;
+	private final Lazy<List<Type>> importableTypes;
 	private final MethodInfo methodInfo;
 	private final Optional<CodeAttribute> optionalCodeAttribute;
 	private final Optional<ExceptionsAttribute> optionalExceptionsAttribute;
 	private final ParameterList parameterList;
 	private final Type enclosingType;
+	private final TypeRepository typeRepository;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	Constructor(final ClassFile classFile, final MethodInfo methodInfo, final Type enclosingType) {
+	Constructor(final ClassFile classFile, final MethodInfo methodInfo, final Type enclosingType, final TypeRepository typeRepository) {
 		this.classFile = Objects.requireNonNull(classFile, "classFile == null");
 		this.methodInfo = Objects.requireNonNull(methodInfo, "methodInfo == null");
 		this.enclosingType = Objects.requireNonNull(enclosingType, "enclosingType == null");
-		this.hasInitializedExceptionTypes = new AtomicBoolean();
-		this.hasInitializedImportableTypes = new AtomicBoolean();
-		this.hasInitializedModifiers = new AtomicBoolean();
-		this.modifiers = new ArrayList<>();
-		this.exceptionTypes = new ArrayList<>();
-		this.importableTypes = new ArrayList<>();
+		this.typeRepository = Objects.requireNonNull(typeRepository, "typeRepository == null");
+		this.modifiers = new Lazy<>(this::doComputeModifiers);
+		this.exceptionTypes = new Lazy<>(this::doComputeExceptionTypes);
+		this.importableTypes = new Lazy<>(this::doComputeImportableTypes);
 		this.optionalCodeAttribute = CodeAttribute.find(this.methodInfo);
 		this.optionalExceptionsAttribute = ExceptionsAttribute.find(this.methodInfo);
-		this.parameterList = ParameterList.load(classFile, methodInfo);
+		this.parameterList = ParameterList.load(classFile, methodInfo, typeRepository);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -122,9 +117,7 @@ public final class Constructor implements Comparable<Constructor> {
 	 * @return a {@code List} that contains all {@code Modifier} instances associated with this {@code Constructor} instance
 	 */
 	public List<Modifier> getModifiers() {
-		doInitializeModifiers();
-		
-		return new ArrayList<>(this.modifiers);
+		return new ArrayList<>(this.modifiers.get());
 	}
 	
 	/**
@@ -135,9 +128,7 @@ public final class Constructor implements Comparable<Constructor> {
 	 * @return a {@code List} that contains all {@code Type} instances associated with this {@code Constructor} instance that are exceptions
 	 */
 	public List<Type> getExceptionTypes() {
-		doInitializeExceptionTypes();
-		
-		return new ArrayList<>(this.exceptionTypes);
+		return new ArrayList<>(this.exceptionTypes.get());
 	}
 	
 	/**
@@ -148,9 +139,7 @@ public final class Constructor implements Comparable<Constructor> {
 	 * @return a {@code List} that contains all {@code Type} instances associated with this {@code Constructor} instance that are importable
 	 */
 	public List<Type> getImportableTypes() {
-		doInitializeImportableTypes();
-		
-		return new ArrayList<>(this.importableTypes);
+		return new ArrayList<>(this.importableTypes.get());
 	}
 	
 	/**
@@ -407,7 +396,7 @@ public final class Constructor implements Comparable<Constructor> {
 		final Set<Type> importableTypes = new LinkedHashSet<>();
 		
 		getExceptionTypes().forEach(exceptionType -> doAddImportableTypeIfNecessary(exceptionType, importableTypes));
-		getOptionalCodeAttribute().ifPresent(codeAttribute -> Instructions.findTypeNames(this.classFile, codeAttribute).forEach(typeName -> doAddImportableTypeIfNecessary(Type.valueOf(typeName), importableTypes)));
+		getOptionalCodeAttribute().ifPresent(codeAttribute -> Instructions.findTypeNames(this.classFile, codeAttribute).forEach(typeName -> doAddImportableTypeIfNecessary(Type.valueOf(typeName, this.typeRepository), importableTypes)));
 		getParameterList().getParameters().forEach(parameter -> doAddImportableTypeIfNecessary(parameter.getType(), importableTypes));
 		
 		return new ArrayList<>(importableTypes);
@@ -442,35 +431,37 @@ public final class Constructor implements Comparable<Constructor> {
 		importableTypes.add(type);
 	}
 	
-	private void doInitializeExceptionTypes() {
-		if(this.hasInitializedExceptionTypes.compareAndSet(false, true)) {
-			getOptionalExceptionsAttribute().ifPresent(exceptionsAttribute -> {
-				exceptionsAttribute.getExceptionIndexTable().forEach(exceptionIndex -> {
-					this.exceptionTypes.add(Type.valueOf(ClassName.parseClassName(this.classFile.getCPInfo(this.classFile.getCPInfo(exceptionIndex.intValue(), ConstantClassInfo.class).getNameIndex(), ConstantUTF8Info.class).getStringValue()).toExternalForm()));
-				});
+	private List<Type> doComputeExceptionTypes() {
+		final List<Type> exceptionTypes = new ArrayList<>();
+		
+		getOptionalExceptionsAttribute().ifPresent(exceptionsAttribute -> {
+			exceptionsAttribute.getExceptionIndexTableView().forEach(exceptionIndex -> {
+				exceptionTypes.add(Type.valueOf(ClassName.parseClassName(this.classFile.getCPInfo(this.classFile.getCPInfo(exceptionIndex.intValue(), ConstantClassInfo.class).getNameIndex(), ConstantUTF8Info.class).getStringValue()).toExternalForm(), this.typeRepository));
 			});
-		}
+		});
+		
+		return exceptionTypes;
 	}
 	
-	private void doInitializeImportableTypes() {
-		if(this.hasInitializedImportableTypes.compareAndSet(false, true)) {
-			this.importableTypes.addAll(doGetImportableTypes());
-		}
+	private List<Type> doComputeImportableTypes() {
+		return doGetImportableTypes();
 	}
 	
-	private void doInitializeModifiers() {
-		if(this.hasInitializedModifiers.compareAndSet(false, true)) {
-			if(isPrivate()) {
-				this.modifiers.add(Modifier.PRIVATE);
-			} else if(isProtected()) {
-				this.modifiers.add(Modifier.PROTECTED);
-			} else if(isPublic()) {
-				this.modifiers.add(Modifier.PUBLIC);
-			}
-			
-			if(isStrict()) {
-				this.modifiers.add(Modifier.STRICT_F_P);
-			}
+	private List<Modifier> doComputeModifiers() {
+		final List<Modifier> modifiers = new ArrayList<>();
+		
+		if(isPrivate()) {
+			modifiers.add(Modifier.PRIVATE);
+		} else if(isProtected()) {
+			modifiers.add(Modifier.PROTECTED);
+		} else if(isPublic()) {
+			modifiers.add(Modifier.PUBLIC);
 		}
+		
+		if(isStrict()) {
+			modifiers.add(Modifier.STRICT_F_P);
+		}
+		
+		return modifiers;
 	}
 }
\ No newline at end of file
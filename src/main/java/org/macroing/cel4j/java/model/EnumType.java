@@ -19,18 +19,12 @@
 package org.macroing.cel4j.java.model;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.macroing.cel4j.java.binary.classfile.ClassFile;
 import org.macroing.cel4j.java.binary.classfile.attributeinfo.InnerClassesAttribute;
 import org.macroing.cel4j.java.binary.classfile.descriptor.ClassName;
-import org.macroing.cel4j.java.binary.reader.ClassFileReader;
-import org.macroing.cel4j.node.NodeFormatException;
 
 /**
  * An {@code EnumType} is a {@link Type} implementation that represents an enum type.
@@ -39,29 +33,18 @@ import org.macroing.cel4j.node.NodeFormatException;
  * @author J&#246;rgen Lundgren
  */
 public final class EnumType extends Type {
-	private static final Map<String, ClassFile> CLASS_FILES = new HashMap<>();
-	private static final Map<String, EnumType> ENUM_TYPES = new HashMap<>();
+	private final ClassFile classFile;
+	private final Lazy<List<Modifier>> modifiers;
+	private final Lazy<String> externalName;
+	private final TypeRepository typeRepository;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	private final AtomicBoolean hasInitializedClassFile;
-	private final AtomicBoolean hasInitializedExternalName;
-	private final AtomicBoolean hasInitializedModifiers;
-	private final AtomicReference<ClassFile> classFile;
-	private final AtomicReference<String> externalName;
-	private final Class<?> clazz;
-	private final List<Modifier> modifiers;
-	
-	////////////////////////////////////////////////////////////////////////////////////////////////////
-	
-	private EnumType(final Class<?> clazz) {
-		this.hasInitializedClassFile = new AtomicBoolean();
-		this.hasInitializedExternalName = new AtomicBoolean();
-		this.hasInitializedModifiers = new AtomicBoolean();
-		this.classFile = new AtomicReference<>();
-		this.externalName = new AtomicReference<>();
-		this.clazz = clazz;
-		this.modifiers = new ArrayList<>();
+	EnumType(final ClassFile classFile, final TypeRepository typeRepository) {
+		this.classFile = classFile;
+		this.modifiers = new Lazy<>(this::doComputeModifiers);
+		this.externalName = new Lazy<>(this::doComputeExternalName);
+		this.typeRepository = typeRepository;
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -72,9 +55,18 @@ public final class EnumType extends Type {
 	 * @return the {@code ClassFile} instance associated with this {@code EnumType} instance
 	 */
 	public ClassFile getClassFile() {
-		doInitializeClassFile();
-		
-		return this.classFile.get();
+		return this.classFile;
+	}
+	
+	/**
+	 * Returns the {@link TypeRepository} instance that created this {@code EnumType} instance.
+	 * <p>
+	 * All {@link Type} instances that are reachable from this {@code EnumType} instance are created by the same {@code TypeRepository}.
+	 * 
+	 * @return the {@code TypeRepository} instance that created this {@code EnumType} instance
+	 */
+	public TypeRepository getTypeRepository() {
+		return this.typeRepository;
 	}
 	
 	/**
@@ -85,9 +77,7 @@ public final class EnumType extends Type {
 	 * @return a {@code List} that contains all {@code Modifier} instances associated with this {@code EnumType} instance
 	 */
 	public List<Modifier> getModifiers() {
-		doInitializeModifiers();
-		
-		return new ArrayList<>(this.modifiers);
+		return new ArrayList<>(this.modifiers.get());
 	}
 	
 	/**
@@ -97,8 +87,6 @@ public final class EnumType extends Type {
 	 */
 	@Override
 	public String getExternalName() {
-		doInitializeExternalName();
-		
 		return this.externalName.get();
 	}
 	
@@ -171,7 +159,12 @@ public final class EnumType extends Type {
 	 * <p>
 	 * If {@code clazz.isEnum() == false}, a {@code TypeException} will be thrown.
 	 * <p>
-	 * This method will cache all {@code EnumType} instances.
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * EnumType.valueOf(clazz, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param clazz a {@code Class} instance
 	 * @return an {@code EnumType} instance that represents {@code clazz}
@@ -179,79 +172,115 @@ public final class EnumType extends Type {
 	 * @throws TypeException thrown if, and only if, {@code clazz.isEnum() == false}
 	 */
 	public static EnumType valueOf(final Class<?> clazz) {
+		return valueOf(clazz, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns an {@code EnumType} instance that represents {@code clazz} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code clazz} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code clazz.isEnum() == false}, or its class file cannot be read, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The {@code EnumType} instance is cached by {@code typeRepository}.
+	 * 
+	 * @param clazz a {@code Class} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return an {@code EnumType} instance that represents {@code clazz} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code clazz} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, {@code clazz.isEnum() == false}, or its class file cannot be read
+	 */
+	public static EnumType valueOf(final Class<?> clazz, final TypeRepository typeRepository) {
 		Objects.requireNonNull(clazz, "clazz == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
 		
 		if(!clazz.isEnum()) {
 			throw new TypeException(String.format("An EnumType must refer to an enum type: %s", clazz));
 		}
 		
-		try {
-			synchronized(ENUM_TYPES) {
-				return ENUM_TYPES.computeIfAbsent(clazz.getName(), name -> new EnumType(clazz));
-			}
-		} catch(final NodeFormatException e) {
-			throw new TypeException(e);
-		}
+		return EnumType.class.cast(typeRepository.getType(clazz));
 	}
 	
 	/**
-	 * Returns an {@code EnumType} instance that represents {@code Class.forName(className)}.
+	 * Returns an {@code EnumType} instance that represents the enum type denoted by {@code className}.
 	 * <p>
 	 * If {@code className} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code Class.forName(className)} fails or {@code Class.forName(className).isEnum() == false}, a {@code TypeException} will be thrown.
+	 * If the class file cannot be found or read, or it does not denote an enum type, a {@code TypeException} will be thrown.
 	 * <p>
-	 * This method will cache all {@code EnumType} instances.
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * EnumType.valueOf(className, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
-	 * @param className the fully qualified name of the desired class
-	 * @return an {@code EnumType} instance that represents {@code Class.forName(className)}
+	 * @param className the fully qualified name of the desired enum type
+	 * @return an {@code EnumType} instance that represents the enum type denoted by {@code className}
 	 * @throws NullPointerException thrown if, and only if, {@code className} is {@code null}
-	 * @throws TypeException thrown if, and only if, {@code Class.forName(className)} fails or {@code Class.forName(className).isEnum() == false}
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read, or it does not denote an enum type
 	 */
 	public static EnumType valueOf(final String className) {
-		try {
-			return valueOf(Class.forName(Objects.requireNonNull(className, "className == null")));
-		} catch(final ClassNotFoundException | LinkageError e) {
-			throw new TypeException(e);
-		}
+		return valueOf(className, TypeRepository.getDefault());
 	}
 	
 	/**
-	 * Clears the cache.
+	 * Returns an {@code EnumType} instance that represents the enum type denoted by {@code className} in the context of {@code typeRepository}.
+	 * <p>
+	 * The class file is found and read by the {@link TypeResolver} of {@code typeRepository}. No class is loaded.
+	 * <p>
+	 * If either {@code className} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the class file cannot be found or read, or it does not denote an enum type, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The {@code EnumType} instance is cached by {@code typeRepository}.
+	 * 
+	 * @param className the fully qualified name of the desired enum type
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return an {@code EnumType} instance that represents the enum type denoted by {@code className} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code className} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read, or it does not denote an enum type
 	 */
-	public static void clearCache() {
-		synchronized(CLASS_FILES) {
-			CLASS_FILES.clear();
-		}
+	public static EnumType valueOf(final String className, final TypeRepository typeRepository) {
+		Objects.requireNonNull(className, "className == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
+		
+		final Type type = typeRepository.getType(className);
 		
-		synchronized(ENUM_TYPES) {
-			ENUM_TYPES.clear();
+		if(!(type instanceof EnumType)) {
+			throw new TypeException(String.format("An EnumType must refer to an enum type: %s", className));
 		}
+		
+		return EnumType.class.cast(type);
 	}
 	
-	////////////////////////////////////////////////////////////////////////////////////////////////////
-	
-	private void doInitializeClassFile() {
-		if(this.hasInitializedClassFile.compareAndSet(false, true)) {
-			synchronized(CLASS_FILES) {
-				this.classFile.set(CLASS_FILES.computeIfAbsent(this.clazz.getName(), key -> new ClassFileReader().read(this.clazz)));
-			}
-		}
+	/**
+	 * Clears the cache of the default {@link TypeRepository}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * TypeRepository.getDefault().clear();
+	 * }
+	 * </pre>
+	 */
+	public static void clearCache() {
+		TypeRepository.getDefault().clear();
 	}
 	
-	private void doInitializeExternalName() {
-		if(this.hasInitializedExternalName.compareAndSet(false, true)) {
-			this.externalName.set(ClassName.parseClassNameThisClass(getClassFile()).toExternalForm());
-		}
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private String doComputeExternalName() {
+		return ClassName.parseClassNameThisClass(getClassFile()).toExternalForm();
 	}
 	
-	private void doInitializeModifiers() {
-		if(this.hasInitializedModifiers.compareAndSet(false, true)) {
-			final List<Modifier> modifiers = this.modifiers;
-			
-			if(isPublic()) {
-				modifiers.add(Modifier.PUBLIC);
-			}
+	private List<Modifier> doComputeModifiers() {
+		final List<Modifier> modifiers = new ArrayList<>();
+		
+		if(isPublic()) {
+			modifiers.add(Modifier.PUBLIC);
 		}
+		
+		return modifiers;
 	}
 }
\ No newline at end of file
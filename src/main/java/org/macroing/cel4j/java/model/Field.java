@@ -51,11 +51,11 @@ public final class Field implements Comparable<Field> {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	Field(final ClassFile classFile, final FieldInfo fieldInfo, final Type enclosingType) {
+	Field(final ClassFile classFile, final FieldInfo fieldInfo, final Type enclosingType, final TypeRepository typeRepository) {
 		this.classFile = Objects.requireNonNull(classFile, "classFile == null");
 		this.fieldInfo = Objects.requireNonNull(fieldInfo, "fieldInfo == null");
 		this.enclosingType = Objects.requireNonNull(enclosingType, "enclosingType == null");
-		this.type = Type.valueOf(FieldDescriptor.parseFieldDescriptor(classFile, fieldInfo));
+		this.type = Type.valueOf(FieldDescriptor.parseFieldDescriptor(classFile, fieldInfo), typeRepository);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
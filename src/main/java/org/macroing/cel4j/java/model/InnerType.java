@@ -43,11 +43,11 @@ public final class InnerType {
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	InnerType(final ClassFile classFile, final InnerClass innerClass) {
+	InnerType(final ClassFile classFile, final InnerClass innerClass, final TypeRepository typeRepository) {
 		this.classFile = Objects.requireNonNull(classFile, "classFile == null");
 		this.innerClass = Objects.requireNonNull(innerClass, "innerClass == null");
-		this.enclosingType = innerClass.getOuterClassInfoIndex() != 0 ? Type.valueOf(ClassName.parseClassName(classFile.getCPInfo(classFile.getCPInfo(innerClass.getOuterClassInfoIndex(), ConstantClassInfo.class).getNameIndex(), ConstantUTF8Info.class).getStringValue()).toExternalForm()) : null;
-		this.type = Type.valueOf(ClassName.parseClassName(classFile.getCPInfo(classFile.getCPInfo(innerClass.getInnerClassInfoIndex(), ConstantClassInfo.class).getNameIndex(), ConstantUTF8Info.class).getStringValue()).toExternalForm());
+		this.enclosingType = innerClass.getOuterClassInfoIndex() != 0 ? Type.valueOf(ClassName.parseClassName(classFile.getCPInfo(classFile.getCPInfo(innerClass.getOuterClassInfoIndex(), ConstantClassInfo.class).getNameIndex(), ConstantUTF8Info.class).getStringValue()).toExternalForm(), typeRepository) : null;
+		this.type = Type.valueOf(ClassName.parseClassName(classFile.getCPInfo(classFile.getCPInfo(innerClass.getInnerClassInfoIndex(), ConstantClassInfo.class).getNameIndex(), ConstantUTF8Info.class).getStringValue()).toExternalForm(), typeRepository);
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -39,7 +39,7 @@ final class Instructions {
 	public static List<String> findTypeNames(final ClassFile classFile, final CodeAttribute codeAttribute) {
 		final List<String> typeNames = new ArrayList<>();
 		
-		for(final Instruction instruction : codeAttribute.getInstructions()) {
+		for(final Instruction instruction : codeAttribute.getInstructionsView()) {
 			switch(instruction.getOpcode()) {
 				case Instruction.OPCODE_GET_FIELD:
 					doAddTypeNameGetField(classFile, instruction, typeNames);
@@ -20,15 +20,11 @@ package org.macroing.cel4j.java.model;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
 import org.macroing.cel4j.java.binary.classfile.ClassFile;
@@ -41,8 +37,6 @@ import org.macroing.cel4j.java.binary.classfile.signature.SuperClassSignature;
 import org.macroing.cel4j.java.binary.classfile.signature.SuperInterfaceSignature;
 import org.macroing.cel4j.java.binary.classfile.signature.TypeParameters;
 import org.macroing.cel4j.java.binary.classfile.support.MethodInfos;
-import org.macroing.cel4j.java.binary.reader.ClassFileReader;
-import org.macroing.cel4j.node.NodeFormatException;
 
 /**
  * An {@code InterfaceType} is a {@link Type} implementation that represents an interface type.
@@ -51,63 +45,36 @@ import org.macroing.cel4j.node.NodeFormatException;
  * @author J&#246;rgen Lundgren
  */
 public final class InterfaceType extends Type {
-	private static final Map<String, ClassFile> CLASS_FILES = new HashMap<>();
-	private static final Map<String, InterfaceType> INTERFACE_TYPES = new HashMap<>();
+	private final ClassFile classFile;
+	private final Lazy<List<Field>> fields;
+	private final Lazy<List<InterfaceType>> interfaceTypes;
+	private final Lazy<List<Method>> methods;
+	private final Lazy<List<Modifier>> modifiers;
+	private final Lazy<List<SuperInterfaceSignature>> superInterfaceSignatures;
+	private final Lazy<List<Type>> importableTypes;
+	private final Lazy<Optional<ClassSignature>> classSignature;
+	private final Lazy<Optional<SuperClassSignature>> superClassSignature;
+	private final Lazy<Optional<TypeParameters>> typeParameters;
+	private final Lazy<String> externalName;
+	private final TypeRepository typeRepository;
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
 	
-	private final AtomicBoolean hasInitializedClassFile;
-	private final AtomicBoolean hasInitializedClassSignature;
-	private final AtomicBoolean hasInitializedExternalName;
-	private final AtomicBoolean hasInitializedFields;
-	private final AtomicBoolean hasInitializedImportableTypes;
-	private final AtomicBoolean hasInitializedInterfaceTypes;
-	private final AtomicBoolean hasInitializedMethods;
-	private final AtomicBoolean hasInitializedModifiers;
-	private final AtomicBoolean hasInitializedSuperClassSignature;
-	private final AtomicBoolean hasInitializedSuperInterfaceSignatures;
-	private final AtomicBoolean hasInitializedTypeParameters;
-	private final AtomicReference<ClassFile> classFile;
-	private final AtomicReference<ClassSignature> classSignature;
-	private final AtomicReference<String> externalName;
-	private final AtomicReference<SuperClassSignature> superClassSignature;
-	private final AtomicReference<TypeParameters> typeParameters;
-	private final Class<?> clazz;
-	private final List<Field> fields;
-	private final List<InterfaceType> interfaceTypes;
-	private final List<Method> methods;
-	private final List<Modifier> modifiers;
-	private final List<SuperInterfaceSignature> superInterfaceSignatures;
-	private final List<Type> importableTypes;
-	
-	////////////////////////////////////////////////////////////////////////////////////////////////////
-	
-	private InterfaceType(final Class<?> clazz) {
-		this.hasInitializedClassFile = new AtomicBoolean();
-		this.hasInitializedClassSignature = new AtomicBoolean();
-		this.hasInitializedExternalName = new AtomicBoolean();
-		this.hasInitializedFields = new AtomicBoolean();
-		this.hasInitializedImportableTypes = new AtomicBoolean();
-		this.hasInitializedInterfaceTypes = new AtomicBoolean();
-		this.hasInitializedMethods = new AtomicBoolean();
-		this.hasInitializedModifiers = new AtomicBoolean();
-		this.hasInitializedSuperClassSignature = new AtomicBoolean();
-		this.hasInitializedSuperInterfaceSignatures = new AtomicBoolean();
-		this.hasInitializedTypeParameters = new AtomicBoolean();
-		this.classFile = new AtomicReference<>();
-		this.classSignature = new AtomicReference<>();
-		this.externalName = new AtomicReference<>();
-		this.superClassSignature = new AtomicReference<>();
-		this.typeParameters = new AtomicReference<>();
-		this.clazz = clazz;
-		this.fields = new ArrayList<>();
-		this.interfaceTypes = new ArrayList<>();
-		this.methods = new ArrayList<>();
-		this.modifiers = new ArrayList<>();
-		this.superInterfaceSignatures = new ArrayList<>();
-		this.importableTypes = new ArrayList<>();
+	InterfaceType(final ClassFile classFile, final TypeRepository typeRepository) {
+		this.classFile = classFile;
+		this.fields = new Lazy<>(this::doComputeFields);
+		this.interfaceTypes = new Lazy<>(this::doComputeInterfaceTypes);
+		this.methods = new Lazy<>(this::doComputeMethods);
+		this.modifiers = new Lazy<>(this::doComputeModifiers);
+		this.superInterfaceSignatures = new Lazy<>(this::doComputeSuperInterfaceSignatures);
+		this.importableTypes = new Lazy<>(this::doComputeImportableTypes);
+		this.classSignature = new Lazy<>(this::doComputeClassSignature);
+		this.superClassSignature = new Lazy<>(this::doComputeSuperClassSignature);
+		this.typeParameters = new Lazy<>(this::doComputeTypeParameters);
+		this.externalName = new Lazy<>(this::doComputeExternalName);
 //		this.optionalSuperClassSignature = this.optionalClassSignature.isPresent() ? Optional.of(this.optionalClassSignature.get().getSuperClassSignature()) : Optional.empty();
 //		this.optionalTypeParameters = this.optionalClassSignature.isPresent() ? this.optionalClassSignature.get().getTypeParameters() : Optional.empty();
+		this.typeRepository = typeRepository;
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -118,9 +85,18 @@ public final class InterfaceType extends Type {
 	 * @return the {@code ClassFile} instance associated with this {@code InterfaceType} instance
 	 */
 	public ClassFile getClassFile() {
-		doInitializeClassFile();
-		
-		return this.classFile.get();
+		return this.classFile;
+	}
+	
+	/**
+	 * Returns the {@link TypeRepository} instance that created this {@code InterfaceType} instance.
+	 * <p>
+	 * All {@link Type} instances that are reachable from this {@code InterfaceType} instance are created by the same {@code TypeRepository}.
+	 * 
+	 * @return the {@code TypeRepository} instance that created this {@code InterfaceType} instance
+	 */
+	public TypeRepository getTypeRepository() {
+		return this.typeRepository;
 	}
 	
 	/**
@@ -142,9 +118,7 @@ public final class InterfaceType extends Type {
 	 * @return a {@code List} that contains all {@code Field} instances associated with this {@code InterfaceType} instance
 	 */
 	public List<Field> getFields() {
-		doInitializeFields();
-		
-		return this.fields;
+		return new ArrayList<>(this.fields.get());
 	}
 	
 	/**
@@ -166,9 +140,7 @@ public final class InterfaceType extends Type {
 	 * @return a {@code List} that contains all {@code InterfaceType} instances associated with this {@code InterfaceType} instance
 	 */
 	public List<InterfaceType> getInterfaceTypes() {
-		doInitializeInterfaceTypes();
-		
-		return this.interfaceTypes;
+		return new ArrayList<>(this.interfaceTypes.get());
 	}
 	
 	/**
@@ -179,9 +151,7 @@ public final class InterfaceType extends Type {
 	 * @return a {@code List} that contains all {@code Method} instances associated with this {@code InterfaceType} instance
 	 */
 	public List<Method> getMethods() {
-		doInitializeMethods();
-		
-		return this.methods;
+		return new ArrayList<>(this.methods.get());
 	}
 	
 	/**
@@ -203,9 +173,7 @@ public final class InterfaceType extends Type {
 	 * @return a {@code List} that contains all {@code Modifier} instances associated with this {@code InterfaceType} instance
 	 */
 	public List<Modifier> getModifiers() {
-		doInitializeModifiers();
-		
-		return new ArrayList<>(this.modifiers);
+		return new ArrayList<>(this.modifiers.get());
 	}
 	
 	/**
@@ -217,9 +185,7 @@ public final class InterfaceType extends Type {
 	 */
 	@Override
 	public List<Type> getImportableTypes() {
-		doInitializeImportableTypes();
-		
-		return new ArrayList<>(this.importableTypes);
+		return new ArrayList<>(this.importableTypes.get());
 	}
 	
 	/**
@@ -230,9 +196,7 @@ public final class InterfaceType extends Type {
 	 * @return a {@code List} that contains all {@code SuperInterfaceSignature} instances associated with this {@code InterfaceType} instance
 	 */
 	public List<SuperInterfaceSignature> getSuperInterfaceSignatures() {
-		doInitializeSuperInterfaceSignatures();
-		
-		return new ArrayList<>(this.superInterfaceSignatures);
+		return new ArrayList<>(this.superInterfaceSignatures.get());
 	}
 	
 	/**
@@ -241,9 +205,7 @@ public final class InterfaceType extends Type {
 	 * @return the optional {@code ClassSignature} instance associated with this {@code InterfaceType} instance
 	 */
 	public Optional<ClassSignature> getOptionalClassSignature() {
-		doInitializeClassSignature();
-		
-		return Optional.ofNullable(this.classSignature.get());
+		return this.classSignature.get();
 	}
 	
 	/**
@@ -252,7 +214,7 @@ public final class InterfaceType extends Type {
 	 * @return the optional super {@code ClassType} instance associated with this {@code InterfaceType} instance
 	 */
 	public Optional<ClassType> getOptionalSuperClassType() {
-		return hasSuperClass() ? Optional.of(ClassType.valueOf(ClassName.parseClassNameSuperClass(getClassFile()).toExternalForm())) : Optional.empty();
+		return hasSuperClass() ? Optional.of(ClassType.valueOf(ClassName.parseClassNameSuperClass(getClassFile()).toExternalForm(), this.typeRepository)) : Optional.empty();
 	}
 	
 	/**
@@ -261,9 +223,7 @@ public final class InterfaceType extends Type {
 	 * @return the optional {@code SuperClassSignature} instance associated with this {@code InterfaceType} instance
 	 */
 	public Optional<SuperClassSignature> getOptionalSuperClassSignature() {
-		doInitializeSuperClassSignature();
-		
-		return Optional.ofNullable(this.superClassSignature.get());
+		return this.superClassSignature.get();
 	}
 	
 	/**
@@ -272,9 +232,7 @@ public final class InterfaceType extends Type {
 	 * @return the optional {@code TypeParameters} instance associated with this {@code InterfaceType} instance
 	 */
 	public Optional<TypeParameters> getOptionalTypeParameters() {
-		doInitializeTypeParameters();
-		
-		return Optional.ofNullable(this.typeParameters.get());
+		return this.typeParameters.get();
 	}
 	
 	/**
@@ -284,8 +242,6 @@ public final class InterfaceType extends Type {
 	 */
 	@Override
 	public String getExternalName() {
-		doInitializeExternalName();
-		
 		return this.externalName.get();
 	}
 	
@@ -437,7 +393,12 @@ public final class InterfaceType extends Type {
 	 * <p>
 	 * If {@code clazz.isInterface() == false}, a {@code TypeException} will be thrown.
 	 * <p>
-	 * This method will cache all {@code InterfaceType} instances.
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * InterfaceType.valueOf(clazz, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param clazz a {@code Class} instance
 	 * @return an {@code InterfaceType} instance that represents {@code clazz}
@@ -445,54 +406,100 @@ public final class InterfaceType extends Type {
 	 * @throws TypeException thrown if, and only if, {@code clazz.isInterface() == false}
 	 */
 	public static InterfaceType valueOf(final Class<?> clazz) {
+		return valueOf(clazz, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns an {@code InterfaceType} instance that represents {@code clazz} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code clazz} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code clazz.isInterface() == false}, or its class file cannot be read, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The {@code InterfaceType} instance is cached by {@code typeRepository}.
+	 * 
+	 * @param clazz a {@code Class} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return an {@code InterfaceType} instance that represents {@code clazz} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code clazz} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, {@code clazz.isInterface() == false}, or its class file cannot be read
+	 */
+	public static InterfaceType valueOf(final Class<?> clazz, final TypeRepository typeRepository) {
 		Objects.requireNonNull(clazz, "clazz == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
 		
 		if(!clazz.isInterface()) {
 			throw new TypeException(String.format("An InterfaceType must refer to an interface type: %s", clazz));
 		}
 		
-		try {
-			synchronized(INTERFACE_TYPES) {
-				return INTERFACE_TYPES.computeIfAbsent(clazz.getName(), name -> new InterfaceType(clazz));
-			}
-		} catch(final NodeFormatException e) {
-			throw new TypeException(e);
-		}
+		return InterfaceType.class.cast(typeRepository.getType(clazz));
 	}
 	
 	/**
-	 * Returns an {@code InterfaceType} instance that represents {@code Class.forName(className)}.
+	 * Returns an {@code InterfaceType} instance that represents the interface type denoted by {@code className}.
 	 * <p>
 	 * If {@code className} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code Class.forName(className)} fails or {@code Class.forName(className).isInterface() == false}, a {@code TypeException} will be thrown.
+	 * If the class file cannot be found or read, or it does not denote an interface type, a {@code TypeException} will be thrown.
 	 * <p>
-	 * This method will cache all {@code InterfaceType} instances.
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * InterfaceType.valueOf(className, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
-	 * @param className the fully qualified name of the desired class
-	 * @return an {@code InterfaceType} instance that represents {@code Class.forName(className)}
+	 * @param className the fully qualified name of the desired interface type
+	 * @return an {@code InterfaceType} instance that represents the interface type denoted by {@code className}
 	 * @throws NullPointerException thrown if, and only if, {@code className} is {@code null}
-	 * @throws TypeException thrown if, and only if, {@code Class.forName(className)} fails or {@code Class.forName(className).isInterface() == false}
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read, or it does not denote an interface type
 	 */
 	public static InterfaceType valueOf(final String className) {
-		try {
-			return valueOf(Class.forName(Objects.requireNonNull(className, "className == null")));
-		} catch(final ClassNotFoundException | LinkageError e) {
-			throw new TypeException(e);
-		}
+		return valueOf(className, TypeRepository.getDefault());
 	}
 	
 	/**
-	 * Clears the cache.
+	 * Returns an {@code InterfaceType} instance that represents the interface type denoted by {@code className} in the context of {@code typeRepository}.
+	 * <p>
+	 * The class file is found and read by the {@link TypeResolver} of {@code typeRepository}. No class is loaded.
+	 * <p>
+	 * If either {@code className} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the class file cannot be found or read, or it does not denote an interface type, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The {@code InterfaceType} instance is cached by {@code typeRepository}.
+	 * 
+	 * @param className the fully qualified name of the desired interface type
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return an {@code InterfaceType} instance that represents the interface type denoted by {@code className} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code className} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read, or it does not denote an interface type
 	 */
-	public static void clearCache() {
-		synchronized(CLASS_FILES) {
-			CLASS_FILES.clear();
-		}
+	public static InterfaceType valueOf(final String className, final TypeRepository typeRepository) {
+		Objects.requireNonNull(className, "className == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
+		
+		final Type type = typeRepository.getType(className);
 		
-		synchronized(INTERFACE_TYPES) {
-			INTERFACE_TYPES.clear();
+		if(!(type instanceof InterfaceType)) {
+			throw new TypeException(String.format("An InterfaceType must refer to an interface type: %s", className));
 		}
+		
+		return InterfaceType.class.cast(type);
+	}
+	
+	/**
+	 * Clears the cache of the default {@link TypeRepository}.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * TypeRepository.getDefault().clear();
+	 * }
+	 * </pre>
+	 */
+	public static void clearCache() {
+		TypeRepository.getDefault().clear();
 	}
 	
 	////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -503,7 +510,7 @@ public final class InterfaceType extends Type {
 		getFields().forEach(field -> doAddImportableTypeIfNecessary(field.getType(), importableTypes));
 		getInterfaceTypes().forEach(interfaceType -> doAddImportableTypeIfNecessary(interfaceType, importableTypes));
 		getMethods().forEach(method -> method.getImportableTypes().forEach(type -> doAddImportableTypeIfNecessary(type, importableTypes)));
-		getOptionalTypeParameters().ifPresent(typeParameters -> typeParameters.collectNames().forEach(name -> doAddImportableTypeIfNecessary(Type.valueOf(name), importableTypes)));
+		getOptionalTypeParameters().ifPresent(typeParameters -> typeParameters.collectNames().forEach(name -> doAddImportableTypeIfNecessary(Type.valueOf(name, this.typeRepository), importableTypes)));
 		
 		return new ArrayList<>(importableTypes);
 	}
@@ -545,89 +552,78 @@ public final class InterfaceType extends Type {
 		importableTypes.add(type);
 	}
 	
-	private void doInitializeClassFile() {
-		if(this.hasInitializedClassFile.compareAndSet(false, true)) {
-			synchronized(CLASS_FILES) {
-				this.classFile.set(CLASS_FILES.computeIfAbsent(this.clazz.getName(), key -> new ClassFileReader().read(this.clazz)));
-			}
-		}
-	}
-	
-	private void doInitializeClassSignature() {
-		if(this.hasInitializedClassSignature.compareAndSet(false, true)) {
-			this.classSignature.set(ClassSignature.parseClassSignatureOptionally(getClassFile()).orElse(null));
-		}
+	private Optional<ClassSignature> doComputeClassSignature() {
+		return ClassSignature.parseClassSignatureOptionally(getClassFile());
 	}
 	
-	private void doInitializeExternalName() {
-		if(this.hasInitializedExternalName.compareAndSet(false, true)) {
-			this.externalName.set(ClassName.parseClassNameThisClass(getClassFile()).toExternalForm());
-		}
+	private String doComputeExternalName() {
+		return ClassName.parseClassNameThisClass(getClassFile()).toExternalForm();
 	}
 	
-	private void doInitializeFields() {
-		if(this.hasInitializedFields.compareAndSet(false, true)) {
-			final ClassFile classFile = getClassFile();
-			
-			classFile.getFieldInfos().stream().filter(fieldInfo -> fieldInfo.isInterfaceCompatible()).forEach(fieldInfo -> this.fields.add(new Field(classFile, fieldInfo, this)));
-		}
+	private List<Field> doComputeFields() {
+		final List<Field> fields = new ArrayList<>();
+		
+		final ClassFile classFile = getClassFile();
+		
+		classFile.getFieldInfosView().stream().filter(fieldInfo -> fieldInfo.isInterfaceCompatible()).forEach(fieldInfo -> fields.add(new Field(classFile, fieldInfo, this, this.typeRepository)));
+		
+		return fields;
 	}
 	
-	private void doInitializeImportableTypes() {
-		if(this.hasInitializedImportableTypes.compareAndSet(false, true)) {
-			this.importableTypes.addAll(doGetImportableTypesSorted());
-		}
+	private List<Type> doComputeImportableTypes() {
+		return doGetImportableTypesSorted();
 	}
 	
-	private void doInitializeInterfaceTypes() {
-		if(this.hasInitializedInterfaceTypes.compareAndSet(false, true)) {
-			final ClassFile classFile = getClassFile();
-			
-			final List<Integer> interfaceIndices = classFile.getInterfaces();
-			final List<InterfaceType> interfaceTypes = this.interfaceTypes;
+	private List<InterfaceType> doComputeInterfaceTypes() {
+		final List<InterfaceType> interfaceTypes = new ArrayList<>();
+		
+		final ClassFile classFile = getClassFile();
+		
+		final List<Integer> interfaceIndices = classFile.getInterfacesView();
+		
+		for(final int interfaceIndex : interfaceIndices) {
+			final String interfaceNameInternalForm = ConstantUTF8Info.findByNameIndex(classFile, classFile.getCPInfo(interfaceIndex, ConstantClassInfo.class)).getStringValue();
+			final String interfaceNameExternalForm = ClassName.parseClassName(interfaceNameInternalForm).toExternalForm();
 			
-			for(final int interfaceIndex : interfaceIndices) {
-				final String interfaceNameInternalForm = ConstantUTF8Info.findByNameIndex(classFile, classFile.getCPInfo(interfaceIndex, ConstantClassInfo.class)).getStringValue();
-				final String interfaceNameExternalForm = ClassName.parseClassName(interfaceNameInternalForm).toExternalForm();
-				
-				interfaceTypes.add(InterfaceType.valueOf(interfaceNameExternalForm));
-			}
+			interfaceTypes.add(InterfaceType.valueOf(interfaceNameExternalForm, this.typeRepository));
 		}
+		
+		return interfaceTypes;
 	}
 	
-	private void doInitializeMethods() {
-		if(this.hasInitializedMethods.compareAndSet(false, true)) {
-			final ClassFile classFile = getClassFile();
-			
-			MethodInfos.findMethods(classFile).forEach(methodInfo -> this.methods.add(new Method(classFile, methodInfo, this)));
-		}
+	private List<Method> doComputeMethods() {
+		final List<Method> methods = new ArrayList<>();
+		
+		final ClassFile classFile = getClassFile();
+		
+		MethodInfos.findMethods(classFile).forEach(methodInfo -> methods.add(new Method(classFile, methodInfo, this, this.typeRepository)));
+		
+		return methods;
 	}
 	
-	private void doInitializeModifiers() {
-		if(this.hasInitializedModifiers.compareAndSet(false, true)) {
-			final List<Modifier> modifiers = this.modifiers;
-			
-			if(isPublic()) {
-				modifiers.add(Modifier.PUBLIC);
-			}
+	private List<Modifier> doComputeModifiers() {
+		final List<Modifier> modifiers = new ArrayList<>();
+		
+		if(isPublic()) {
+			modifiers.add(Modifier.PUBLIC);
 		}
+		
+		return modifiers;
 	}
 	
-	private void doInitializeSuperClassSignature() {
-		if(this.hasInitializedSuperClassSignature.compareAndSet(false, true)) {
-			getOptionalClassSignature().ifPresent(classSignature -> this.superClassSignature.set(classSignature.getSuperClassSignature()));
-		}
+	private Optional<SuperClassSignature> doComputeSuperClassSignature() {
+		return getOptionalClassSignature().map(classSignature -> classSignature.getSuperClassSignature());
 	}
 	
-	private void doInitializeSuperInterfaceSignatures() {
-		if(this.hasInitializedSuperInterfaceSignatures.compareAndSet(false, true)) {
-			getOptionalClassSignature().ifPresent(classSignature -> this.superInterfaceSignatures.addAll(classSignature.getSuperInterfaceSignatures()));
-		}
+	private List<SuperInterfaceSignature> doComputeSuperInterfaceSignatures() {
+		final List<SuperInterfaceSignature> superInterfaceSignatures = new ArrayList<>();
+		
+		getOptionalClassSignature().ifPresent(classSignature -> superInterfaceSignatures.addAll(classSignature.getSuperInterfaceSignatures()));
+		
+		return superInterfaceSignatures;
 	}
 	
-	private void doInitializeTypeParameters() {
-		if(this.hasInitializedTypeParameters.compareAndSet(false, true)) {
-			getOptionalClassSignature().ifPresent(classSignature -> this.typeParameters.set(classSignature.getTypeParameters().orElse(null)));
-		}
+	private Optional<TypeParameters> doComputeTypeParameters() {
+		return getOptionalClassSignature().flatMap(classSignature -> classSignature.getTypeParameters());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.model;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A {@code Lazy} memoizes a value that is computed on first access.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * The value is computed outside of any lock and published only once it is complete, so no thread can observe a partially computed value. If several threads access an uncomputed {@code Lazy} at the same time, each of them may compute the
+ * value, but only the first value is stored and returned to all of them. No lock is held while the value is computed, so a computation may safely access other {@code Lazy} instances, even in a cycle across threads.
+ * 
+ * @param <T> the type of the value
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+final class Lazy<T> {
+	private final AtomicReference<T> value;
+	private final Supplier<T> supplier;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code Lazy} instance that computes its value using {@code supplier}.
+	 * <p>
+	 * If {@code supplier} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param supplier the {@code Supplier} that computes the value
+	 * @throws NullPointerException thrown if, and only if, {@code supplier} is {@code null}
+	 */
+	public Lazy(final Supplier<T> supplier) {
+		this.value = new AtomicReference<>();
+		this.supplier = Objects.requireNonNull(supplier, "supplier == null");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the value, computing it if it has not been computed yet.
+	 * <p>
+	 * If the {@code Supplier} returns {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the {@code Supplier} throws a {@code RuntimeException}, it is rethrown and the value is computed again on the next access.
+	 * 
+	 * @return the value
+	 * @throws NullPointerException thrown if, and only if, the {@code Supplier} returns {@code null}
+	 */
+	public T get() {
+		final T oldValue = this.value.get();
+		
+		if(oldValue != null) {
+			return oldValue;
+		}
+		
+		final T newValue = Objects.requireNonNull(this.supplier.get(), "supplier.get() == null");
+		
+		return this.value.compareAndSet(null, newValue) ? newValue : this.value.get();
+	}
+}
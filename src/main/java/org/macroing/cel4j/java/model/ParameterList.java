@@ -154,6 +154,13 @@ public final class ParameterList implements Comparable<ParameterList> {
 	 * If either {@code classFile} or {@code methodInfo} are {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
 	 * If loading fails, either an {@code IllegalArgumentException} or an {@code IndexOutOfBoundsException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * ParameterList.load(classFile, methodInfo, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param classFile a {@link ClassFile} instance
 	 * @param methodInfo a {@link MethodInfo} instance
@@ -162,8 +169,28 @@ public final class ParameterList implements Comparable<ParameterList> {
 	 * @throws IndexOutOfBoundsException thrown if, and only if, loading fails
 	 */
 	public static ParameterList load(final ClassFile classFile, final MethodInfo methodInfo) {
+		return load(classFile, methodInfo, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns a {@code ParameterList} instance by loading it from {@code classFile} and {@code methodInfo} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code classFile}, {@code methodInfo} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If loading fails, either an {@code IllegalArgumentException} or an {@code IndexOutOfBoundsException} will be thrown.
+	 * 
+	 * @param classFile a {@link ClassFile} instance
+	 * @param methodInfo a {@link MethodInfo} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return a {@code ParameterList} instance by loading it from {@code classFile} and {@code methodInfo} in the context of {@code typeRepository}
+	 * @throws IllegalArgumentException thrown if, and only if, loading fails
+	 * @throws IndexOutOfBoundsException thrown if, and only if, loading fails
+	 * @throws NullPointerException thrown if, and only if, either {@code classFile}, {@code methodInfo} or {@code typeRepository} are {@code null}
+	 */
+	public static ParameterList load(final ClassFile classFile, final MethodInfo methodInfo, final TypeRepository typeRepository) {
 		Objects.requireNonNull(classFile, "classFile == null");
 		Objects.requireNonNull(methodInfo, "methodInfo == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
 		
 		final List<Parameter> parameters = new ArrayList<>();
 		
@@ -186,11 +213,11 @@ public final class ParameterList implements Comparable<ParameterList> {
 				final List<JavaTypeSignature> javaTypeSignatures = methodSignature.getJavaTypeSignatures();
 				
 				for(int i = 0; i < parameterNames.size(); i++) {
-					parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i)), parameterNames.get(i), parameterIsFinals.get(i).booleanValue(), javaTypeSignatures.get(i)));
+					parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i), typeRepository), parameterNames.get(i), parameterIsFinals.get(i).booleanValue(), javaTypeSignatures.get(i)));
 				}
 			} else {
 				for(int i = 0; i < parameterNames.size(); i++) {
-					parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i)), parameterNames.get(i), parameterIsFinals.get(i).booleanValue()));
+					parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i), typeRepository), parameterNames.get(i), parameterIsFinals.get(i).booleanValue()));
 				}
 			}
 		} else {
@@ -202,16 +229,16 @@ public final class ParameterList implements Comparable<ParameterList> {
 //				TODO: Find out why parameterDescriptors.size() can be different from javaTypeSignatures.size().
 				if(parameterDescriptors.size() == javaTypeSignatures.size()) {
 					for(int i = 0; i < parameterDescriptors.size(); i++) {
-						parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i)), "", false, javaTypeSignatures.get(i)));
+						parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i), typeRepository), "", false, javaTypeSignatures.get(i)));
 					}
 				} else {
 					for(int i = 0; i < parameterDescriptors.size(); i++) {
-						parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i))));
+						parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i), typeRepository)));
 					}
 				}
 			} else {
 				for(int i = 0; i < parameterDescriptors.size(); i++) {
-					parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i))));
+					parameters.add(new Parameter(Type.valueOf(parameterDescriptors.get(i), typeRepository)));
 				}
 			}
 		}
@@ -175,29 +175,40 @@ public abstract class Type {
 	 * Returns a {@code Type} instance that represents {@code clazz}.
 	 * <p>
 	 * If {@code clazz} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Type.valueOf(clazz, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param clazz a {@code Class} instance
 	 * @return a {@code Type} instance that represents {@code clazz}
 	 * @throws NullPointerException thrown if, and only if, {@code clazz} is {@code null}
 	 */
 	public static Type valueOf(final Class<?> clazz) {
+		return valueOf(clazz, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns a {@code Type} instance that represents {@code clazz} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code clazz} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the class file of {@code clazz} cannot be read, a {@code TypeException} will be thrown.
+	 * 
+	 * @param clazz a {@code Class} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return a {@code Type} instance that represents {@code clazz} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code clazz} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, the class file of {@code clazz} cannot be read
+	 */
+	public static Type valueOf(final Class<?> clazz, final TypeRepository typeRepository) {
 		Objects.requireNonNull(clazz, "clazz == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
 		
-		if(clazz == Void.TYPE) {
-			return VoidType.valueOf(clazz);
-		} else if(clazz.isAnnotation()) {
-			return AnnotationType.valueOf(clazz);
-		} else if(clazz.isArray()) {
-			return ArrayType.valueOf(clazz);
-		} else if(clazz.isEnum()) {
-			return EnumType.valueOf(clazz);
-		} else if(clazz.isInterface()) {
-			return InterfaceType.valueOf(clazz);
-		} else if(clazz.isPrimitive()) {
-			return PrimitiveType.valueOf(clazz);
-		} else {
-			return ClassType.valueOf(clazz);
-		}
+		return typeRepository.getType(clazz);
 	}
 	
 	/**
@@ -205,19 +216,46 @@ public abstract class Type {
 	 * <p>
 	 * If {@code fieldDescriptor} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code fieldDescriptor.toClass()} fails, a {@code TypeException} will be thrown.
+	 * If the type denoted by {@code fieldDescriptor} cannot be resolved, a {@code TypeException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Type.valueOf(fieldDescriptor, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param fieldDescriptor a {@link FieldDescriptor} instance
 	 * @return a {@code Type} instance given {@code fieldDescriptor}
 	 * @throws NullPointerException thrown if, and only if, {@code fieldDescriptor} is {@code null}
-	 * @throws TypeException thrown if, and only if, {@code fieldDescriptor.toClass()} fails
+	 * @throws TypeException thrown if, and only if, the type denoted by {@code fieldDescriptor} cannot be resolved
 	 */
 	public static Type valueOf(final FieldDescriptor fieldDescriptor) {
-		try {
-			return valueOf(fieldDescriptor.toClass());
-		} catch(final ClassNotFoundException | LinkageError e) {
-			throw new TypeException(e);
-		}
+		return valueOf(fieldDescriptor, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns a {@code Type} instance given {@code fieldDescriptor} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code fieldDescriptor} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the type denoted by {@code fieldDescriptor} cannot be resolved, a {@code TypeException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Type.valueOf(fieldDescriptor.toExternalForm(), typeRepository);
+	 * }
+	 * </pre>
+	 * 
+	 * @param fieldDescriptor a {@link FieldDescriptor} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return a {@code Type} instance given {@code fieldDescriptor} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code fieldDescriptor} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, the type denoted by {@code fieldDescriptor} cannot be resolved
+	 */
+	public static Type valueOf(final FieldDescriptor fieldDescriptor, final TypeRepository typeRepository) {
+		return valueOf(Objects.requireNonNull(fieldDescriptor, "fieldDescriptor == null").toExternalForm(), typeRepository);
 	}
 	
 	/**
@@ -225,19 +263,46 @@ public abstract class Type {
 	 * <p>
 	 * If {@code parameterDescriptor} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code parameterDescriptor.toClass()} fails, a {@code TypeException} will be thrown.
+	 * If the type denoted by {@code parameterDescriptor} cannot be resolved, a {@code TypeException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Type.valueOf(parameterDescriptor, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param parameterDescriptor a {@link ParameterDescriptor} instance
 	 * @return a {@code Type} instance given {@code parameterDescriptor}
 	 * @throws NullPointerException thrown if, and only if, {@code parameterDescriptor} is {@code null}
-	 * @throws TypeException thrown if, and only if, {@code parameterDescriptor.toClass()} fails
+	 * @throws TypeException thrown if, and only if, the type denoted by {@code parameterDescriptor} cannot be resolved
 	 */
 	public static Type valueOf(final ParameterDescriptor parameterDescriptor) {
-		try {
-			return valueOf(parameterDescriptor.toClass());
-		} catch(final ClassNotFoundException | LinkageError e) {
-			throw new TypeException(e);
-		}
+		return valueOf(parameterDescriptor, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns a {@code Type} instance given {@code parameterDescriptor} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code parameterDescriptor} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the type denoted by {@code parameterDescriptor} cannot be resolved, a {@code TypeException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Type.valueOf(parameterDescriptor.toExternalForm(), typeRepository);
+	 * }
+	 * </pre>
+	 * 
+	 * @param parameterDescriptor a {@link ParameterDescriptor} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return a {@code Type} instance given {@code parameterDescriptor} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code parameterDescriptor} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, the type denoted by {@code parameterDescriptor} cannot be resolved
+	 */
+	public static Type valueOf(final ParameterDescriptor parameterDescriptor, final TypeRepository typeRepository) {
+		return valueOf(Objects.requireNonNull(parameterDescriptor, "parameterDescriptor == null").toExternalForm(), typeRepository);
 	}
 	
 	/**
@@ -245,19 +310,46 @@ public abstract class Type {
 	 * <p>
 	 * If {@code returnDescriptor} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code returnDescriptor.toClass()} fails, a {@code TypeException} will be thrown.
+	 * If the type denoted by {@code returnDescriptor} cannot be resolved, a {@code TypeException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Type.valueOf(returnDescriptor, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param returnDescriptor a {@link ReturnDescriptor} instance
 	 * @return a {@code Type} instance given {@code returnDescriptor}
 	 * @throws NullPointerException thrown if, and only if, {@code returnDescriptor} is {@code null}
-	 * @throws TypeException thrown if, and only if, {@code returnDescriptor.toClass()} fails
+	 * @throws TypeException thrown if, and only if, the type denoted by {@code returnDescriptor} cannot be resolved
 	 */
 	public static Type valueOf(final ReturnDescriptor returnDescriptor) {
-		try {
-			return valueOf(returnDescriptor.toClass());
-		} catch(final ClassNotFoundException | LinkageError e) {
-			throw new TypeException(e);
-		}
+		return valueOf(returnDescriptor, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns a {@code Type} instance given {@code returnDescriptor} in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code returnDescriptor} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the type denoted by {@code returnDescriptor} cannot be resolved, a {@code TypeException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Type.valueOf(returnDescriptor.toExternalForm(), typeRepository);
+	 * }
+	 * </pre>
+	 * 
+	 * @param returnDescriptor a {@link ReturnDescriptor} instance
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return a {@code Type} instance given {@code returnDescriptor} in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code returnDescriptor} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, the type denoted by {@code returnDescriptor} cannot be resolved
+	 */
+	public static Type valueOf(final ReturnDescriptor returnDescriptor, final TypeRepository typeRepository) {
+		return valueOf(Objects.requireNonNull(returnDescriptor, "returnDescriptor == null").toExternalForm(), typeRepository);
 	}
 	
 	/**
@@ -265,15 +357,43 @@ public abstract class Type {
 	 * <p>
 	 * If {@code name} is {@code null}, a {@code NullPointerException} will be thrown.
 	 * <p>
-	 * If {@code Class.forName(name)} fails, a {@code TypeException} will be thrown.
+	 * If the class file for {@code name} cannot be found or read, a {@code TypeException} will be thrown.
+	 * <p>
+	 * Calling this method is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * Type.valueOf(name, TypeRepository.getDefault());
+	 * }
+	 * </pre>
 	 * 
 	 * @param name the name in external or internal format
 	 * @return a {@code Type} instance given {@code name} in external or internal format
 	 * @throws NullPointerException thrown if, and only if, {@code name} is {@code null}
-	 * @throws TypeException thrown if, and only if, {@code Class.forName(name)} fails
+	 * @throws TypeException thrown if, and only if, the class file for {@code name} cannot be found or read
 	 */
 	public static Type valueOf(final String name) {
+		return valueOf(name, TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Returns a {@code Type} instance given {@code name} in external or internal format in the context of {@code typeRepository}.
+	 * <p>
+	 * If either {@code name} or {@code typeRepository} are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code name} denotes neither a primitive type nor {@code void}, the {@code Type} instance is created and cached by {@code typeRepository}. The class file for {@code name} is found and read by its {@link TypeResolver}, and the
+	 * {@code Type} implementation is chosen by its access flags. No class is loaded.
+	 * <p>
+	 * If the class file cannot be found or read, a {@code TypeException} will be thrown.
+	 * 
+	 * @param name the name in external or internal format
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @return a {@code Type} instance given {@code name} in external or internal format in the context of {@code typeRepository}
+	 * @throws NullPointerException thrown if, and only if, either {@code name} or {@code typeRepository} are {@code null}
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read
+	 */
+	public static Type valueOf(final String name, final TypeRepository typeRepository) {
 		Objects.requireNonNull(name, "name == null");
+		Objects.requireNonNull(typeRepository, "typeRepository == null");
 		
 		switch(name) {
 			case PrimitiveType.BOOLEAN_EXTERNAL_NAME:
@@ -297,11 +417,7 @@ public abstract class Type {
 			case VoidType.VOID_INTERNAL_NAME:
 				return VoidType.valueOf(name);
 			default:
-				try {
-					return valueOf(Class.forName(name));
-				} catch(final ClassNotFoundException | LinkageError e) {
-					throw new TypeException(e);
-				}
+				return typeRepository.getType(name);
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,287 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.FieldInfo;
+import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.ExceptionsAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InnerClass;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.InnerClassesAttribute;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantClassInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+import org.macroing.cel4j.java.binary.classfile.descriptor.ClassName;
+import org.macroing.cel4j.java.binary.classfile.descriptor.FieldDescriptor;
+import org.macroing.cel4j.java.binary.classfile.descriptor.MethodDescriptor;
+import org.macroing.cel4j.java.binary.classfile.descriptor.ParameterDescriptor;
+
+/**
+ * A {@code TypeGraphLoader} loads the {@link Type} instances of a set of types and of all types that are reachable from them, in parallel.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * Starting with a set of type names, a {@code TypeGraphLoader} follows the super class, the interfaces, the inner types and the types of the fields, constructors and methods of each type it loads. Each type is loaded once, no matter how
+ * many types refer to it. The types are loaded level by level in breadth-first order, and each level is loaded on the common {@code ForkJoinPool}. The lazily computed members of each {@code Type} instance that are followed are computed
+ * while it is loaded, so the returned {@code Type} instances can be used from any thread without computing them again.
+ * <p>
+ * All {@code Type} instances are created by the {@link TypeRepository} of the {@code TypeGraphLoader}.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * TypeGraphLoader typeGraphLoader = new TypeGraphLoader(TypeRepository.ofSoftReferences(new TypeResolver(ClassPath.of(Paths.get("library.jar")))));
+ * 
+ * Map<String, Type> types = typeGraphLoader.loadAll(Arrays.asList("com.example.Library"));
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class TypeGraphLoader {
+	private final TypeRepository typeRepository;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code TypeGraphLoader} instance that uses the default {@link TypeRepository}.
+	 * <p>
+	 * Calling this constructor is equivalent to the following:
+	 * <pre>
+	 * {@code
+	 * new TypeGraphLoader(TypeRepository.getDefault());
+	 * }
+	 * </pre>
+	 */
+	public TypeGraphLoader() {
+		this(TypeRepository.getDefault());
+	}
+	
+	/**
+	 * Constructs a new {@code TypeGraphLoader} instance that uses {@code typeRepository}.
+	 * <p>
+	 * If {@code typeRepository} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param typeRepository the {@link TypeRepository} to use
+	 * @throws NullPointerException thrown if, and only if, {@code typeRepository} is {@code null}
+	 */
+	public TypeGraphLoader(final TypeRepository typeRepository) {
+		this.typeRepository = Objects.requireNonNull(typeRepository, "typeRepository == null");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code Map} with all {@link Type} instances that were loaded, starting with the types named by {@code typeNames}, keyed by their external names.
+	 * <p>
+	 * If either {@code typeNames} or any of its elements are {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the type named by an element in {@code typeNames} cannot be resolved, a {@code TypeException} will be thrown.
+	 * <p>
+	 * The returned {@code Map} is sorted by the external names. The names in {@code typeNames} may be in any form accepted by {@link Type#valueOf(String, TypeRepository)}. For an array type, its element type is loaded. Primitive types
+	 * and {@code void} are not included.
+	 * <p>
+	 * A type that is reachable from the types named by {@code typeNames}, but cannot be resolved, is skipped. Each referenced type is resolved on its own, so the other types that are referred to by the same member, or by other members of
+	 * the same kind, are still loaded.
+	 * <p>
+	 * Modifying the returned {@code Map} will not affect this {@code TypeGraphLoader} instance.
+	 * 
+	 * @param typeNames a {@code Collection} with the names of the types to start with
+	 * @return a {@code Map} with all {@code Type} instances that were loaded, starting with the types named by {@code typeNames}, keyed by their external names
+	 * @throws NullPointerException thrown if, and only if, either {@code typeNames} or any of its elements are {@code null}
+	 * @throws TypeException thrown if, and only if, the type named by an element in {@code typeNames} cannot be resolved
+	 */
+	public Map<String, Type> loadAll(final Collection<String> typeNames) {
+		final List<String> currentTypeNames = new ArrayList<>(Objects.requireNonNull(typeNames, "typeNames == null"));
+		
+		for(final String typeName : currentTypeNames) {
+			Objects.requireNonNull(typeName, "typeName == null");
+		}
+		
+		final Map<String, Type> types = new ConcurrentHashMap<>();
+		
+		final Set<String> externalNames = ConcurrentHashMap.newKeySet();
+		
+		List<Type> currentTypes = doFilter(currentTypeNames.parallelStream().map(typeName -> Type.valueOf(typeName, this.typeRepository)), externalNames);
+		
+		while(!currentTypes.isEmpty()) {
+			for(final Type currentType : currentTypes) {
+				types.put(currentType.getExternalName(), currentType);
+			}
+			
+			currentTypes = doFilter(currentTypes.parallelStream().flatMap(currentType -> doLoad(currentType).stream()), externalNames);
+		}
+		
+		return new TreeMap<>(types);
+	}
+	
+	/**
+	 * Returns the {@link TypeRepository} of this {@code TypeGraphLoader} instance.
+	 * 
+	 * @return the {@code TypeRepository} of this {@code TypeGraphLoader} instance
+	 */
+	public TypeRepository getTypeRepository() {
+		return this.typeRepository;
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code TypeGraphLoader} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code TypeGraphLoader} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("new TypeGraphLoader(%s)", this.typeRepository);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private List<Type> doLoad(final Type type) {
+		final List<Type> types = new ArrayList<>();
+		
+		if(type instanceof ClassType) {
+			final ClassType classType = ClassType.class.cast(type);
+			
+			doComputeMembers(classType);
+			
+			for(final String typeName : doGetTypeNames(classType.getClassFile(), true)) {
+				doAdd(types, typeName);
+			}
+		} else if(type instanceof InterfaceType) {
+			final InterfaceType interfaceType = InterfaceType.class.cast(type);
+			
+			doComputeMembers(interfaceType);
+			
+			for(final String typeName : doGetTypeNames(interfaceType.getClassFile(), false)) {
+				doAdd(types, typeName);
+			}
+		}
+		
+		return types;
+	}
+	
+	private void doAdd(final List<Type> types, final String typeName) {
+		try {
+			types.add(Type.valueOf(typeName, this.typeRepository));
+		} catch(final TypeException e) {
+//			A type that cannot be resolved is skipped. Only the type named by typeName is skipped, not the other types that are referred to by the same member or by members of the same kind.
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static List<Type> doFilter(final Stream<Type> types, final Set<String> externalNames) {
+		return types.map(type -> doGetElementType(type)).filter(type -> !(type instanceof PrimitiveType) && !(type instanceof VoidType)).filter(type -> externalNames.add(type.getExternalName())).collect(Collectors.toList());
+	}
+	
+	private static List<String> doGetTypeNames(final ClassFile classFile, final boolean isIncludingInnerTypes) {
+		final List<String> typeNames = new ArrayList<>();
+		
+		if(classFile.getSuperClass() != 0) {
+			typeNames.add(ClassName.parseClassNameSuperClass(classFile).toExternalForm());
+		}
+		
+		for(final int interfaceIndex : classFile.getInterfacesView()) {
+			typeNames.add(doGetTypeName(classFile, interfaceIndex));
+		}
+		
+		if(isIncludingInnerTypes) {
+			final String thisClassName = ClassName.parseClassNameThisClass(classFile).toExternalForm();
+			
+			InnerClassesAttribute.find(classFile).ifPresent(innerClassesAttribute -> {
+				for(final InnerClass innerClass : innerClassesAttribute.getInnerClasses()) {
+					if(innerClass.getInnerNameIndex() != 0 && innerClass.getOuterClassInfoIndex() != 0 && thisClassName.equals(doGetTypeName(classFile, innerClass.getOuterClassInfoIndex()))) {
+						typeNames.add(doGetTypeName(classFile, innerClass.getInnerClassInfoIndex()));
+					}
+				}
+			});
+		}
+		
+		for(final FieldInfo fieldInfo : classFile.getFieldInfosView()) {
+			typeNames.add(FieldDescriptor.parseFieldDescriptor(classFile, fieldInfo).toExternalForm());
+		}
+		
+		for(final MethodInfo methodInfo : classFile.getMethodInfosView()) {
+			final MethodDescriptor methodDescriptor = MethodDescriptor.parseMethodDescriptor(classFile, methodInfo);
+			
+			typeNames.add(methodDescriptor.getReturnDescriptor().toExternalForm());
+			
+			for(final ParameterDescriptor parameterDescriptor : methodDescriptor.getParameterDescriptors()) {
+				typeNames.add(parameterDescriptor.toExternalForm());
+			}
+			
+			ExceptionsAttribute.find(methodInfo).ifPresent(exceptionsAttribute -> {
+				for(final int exceptionIndex : exceptionsAttribute.getExceptionIndexTableView()) {
+					typeNames.add(doGetTypeName(classFile, exceptionIndex));
+				}
+			});
+		}
+		
+		return typeNames;
+	}
+	
+	private static String doGetTypeName(final ClassFile classFile, final int constantClassInfoIndex) {
+		return ClassName.parseClassName(ConstantUTF8Info.findByNameIndex(classFile, classFile.getCPInfo(constantClassInfoIndex, ConstantClassInfo.class)).getStringValue()).toExternalForm();
+	}
+	
+	private static Type doGetElementType(final Type type) {
+		Type elementType = type;
+		
+		while(elementType instanceof ArrayType) {
+			elementType = ArrayType.class.cast(elementType).getComponentType();
+		}
+		
+		return elementType;
+	}
+	
+	private static void doCompute(final Runnable runnable) {
+		try {
+			runnable.run();
+		} catch(final TypeException e) {
+//			A member that refers to a type that cannot be resolved is computed on demand instead. The types it refers to are resolved one by one by doLoad(Type).
+		}
+	}
+	
+	private static void doComputeMembers(final ClassType classType) {
+		doCompute(() -> classType.getOptionalSuperClassType());
+		doCompute(() -> classType.getInterfaceTypes());
+		doCompute(() -> classType.getInnerTypes());
+		doCompute(() -> classType.getFields());
+		doCompute(() -> classType.getConstructors().forEach(constructor -> constructor.getExceptionTypes()));
+		doCompute(() -> classType.getMethods().forEach(method -> method.getExceptionTypes()));
+	}
+	
+	private static void doComputeMembers(final InterfaceType interfaceType) {
+		doCompute(() -> interfaceType.getOptionalSuperClassType());
+		doCompute(() -> interfaceType.getInterfaceTypes());
+		doCompute(() -> interfaceType.getFields());
+		doCompute(() -> interfaceType.getMethods().forEach(method -> method.getExceptionTypes()));
+	}
+}
@@ -0,0 +1,486 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.model;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.descriptor.FieldDescriptor;
+import org.macroing.cel4j.util.MemoCache;
+import org.macroing.cel4j.util.ParameterArguments;
+
+/**
+ * A {@code TypeRepository} creates and caches the {@link Type} instances of class, interface, enum, annotation and array types.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * A {@code TypeRepository} is the context in which a {@code Type} instance is created. All {@code Type} instances that are reachable from a {@code Type} instance, such as its super class, its interfaces or the types of its fields and
+ * methods, are created by the same {@code TypeRepository}. The {@code valueOf} methods of the {@code Type} implementations that do not take a {@code TypeRepository} use the default {@code TypeRepository}.
+ * <p>
+ * The lookups are concurrent. No global lock is held while a class file is read or a {@code Type} instance is created. If two threads create the {@code Type} instance for the same name at the same time, both create it, but only the first
+ * instance is stored and returned to both.
+ * <p>
+ * The cached {@code Type} instances are evicted according to an {@link EvictionPolicy}. With {@link EvictionPolicy#LEAST_RECENTLY_USED}, at most a fixed number of {@code Type} instances are cached and the least-recently-used ones are
+ * evicted first. With {@link EvictionPolicy#SOFT_REFERENCES}, the {@code Type} instances are held by soft references and are evicted by the garbage collector when memory runs low.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * TypeRepository typeRepository = TypeRepository.ofLeastRecentlyUsed(new TypeResolver(ClassPath.of(Paths.get("library.jar"))), 10000);
+ * 
+ * ClassType classType = ClassType.valueOf("com.example.Library", typeRepository);
+ * 
+ * System.out.println(typeRepository.getHitRate());
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class TypeRepository {
+	private static final AtomicReference<TypeRepository> DEFAULT = new AtomicReference<>();
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final Cache cache;
+	private final EvictionPolicy evictionPolicy;
+	private final TypeResolver typeResolver;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private TypeRepository(final TypeResolver typeResolver, final EvictionPolicy evictionPolicy, final Cache cache) {
+		this.typeResolver = typeResolver;
+		this.evictionPolicy = evictionPolicy;
+		this.cache = cache;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the {@link EvictionPolicy} of this {@code TypeRepository} instance.
+	 * 
+	 * @return the {@code EvictionPolicy} of this {@code TypeRepository} instance
+	 */
+	public EvictionPolicy getEvictionPolicy() {
+		return this.evictionPolicy;
+	}
+	
+	/**
+	 * Returns a {@link Type} instance that represents {@code clazz}.
+	 * <p>
+	 * If {@code clazz} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The class file is found and read by the {@link TypeResolver} of this {@code TypeRepository} instance. If it cannot be found, it is read as a resource of {@code clazz} instead.
+	 * <p>
+	 * If the class file cannot be read, a {@code TypeException} will be thrown.
+	 * 
+	 * @param clazz a {@code Class} instance
+	 * @return a {@code Type} instance that represents {@code clazz}
+	 * @throws NullPointerException thrown if, and only if, {@code clazz} is {@code null}
+	 * @throws TypeException thrown if, and only if, the class file cannot be read
+	 */
+	public Type getType(final Class<?> clazz) {
+		Objects.requireNonNull(clazz, "clazz == null");
+		
+		if(clazz == Void.TYPE) {
+			return VoidType.valueOf(clazz);
+		} else if(clazz.isPrimitive()) {
+			return PrimitiveType.valueOf(clazz);
+		} else if(clazz.isArray()) {
+			final Type componentType = getType(clazz.getComponentType());
+			
+			return this.cache.computeIfAbsent(componentType.getExternalName() + "[]", name -> new ArrayType(componentType));
+		} else {
+			return this.cache.computeIfAbsent(clazz.getName(), name -> doCreateType(this.typeResolver.findClassFile(name).orElseGet(() -> TypeResolver.readClassFile(clazz))));
+		}
+	}
+	
+	/**
+	 * Returns a {@link Type} instance that represents the class, interface, enum, annotation or array type denoted by {@code name}.
+	 * <p>
+	 * The name may be given in external form, such as {@code "java.util.Map$Entry"} or {@code "java.lang.String[]"}, in internal form, such as {@code "java/util/Map$Entry"}, or, for an array type, in the form returned by
+	 * {@code Class.getName()}, such as {@code "[Ljava.lang.String;"}.
+	 * <p>
+	 * If {@code name} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * The class file is found and read by the {@link TypeResolver} of this {@code TypeRepository} instance. No class is loaded.
+	 * <p>
+	 * If the class file cannot be found or read, a {@code TypeException} will be thrown.
+	 * 
+	 * @param name the name of a class, interface, enum, annotation or array type
+	 * @return a {@code Type} instance that represents the class, interface, enum, annotation or array type denoted by {@code name}
+	 * @throws NullPointerException thrown if, and only if, {@code name} is {@code null}
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read
+	 */
+	public Type getType(final String name) {
+		final String externalName = doToExternalName(Objects.requireNonNull(name, "name == null"));
+		
+		if(externalName.endsWith("[]")) {
+			return this.cache.computeIfAbsent(externalName, key -> new ArrayType(Type.valueOf(key.substring(0, key.length() - 2), this)));
+		}
+		
+		return this.cache.computeIfAbsent(externalName, key -> doCreateType(this.typeResolver.resolveClassFile(key)));
+	}
+	
+	/**
+	 * Returns the {@link TypeResolver} of this {@code TypeRepository} instance.
+	 * 
+	 * @return the {@code TypeResolver} of this {@code TypeRepository} instance
+	 */
+	public TypeResolver getTypeResolver() {
+		return this.typeResolver;
+	}
+	
+	/**
+	 * Returns a {@code String} representation of this {@code TypeRepository} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code TypeRepository} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("TypeRepository: [EvictionPolicy=%s], [Size=%d], [HitRate=%s], [EvictionCount=%d]", this.evictionPolicy, Integer.valueOf(getSize()), Double.toString(getHitRate()), Long.valueOf(getEvictionCount()));
+	}
+	
+	/**
+	 * Returns the hit rate of this {@code TypeRepository} instance.
+	 * <p>
+	 * The hit rate is the number of lookups that found a cached {@link Type} instance divided by the total number of lookups, or {@code 0.0D} if there have been no lookups.
+	 * 
+	 * @return the hit rate of this {@code TypeRepository} instance
+	 */
+	public double getHitRate() {
+		final long hitCount = getHitCount();
+		final long missCount = getMissCount();
+		final long lookupCount = hitCount + missCount;
+		
+		return lookupCount == 0L ? 0.0D : (double)(hitCount) / (double)(lookupCount);
+	}
+	
+	/**
+	 * Returns the number of {@link Type} instances that are currently cached by this {@code TypeRepository} instance.
+	 * <p>
+	 * With {@link EvictionPolicy#SOFT_REFERENCES}, the returned number may include {@code Type} instances that have been cleared by the garbage collector but not yet evicted.
+	 * 
+	 * @return the number of {@code Type} instances that are currently cached by this {@code TypeRepository} instance
+	 */
+	public int getSize() {
+		return this.cache.getSize();
+	}
+	
+	/**
+	 * Returns the number of {@link Type} instances that have been evicted from this {@code TypeRepository} instance.
+	 * 
+	 * @return the number of {@code Type} instances that have been evicted from this {@code TypeRepository} instance
+	 */
+	public long getEvictionCount() {
+		return this.cache.getEvictionCount();
+	}
+	
+	/**
+	 * Returns the number of lookups that found a cached {@link Type} instance.
+	 * 
+	 * @return the number of lookups that found a cached {@code Type} instance
+	 */
+	public long getHitCount() {
+		return this.cache.getHitCount();
+	}
+	
+	/**
+	 * Returns the number of lookups that did not find a cached {@link Type} instance.
+	 * 
+	 * @return the number of lookups that did not find a cached {@code Type} instance
+	 */
+	public long getMissCount() {
+		return this.cache.getMissCount();
+	}
+	
+	/**
+	 * Removes all cached {@link Type} instances from this {@code TypeRepository} instance.
+	 * <p>
+	 * The hit, miss and eviction counts are not reset.
+	 */
+	public void clear() {
+		this.cache.clear();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the default {@code TypeRepository} instance.
+	 * <p>
+	 * Unless another {@code TypeRepository} has been set using {@link #setDefault(TypeRepository)}, the default {@code TypeRepository} uses {@code TypeResolver.getDefault()} and {@link EvictionPolicy#SOFT_REFERENCES}.
+	 * 
+	 * @return the default {@code TypeRepository} instance
+	 */
+	public static TypeRepository getDefault() {
+		final TypeRepository typeRepository = DEFAULT.get();
+		
+		if(typeRepository != null) {
+			return typeRepository;
+		}
+		
+		DEFAULT.compareAndSet(null, ofSoftReferences(TypeResolver.getDefault()));
+		
+		return DEFAULT.get();
+	}
+	
+	/**
+	 * Returns a new {@code TypeRepository} instance that uses {@code typeResolver} and caches at most {@code maximumSize} {@link Type} instances, evicting the least-recently-used ones first.
+	 * <p>
+	 * If {@code typeResolver} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code maximumSize} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param typeResolver the {@link TypeResolver} to use
+	 * @param maximumSize the maximum number of cached {@code Type} instances
+	 * @return a new {@code TypeRepository} instance that uses {@code typeResolver} and caches at most {@code maximumSize} {@code Type} instances, evicting the least-recently-used ones first
+	 * @throws IllegalArgumentException thrown if, and only if, {@code maximumSize} is less than {@code 1}
+	 * @throws NullPointerException thrown if, and only if, {@code typeResolver} is {@code null}
+	 */
+	public static TypeRepository ofLeastRecentlyUsed(final TypeResolver typeResolver, final int maximumSize) {
+		return new TypeRepository(Objects.requireNonNull(typeResolver, "typeResolver == null"), EvictionPolicy.LEAST_RECENTLY_USED, new LeastRecentlyUsedCache(ParameterArguments.requireRange(maximumSize, 1, Integer.MAX_VALUE, "maximumSize")));
+	}
+	
+	/**
+	 * Returns a new {@code TypeRepository} instance that uses {@code typeResolver} and holds its {@link Type} instances by soft references.
+	 * <p>
+	 * If {@code typeResolver} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param typeResolver the {@link TypeResolver} to use
+	 * @return a new {@code TypeRepository} instance that uses {@code typeResolver} and holds its {@code Type} instances by soft references
+	 * @throws NullPointerException thrown if, and only if, {@code typeResolver} is {@code null}
+	 */
+	public static TypeRepository ofSoftReferences(final TypeResolver typeResolver) {
+		return new TypeRepository(Objects.requireNonNull(typeResolver, "typeResolver == null"), EvictionPolicy.SOFT_REFERENCES, new SoftReferenceCache());
+	}
+	
+	/**
+	 * Sets {@code typeRepository} as the default {@code TypeRepository} instance.
+	 * <p>
+	 * If {@code typeRepository} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param typeRepository the {@code TypeRepository} instance to set as the default
+	 * @throws NullPointerException thrown if, and only if, {@code typeRepository} is {@code null}
+	 */
+	public static void setDefault(final TypeRepository typeRepository) {
+		DEFAULT.set(Objects.requireNonNull(typeRepository, "typeRepository == null"));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * An {@code EvictionPolicy} decides how the {@link Type} instances cached by a {@link TypeRepository} are evicted.
+	 * 
+	 * @since 1.0.0
+	 * @author J&#246;rgen Lundgren
+	 */
+	public static enum EvictionPolicy {
+		/**
+		 * A fixed number of {@code Type} instances are cached and the least-recently-used ones are evicted first.
+		 */
+		LEAST_RECENTLY_USED,
+		
+		/**
+		 * The {@code Type} instances are held by soft references and are evicted by the garbage collector when memory runs low.
+		 */
+		SOFT_REFERENCES;
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private Type doCreateType(final ClassFile classFile) {
+		if(classFile.isAnnotation()) {
+			return new AnnotationType(classFile, this);
+		} else if(TypeResolver.isEnum(classFile)) {
+			return new EnumType(classFile, this);
+		} else if(classFile.isInterface()) {
+			return new InterfaceType(classFile, this);
+		} else {
+			return new ClassType(classFile, this);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static String doToExternalName(final String name) {
+		if(name.startsWith("[")) {
+			try {
+				return FieldDescriptor.parseFieldDescriptor(name.replace('.', '/')).toExternalForm();
+			} catch(final IllegalArgumentException e) {
+				throw new TypeException(e);
+			}
+		}
+		
+		return name.replace('/', '.');
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static interface Cache {
+		Type computeIfAbsent(final String name, final Function<String, Type> function);
+		
+		int getSize();
+		
+		long getEvictionCount();
+		
+		long getHitCount();
+		
+		long getMissCount();
+		
+		void clear();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class LeastRecentlyUsedCache implements Cache {
+		private final MemoCache<String, Type> memoCache;
+		
+		public LeastRecentlyUsedCache(final int maximumSize) {
+			this.memoCache = new MemoCache<>(maximumSize);
+		}
+		
+		@Override
+		public Type computeIfAbsent(final String name, final Function<String, Type> function) {
+			return this.memoCache.computeIfAbsent(name, function);
+		}
+		
+		@Override
+		public int getSize() {
+			return this.memoCache.getSize();
+		}
+		
+		@Override
+		public long getEvictionCount() {
+			return this.memoCache.getEvictionCount();
+		}
+		
+		@Override
+		public long getHitCount() {
+			return this.memoCache.getHitCount();
+		}
+		
+		@Override
+		public long getMissCount() {
+			return this.memoCache.getMissCount();
+		}
+		
+		@Override
+		public void clear() {
+			this.memoCache.clear();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class SoftReferenceCache implements Cache {
+		private final LongAdder evictionCount;
+		private final LongAdder hitCount;
+		private final LongAdder missCount;
+		private final Map<String, SoftValue> softValues;
+		private final ReferenceQueue<Type> referenceQueue;
+		
+		public SoftReferenceCache() {
+			this.evictionCount = new LongAdder();
+			this.hitCount = new LongAdder();
+			this.missCount = new LongAdder();
+			this.softValues = new ConcurrentHashMap<>();
+			this.referenceQueue = new ReferenceQueue<>();
+		}
+		
+		@Override
+		public Type computeIfAbsent(final String name, final Function<String, Type> function) {
+			doExpungeStaleValues();
+			
+			final SoftValue oldSoftValue = this.softValues.get(name);
+			
+			final Type oldType = oldSoftValue != null ? oldSoftValue.get() : null;
+			
+			if(oldType != null) {
+				this.hitCount.increment();
+				
+				return oldType;
+			}
+			
+			this.missCount.increment();
+			
+			final Type newType = Objects.requireNonNull(function.apply(name), "function.apply(name) == null");
+			
+			final SoftValue softValue = this.softValues.compute(name, (key, currentSoftValue) -> currentSoftValue != null && currentSoftValue.get() != null ? currentSoftValue : new SoftValue(key, newType, this.referenceQueue));
+			
+			final Type type = softValue.get();
+			
+			return type != null ? type : newType;
+		}
+		
+		@Override
+		public int getSize() {
+			doExpungeStaleValues();
+			
+			return this.softValues.size();
+		}
+		
+		@Override
+		public long getEvictionCount() {
+			return this.evictionCount.sum();
+		}
+		
+		@Override
+		public long getHitCount() {
+			return this.hitCount.sum();
+		}
+		
+		@Override
+		public long getMissCount() {
+			return this.missCount.sum();
+		}
+		
+		@Override
+		public void clear() {
+			this.softValues.clear();
+		}
+		
+		private void doExpungeStaleValues() {
+			for(Reference<? extends Type> reference = this.referenceQueue.poll(); reference != null; reference = this.referenceQueue.poll()) {
+				if(this.softValues.remove(SoftValue.class.cast(reference).name, reference)) {
+					this.evictionCount.increment();
+				}
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class SoftValue extends SoftReference<Type> {
+		private final String name;
+		
+		public SoftValue(final String name, final Type type, final ReferenceQueue<Type> referenceQueue) {
+			super(type, referenceQueue);
+			
+			this.name = name;
+		}
+	}
+}
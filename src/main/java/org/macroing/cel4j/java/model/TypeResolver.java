@@ -0,0 +1,159 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.model;
+
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.descriptor.ClassName;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+import org.macroing.cel4j.java.binary.reader.ClassFileReaderException;
+import org.macroing.cel4j.java.binary.reader.ClassPath;
+import org.macroing.cel4j.node.NodeFormatException;
+
+/**
+ * A {@code TypeResolver} resolves class names to {@link ClassFile} instances by reading the bytes of the class files from a {@link ClassPath}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * No classes are loaded, linked or initialized by a {@code TypeResolver}. A {@code TypeResolver} does not cache the {@code ClassFile} instances it reads. They are cached as part of the {@link Type} instances that are created by a
+ * {@link TypeRepository}.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * TypeResolver typeResolver = new TypeResolver(ClassPath.of(ClassPath.ofJRT(), ClassPath.of(Paths.get("library.jar"))));
+ * 
+ * ClassFile classFile = typeResolver.resolveClassFile("com.example.Library");
+ * }
+ * </pre>
+ * 
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class TypeResolver {
+	private static final AtomicReference<TypeResolver> DEFAULT = new AtomicReference<>();
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final ClassPath classPath;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code TypeResolver} instance that reads class files from {@code classPath}.
+	 * <p>
+	 * If {@code classPath} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * 
+	 * @param classPath the {@link ClassPath} to read class files from
+	 * @throws NullPointerException thrown if, and only if, {@code classPath} is {@code null}
+	 */
+	public TypeResolver(final ClassPath classPath) {
+		this.classPath = Objects.requireNonNull(classPath, "classPath == null");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the {@link ClassFile} for the class denoted by {@code className}.
+	 * <p>
+	 * The class name may be given in external form, such as {@code "java.util.Map$Entry"}, or in internal form, such as {@code "java/util/Map$Entry"}.
+	 * <p>
+	 * If {@code className} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the class file cannot be found or read, a {@code TypeException} will be thrown.
+	 * 
+	 * @param className the name of the class in external or internal form
+	 * @return the {@code ClassFile} for the class denoted by {@code className}
+	 * @throws NullPointerException thrown if, and only if, {@code className} is {@code null}
+	 * @throws TypeException thrown if, and only if, the class file cannot be found or read
+	 */
+	public ClassFile resolveClassFile(final String className) {
+		return findClassFile(className).orElseThrow(() -> new TypeException(String.format("Unable to find class file: %s", className)));
+	}
+	
+	/**
+	 * Returns the {@link ClassPath} that this {@code TypeResolver} instance reads class files from.
+	 * 
+	 * @return the {@code ClassPath} that this {@code TypeResolver} instance reads class files from
+	 */
+	public ClassPath getClassPath() {
+		return this.classPath;
+	}
+	
+	/**
+	 * Returns an {@code Optional} with the {@link ClassFile} for the class denoted by {@code className}, or an empty {@code Optional} if it cannot be found.
+	 * <p>
+	 * The class name may be given in external form, such as {@code "java.util.Map$Entry"}, or in internal form, such as {@code "java/util/Map$Entry"}.
+	 * <p>
+	 * If {@code className} is {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If the class file cannot be read, a {@code TypeException} will be thrown.
+	 * 
+	 * @param className the name of the class in external or internal form
+	 * @return an {@code Optional} with the {@code ClassFile} for the class denoted by {@code className}, or an empty {@code Optional} if it cannot be found
+	 * @throws NullPointerException thrown if, and only if, {@code className} is {@code null}
+	 * @throws TypeException thrown if, and only if, the class file cannot be read
+	 */
+	public Optional<ClassFile> findClassFile(final String className) {
+		try {
+			return this.classPath.find(Objects.requireNonNull(className, "className == null")).map(bytes -> new ClassFileReader().read(bytes));
+		} catch(final ClassFileReaderException | NodeFormatException | UncheckedIOException e) {
+			throw new TypeException(String.format("Unable to read class file: %s", className), e);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns the default {@code TypeResolver} instance.
+	 * <p>
+	 * The default {@code TypeResolver} is backed by {@code ClassPath.ofSystem()}.
+	 * 
+	 * @return the default {@code TypeResolver} instance
+	 */
+	public static TypeResolver getDefault() {
+		final TypeResolver typeResolver = DEFAULT.get();
+		
+		if(typeResolver != null) {
+			return typeResolver;
+		}
+		
+		DEFAULT.compareAndSet(null, new TypeResolver(ClassPath.ofSystem()));
+		
+		return DEFAULT.get();
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	static ClassFile readClassFile(final Class<?> clazz) {
+		try {
+			return new ClassFileReader().read(clazz);
+		} catch(final ClassFileReaderException | NodeFormatException e) {
+			throw new TypeException(String.format("Unable to read class file: %s", clazz.getName()), e);
+		}
+	}
+	
+	static boolean isEnum(final ClassFile classFile) {
+		return classFile.isEnum() && classFile.getSuperClass() >= 1 && ClassName.parseClassNameSuperClass(classFile).toInternalForm().equals("java/lang/Enum");
+	}
+}
@@ -0,0 +1,284 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A {@code MemoCache} is a size-bounded cache that memoizes the results of a computation by key.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * The entries are spread over a fixed number of segments, each of which is a small least-recently-used map guarded by its own lock. When a segment is full, its least-recently-used entry is evicted. The total number of entries will therefore
+ * never exceed the maximum size, but an entry may be evicted somewhat before the cache as a whole is full.
+ * <p>
+ * The computation of a missing value is performed outside of any lock. If two threads compute the value for the same key at the same time, both compute it, but only the first value is stored and returned to both. The cached values should
+ * therefore be immutable.
+ * <p>
+ * To use this class, consider the following example:
+ * <pre>
+ * {@code
+ * MemoCache<String, Integer> memoCache = new MemoCache<>(1024);
+ * 
+ * Integer length = memoCache.computeIfAbsent("Hello, World!", string -> Integer.valueOf(string.length()));
+ * 
+ * System.out.println(memoCache.getHitRate());
+ * }
+ * </pre>
+ * 
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 1.0.0
+ * @author J&#246;rgen Lundgren
+ */
+public final class MemoCache<K, V> {
+	private static final int SEGMENT_CAPACITY_MINIMUM = 16;
+	private static final int SEGMENT_COUNT_MAXIMUM = 64;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private final LongAdder evictionCount;
+	private final LongAdder hitCount;
+	private final LongAdder missCount;
+	private final Segment<K, V>[] segments;
+	private final int maximumSize;
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Constructs a new {@code MemoCache} instance that holds at most {@code maximumSize} entries.
+	 * <p>
+	 * If {@code maximumSize} is less than {@code 1}, an {@code IllegalArgumentException} will be thrown.
+	 * 
+	 * @param maximumSize the maximum number of entries
+	 * @throws IllegalArgumentException thrown if, and only if, {@code maximumSize} is less than {@code 1}
+	 */
+	@SuppressWarnings("unchecked")
+	public MemoCache(final int maximumSize) {
+		this.maximumSize = ParameterArguments.requireRange(maximumSize, 1, Integer.MAX_VALUE, "maximumSize");
+		this.evictionCount = new LongAdder();
+		this.hitCount = new LongAdder();
+		this.missCount = new LongAdder();
+		this.segments = (Segment<K, V>[])(new Segment<?, ?>[doGetSegmentCount(maximumSize)]);
+		
+		for(int i = 0; i < this.segments.length; i++) {
+			this.segments[i] = new Segment<>(maximumSize / this.segments.length, this.evictionCount);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	/**
+	 * Returns a {@code String} representation of this {@code MemoCache} instance.
+	 * 
+	 * @return a {@code String} representation of this {@code MemoCache} instance
+	 */
+	@Override
+	public String toString() {
+		return String.format("MemoCache: [Size=%s], [MaximumSize=%s], [HitCount=%s], [MissCount=%s], [EvictionCount=%s]", Integer.toString(getSize()), Integer.toString(getMaximumSize()), Long.toString(getHitCount()), Long.toString(getMissCount()), Long.toString(getEvictionCount()));
+	}
+	
+	/**
+	 * Returns the value for {@code key}, computing it with {@code function} if it is not present.
+	 * <p>
+	 * If either {@code key} or {@code function} are {@code null}, or {@code function} returns {@code null}, a {@code NullPointerException} will be thrown.
+	 * <p>
+	 * If {@code function} throws a {@code RuntimeException}, it will be propagated and nothing will be cached.
+	 * 
+	 * @param key the key
+	 * @param function the {@code Function} that computes the value for {@code key}
+	 * @return the value for {@code key}
+	 * @throws NullPointerException thrown if, and only if, either {@code key} or {@code function} are {@code null}, or {@code function} returns {@code null}
+	 */
+	public V computeIfAbsent(final K key, final Function<? super K, ? extends V> function) {
+		Objects.requireNonNull(key, "key == null");
+		Objects.requireNonNull(function, "function == null");
+		
+		final Segment<K, V> segment = doGetSegment(key);
+		
+		final V oldValue = segment.get(key);
+		
+		if(oldValue != null) {
+			this.hitCount.increment();
+			
+			return oldValue;
+		}
+		
+		this.missCount.increment();
+		
+		return segment.putIfAbsent(key, Objects.requireNonNull(function.apply(key), "function.apply(key) == null"));
+	}
+	
+	/**
+	 * Returns the ratio of lookups that found an existing value, or {@code 0.0D} if no lookups have been made.
+	 * 
+	 * @return the ratio of lookups that found an existing value, or {@code 0.0D} if no lookups have been made
+	 */
+	public double getHitRate() {
+		final long hitCount = getHitCount();
+		final long missCount = getMissCount();
+		final long lookupCount = hitCount + missCount;
+		
+		return lookupCount > 0L ? (double)(hitCount) / (double)(lookupCount) : 0.0D;
+	}
+	
+	/**
+	 * Returns the maximum number of entries in this {@code MemoCache} instance.
+	 * 
+	 * @return the maximum number of entries in this {@code MemoCache} instance
+	 */
+	public int getMaximumSize() {
+		return this.maximumSize;
+	}
+	
+	/**
+	 * Returns the number of entries in this {@code MemoCache} instance.
+	 * 
+	 * @return the number of entries in this {@code MemoCache} instance
+	 */
+	public int getSize() {
+		int size = 0;
+		
+		for(final Segment<K, V> segment : this.segments) {
+			size += segment.size();
+		}
+		
+		return size;
+	}
+	
+	/**
+	 * Returns the number of entries that have been evicted because a segment was full.
+	 * 
+	 * @return the number of entries that have been evicted because a segment was full
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.sum();
+	}
+	
+	/**
+	 * Returns the number of lookups that found an existing value.
+	 * 
+	 * @return the number of lookups that found an existing value
+	 */
+	public long getHitCount() {
+		return this.hitCount.sum();
+	}
+	
+	/**
+	 * Returns the number of lookups that had to compute the value.
+	 * 
+	 * @return the number of lookups that had to compute the value
+	 */
+	public long getMissCount() {
+		return this.missCount.sum();
+	}
+	
+	/**
+	 * Removes all entries from this {@code MemoCache} instance.
+	 * <p>
+	 * The hit, miss and eviction counters are not reset.
+	 */
+	public void clear() {
+		for(final Segment<K, V> segment : this.segments) {
+			segment.clear();
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private Segment<K, V> doGetSegment(final K key) {
+		final int hashCode = key.hashCode();
+		final int hash = hashCode ^ (hashCode >>> 16);
+		
+		return this.segments[hash & (this.segments.length - 1)];
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static int doGetSegmentCount(final int maximumSize) {
+		return Math.min(Math.max(Integer.highestOneBit(maximumSize / SEGMENT_CAPACITY_MINIMUM), 1), SEGMENT_COUNT_MAXIMUM);
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+		private static final long serialVersionUID = 1L;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		private final transient LongAdder evictionCount;
+		private final int capacity;
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		public Segment(final int capacity, final LongAdder evictionCount) {
+			super(16, 0.75F, true);
+			
+			this.capacity = capacity;
+			this.evictionCount = evictionCount;
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		public synchronized V get(final Object key) {
+			return super.get(key);
+		}
+		
+		@Override
+		public synchronized V putIfAbsent(final K key, final V value) {
+			final V oldValue = super.get(key);
+			
+			if(oldValue != null) {
+				return oldValue;
+			}
+			
+			super.put(key, value);
+			
+			return value;
+		}
+		
+		@Override
+		public synchronized int size() {
+			return super.size();
+		}
+		
+		@Override
+		public synchronized void clear() {
+			super.clear();
+		}
+		
+		////////////////////////////////////////////////////////////////////////////////////////////////////
+		
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+			if(size() > this.capacity) {
+				this.evictionCount.increment();
+				
+				return true;
+			}
+			
+			return false;
+		}
+	}
+}
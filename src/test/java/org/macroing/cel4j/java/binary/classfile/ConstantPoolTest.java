@@ -0,0 +1,113 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile;
+
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantIntegerInfo;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+
+public final class ConstantPoolTest {
+	private ConstantPoolTest() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		doTestModifyThenReindex();
+		doTestModifyThenReindexThenFindOrAdd();
+		doTestModifySharedThenReindex();
+		
+		System.out.println("ConstantPoolTest passed.");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doTestModifyThenReindex() {
+		final ConstantIntegerInfo constantIntegerInfo = new ConstantIntegerInfo(1);
+		
+		final
+		ClassFile classFile = new ClassFile();
+		classFile.addCPInfo(constantIntegerInfo);
+		
+		doAssertEquals(classFile.indexOf(new ConstantIntegerInfo(1)), 1, "indexOf(1) before modification");
+		
+		constantIntegerInfo.setIntValue(2);
+		
+		doAssertEquals(classFile.indexOf(new ConstantIntegerInfo(1)), -1, "indexOf(1) after modification");
+		
+		classFile.getConstantPool().reindex();
+		
+		doAssertEquals(classFile.indexOf(new ConstantIntegerInfo(2)), 1, "indexOf(2) after reindex()");
+		doAssertEquals(classFile.indexOf(new ConstantIntegerInfo(1)), -1, "indexOf(1) after reindex()");
+		doAssertEquals(classFile.containsCPInfo(new ConstantIntegerInfo(2)) ? 1 : 0, 1, "containsCPInfo(2) after reindex()");
+	}
+	
+	private static void doTestModifyThenReindexThenFindOrAdd() {
+		final
+		ClassFile classFile = new ClassFile();
+		
+		final ConstantPool constantPool = classFile.getConstantPool();
+		
+		final int index = constantPool.utf8("Aa");
+		
+		ConstantUTF8Info.class.cast(constantPool.getCPInfo(index)).setStringValue("BB");
+		
+		constantPool.reindex();
+		
+		final int size = constantPool.size();
+		
+		doAssertEquals(constantPool.utf8("BB"), index, "utf8(\"BB\") after reindex()");
+		doAssertEquals(constantPool.size(), size, "size() after utf8(\"BB\")");
+		doAssertEquals(constantPool.findOrAdd(new ConstantUTF8Info("Aa")), size, "findOrAdd(\"Aa\") after reindex()");
+	}
+	
+	private static void doTestModifySharedThenReindex() {
+		final ConstantIntegerInfo constantIntegerInfo = new ConstantIntegerInfo(1);
+		
+		final
+		ClassFile classFileA = new ClassFile();
+		classFileA.addCPInfo(constantIntegerInfo);
+		
+		final
+		ClassFile classFileB = new ClassFile();
+		classFileB.addCPInfo(new ConstantUTF8Info("B"));
+		classFileB.addCPInfo(constantIntegerInfo);
+		
+		doAssertEquals(classFileA.indexOf(new ConstantIntegerInfo(1)), 1, "classFileA.indexOf(1) before modification");
+		doAssertEquals(classFileB.indexOf(new ConstantIntegerInfo(1)), 2, "classFileB.indexOf(1) before modification");
+		
+		constantIntegerInfo.setIntValue(2);
+		
+		doAssertEquals(classFileA.indexOf(new ConstantIntegerInfo(1)), -1, "classFileA.indexOf(1) after modification");
+		doAssertEquals(classFileB.indexOf(new ConstantIntegerInfo(1)), -1, "classFileB.indexOf(1) after modification");
+		
+		classFileA.getConstantPool().reindex();
+		classFileB.getConstantPool().reindex();
+		
+		doAssertEquals(classFileA.indexOf(new ConstantIntegerInfo(2)), 1, "classFileA.indexOf(2) after reindex()");
+		doAssertEquals(classFileB.indexOf(new ConstantIntegerInfo(2)), 2, "classFileB.indexOf(2) after reindex()");
+		doAssertEquals(constantIntegerInfo.getModificationCount(), 1, "getModificationCount() after modification");
+	}
+	
+	private static void doAssertEquals(final int actual, final int expected, final String message) {
+		if(actual != expected) {
+			throw new AssertionError(String.format("%s: expected %s, but was %s", message, Integer.toString(expected), Integer.toString(actual)));
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.attributeinfo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+
+public final class CodeOffsetIndexTest {
+	private CodeOffsetIndexTest() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		doTestOffsetOfEveryReadInstruction(HashMap.class);
+		doTestOffsetOfEveryReadInstruction(String.class);
+		doTestOffsetOfEveryReadInstruction(CodeAttribute.class);
+		
+		System.out.println("CodeOffsetIndexTest passed.");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doTestOffsetOfEveryReadInstruction(final Class<?> clazz) {
+		final ClassFile classFile = new ClassFileReader().read(clazz);
+		
+		for(int j = 0; j < classFile.getMethodInfosView().size(); j++) {
+			final MethodInfo methodInfo = classFile.getMethodInfosView().get(j);
+			
+			final Optional<CodeAttribute> optionalCodeAttribute = CodeAttribute.find(methodInfo);
+			
+			if(!optionalCodeAttribute.isPresent()) {
+				continue;
+			}
+			
+			final CodeAttribute codeAttribute = optionalCodeAttribute.get();
+			
+			final CodeOffsetIndex packedCodeOffsetIndex = codeAttribute.getOffsetIndex();
+			
+			final List<Instruction> instructions = codeAttribute.getInstructionsView();
+			
+			final CodeOffsetIndex codeOffsetIndex = codeAttribute.getOffsetIndex();
+			
+			final String name = clazz.getName() + ", method_info " + j;
+			
+			doAssertTrue(codeOffsetIndex != packedCodeOffsetIndex, name + ": getOffsetIndex() after unpacking returned the packed CodeOffsetIndex");
+			doAssertTrue(codeOffsetIndex.getInstructionCount() == instructions.size(), name + ": getInstructionCount() != instructions.size()");
+			
+			for(int i = 0, pc = 0; i < instructions.size(); i++) {
+				final Instruction instruction = instructions.get(i);
+				
+				doAssertTrue(codeOffsetIndex.getOffset(i) == pc, name + ": getOffset(" + i + ") != " + pc);
+				doAssertTrue(packedCodeOffsetIndex.getOffset(i) == pc, name + ": packed getOffset(" + i + ") != " + pc);
+				doAssertTrue(codeOffsetIndex.getIndex(pc) == i, name + ": getIndex(" + pc + ") != " + i);
+				doAssertTrue(codeOffsetIndex.getInstruction(pc).get() == instruction, name + ": getInstruction(" + pc + ") is not the read Instruction");
+				
+				pc += instruction.getLength();
+			}
+		}
+	}
+	
+	private static void doAssertTrue(final boolean condition, final String message) {
+		if(!condition) {
+			throw new AssertionError(message);
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.attributeinfo;
+
+import java.util.HashMap;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+import org.macroing.cel4j.java.binary.reader.ReadOptions;
+
+public final class LazyAttributeTest {
+	private LazyAttributeTest() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		doTestLazyEqualsEager(HashMap.class);
+		doTestLazyEqualsEager(String.class);
+		
+		System.out.println("LazyAttributeTest passed.");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doTestLazyEqualsEager(final Class<?> clazz) {
+		final ClassFile eagerClassFile = new ClassFileReader().read(clazz);
+		final ClassFile lazyClassFile = new ClassFileReader(ReadOptions.LAZY).read(clazz);
+		
+		final AttributeInfo eagerAttributeInfo = eagerClassFile.getAttributeInfosView().get(0);
+		final AttributeInfo lazyAttributeInfo = lazyClassFile.getAttributeInfosView().get(0);
+		
+		doAssertTrue(lazyAttributeInfo instanceof LazyAttribute, clazz.getName() + ": the attribute was not read lazily");
+		doAssertTrue(lazyAttributeInfo.hashCode() == new ClassFileReader(ReadOptions.LAZY).read(clazz).getAttributeInfosView().get(0).hashCode(), clazz.getName() + ": lazy.hashCode() != lazy.hashCode()");
+		doAssertTrue(!LazyAttribute.class.cast(lazyAttributeInfo).isDecoded(), clazz.getName() + ": lazy.hashCode() decoded the attribute");
+		doAssertTrue(!lazyAttributeInfo.equals(eagerAttributeInfo), clazz.getName() + ": lazy.equals(eager) == true");
+		doAssertTrue(!eagerAttributeInfo.equals(lazyAttributeInfo), clazz.getName() + ": eager.equals(lazy) == true");
+		doAssertTrue(LazyAttribute.unwrap(lazyAttributeInfo).equals(eagerAttributeInfo), clazz.getName() + ": unwrap(lazy).equals(eager) == false");
+		
+		doAssertTrue(lazyClassFile.getMethodInfos().equals(eagerClassFile.getMethodInfos()), clazz.getName() + ": lazyMethodInfos.equals(eagerMethodInfos) == false");
+		doAssertTrue(lazyClassFile.getMethodInfos().hashCode() == eagerClassFile.getMethodInfos().hashCode(), clazz.getName() + ": lazyMethodInfos.hashCode() != eagerMethodInfos.hashCode()");
+		
+		doAssertTrue(new ClassFileReader(ReadOptions.LAZY).read(clazz).equals(lazyClassFile), clazz.getName() + ": lazy.equals(lazy) == false");
+		doAssertTrue(lazyClassFile.equals(eagerClassFile), clazz.getName() + ": lazyClassFile.equals(eagerClassFile) == false");
+		doAssertTrue(eagerClassFile.equals(lazyClassFile), clazz.getName() + ": eagerClassFile.equals(lazyClassFile) == false");
+		doAssertTrue(lazyClassFile.hashCode() == eagerClassFile.hashCode(), clazz.getName() + ": lazyClassFile.hashCode() != eagerClassFile.hashCode()");
+	}
+	
+	private static void doAssertTrue(final boolean condition, final String message) {
+		if(!condition) {
+			throw new AssertionError(message);
+		}
+	}
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.descriptor;
+
+import org.macroing.cel4j.scanner.TextScanner;
+
+public final class DescriptorParserTest {
+	private static final String[] FIELD_DESCRIPTORS = {"I", "J", "Z", "Ljava/lang/String;", "[I", "[[Ljava/lang/Object;", "Ljava/util/Map$Entry;"};
+	private static final String[] FIELD_DESCRIPTORS_MALFORMED = {"", "V", "II", "I^", "Ljava/lang/String;X", "[I]", "[V", "Ljava/lang/String", "L;"};
+	private static final String[] METHOD_DESCRIPTORS = {"()V", "(I)V", "(IJ)I", "([BII)[B", "(Ljava/lang/String;[[I)Ljava/lang/Object;", "()Ljava/util/Map$Entry;"};
+	private static final String[] METHOD_DESCRIPTORS_MALFORMED = {"", "()", "(V[BI)[B", "(I)V^", "()VX", "(I)I;", "(I)VV", "(I", "I)V", "(I)V)"};
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private DescriptorParserTest() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		doTestFieldDescriptors();
+		doTestFieldDescriptorsMalformed();
+		doTestMethodDescriptors();
+		doTestMethodDescriptorsMalformed();
+		
+		System.out.println("DescriptorParserTest passed.");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doTestFieldDescriptors() {
+		for(final String string : FIELD_DESCRIPTORS) {
+			final FieldDescriptor fieldDescriptor = DescriptorParser.parseFieldDescriptor(string);
+			
+			doAssertEquals(fieldDescriptor, Parsers.parseFieldDescriptor(new TextScanner(string)), string);
+			doAssertEquals(fieldDescriptor.toInternalForm(), string, string);
+		}
+	}
+	
+	private static void doTestFieldDescriptorsMalformed() {
+		for(final String string : FIELD_DESCRIPTORS_MALFORMED) {
+			try {
+				DescriptorParser.parseFieldDescriptor(string);
+				
+				throw new AssertionError(String.format("%s: expected IllegalArgumentException", string));
+			} catch(final IllegalArgumentException e) {
+//				The malformed FieldDescriptor was rejected.
+			}
+		}
+	}
+	
+	private static void doTestMethodDescriptors() {
+		for(final String string : METHOD_DESCRIPTORS) {
+			final MethodDescriptor methodDescriptor = DescriptorParser.parseMethodDescriptor(string);
+			
+			doAssertEquals(methodDescriptor, Parsers.parseMethodDescriptor(new TextScanner(string)), string);
+			doAssertEquals(methodDescriptor.toInternalForm(), string, string);
+		}
+	}
+	
+	private static void doTestMethodDescriptorsMalformed() {
+		for(final String string : METHOD_DESCRIPTORS_MALFORMED) {
+			try {
+				DescriptorParser.parseMethodDescriptor(string);
+				
+				throw new AssertionError(String.format("%s: expected IllegalArgumentException", string));
+			} catch(final IllegalArgumentException e) {
+//				The malformed MethodDescriptor was rejected.
+			}
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doAssertEquals(final Object actual, final Object expected, final String message) {
+		if(!actual.equals(expected)) {
+			throw new AssertionError(String.format("%s: expected %s, but was %s", message, expected, actual));
+		}
+	}
+}
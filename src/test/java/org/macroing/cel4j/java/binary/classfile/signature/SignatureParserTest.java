@@ -0,0 +1,111 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.classfile.signature;
+
+import org.macroing.cel4j.scanner.TextScanner;
+
+public final class SignatureParserTest {
+	private static final String[] CLASS_SIGNATURES = {"Ljava/lang/Object;", "<T:Ljava/lang/Object;>Ljava/lang/Object;", "<K:Ljava/lang/Object;V:Ljava/lang/Object;>Ljava/util/AbstractMap<TK;TV;>;Ljava/util/Map<TK;TV;>;Ljava/lang/Cloneable;"};
+	private static final String[] CLASS_SIGNATURES_MALFORMED = {"", "Ljava/lang/Object;X", "<T:Ljava/lang/Object;>Ljava/lang/Object;junk", "<T:Ljava/lang/Object;>"};
+	private static final String[] FIELD_SIGNATURES = {"TT;", "[TT;", "Ljava/util/List<TT;>;", "Ljava/util/Map<TK;+Ljava/util/List<*>;>;", "Ljava/util/Map$Entry<TK;TV;>;", "LOuter<TT;>.Inner<TU;>;"};
+	private static final String[] FIELD_SIGNATURES_MALFORMED = {"", "I", "TT;X", "Ljava/util/List<TT;>;X", "[I]", "Ljava/util/List<TT;>"};
+	private static final String[] METHOD_SIGNATURES = {"()V", "(I)V", "<T:Ljava/lang/Object;>(TT;)TT;", "(Ljava/util/List<+TT;>;[I)V^Ljava/io/IOException;^TX;"};
+	private static final String[] METHOD_SIGNATURES_MALFORMED = {"", "(V[BI)[B", "(I)V^", "()VX", "(I)I;", "(I)V^Ljava/io/IOException;X"};
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private SignatureParserTest() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		doTestClassSignatures();
+		doTestFieldSignatures();
+		doTestMethodSignatures();
+		doTestMalformed();
+		
+		System.out.println("SignatureParserTest passed.");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doTestClassSignatures() {
+		for(final String string : CLASS_SIGNATURES) {
+			final ClassSignature classSignature = SignatureParser.parseClassSignature(string);
+			
+			doAssertEquals(classSignature, Parsers.parseClassSignature(new TextScanner(string)), string);
+			doAssertEquals(SignatureParser.parseSignature(string), Parsers.parseSignature(new TextScanner(string)), string);
+		}
+	}
+	
+	private static void doTestFieldSignatures() {
+		for(final String string : FIELD_SIGNATURES) {
+			final FieldSignature fieldSignature = SignatureParser.parseFieldSignature(string);
+			
+			doAssertEquals(fieldSignature, Parsers.parseFieldSignature(new TextScanner(string)), string);
+			doAssertEquals(SignatureParser.parseSignature(string), Parsers.parseSignature(new TextScanner(string)), string);
+		}
+	}
+	
+	private static void doTestMalformed() {
+		for(final String string : CLASS_SIGNATURES_MALFORMED) {
+			doAssertThrows(() -> SignatureParser.parseClassSignature(string), string);
+			doAssertThrows(() -> SignatureParser.parseSignature(string), string);
+		}
+		
+		for(final String string : FIELD_SIGNATURES_MALFORMED) {
+			doAssertThrows(() -> SignatureParser.parseFieldSignature(string), string);
+			doAssertThrows(() -> SignatureParser.parseSignature(string), string);
+		}
+		
+		for(final String string : METHOD_SIGNATURES_MALFORMED) {
+			doAssertThrows(() -> SignatureParser.parseMethodSignature(string), string);
+			doAssertThrows(() -> SignatureParser.parseSignature(string), string);
+		}
+	}
+	
+	private static void doTestMethodSignatures() {
+		for(final String string : METHOD_SIGNATURES) {
+			final MethodSignature methodSignature = SignatureParser.parseMethodSignature(string);
+			
+			doAssertEquals(methodSignature, Parsers.parseMethodSignature(new TextScanner(string)), string);
+			doAssertEquals(SignatureParser.parseSignature(string), Parsers.parseSignature(new TextScanner(string)), string);
+		}
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doAssertEquals(final Object actual, final Object expected, final String message) {
+		if(!actual.equals(expected)) {
+			throw new AssertionError(String.format("%s: expected %s, but was %s", message, expected, actual));
+		}
+	}
+	
+	private static void doAssertThrows(final Runnable runnable, final String message) {
+		try {
+			runnable.run();
+		} catch(final IllegalArgumentException e) {
+			return;
+		}
+		
+		throw new AssertionError(String.format("%s: expected IllegalArgumentException", message));
+	}
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+import org.macroing.cel4j.java.binary.classfile.CPInfo;
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.cpinfo.ConstantUTF8Info;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+
+public final class ClassFileTransformerTest {
+	private ClassFileTransformerTest() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		final byte[] bytes = doReadAllBytes("/java/util/HashMap.class");
+		
+		doTestTransform(bytes, classFile -> {}, "no edit");
+		doTestTransform(bytes, classFile -> classFile.getMethodInfos().get(0).setFinal(true), "setFinal(true)");
+		doTestTransform(bytes, classFile -> classFile.getConstantPool().utf8("AppendedUTF8"), "utf8(\"AppendedUTF8\")");
+		doTestTransform(bytes, ClassFileTransformerTest::doRenameFirstUTF8, "setStringValue(String)");
+		
+		System.out.println("ClassFileTransformerTest passed.");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static byte[] doReadAllBytes(final String name) {
+		try(final InputStream inputStream = ClassFileTransformerTest.class.getResourceAsStream(name)) {
+			final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+			
+			final byte[] buffer = new byte[8192];
+			
+			for(int length = inputStream.read(buffer); length != -1; length = inputStream.read(buffer)) {
+				byteArrayOutputStream.write(buffer, 0, length);
+			}
+			
+			return byteArrayOutputStream.toByteArray();
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static void doRenameFirstUTF8(final ClassFile classFile) {
+		for(final CPInfo cPInfo : classFile.getCPInfos()) {
+			if(cPInfo instanceof ConstantUTF8Info && ConstantUTF8Info.class.cast(cPInfo).getStringValue().equals("DEFAULT_INITIAL_CAPACITY")) {
+				ConstantUTF8Info.class.cast(cPInfo).setStringValue("DEFAULT_CAPACITY");
+				
+				return;
+			}
+		}
+		
+		throw new AssertionError("No CONSTANT_Utf8_info structure with the value DEFAULT_INITIAL_CAPACITY");
+	}
+	
+	private static void doTestTransform(final byte[] bytes, final ClassFileEdit classFileEdit, final String message) {
+		final ClassFile classFile = new ClassFileReader().read(bytes).toMutable();
+		
+		classFileEdit.edit(classFile);
+		
+		final byte[] expectedBytes = new ClassFileWriter().write(classFile);
+		final byte[] actualBytes = new ClassFileTransformer().transform(bytes, classFileEdit);
+		
+		if(!Arrays.equals(actualBytes, expectedBytes)) {
+			throw new AssertionError(String.format("%s: the transformed bytes differ from the bytes written by ClassFileWriter", message));
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.binary.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.util.Collections;
+import java.util.List;
+
+import org.macroing.cel4j.java.binary.classfile.AttributeInfo;
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.FieldInfo;
+import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.CodeAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.MethodParametersAttribute;
+import org.macroing.cel4j.java.binary.classfile.attributeinfo.Parameter;
+import org.macroing.cel4j.java.binary.reader.ClassFileReader;
+
+public final class ClassFileWriterTest {
+	private static final String[] CLASS_NAMES = {
+		"java.lang.Character",
+		"java.lang.Deprecated",
+		"java.lang.String",
+		"java.lang.Thread",
+		"java.lang.invoke.MethodHandles",
+		"java.util.HashMap",
+		"java.util.Map$Entry",
+		"java.util.stream.Collectors",
+		"org.macroing.cel4j.java.binary.classfile.ClassFile",
+		"org.macroing.cel4j.java.binary.writer.ClassFileWriter"
+	};
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private ClassFileWriterTest() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		doTestAttributeSizes();
+		doTestMethodParametersAttributeSize();
+		
+		System.out.println("ClassFileWriterTest passed.");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doTestAttributeSize(final AttributeInfo attributeInfo, final String message) {
+		final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+		
+		attributeInfo.write(new DataOutputStream(byteArrayOutputStream));
+		
+		doAssertEquals(byteArrayOutputStream.size(), ClassFileWriter.getSize(Collections.singletonList(attributeInfo)) - 2, message + ": size of " + attributeInfo.getName());
+		doAssertEquals(byteArrayOutputStream.size(), 6 + attributeInfo.getAttributeLength(), message + ": 6 + attribute_length of " + attributeInfo.getName());
+	}
+	
+	private static void doTestAttributeSizes() {
+		final ClassFileReader classFileReader = new ClassFileReader();
+		final ClassFileWriter classFileWriter = new ClassFileWriter();
+		
+		for(final String className : CLASS_NAMES) {
+			final ClassFile classFile = classFileReader.read(className);
+			
+			doTestAttributeSizes(classFile.getAttributeInfosView(), className);
+			
+			for(final FieldInfo fieldInfo : classFile.getFieldInfosView()) {
+				doTestAttributeSizes(fieldInfo.getAttributeInfosView(), className);
+			}
+			
+			for(final MethodInfo methodInfo : classFile.getMethodInfosView()) {
+				doTestAttributeSizes(methodInfo.getAttributeInfosView(), className);
+			}
+			
+			doAssertEquals(classFileWriter.write(classFile).length, classFileWriter.getSize(classFile), className + ": write(classFile).length");
+		}
+	}
+	
+	private static void doTestAttributeSizes(final List<AttributeInfo> attributeInfos, final String className) {
+		for(final AttributeInfo attributeInfo : attributeInfos) {
+			doTestAttributeSize(attributeInfo, className);
+			
+			if(attributeInfo instanceof CodeAttribute) {
+				doTestAttributeSizes(CodeAttribute.class.cast(attributeInfo).getAttributeInfosView(), className);
+			}
+		}
+	}
+	
+	private static void doTestMethodParametersAttributeSize() {
+		final MethodParametersAttribute methodParametersAttribute = new MethodParametersAttribute(1);
+		
+		for(int i = 0; i < 4; i++) {
+			doTestAttributeSize(methodParametersAttribute, "MethodParametersAttribute with " + i + " parameters");
+			doAssertEquals(methodParametersAttribute.getAttributeLength(), 1 + i * 4, "attribute_length of MethodParametersAttribute with " + i + " parameters");
+			
+			methodParametersAttribute.addParameter(new Parameter(i + 2));
+		}
+	}
+	
+	private static void doAssertEquals(final int actual, final int expected, final String message) {
+		if(actual != expected) {
+			throw new AssertionError(String.format("%s: expected %s, but was %s", message, Integer.toString(expected), Integer.toString(actual)));
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2009 - 2024 J&#246;rgen Lundgren
+ * 
+ * This file is part of org.macroing.cel4j.
+ * 
+ * org.macroing.cel4j is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * org.macroing.cel4j is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with org.macroing.cel4j. If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.macroing.cel4j.java.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+
+import org.macroing.cel4j.java.binary.classfile.ClassFile;
+import org.macroing.cel4j.java.binary.classfile.ConstantPool;
+import org.macroing.cel4j.java.binary.classfile.FieldInfo;
+import org.macroing.cel4j.java.binary.classfile.MethodInfo;
+import org.macroing.cel4j.java.binary.reader.ClassPath;
+import org.macroing.cel4j.java.binary.writer.ClassFileWriter;
+
+public final class TypeGraphLoaderTest {
+	private TypeGraphLoaderTest() {
+		
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	public static void main(final String[] args) {
+		doTestLoadAllSkipsOnlyUnresolvableTypes();
+		
+		System.out.println("TypeGraphLoaderTest passed.");
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static ClassFile doCreateClassFile(final String name) {
+		final
+		ClassFile classFile = new ClassFile();
+		classFile.setThisClass(classFile.getConstantPool().classRef(name));
+		classFile.setSuperClass(classFile.getConstantPool().classRef("java/lang/Object"));
+		classFile.setAbstract(true);
+		classFile.setSuper(true);
+		
+		return classFile;
+	}
+	
+	private static FieldInfo doCreateFieldInfo(final ClassFile classFile, final String name, final String descriptor) {
+		final ConstantPool constantPool = classFile.getConstantPool();
+		
+		final
+		FieldInfo fieldInfo = new FieldInfo();
+		fieldInfo.setNameIndex(constantPool.utf8(name));
+		fieldInfo.setDescriptorIndex(constantPool.utf8(descriptor));
+		
+		return fieldInfo;
+	}
+	
+	private static MethodInfo doCreateMethodInfo(final ClassFile classFile, final String name, final String descriptor) {
+		final ConstantPool constantPool = classFile.getConstantPool();
+		
+		final
+		MethodInfo methodInfo = new MethodInfo();
+		methodInfo.setNameIndex(constantPool.utf8(name));
+		methodInfo.setDescriptorIndex(constantPool.utf8(descriptor));
+		methodInfo.setAbstract(true);
+		methodInfo.setPublic(true);
+		
+		return methodInfo;
+	}
+	
+	private static void doTestLoadAllSkipsOnlyUnresolvableTypes() {
+		try {
+			final Path directory = Files.createTempDirectory("TypeGraphLoaderTest");
+			
+			final
+			ClassFile classFileA = doCreateClassFile("p/A");
+			classFileA.addMethodInfo(doCreateMethodInfo(classFileA, "m1", "()Lp/Missing;"));
+			classFileA.addMethodInfo(doCreateMethodInfo(classFileA, "m2", "()Lp/B;"));
+			classFileA.addFieldInfo(doCreateFieldInfo(classFileA, "f", "Lp/C;"));
+			
+			doWrite(directory, "p/A", classFileA);
+			doWrite(directory, "p/B", doCreateClassFile("p/B"));
+			doWrite(directory, "p/C", doCreateClassFile("p/C"));
+			
+			final TypeGraphLoader typeGraphLoader = new TypeGraphLoader(TypeRepository.ofSoftReferences(new TypeResolver(ClassPath.ofDirectory(directory))));
+			
+			final Map<String, Type> types = typeGraphLoader.loadAll(Arrays.asList("p.A"));
+			
+			doAssertEquals(types.keySet().toString(), "[p.A, p.B, p.C]", "loadAll([p.A])");
+		} catch(final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static void doWrite(final Path directory, final String name, final ClassFile classFile) throws IOException {
+		final Path file = directory.resolve(name + ".class");
+		
+		Files.createDirectories(file.getParent());
+		Files.write(file, new ClassFileWriter().write(classFile));
+	}
+	
+	////////////////////////////////////////////////////////////////////////////////////////////////////
+	
+	private static void doAssertEquals(final String actual, final String expected, final String message) {
+		if(!actual.equals(expected)) {
+			throw new AssertionError(String.format("%s: expected %s, but was %s", message, expected, actual));
+		}
+	}
+}